@@ -0,0 +1,261 @@
+package org.folio.circulation.benchmarks;
+
+import static api.support.fixtures.UserExamples.basedUponStevenJones;
+import static java.time.ZoneOffset.UTC;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.folio.circulation.domain.Account;
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.User;
+import org.folio.circulation.domain.policy.LoanPolicy;
+import org.folio.circulation.domain.policy.OverdueFinePolicy;
+import org.folio.circulation.domain.policy.lostitem.LostItemPolicy;
+import org.folio.circulation.storage.mappers.HoldingsMapper;
+import org.folio.circulation.storage.mappers.InstanceMapper;
+import org.folio.circulation.storage.mappers.LoanTypeMapper;
+import org.folio.circulation.storage.mappers.LocationMapper;
+import org.folio.circulation.storage.mappers.MaterialTypeMapper;
+import org.folio.circulation.storage.mappers.ServicePointMapper;
+
+import api.support.builders.AccountBuilder;
+import api.support.builders.HoldingBuilder;
+import api.support.builders.LoanBuilder;
+import api.support.builders.LoanPolicyBuilder;
+import api.support.builders.LocationBuilder;
+import api.support.builders.LostItemFeePolicyBuilder;
+import api.support.builders.OverdueFinePolicyBuilder;
+import api.support.builders.RequestBuilder;
+import api.support.builders.ServicePointBuilder;
+import api.support.fixtures.InstanceExamples;
+import api.support.fixtures.ItemExamples;
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Realistic records for the benchmarks, built using the same builders as the API tests
+ */
+final class BenchmarkFixtures {
+  private static final ZonedDateTime LOAN_DATE = ZonedDateTime.of(2023, 3, 6, 16, 4, 43, 0, UTC);
+
+  private BenchmarkFixtures() { }
+
+  /**
+   * Circulation rules with a line for every material type, each with nested lines
+   * for some of the patron groups, followed by lines for loan types and locations
+   */
+  static String circulationRules(int materialTypes, int patronGroups, int loanTypes,
+    int locations) {
+
+    final List<String> lines = new ArrayList<>();
+
+    lines.add("priority: t, s, c, b, a, m, g");
+    lines.add("fallback-policy: " + policies("fallback"));
+
+    for (int m = 0; m < materialTypes; m++) {
+      lines.add("m " + materialTypeId(m) + ": " + policies("m" + m));
+
+      for (int g = m % 3; g < patronGroups; g += 3) {
+        lines.add("    g " + patronGroupId(g) + ": " + policies("m" + m + "-g" + g));
+      }
+    }
+
+    for (int t = 0; t < loanTypes; t++) {
+      lines.add("t " + loanTypeId(t) + " + g !" + patronGroupId(t % patronGroups) + ": "
+        + policies("t" + t));
+    }
+
+    for (int s = 0; s < locations; s++) {
+      lines.add("s " + locationId(s) + ": " + policies("s" + s));
+    }
+
+    return String.join("\n", lines);
+  }
+
+  /**
+   * Parameters for matching circulation rules, drawn from the values used by
+   * {@link #circulationRules(int, int, int, int)} plus some that no line uses
+   */
+  static List<MultiMap> rulesParameters(int count, int materialTypes, int patronGroups,
+    int loanTypes, int locations) {
+
+    final Random random = new Random(count);
+    final List<MultiMap> parameters = new ArrayList<>(count);
+
+    for (int i = 0; i < count; i++) {
+      parameters.add(MultiMap.caseInsensitiveMultiMap()
+        .add(ITEM_TYPE_ID_NAME, materialTypeId(random.nextInt(materialTypes + 5)))
+        .add(LOAN_TYPE_ID_NAME, loanTypeId(random.nextInt(loanTypes + 5)))
+        .add(PATRON_TYPE_ID_NAME, patronGroupId(random.nextInt(patronGroups + 5)))
+        .add(LOCATION_ID_NAME, locationId(random.nextInt(locations + 5))));
+    }
+
+    return parameters;
+  }
+
+  static Location location() {
+    return new LocationMapper().toDomain(new LocationBuilder()
+      .withName("3rd Floor")
+      .withCode("NU/JC/DL/3F")
+      .withDiscoveryDisplayName("Display name")
+      .withPrimaryServicePoint(UUID.randomUUID())
+      .create()
+      .put("id", UUID.randomUUID().toString()));
+  }
+
+  static Item item() {
+    final UUID instanceId = UUID.randomUUID();
+    final UUID holdingsId = UUID.randomUUID();
+    final UUID materialTypeId = UUID.randomUUID();
+    final UUID loanTypeId = UUID.randomUUID();
+    final Location location = location();
+
+    final JsonObject instance = InstanceExamples
+      .basedUponSmallAngryPlanet(UUID.randomUUID(), UUID.randomUUID())
+      .create()
+      .put("id", instanceId.toString());
+
+    final JsonObject holdings = new HoldingBuilder()
+      .forInstance(instanceId)
+      .withPermanentLocation(UUID.fromString(location.getId()))
+      .withCallNumber("123456")
+      .create()
+      .put("id", holdingsId.toString());
+
+    final JsonObject item = ItemExamples.basedUponSmallAngryPlanet(materialTypeId, loanTypeId,
+        "PR 6056", "PRE", "SUF", "c.2")
+      .forHolding(holdingsId)
+      .withPermanentLocation(UUID.fromString(location.getId()))
+      .checkOut()
+      .create();
+
+    return Item.from(item)
+      .withLocation(location)
+      .withPermanentLocation(location)
+      .withHoldings(new HoldingsMapper().toDomain(holdings))
+      .withInstance(new InstanceMapper().toDomain(instance))
+      .withMaterialType(new MaterialTypeMapper().toDomain(new JsonObject()
+        .put("id", materialTypeId.toString())
+        .put("name", "book")))
+      .withLoanType(new LoanTypeMapper().toDomain(new JsonObject()
+        .put("id", loanTypeId.toString())
+        .put("name", "Can circulate")));
+  }
+
+  static User user() {
+    return new User(basedUponStevenJones()
+      .withPatronGroupId(UUID.randomUUID())
+      .create());
+  }
+
+  /**
+   * An open loan with all of the records it is usually presented with
+   */
+  static Loan loan() {
+    final Item item = item();
+    final User user = user();
+
+    final JsonObject servicePoint = new ServicePointBuilder("Circ Desk 1", "cd1",
+      "Circulation Desk 1").withPickupLocation(true).create();
+
+    return new LoanBuilder()
+      .withItemId(UUID.fromString(item.getItemId()))
+      .withUserId(UUID.fromString(user.getId()))
+      .withLoanDate(LOAN_DATE)
+      .withDueDate(LOAN_DATE.plusWeeks(3))
+      .withCheckoutServicePointId(UUID.fromString(servicePoint.getString("id")))
+      .asDomainObject()
+      .withItem(item)
+      .withUser(user)
+      .withCheckoutServicePoint(new ServicePointMapper().toDomain(servicePoint))
+      .withLoanPolicy(LoanPolicy.from(new LoanPolicyBuilder().limitedRenewals(3).create()))
+      .withOverdueFinePolicy(OverdueFinePolicy.from(new OverdueFinePolicyBuilder().create()))
+      .withLostItemPolicy(LostItemPolicy.from(new LostItemFeePolicyBuilder().create()))
+      .withAccounts(List.of(
+        account(10.0, 5.0), account(2.5, 2.5), account(1.0, 0.0)));
+  }
+
+  /**
+   * An open hold request for the item of the loan, with the records it is usually
+   * presented with
+   */
+  static Request request(Loan loan) {
+    final JsonObject representation = new RequestBuilder()
+      .hold()
+      .open()
+      .withItemId(UUID.fromString(loan.getItemId()))
+      .withRequesterId(UUID.fromString(loan.getUserId()))
+      .withPosition(1)
+      .withRequestDate(LOAN_DATE.plusDays(2))
+      .create();
+
+    return Request.from(representation)
+      .withItem(loan.getItem())
+      .withRequester(loan.getUser())
+      .withLoan(loan);
+  }
+
+  /**
+   * Representations of open requests for the same item, in position order
+   */
+  static List<JsonObject> openRequests(int count) {
+    final UUID itemId = UUID.randomUUID();
+    final List<JsonObject> requests = new ArrayList<>(count);
+
+    for (int position = 1; position <= count; position++) {
+      requests.add(new RequestBuilder()
+        .hold()
+        .open()
+        .withId(UUID.randomUUID())
+        .withItemId(itemId)
+        .withRequesterId(UUID.randomUUID())
+        .withPosition(position)
+        .withRequestDate(LOAN_DATE.plusMinutes(position))
+        .create());
+    }
+
+    return requests;
+  }
+
+  private static Account account(double amount, double remaining) {
+    final AccountBuilder builder = new AccountBuilder()
+      .withAmount(amount)
+      .withRemainingFeeFine(remaining);
+
+    return Account.from(remaining > 0
+      ? builder.feeFineStatusOpen().create()
+      : builder.feeFineStatusClosed().create());
+  }
+
+  private static String policies(String suffix) {
+    return String.format("l loan-%1$s r request-%1$s n notice-%1$s o overdue-%1$s i lost-%1$s",
+      suffix);
+  }
+
+  private static String materialTypeId(int index) {
+    return "material-type-" + index;
+  }
+
+  private static String patronGroupId(int index) {
+    return "patron-group-" + index;
+  }
+
+  private static String loanTypeId(int index) {
+    return "loan-type-" + index;
+  }
+
+  private static String locationId(int index) {
+    return "location-" + index;
+  }
+}
@@ -0,0 +1,98 @@
+package org.folio.circulation.benchmarks;
+
+import static org.folio.circulation.benchmarks.BenchmarkFixtures.circulationRules;
+import static org.folio.circulation.benchmarks.BenchmarkFixtures.location;
+import static org.folio.circulation.benchmarks.BenchmarkFixtures.rulesParameters;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.DecisionTreeRules;
+import org.folio.circulation.rules.Drools;
+import org.folio.circulation.rules.Text2DecisionTree;
+import org.folio.circulation.rules.Text2Drools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * Converting circulation rules and matching a loan policy, for a rules file
+ * with a few hundred lines (the size of the rules of a large library)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CirculationRulesBenchmark {
+  private static final int PATRON_GROUPS = 15;
+  private static final int LOAN_TYPES = 10;
+  private static final int LOCATIONS = 40;
+  private static final int PARAMETER_SETS = 1024;
+
+  @Param({ "50", "200" })
+  public int materialTypes;
+
+  private String rulesAsText;
+  private String droolsText;
+  private Drools drools;
+  private DecisionTreeRules decisionTree;
+  private List<MultiMap> parameters;
+  private Location location;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    rulesAsText = circulationRules(materialTypes, PATRON_GROUPS, LOAN_TYPES, LOCATIONS);
+    droolsText = Text2Drools.convert(rulesAsText);
+    drools = new Drools("benchmark-tenant", droolsText);
+    decisionTree = Text2DecisionTree.convert(rulesAsText);
+    parameters = rulesParameters(PARAMETER_SETS, materialTypes, PATRON_GROUPS, LOAN_TYPES,
+      LOCATIONS);
+    location = location();
+  }
+
+  @Benchmark
+  public String convertRulesToDrools() {
+    return Text2Drools.convert(rulesAsText);
+  }
+
+  @Benchmark
+  public Drools createDroolsRules() {
+    return new Drools("benchmark-tenant", droolsText);
+  }
+
+  @Benchmark
+  public DecisionTreeRules convertRulesToDecisionTree() {
+    return Text2DecisionTree.convert(rulesAsText);
+  }
+
+  @Benchmark
+  public CirculationRuleMatch droolsLoanPolicy() {
+    return drools.loanPolicy(nextParameters(), location);
+  }
+
+  @Benchmark
+  public CirculationRuleMatch decisionTreeLoanPolicy() {
+    return decisionTree.loanPolicy(nextParameters(), location);
+  }
+
+  private MultiMap nextParameters() {
+    next = (next + 1) % PARAMETER_SETS;
+
+    return parameters.get(next);
+  }
+}
@@ -0,0 +1,67 @@
+package org.folio.circulation.benchmarks;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.support.utils.DateFormatUtil;
+import org.folio.circulation.support.utils.DateTimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing and formatting of the date times found in records from storage,
+ * in each of the formats they are stored in
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class DateParsingBenchmark {
+  private static final ZoneId ZONE = ZoneId.of("America/New_York");
+
+  private final ZonedDateTime dateTime = ZonedDateTime.of(2023, 3, 6, 16, 4, 43, 0, ZONE);
+
+  @Benchmark
+  public ZonedDateTime parseDateTime(Values values) {
+    return DateFormatUtil.parseDateTime(values.value);
+  }
+
+  @Benchmark
+  public ZonedDateTime parseDateTimeInZone(Values values) {
+    return DateFormatUtil.parseDateTime(values.value, ZONE);
+  }
+
+  @Benchmark
+  public String formatDateTime() {
+    return DateFormatUtil.formatDateTime(dateTime);
+  }
+
+  @Benchmark
+  public ZonedDateTime atEndOfDay() {
+    return DateTimeUtil.atEndOfDay(dateTime);
+  }
+
+  @State(Scope.Thread)
+  public static class Values {
+    @Param({
+      "2023-03-06T16:04:43.000+00:00",
+      "2023-03-06T16:04:43.000Z",
+      "2023-03-06T16:04:43.000-05:00",
+      "2023-03-06T16:04:43Z",
+      "2023-03-06T16:04:43.123456789+01:00",
+      "2023-03-06"
+    })
+    public String value;
+  }
+}
@@ -0,0 +1,66 @@
+package org.folio.circulation.benchmarks;
+
+import static org.folio.circulation.benchmarks.BenchmarkFixtures.loan;
+import static org.folio.circulation.benchmarks.BenchmarkFixtures.request;
+
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.LoanRepresentation;
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.notice.TemplateContextUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Presenting a loan with all of its related records, both as the extended
+ * representation returned by the API and as the context for patron notices
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class LoanRepresentationBenchmark {
+  private final LoanRepresentation loanRepresentation = new LoanRepresentation();
+
+  private Loan loan;
+  private Request request;
+
+  @Setup
+  public void setUp() {
+    loan = loan();
+    request = request(loan);
+  }
+
+  @Benchmark
+  public JsonObject extendedLoan() {
+    return loanRepresentation.extendedLoan(loan);
+  }
+
+  @Benchmark
+  public JsonObject loanNoticeContext() {
+    return TemplateContextUtil.createLoanNoticeContext(loan);
+  }
+
+  @Benchmark
+  public JsonObject requestNoticeContext() {
+    return TemplateContextUtil.createRequestNoticeContext(request);
+  }
+
+  @Benchmark
+  public JsonObject staffSlipContext() {
+    return TemplateContextUtil.createStaffSlipContext(request);
+  }
+}
@@ -0,0 +1,95 @@
+package org.folio.circulation.benchmarks;
+
+import static org.folio.circulation.benchmarks.BenchmarkFixtures.openRequests;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.RequestQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Re-sequencing a queue of requests for an item when a request is added, removed
+ * or moved to the top on check in.
+ * <p>
+ * Each operation changes the positions of the requests, so the queue is created afresh
+ * (outside of the measured time) for every invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class RequestQueueBenchmark {
+  @Param({ "10", "100", "1000" })
+  public int queueLength;
+
+  private List<JsonObject> representations;
+  private RequestQueue queue;
+  private Request firstRequest;
+  private Request lastRequest;
+  private Request newRequest;
+
+  @Setup(Level.Trial)
+  public void createRepresentations() {
+    representations = openRequests(queueLength + 1);
+
+    // the new request is not yet in the queue, so has no position
+    representations.get(queueLength).remove("position");
+  }
+
+  @Setup(Level.Invocation)
+  public void createQueue() {
+    final List<Request> requests = representations.stream()
+      .map(JsonObject::copy)
+      .map(Request::from)
+      .toList();
+
+    queue = new RequestQueue(requests.subList(0, queueLength));
+    firstRequest = requests.get(0);
+    lastRequest = requests.get(queueLength - 1);
+    newRequest = requests.get(queueLength);
+  }
+
+  @Benchmark
+  public Collection<Request> createQueueFromRequests() {
+    return new RequestQueue(queue.getRequests()).getRequests();
+  }
+
+  @Benchmark
+  public Collection<Request> addRequest() {
+    queue.add(newRequest);
+
+    return queue.getRequestsWithChangedPosition();
+  }
+
+  @Benchmark
+  public Collection<Request> removeFirstRequest() {
+    queue.remove(firstRequest);
+
+    return queue.getRequestsWithChangedPosition();
+  }
+
+  @Benchmark
+  public Collection<Request> moveLastRequestToTopOnCheckIn() {
+    queue.updateRequestPositionOnCheckIn(lastRequest.getId());
+
+    return queue.getRequestsWithChangedPosition();
+  }
+}
@@ -17,6 +17,101 @@ public class Environment {
     return getVariable("SCHEDULED_ANONYMIZATION_NUMBER_OF_LOANS_TO_CHECK", 50000);
   }
 
+  public static int getReferenceDataCacheTimeToLiveSeconds() {
+    return getVariable("REFERENCE_DATA_CACHE_TTL_SECONDS", 300);
+  }
+
+  public static int getReferenceDataCacheMaximumSize() {
+    return getVariable("REFERENCE_DATA_CACHE_MAX_SIZE", 5000);
+  }
+
+  public static int getPolicyCacheTimeToLiveSeconds() {
+    return getVariable("POLICY_CACHE_TTL_SECONDS", 60);
+  }
+
+  public static int getPolicyCacheMaximumSize() {
+    return getVariable("POLICY_CACHE_MAX_SIZE", 1000);
+  }
+
+  public static int getItemsInTransitReportCacheTimeToLiveSeconds() {
+    return getVariable("ITEMS_IN_TRANSIT_REPORT_CACHE_TTL_SECONDS", 300);
+  }
+
+  public static int getTenantSettingsCacheTimeToLiveSeconds() {
+    return getVariable("TENANT_SETTINGS_CACHE_TTL_SECONDS", 60);
+  }
+
+  public static int getOpeningHoursCacheDays() {
+    return getVariable("OPENING_HOURS_CACHE_DAYS", 0);
+  }
+
+  public static int getOpeningHoursCacheTimeToLiveSeconds() {
+    return getVariable("OPENING_HOURS_CACHE_TTL_SECONDS", 300);
+  }
+
+  public static int getStreamingResponseBatchSize() {
+    return Math.max(1, getVariable("STREAMING_RESPONSE_BATCH_SIZE", 100));
+  }
+
+  public static int getCirculationRulesMatchCacheMaximumSize() {
+    return getVariable("CIRCULATION_RULES_MATCH_CACHE_MAX_SIZE", 10000);
+  }
+
+  public static String getCirculationRulesDecisionTreeTenants() {
+    return getVariable("CIRCULATION_RULES_DECISION_TREE_TENANTS", "");
+  }
+
+  public static int getWorkerPoolSize() {
+    return Math.max(1, getVariable("WORKER_POOL_SIZE",
+      Runtime.getRuntime().availableProcessors()));
+  }
+
+  public static int getWorkerPoolQueueSize() {
+    return Math.max(1, getVariable("WORKER_POOL_QUEUE_SIZE", 1000));
+  }
+
+  public static String getBatchConcurrencyLimits() {
+    return getVariable("BATCH_CONCURRENCY_LIMITS", "");
+  }
+
+  public static String getBatchRateLimits() {
+    return getVariable("BATCH_RATE_LIMITS", "");
+  }
+
+  public static int getBatchPipelineDepth() {
+    return getVariable("BATCH_PIPELINE_DEPTH", 2);
+  }
+
+  public static int getBatchPipelineMaximumRecords() {
+    return getVariable("BATCH_PIPELINE_MAX_RECORDS", 2000);
+  }
+
+  public static int getBatchWriteMaximumSize() {
+    return Math.max(1, getVariable("BATCH_WRITE_MAX_SIZE", 50));
+  }
+
+  public static int getBatchWriteWindowMilliseconds() {
+    return Math.max(0, getVariable("BATCH_WRITE_WINDOW_MILLISECONDS", 10));
+  }
+
+  public static int getDownstreamCallBudget() {
+    return getVariable("DOWNSTREAM_CALL_BUDGET", 0);
+  }
+
+  public static boolean isDownstreamCallsHeaderEnabled() {
+    return Boolean.parseBoolean(getVariable("DOWNSTREAM_CALLS_HEADER_ENABLED", "false"));
+  }
+
+  public static int getRequestScopedResponsesMaximumSize() {
+    return getVariable("REQUEST_SCOPED_RESPONSES_MAX_SIZE", 1000);
+  }
+
+  private static String getVariable(String key, String defaultValue) {
+    final var variable = System.getenv().get(key);
+
+    return isBlank(variable) ? defaultValue : variable;
+  }
+
   private static int getVariable(String key, int defaultValue) {
     final var variable = System.getenv().get(key);
 
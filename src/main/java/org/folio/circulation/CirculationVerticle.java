@@ -46,6 +46,7 @@ import org.folio.circulation.resources.handlers.FeeFineBalanceChangedHandlerReso
 import org.folio.circulation.resources.handlers.LoanRelatedFeeFineClosedHandlerResource;
 import org.folio.circulation.resources.renewal.RenewByBarcodeResource;
 import org.folio.circulation.resources.renewal.RenewByIdResource;
+import org.folio.circulation.support.http.server.DownstreamCallTracking;
 import org.folio.circulation.support.logging.LogHelper;
 import org.folio.circulation.support.logging.Logging;
 
@@ -76,7 +77,8 @@ public class CirculationVerticle extends AbstractVerticle {
 
     router.route()
       .handler(LogHelper::populateLoggingContext)
-      .handler(rc -> LogHelper.logRequest(rc, log));
+      .handler(rc -> LogHelper.logRequest(rc, log))
+      .handler(DownstreamCallTracking::track);
 
     new HealthResource().register(router);
     new TenantActivationResource(client).register(router);
@@ -1,7 +1,13 @@
 package org.folio.circulation;
 
 import static java.lang.System.getenv;
+import static org.folio.circulation.domain.events.DomainEventType.CAMPUS_UPDATED;
 import static org.folio.circulation.domain.events.DomainEventType.CIRCULATION_RULES_UPDATED;
+import static org.folio.circulation.domain.events.DomainEventType.INSTITUTION_UPDATED;
+import static org.folio.circulation.domain.events.DomainEventType.ITEM_UPDATED;
+import static org.folio.circulation.domain.events.DomainEventType.LIBRARY_UPDATED;
+import static org.folio.circulation.domain.events.DomainEventType.LOCATION_UPDATED;
+import static org.folio.circulation.domain.events.DomainEventType.SERVICE_POINT_UPDATED;
 import static org.folio.circulation.support.kafka.KafkaConfigConstants.KAFKA_ENV;
 import static org.folio.circulation.support.kafka.KafkaConfigConstants.KAFKA_HOST;
 import static org.folio.circulation.support.kafka.KafkaConfigConstants.KAFKA_MAX_REQUEST_SIZE;
@@ -13,9 +19,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.folio.circulation.domain.events.DomainEventType;
+import org.folio.circulation.infrastructure.storage.cache.ReferenceDataType;
 import org.folio.circulation.services.events.CirculationRulesUpdateEventHandler;
 import org.folio.circulation.services.events.DefaultModuleIdProvider;
+import org.folio.circulation.services.events.ItemsInTransitReportUpdateEventHandler;
 import org.folio.circulation.services.events.ModuleIdProvider;
+import org.folio.circulation.services.events.ReferenceDataUpdateEventHandler;
 import org.folio.circulation.services.events.UniqueKafkaModuleIdProvider;
 import org.folio.kafka.AsyncRecordHandler;
 import org.folio.kafka.GlobalLoadSensor;
@@ -85,10 +94,26 @@ public class EventConsumerVerticle extends AbstractVerticle {
     return Future.all(List.of(
       createConsumer(CIRCULATION_RULES_UPDATED, new CirculationRulesUpdateEventHandler(),
         // puts consumers into separate groups so that they all receive the same event
-        new UniqueKafkaModuleIdProvider(vertx, kafkaConfig, CIRCULATION_RULES_UPDATED))
+        new UniqueKafkaModuleIdProvider(vertx, kafkaConfig, CIRCULATION_RULES_UPDATED)),
+      createReferenceDataConsumer(LOCATION_UPDATED, ReferenceDataType.LOCATION),
+      createReferenceDataConsumer(LIBRARY_UPDATED, ReferenceDataType.LIBRARY),
+      createReferenceDataConsumer(CAMPUS_UPDATED, ReferenceDataType.CAMPUS),
+      createReferenceDataConsumer(INSTITUTION_UPDATED, ReferenceDataType.INSTITUTION),
+      createReferenceDataConsumer(SERVICE_POINT_UPDATED, ReferenceDataType.SERVICE_POINT),
+      // every module instance has its own items in transit report
+      createConsumer(ITEM_UPDATED, new ItemsInTransitReportUpdateEventHandler(),
+        new UniqueKafkaModuleIdProvider(vertx, kafkaConfig, ITEM_UPDATED))
     )).mapEmpty();
   }
 
+  private Future<KafkaConsumerWrapper<String, String>> createReferenceDataConsumer(
+    DomainEventType eventType, ReferenceDataType referenceDataType) {
+
+    // every module instance has its own reference data cache, so each needs to receive every event
+    return createConsumer(eventType, new ReferenceDataUpdateEventHandler(referenceDataType),
+      new UniqueKafkaModuleIdProvider(vertx, kafkaConfig, eventType));
+  }
+
   private Future<KafkaConsumerWrapper<String, String>> createConsumer(DomainEventType eventType,
     AsyncRecordHandler<String, String> handler) {
 
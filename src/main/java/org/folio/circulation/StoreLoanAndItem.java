@@ -12,6 +12,7 @@ import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.resources.context.RenewalContext;
 import org.folio.circulation.services.DeclareLostContext;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 public class StoreLoanAndItem {
@@ -43,7 +44,8 @@ public class StoreLoanAndItem {
     }
 
     return updateItem(loan.getItem())
-      .thenComposeAsync(response -> loanRepository.updateLoan(loan));
+      .thenComposeAsync(response -> loanRepository.updateLoan(loan),
+        ContextExecutor.forCurrentContext());
   }
 
   private CompletableFuture<Result<Item>> updateItem(Item item) {
@@ -47,6 +47,7 @@ import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.services.ItemForTlrService;
 import org.folio.circulation.support.ErrorCode;
 import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.request.RequestRelatedRepositories;
 import org.folio.circulation.support.results.Result;
 
@@ -97,21 +98,27 @@ public class CreateRequestService {
       .thenApply(r -> errorHandler.handleValidationResult(r, automatedBlocksValidator.getErrorType(), result))
       .thenCompose(r -> r.after(manualBlocksValidator::validate))
       .thenApply(r -> errorHandler.handleValidationResult(r, manualBlocksValidator.getErrorType(), result))
-      .thenComposeAsync(r -> r.after(when(this::shouldCheckInstance, this::checkInstance, this::doNothing)))
-      .thenComposeAsync(r -> r.after(when(this::shouldCheckItem, this::checkItem, this::doNothing)))
-      .thenComposeAsync(r -> r.after(this::checkPolicy))
+      .thenComposeAsync(r -> r.after(when(this::shouldCheckInstance, this::checkInstance, this::doNothing)),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(when(this::shouldCheckItem, this::checkItem, this::doNothing)),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(this::checkPolicy), ContextExecutor.forCurrentContext())
       .thenApply(r -> r.next(this::refuseHoldOrRecallTlrWhenPageableItemExists))
       .thenComposeAsync(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
-        RequestAndRelatedRecords::withTimeZone))
+        RequestAndRelatedRecords::withTimeZone), ContextExecutor.forCurrentContext())
       .thenApply(r -> r.next(errorHandler::failWithValidationErrors))
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateItem::onRequestCreateOrUpdate))
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateLoan::onRequestCreateOrUpdate))
-      .thenComposeAsync(r -> r.after(requestRepository::create))
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateRequestQueue::onCreate))
+      .thenComposeAsync(r -> r.after(updateUponRequest.updateItem::onRequestCreateOrUpdate),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(updateUponRequest.updateLoan::onRequestCreateOrUpdate),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(requestRepository::create),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(updateUponRequest.updateRequestQueue::onCreate),
+        ContextExecutor.forCurrentContext())
       .thenApplyAsync(r -> {
         r.after(t -> eventPublisher.publishLogRecord(mapToRequestLogEventJson(t.getRequest()), getLogEventType()));
         return r.next(requestNoticeSender::sendNoticeOnRequestCreated);
-      }).thenApply(r -> logResult(r, "createRequest"));
+      }, ContextExecutor.forCurrentContext()).thenApply(r -> logResult(r, "createRequest"));
   }
 
   private Result<RequestAndRelatedRecords> refuseHoldOrRecallTlrWhenPageableItemExists(
@@ -46,10 +46,12 @@ import static org.folio.circulation.domain.representations.LoanProperties.USER_I
 import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getBooleanProperty;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getDateTimeProperty;
+import static org.folio.circulation.support.json.ParsedPropertyCache.forDateTime;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getDateTimePropertyByPath;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getIntegerProperty;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getNestedObjectProperty;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getNestedStringProperty;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getObjectProperty;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getValueByPath;
 import static org.folio.circulation.support.json.JsonPropertyWriter.remove;
@@ -65,6 +67,7 @@ import static org.folio.circulation.support.utils.DateTimeUtil.mostRecentDate;
 import java.lang.invoke.MethodHandles;
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -77,6 +80,7 @@ import org.folio.circulation.domain.policy.OverdueFinePolicy;
 import org.folio.circulation.domain.policy.RemindersPolicy;
 import org.folio.circulation.domain.policy.lostitem.LostItemPolicy;
 import org.folio.circulation.domain.representations.LoanProperties;
+import org.folio.circulation.support.json.ParsedPropertyCache;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.utils.ClockUtil;
 
@@ -119,6 +123,14 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   @Getter
   private final String latestPatronInfoAddedComment;
 
+  // parsed from the representation when first needed, and again only once changed
+  private final ParsedPropertyCache<ZonedDateTime> parsedDueDate = forDateTime();
+  private final ParsedPropertyCache<ZonedDateTime> parsedLoanDate = forDateTime();
+  private final ParsedPropertyCache<ZonedDateTime> parsedReturnDate = forDateTime();
+  private final ParsedPropertyCache<ZonedDateTime> parsedSystemReturnDate = forDateTime();
+  private final ParsedPropertyCache<LoanStatus> parsedStatus =
+    new ParsedPropertyCache<>(LoanStatus::fromValue);
+
   public static Loan from(JsonObject representation) {
     defaultStatusAndAction(representation);
     final LoanPolicy loanPolicy = LoanPolicy.unknown(
@@ -298,7 +310,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   private LoanStatus getStatus() {
-    return LoanStatus.fromValue(getStatusName());
+    return parsedStatus.parse(getStatusName());
   }
 
   private String getStatusName() {
@@ -318,7 +330,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public ZonedDateTime getLoanDate() {
-    return getDateTimeProperty(representation, "loanDate");
+    return parsedLoanDate.get(representation, "loanDate");
   }
 
   @Override
@@ -342,7 +354,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public Loan withItem(Item newItem) {
-    JsonObject newRepresentation = representation.copy();
+    JsonObject newRepresentation = shallowCopy(representation);
 
     if (newItem != null && newItem.isFound()) {
       newRepresentation.put("itemId", newItem.getItemId());
@@ -358,7 +370,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public Loan withUser(User newUser) {
-    JsonObject newRepresentation = representation.copy();
+    JsonObject newRepresentation = shallowCopy(representation);
 
     if (newUser != null) {
       newRepresentation.put("userId", newUser.getId());
@@ -386,7 +398,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   Loan withProxy(User newProxy) {
-    JsonObject newRepresentation = representation.copy();
+    JsonObject newRepresentation = shallowCopy(representation);
 
     if (newProxy != null) {
       newRepresentation.put("proxyUserId", newProxy.getId());
@@ -474,6 +486,17 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
     return this.checkoutServicePoint;
   }
 
+  public PatronGroup getPatronGroupAtCheckout() {
+    final JsonObject patronGroupAtCheckout = getObjectProperty(representation,
+      LoanProperties.PATRON_GROUP_AT_CHECKOUT);
+
+    return patronGroupAtCheckout == null
+      ? null
+      : PatronGroup.from(new JsonObject()
+        .put("id", patronGroupAtCheckout.getString("id"))
+        .put("group", patronGroupAtCheckout.getString("name")));
+  }
+
   public String getPatronGroupIdAtCheckout() {
     return  getProperty(representation, "patronGroupIdAtCheckout");
   }
@@ -586,7 +609,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public ZonedDateTime getDueDate() {
-    return getDateTimeProperty(representation, DUE_DATE);
+    return parsedDueDate.get(representation, DUE_DATE);
   }
 
   private static void defaultStatusAndAction(JsonObject loan) {
@@ -612,11 +635,11 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public ZonedDateTime getSystemReturnDate() {
-    return getDateTimeProperty(representation, SYSTEM_RETURN_DATE);
+    return parsedSystemReturnDate.get(representation, SYSTEM_RETURN_DATE);
   }
 
   public ZonedDateTime getReturnDate() {
-    return getDateTimeProperty(representation, RETURN_DATE);
+    return parsedReturnDate.get(representation, RETURN_DATE);
   }
 
   public void changeItemStatus(String itemStatus) {
@@ -655,6 +678,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public Loan withRemindersLastFeeBilled(int number, ZonedDateTime date) {
+    copyNestedObjectBeforeChange(REMINDERS);
     JsonObject lastFeeBilled = getNestedObjectProperty(representation, REMINDERS, LAST_FEE_BILLED);
     if (lastFeeBilled == null) {
       write(representation, REMINDERS, new JsonObject());
@@ -763,6 +787,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public void setAgedToLostDelayedBilling(boolean hasBeenBilled, ZonedDateTime whenToBill) {
+    copyNestedObjectBeforeChange(AGED_TO_LOST_DELAYED_BILLING);
     writeByPath(representation, hasBeenBilled, AGED_TO_LOST_DELAYED_BILLING,
       LOST_ITEM_HAS_BEEN_BILLED);
     writeByPath(representation, whenToBill, AGED_TO_LOST_DELAYED_BILLING,
@@ -770,6 +795,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public Loan setLostItemHasBeenBilled() {
+    copyNestedObjectBeforeChange(AGED_TO_LOST_DELAYED_BILLING);
     writeByPath(representation, true, AGED_TO_LOST_DELAYED_BILLING,
       LOST_ITEM_HAS_BEEN_BILLED);
 
@@ -777,6 +803,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public void removeAgedToLostBillingInfo() {
+    copyNestedObjectBeforeChange(AGED_TO_LOST_DELAYED_BILLING);
     final JsonObject billingInfo = representation
       .getJsonObject(AGED_TO_LOST_DELAYED_BILLING);
 
@@ -785,6 +812,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   private void setAgedToLostDate(ZonedDateTime agedToLostDate) {
+    copyNestedObjectBeforeChange(AGED_TO_LOST_DELAYED_BILLING);
     writeByPath(representation, agedToLostDate, AGED_TO_LOST_DELAYED_BILLING,
       AGED_TO_LOST_DATE);
   }
@@ -794,6 +822,23 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
     return this;
   }
 
+  /**
+   * Loans made by {@link #withItem}, {@link #withUser} and {@link #withProxy} only copy
+   * the top level of the representation, so nested objects are copied before they are
+   * changed to avoid changing the other loans
+   */
+  private void copyNestedObjectBeforeChange(String propertyName) {
+    final JsonObject nestedObject = representation.getJsonObject(propertyName);
+
+    if (nestedObject != null) {
+      representation.put(propertyName, nestedObject.copy());
+    }
+  }
+
+  private static JsonObject shallowCopy(JsonObject representation) {
+    return new JsonObject(new LinkedHashMap<>(representation.getMap()));
+  }
+
   public ZonedDateTime getLostDate() {
     return mostRecentDate(getDeclareLostDateTime(), getAgedToLostDateTime());
   }
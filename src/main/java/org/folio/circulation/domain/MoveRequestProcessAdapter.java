@@ -8,6 +8,7 @@ import org.apache.logging.log4j.Logger;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.requests.RequestRepository;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 public class MoveRequestProcessAdapter {
@@ -32,7 +33,7 @@ public class MoveRequestProcessAdapter {
 
     return itemRepository.fetchById(requestAndRelatedRecords.getDestinationItemId())
       .thenApply(r -> r.map(requestAndRelatedRecords::withItem))
-      .thenComposeAsync(r -> r.after(this::findLoanForItem));
+      .thenComposeAsync(r -> r.after(this::findLoanForItem), ContextExecutor.forCurrentContext());
   }
 
   private CompletableFuture<Result<RequestAndRelatedRecords>> findLoanForItem(
@@ -50,7 +51,7 @@ public class MoveRequestProcessAdapter {
 
     return itemRepository.fetchById(requestAndRelatedRecords.getSourceItemId())
       .thenApply(result -> result.map(requestAndRelatedRecords::withItem))
-      .thenComposeAsync(r -> r.after(this::findLoanForItem));
+      .thenComposeAsync(r -> r.after(this::findLoanForItem), ContextExecutor.forCurrentContext());
   }
 
   CompletableFuture<Result<RequestAndRelatedRecords>> getRequest(
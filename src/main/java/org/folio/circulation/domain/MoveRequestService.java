@@ -15,6 +15,7 @@ import org.folio.circulation.infrastructure.storage.requests.RequestQueueReposit
 import org.folio.circulation.infrastructure.storage.requests.RequestRepository;
 import org.folio.circulation.resources.RequestNoticeSender;
 import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 public class MoveRequestService {
@@ -53,25 +54,35 @@ public class MoveRequestService {
       .thenApply(r -> r.next(RequestServiceUtility::refuseTlrProcessingWhenFeatureIsDisabled))
       .thenApply(r -> r.next(records -> RequestServiceUtility.refuseMovingToOrFromHoldTlr(records,
           originalRequest)))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::findDestinationItem))
+      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::findDestinationItem),
+        ContextExecutor.forCurrentContext())
       .thenApply(r -> r.next(RequestServiceUtility::refuseWhenMovedToDifferentInstance))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+      .thenComposeAsync(r -> r.after(requestQueueRepository::get),
+        ContextExecutor.forCurrentContext())
       .thenApply(r -> r.map(this::pagedRequestIfDestinationItemAvailable))
       .thenCompose(r -> r.after(this::validateUpdateRequest))
       .thenComposeAsync(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
-        RequestAndRelatedRecords::withTimeZone))
+        RequestAndRelatedRecords::withTimeZone), ContextExecutor.forCurrentContext())
       .thenCompose(r -> r.after(updateUponRequest.updateRequestQueue::onMovedTo))
-      .thenComposeAsync(r -> r.after(this::updateRelatedObjects))
+      .thenComposeAsync(r -> r.after(this::updateRelatedObjects),
+        ContextExecutor.forCurrentContext())
       .thenCompose(r -> r.after(requestRepository::update))
       .thenApply(r -> r.next(requestNoticeSender::sendNoticeOnRequestMoved))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::findSourceItem))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::findSourceItem),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(requestQueueRepository::get),
+        ContextExecutor.forCurrentContext())
       .thenCompose(r -> r.after(updateUponRequest.updateRequestQueue::onMovedFrom))
-      .thenComposeAsync(r -> r.after(this::updateRelatedObjects))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::findDestinationItem))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::getRequest))
-      .thenApplyAsync(r -> r.map(u -> eventPublisher.publishLogRecordAsync(u, originalRequest, REQUEST_MOVED)));
+      .thenComposeAsync(r -> r.after(this::updateRelatedObjects),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::findDestinationItem),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(requestQueueRepository::get),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::getRequest),
+        ContextExecutor.forCurrentContext())
+      .thenApplyAsync(r -> r.map(u -> eventPublisher.publishLogRecordAsync(u, originalRequest, REQUEST_MOVED)),
+        ContextExecutor.forCurrentContext());
   }
 
   private RequestAndRelatedRecords pagedRequestIfDestinationItemAvailable(
@@ -101,7 +112,8 @@ public class MoveRequestService {
       .next(RequestServiceUtility::refuseWhenRequestTypeIsNotAllowedForItem)
       .next(RequestServiceUtility::refuseWhenAlreadyRequested)
       .after(requestLoanValidator::refuseWhenUserHasAlreadyBeenLoanedItem)
-      .thenComposeAsync(r -> r.after(requestPolicyRepository::lookupRequestPolicy))
+      .thenComposeAsync(r -> r.after(requestPolicyRepository::lookupRequestPolicy),
+        ContextExecutor.forCurrentContext())
       .thenApply(r -> r.next(RequestServiceUtility::refuseWhenRequestCannotBeFulfilled));
   }
 
@@ -112,6 +124,7 @@ public class MoveRequestService {
       () -> requestAndRelatedRecords);
 
     return updateUponRequest.updateItem.onRequestCreateOrUpdate(requestAndRelatedRecords)
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateLoan::onRequestCreateOrUpdate));
+      .thenComposeAsync(r -> r.after(updateUponRequest.updateLoan::onRequestCreateOrUpdate),
+        ContextExecutor.forCurrentContext());
   }
 }
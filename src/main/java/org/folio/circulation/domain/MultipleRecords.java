@@ -22,6 +22,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
+import org.folio.circulation.support.json.JsonObjectArrayStreamParser;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonArray;
@@ -50,10 +51,25 @@ public class MultipleRecords<T> {
       response, recordsPropertyName);
 
     return new ResponseInterpreter<MultipleRecords<T>>()
-      .flatMapOn(200, r -> from(r.getJson(), mapper, recordsPropertyName))
+      .flatMapOn(200, r -> r.hasLargeUnparsedBody()
+        ? streamFrom(r, mapper, recordsPropertyName)
+        : from(r.getJson(), mapper, recordsPropertyName))
       .apply(response);
   }
 
+  private static <T> Result<MultipleRecords<T>> streamFrom(Response response,
+    Function<JsonObject, T> mapper, String recordsPropertyName) {
+
+    log.debug("streamFrom:: parameters recordsPropertyName: {}", recordsPropertyName);
+
+    final List<T> wrappedRecords = new ArrayList<>();
+
+    return Result.of(() -> JsonObjectArrayStreamParser.parse(response.getBodyBuffer(),
+        recordsPropertyName, TOTAL_RECORDS_PROPERTY_NAME,
+        representation -> wrappedRecords.add(mapper.apply(representation))))
+      .map(totalRecords -> new MultipleRecords<>(wrappedRecords, totalRecords));
+  }
+
   public static <T> Result<MultipleRecords<T>> from(JsonObject representation,
     Function<JsonObject, T> mapper, String recordsPropertyName) {
 
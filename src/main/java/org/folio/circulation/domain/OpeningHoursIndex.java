@@ -0,0 +1,139 @@
+package org.folio.circulation.domain;
+
+import static java.util.Collections.emptyList;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.folio.circulation.AdjacentOpeningDays;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The days a service point is open between two dates (inclusive), ordered by date.
+ * <p>
+ * Every day between those dates which is not in the index is a day the service point
+ * is closed, so questions about those days can be answered without asking the calendar.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public class OpeningHoursIndex {
+  @Getter
+  @ToString.Include
+  private final LocalDate firstDate;
+  @Getter
+  @ToString.Include
+  private final LocalDate lastDate;
+  @Getter
+  @ToString.Include
+  private final ZoneId zone;
+  private final List<OpeningDay> openDays;
+
+  private OpeningHoursIndex(LocalDate firstDate, LocalDate lastDate, ZoneId zone,
+    List<OpeningDay> openDays) {
+
+    this.firstDate = firstDate;
+    this.lastDate = lastDate;
+    this.zone = zone;
+    this.openDays = openDays;
+  }
+
+  /**
+   * Creates an index from the open days between the dates, any other days are ignored
+   */
+  public static OpeningHoursIndex of(Collection<OpeningDay> openingDays, LocalDate firstDate,
+    LocalDate lastDate, ZoneId zone) {
+
+    final List<OpeningDay> openDays = openingDays.stream()
+      .filter(OpeningDay::isOpen)
+      .filter(day -> day.getDate() != null)
+      .filter(day -> !day.getDate().isBefore(firstDate) && !day.getDate().isAfter(lastDate))
+      .sorted(Comparator.comparing(OpeningDay::getDate))
+      .toList();
+
+    return new OpeningHoursIndex(firstDate, lastDate, zone, openDays);
+  }
+
+  public boolean covers(LocalDate from, LocalDate to) {
+    return !from.isBefore(firstDate) && !to.isAfter(lastDate);
+  }
+
+  public int size() {
+    return openDays.size();
+  }
+
+  /**
+   * The days the service point is open between the dates (inclusive), the same as
+   * fetching the openings for those dates from the calendar
+   */
+  public List<OpeningDay> getOpenDaysBetween(LocalDate from, LocalDate to) {
+    if (to.isBefore(from)) {
+      return emptyList();
+    }
+
+    return openDays.subList(indexOfFirstDayFrom(from), indexOfFirstDayAfter(to));
+  }
+
+  /**
+   * The requested day, and the open days immediately before and after it, the same as
+   * fetching the surrounding openings from the calendar
+   *
+   * @return the days, or empty when the open days before or after the requested day are
+   * not in the index
+   */
+  public Optional<AdjacentOpeningDays> getAdjacentOpeningDays(LocalDate requestedDate) {
+    if (!covers(requestedDate, requestedDate)) {
+      return Optional.empty();
+    }
+
+    final int index = indexOfFirstDayFrom(requestedDate);
+    final boolean requestedDayIsOpen = index < openDays.size()
+      && openDays.get(index).getDate().equals(requestedDate);
+
+    final int previousIndex = index - 1;
+    final int nextIndex = requestedDayIsOpen ? index + 1 : index;
+
+    if (previousIndex < 0 || nextIndex >= openDays.size()) {
+      return Optional.empty();
+    }
+
+    final OpeningDay requestedDay = requestedDayIsOpen
+      ? openDays.get(index)
+      : new OpeningDay(emptyList(), requestedDate, true, false, zone);
+
+    return Optional.of(new AdjacentOpeningDays(openDays.get(previousIndex), requestedDay,
+      openDays.get(nextIndex)));
+  }
+
+  /**
+   * @return the index of the first open day on or after the date
+   */
+  private int indexOfFirstDayFrom(LocalDate date) {
+    int low = 0;
+    int high = openDays.size();
+
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+
+      if (openDays.get(middle).getDate().isBefore(date)) {
+        low = middle + 1;
+      }
+      else {
+        high = middle;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * @return the index of the first open day after the date
+   */
+  private int indexOfFirstDayAfter(LocalDate date) {
+    return indexOfFirstDayFrom(date.plusDays(1));
+  }
+}
@@ -21,6 +21,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.infrastructure.storage.CalendarRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.utils.LogUtil;
 
@@ -46,7 +47,7 @@ public class OverduePeriodCalculatorService {
       log.info("getMinutes:: preconditions must be included");
 
       return completedFuture(loan)
-        .thenComposeAsync(loanPolicyRepository::lookupPolicy)
+        .thenComposeAsync(loanPolicyRepository::lookupPolicy, ContextExecutor.forCurrentContext())
         .thenApply(r -> r.map(loan::withLoanPolicy))
         .thenCompose(r -> r.after(l -> getOverdueMinutes(l, systemTime, shouldCountClosedPeriods)
             .thenApply(flatMapResult(om -> adjustOverdueWithGracePeriod(l, om)))));
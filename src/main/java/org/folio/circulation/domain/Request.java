@@ -27,10 +27,10 @@ import static org.folio.circulation.domain.representations.RequestProperties.REQ
 import static org.folio.circulation.domain.representations.RequestProperties.REQUEST_LEVEL;
 import static org.folio.circulation.domain.representations.RequestProperties.REQUEST_TYPE;
 import static org.folio.circulation.domain.representations.RequestProperties.STATUS;
-import static org.folio.circulation.support.json.JsonPropertyFetcher.getDateTimeProperty;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getIntegerProperty;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty;
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+import static org.folio.circulation.support.json.ParsedPropertyCache.forDateTime;
 import static org.folio.circulation.support.utils.DateTimeUtil.atEndOfDay;
 
 import java.time.ZoneId;
@@ -44,8 +44,10 @@ import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.circulation.domain.configuration.TlrSettingsConfiguration;
 import org.folio.circulation.domain.policy.RequestPolicy;
+import org.folio.circulation.support.json.ParsedPropertyCache;
 
 import io.vertx.core.json.JsonObject;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.ToString;
@@ -103,6 +105,17 @@ public class Request implements ItemRelatedRecord, UserRelatedRecord {
   private Integer previousPosition;
   private boolean changedStatus;
 
+  // parsed from the representation when first needed, and again only once changed
+  @Getter(AccessLevel.NONE)
+  private final ParsedPropertyCache<ZonedDateTime> parsedRequestDate = forDateTime();
+  @Getter(AccessLevel.NONE)
+  private final ParsedPropertyCache<ZonedDateTime> parsedHoldShelfExpirationDate = forDateTime();
+  @Getter(AccessLevel.NONE)
+  private final ParsedPropertyCache<ZonedDateTime> parsedRequestExpirationDate = forDateTime();
+  @Getter(AccessLevel.NONE)
+  private final ParsedPropertyCache<RequestStatus> parsedStatus =
+    new ParsedPropertyCache<>(RequestStatus::from);
+
   public static Request from(JsonObject representation) {
     // TODO: make sure that operation and TLR settings don't matter for all processes calling
     //  this constructor
@@ -270,7 +283,7 @@ public class Request implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public RequestStatus getStatus() {
-    return RequestStatus.from(requestRepresentation.getString(STATUS));
+    return parsedStatus.parse(requestRepresentation.getString(STATUS));
   }
 
   void changeStatus(RequestStatus newStatus) {
@@ -342,15 +355,15 @@ public class Request implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public ZonedDateTime getRequestDate() {
-    return getDateTimeProperty(requestRepresentation, REQUEST_DATE);
+    return parsedRequestDate.get(requestRepresentation, REQUEST_DATE);
   }
 
   public ZonedDateTime getHoldShelfExpirationDate() {
-    return getDateTimeProperty(requestRepresentation, HOLD_SHELF_EXPIRATION_DATE);
+    return parsedHoldShelfExpirationDate.get(requestRepresentation, HOLD_SHELF_EXPIRATION_DATE);
   }
 
   public ZonedDateTime getRequestExpirationDate() {
-    return getDateTimeProperty(requestRepresentation, REQUEST_EXPIRATION_DATE);
+    return parsedRequestExpirationDate.get(requestRepresentation, REQUEST_EXPIRATION_DATE);
   }
 
   public String getCancellationAdditionalInformation() {
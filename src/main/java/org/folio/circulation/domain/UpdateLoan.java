@@ -15,6 +15,7 @@ import org.folio.circulation.domain.policy.library.ClosedLibraryStrategyService;
 import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.utils.ClockUtil;
 
@@ -56,7 +57,8 @@ public class UpdateLoan {
         .withRecalledLoanPreviousDueDate(loan.getDueDate());
 
       return loanRepository.getById(loan.getId())
-        .thenComposeAsync(r -> r.after(l -> recall(l, records, request)));
+        .thenComposeAsync(r -> r.after(l -> recall(l, records, request)),
+          ContextExecutor.forCurrentContext());
     } else {
       return completedFuture(succeeded(requestAndRelatedRecords));
     }
@@ -92,8 +94,10 @@ public class UpdateLoan {
           .thenApply(r -> r.next(this::recall))
           .thenApply(r -> r.next(recallResult -> updateLoanAction(recallResult, request)))
           .thenComposeAsync(r -> r.after(records ->
-            closedLibraryStrategyService.applyClosedLibraryDueDateManagement(records, true)))
-          .thenComposeAsync(r -> r.after(loanRepository::updateLoan))
+            closedLibraryStrategyService.applyClosedLibraryDueDateManagement(records, true)),
+              ContextExecutor.forCurrentContext())
+          .thenComposeAsync(r -> r.after(loanRepository::updateLoan),
+            ContextExecutor.forCurrentContext())
           .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
           .thenApply(r -> r.map(v -> requestAndRelatedRecords.withRequest(request.withLoan(v.getLoan()))));
     }
@@ -27,6 +27,7 @@ import org.folio.circulation.infrastructure.storage.requests.RequestRepository;
 import org.folio.circulation.resources.context.ReorderRequestContext;
 import org.folio.circulation.services.RequestQueueService;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 public class UpdateRequestQueue {
@@ -144,8 +145,10 @@ public class UpdateRequestQueue {
     requestQueue.update(originalRequest, updatedRequest);
 
     return updatedReq
-      .thenComposeAsync(r -> r.after(requestRepository::update))
-      .thenComposeAsync(result -> result.after(v -> requestQueueRepository.updateRequestsWithChangedPositions(requestQueue)));
+      .thenComposeAsync(r -> r.after(requestRepository::update),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(result -> result.after(v -> requestQueueRepository.updateRequestsWithChangedPositions(requestQueue)),
+        ContextExecutor.forCurrentContext());
   }
 
   private CompletableFuture<Result<RequestQueue>> awaitPickup(Request request,
@@ -168,13 +171,14 @@ public class UpdateRequestQueue {
               tenantTimeZone
             ).map(calculatedRequest-> setHoldShelfExpirationDateWithExpirationDateManagement(tenantTimeZone, calculatedRequest,
               requestQueue, originalRequest)))
-        );
+        , ContextExecutor.forCurrentContext());
     } else {
       Request updatedRequest = Request.from(request.asJson());
       requestQueue.update(originalRequest, updatedRequest);
 
       return requestRepository.update(request)
-        .thenComposeAsync(result -> result.after(v -> requestQueueRepository.updateRequestsWithChangedPositions(requestQueue)));
+        .thenComposeAsync(result -> result.after(v -> requestQueueRepository.updateRequestsWithChangedPositions(requestQueue)),
+          ContextExecutor.forCurrentContext());
     }
   }
 
@@ -205,7 +209,8 @@ public class UpdateRequestQueue {
         requestQueue.update(originalRequest,calculatedRequest);
 
         return requestRepository.update(calculatedRequest)
-          .thenComposeAsync(result -> result.after(v -> requestQueueRepository.updateRequestsWithChangedPositions(requestQueue)));
+          .thenComposeAsync(result -> result.after(v -> requestQueueRepository.updateRequestsWithChangedPositions(requestQueue)),
+            ContextExecutor.forCurrentContext());
       });
     return requestQueue;
   }
@@ -273,7 +278,8 @@ public class UpdateRequestQueue {
 
     return requestRepository.update(firstRequest)
       .thenComposeAsync(r -> r.after(v ->
-        requestQueueRepository.updateRequestsWithChangedPositions(requestQueue)))
+        requestQueueRepository.updateRequestsWithChangedPositions(requestQueue)),
+          ContextExecutor.forCurrentContext())
       .thenApply(r -> r.map(relatedRecords::withRequestQueue))
       .thenApply(r -> r.map(v -> v.withClosedFilledRequest(firstRequest)));
   }
@@ -358,7 +364,8 @@ public class UpdateRequestQueue {
         return requestQueue;
       }))
       .thenComposeAsync(r -> r.after(
-        requestQueueRepository::updateRequestsWithChangedPositions))
+        requestQueueRepository::updateRequestsWithChangedPositions),
+          ContextExecutor.forCurrentContext())
       .thenApply(r -> r.map(requestQueue -> request));
   }
 
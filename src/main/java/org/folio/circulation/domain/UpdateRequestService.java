@@ -14,6 +14,7 @@ import org.folio.circulation.domain.validation.ClosedRequestValidator;
 import org.folio.circulation.infrastructure.storage.requests.RequestRepository;
 import org.folio.circulation.resources.RequestNoticeSender;
 import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 public class UpdateRequestService {
@@ -48,10 +49,14 @@ public class UpdateRequestService {
       .thenApply(originalRequest -> refuseWhenPatronCommentChanged(updated, originalRequest))
       .thenCompose(original -> original.after(o -> closedRequestValidator.refuseWhenAlreadyClosed(requestAndRelatedRecords)
         .thenApply(r -> r.next(this::removeRequestQueuePositionWhenCancelled))
-        .thenComposeAsync(r -> r.after(requestRepository::update))
-        .thenComposeAsync(r -> r.after(updateRequestQueue::onCancellation))
-        .thenComposeAsync(r -> r.after(updateItem::onRequestCreateOrUpdate))
-        .thenApplyAsync(r -> r.map(p -> eventPublisher.publishLogRecordAsync(p, o, REQUEST_UPDATED)))
+        .thenComposeAsync(r -> r.after(requestRepository::update),
+          ContextExecutor.forCurrentContext())
+        .thenComposeAsync(r -> r.after(updateRequestQueue::onCancellation),
+          ContextExecutor.forCurrentContext())
+        .thenComposeAsync(r -> r.after(updateItem::onRequestCreateOrUpdate),
+          ContextExecutor.forCurrentContext())
+        .thenApplyAsync(r -> r.map(p -> eventPublisher.publishLogRecordAsync(p, o, REQUEST_UPDATED)),
+          ContextExecutor.forCurrentContext())
         .thenApply(r -> r.next(requestNoticeSender::sendNoticeOnRequestUpdated))));
   }
 
@@ -1,6 +1,12 @@
 package org.folio.circulation.domain.events;
 
 import static org.folio.circulation.domain.events.CirculationStorageKafkaTopic.CIRCULATION_RULES;
+import static org.folio.circulation.domain.events.InventoryStorageKafkaTopic.CAMPUS;
+import static org.folio.circulation.domain.events.InventoryStorageKafkaTopic.INSTITUTION;
+import static org.folio.circulation.domain.events.InventoryStorageKafkaTopic.ITEM;
+import static org.folio.circulation.domain.events.InventoryStorageKafkaTopic.LIBRARY;
+import static org.folio.circulation.domain.events.InventoryStorageKafkaTopic.LOCATION;
+import static org.folio.circulation.domain.events.InventoryStorageKafkaTopic.SERVICE_POINT;
 import static org.folio.circulation.domain.events.DomainEventPayloadType.UPDATED;
 
 import org.folio.kafka.services.KafkaTopic;
@@ -11,7 +17,13 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum DomainEventType {
-  CIRCULATION_RULES_UPDATED(CIRCULATION_RULES, UPDATED);
+  CIRCULATION_RULES_UPDATED(CIRCULATION_RULES, UPDATED),
+  LOCATION_UPDATED(LOCATION, UPDATED),
+  LIBRARY_UPDATED(LIBRARY, UPDATED),
+  CAMPUS_UPDATED(CAMPUS, UPDATED),
+  INSTITUTION_UPDATED(INSTITUTION, UPDATED),
+  SERVICE_POINT_UPDATED(SERVICE_POINT, UPDATED),
+  ITEM_UPDATED(ITEM, UPDATED);
 
   private final KafkaTopic kafkaTopic;
   private final DomainEventPayloadType payloadType;
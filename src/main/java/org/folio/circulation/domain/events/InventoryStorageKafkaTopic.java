@@ -0,0 +1,33 @@
+package org.folio.circulation.domain.events;
+
+import org.folio.kafka.services.KafkaTopic;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+public enum InventoryStorageKafkaTopic implements KafkaTopic {
+  LOCATION("location", 1),
+  LIBRARY("library", 1),
+  CAMPUS("campus", 1),
+  INSTITUTION("institution", 1),
+  SERVICE_POINT("service-point", 1),
+  ITEM("item", 1);
+
+  private final String topic;
+  private final int partitions;
+
+  @Override
+  public String moduleName() {
+    return "inventory";
+  }
+
+  @Override
+  public String topicName() {
+    return topic;
+  }
+
+  @Override
+  public int numPartitions() {
+    return partitions;
+  }
+}
@@ -138,8 +138,7 @@ public class TemplateContextUtil {
     entries.getJsonArray(slipsCollectionName)
       .stream()
       .map(JsonObject.class::cast)
-      .map(pickSlip -> pickSlip.getJsonObject(ITEM))
-      .forEach(item -> item.put("effectiveLocationPrimaryServicePointName", primaryServicePoint.getName()));
+      .forEach(staffSlip -> addPrimaryServicePointNameToStaffSlip(staffSlip, primaryServicePoint));
 
     log.debug("addPrimaryServicePointNameToStaffSlipContext:: Result entries: {}, " +
       "primaryServicePointName: {}", () -> entries, primaryServicePoint::getName);
@@ -147,6 +146,17 @@ public class TemplateContextUtil {
     return entries;
   }
 
+  public static JsonObject addPrimaryServicePointNameToStaffSlip(JsonObject staffSlip,
+    ServicePoint primaryServicePoint) {
+
+    if (primaryServicePoint != null) {
+      staffSlip.getJsonObject(ITEM)
+        .put("effectiveLocationPrimaryServicePointName", primaryServicePoint.getName());
+    }
+
+    return staffSlip;
+  }
+
   public static JsonObject createStaffSlipContext(
     Item item, Request request) {
 
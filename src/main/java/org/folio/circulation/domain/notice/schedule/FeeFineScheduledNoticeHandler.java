@@ -9,8 +9,13 @@ import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
 import static org.folio.circulation.support.utils.DateTimeUtil.isBeforeMillis;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.circulation.domain.Account;
+import org.folio.circulation.domain.FeeFineAction;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.policy.Period;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
@@ -33,6 +38,39 @@ public class FeeFineScheduledNoticeHandler extends ScheduledNoticeHandler {
     this.loanPolicyRepository = new LoanPolicyRepository(clients);
   }
 
+  /**
+   * Fetches the actions, accounts and loans (including their items, users and policies)
+   * for many notices at once, the charge action for each account is still fetched
+   * individually as it can only be found by querying for the account and type
+   */
+  @Override
+  protected CompletableFuture<Result<Void>> prefetch(Collection<ScheduledNotice> notices) {
+    Set<String> actionIds = idsOf(notices, ScheduledNotice::getFeeFineActionId);
+
+    return super.prefetch(notices)
+      .thenCompose(r -> r.after(v -> actionRepository.findByIds(actionIds)))
+      .thenApply(mapResult(actions -> addPrefetched(FeeFineAction.class, actionIds, actions,
+        FeeFineAction::getId)))
+      .thenCompose(r -> r.after(actions -> prefetchAccounts(
+        idsOf(actions, FeeFineAction::getAccountId))))
+      .thenCompose(r -> r.after(accounts -> prefetchLoans(idsOf(accounts, Account::getLoanId))));
+  }
+
+  private CompletableFuture<Result<Collection<Account>>> prefetchAccounts(
+    Collection<String> accountIds) {
+
+    return accountRepository.findByIds(accountIds)
+      .thenApply(mapResult(accounts -> addPrefetched(Account.class, accountIds, accounts,
+        Account::getId)));
+  }
+
+  private CompletableFuture<Result<Void>> prefetchLoans(Collection<String> loanIds) {
+    return loanRepository.findByIdsWithItemsAndUsers(loanIds)
+      .thenCompose(r -> r.after(loanPolicyRepository::findLoanPoliciesForLoans))
+      .thenApply(mapResult(loans -> addPrefetched(Loan.class, loanIds, loans, Loan::getId)))
+      .thenApply(mapResult(loans -> null));
+  }
+
   @Override
   protected CompletableFuture<Result<ScheduledNoticeContext>> fetchData(
     ScheduledNoticeContext context) {
@@ -49,14 +87,23 @@ public class FeeFineScheduledNoticeHandler extends ScheduledNoticeHandler {
   private CompletableFuture<Result<ScheduledNoticeContext>> fetchAction(
     ScheduledNoticeContext context) {
 
-    return actionRepository.findById(context.getNotice().getFeeFineActionId())
+    String actionId = context.getNotice().getFeeFineActionId();
+
+    return prefetchedRecords.find(FeeFineAction.class, actionId)
+      .map(Result::ofAsync)
+      .orElseGet(() -> actionRepository.findById(actionId))
       .thenApply(mapResult(context::withCurrentAction));
   }
 
   private CompletableFuture<Result<ScheduledNoticeContext>> fetchAccount(
     ScheduledNoticeContext context) {
 
-    return accountRepository.findAccountForAction(context.getCurrentAction())
+    FeeFineAction action = context.getCurrentAction();
+
+    return Optional.ofNullable(action)
+      .flatMap(a -> prefetchedRecords.find(Account.class, a.getAccountId()))
+      .map(Result::ofAsync)
+      .orElseGet(() -> accountRepository.findAccountForAction(action))
       .thenApply(mapResult(context::withAccount));
   }
 
@@ -74,10 +121,16 @@ public class FeeFineScheduledNoticeHandler extends ScheduledNoticeHandler {
       return ofAsync(() -> context);
     }
 
+    Account account = context.getAccount();
+
     // this also fetches user and item
-    return loanRepository.findLoanForAccount(context.getAccount())
+    return Optional.ofNullable(account)
+      .flatMap(a -> prefetchedRecords.find(Loan.class, a.getLoanId()))
+      .map(Loan::copy)
+      .map(Result::ofAsync)
+      .orElseGet(() -> loanRepository.findLoanForAccount(account)
+        .thenCompose(r -> r.after(loanPolicyRepository::findPolicyForLoan)))
       .thenCompose(r -> r.after(loanRepository::fetchLatestPatronInfoAddedComment))
-      .thenCompose(r -> r.after(loanPolicyRepository::findPolicyForLoan))
       .thenApply(mapResult(context::withLoan))
       .thenApply(r -> r.next(this::failWhenLoanIsIncomplete));
   }
@@ -48,7 +48,10 @@ public abstract class GroupedScheduledNoticeHandler {
     log.info("handleNotices:: processing {} group(s) of scheduled notices ({} notices total)",
       noticeGroups.size(), noticeGroups.stream().mapToInt(List::size).sum());
 
-    return allOf(noticeGroups, this::handleNoticeGroup);
+    return singleNoticeHandler.prefetchFor(noticeGroups.stream()
+        .flatMap(List::stream)
+        .collect(toList()))
+      .thenCompose(r -> allOf(noticeGroups, this::handleNoticeGroup));
   }
 
   private CompletableFuture<Result<List<ScheduledNotice>>> handleNoticeGroup(
@@ -175,7 +178,7 @@ public abstract class GroupedScheduledNoticeHandler {
 
     log.debug("updateGroupedNotice:: updating {} notices", contexts.size());
 
-    return allOf(contexts, singleNoticeHandler::updateNotice);
+    return allOf(contexts, singleNoticeHandler.getThrottle(), singleNoticeHandler::updateNotice);
   }
 
   private CompletableFuture<Result<List<ScheduledNotice>>> handleResult(
@@ -1,6 +1,7 @@
 package org.folio.circulation.domain.notice.schedule;
 
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.circulation.domain.FeeFine.lostItemFeeTypes;
 import static org.folio.circulation.domain.ItemStatus.CLAIMED_RETURNED;
@@ -18,8 +19,10 @@ import static org.folio.circulation.support.utils.DateTimeUtil.isBeforeMillis;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.circulation.domain.ItemStatus;
@@ -47,6 +50,24 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
     this.loanPolicyRepository = new LoanPolicyRepository(clients);
   }
 
+  @Override
+  protected CompletableFuture<Result<Void>> prefetch(Collection<ScheduledNotice> notices) {
+    return super.prefetch(notices)
+      .thenCompose(r -> r.after(v -> prefetchLoans(idsOf(notices, ScheduledNotice::getLoanId))));
+  }
+
+  /**
+   * Fetches the loans (including their items, users and policies) for many notices at once,
+   * loans with a missing item or user are kept so that the notice fails the same way as
+   * when the loan is fetched individually
+   */
+  protected CompletableFuture<Result<Void>> prefetchLoans(Collection<String> loanIds) {
+    return loanRepository.findByIdsWithItemsAndUsers(loanIds)
+      .thenCompose(r -> r.after(loanPolicyRepository::findLoanPoliciesForLoans))
+      .thenApply(mapResult(loans -> addPrefetched(Loan.class, loanIds, loans, Loan::getId)))
+      .thenApply(mapResult(loans -> null));
+  }
+
   @Override
   protected CompletableFuture<Result<ScheduledNoticeContext>> fetchData(
     ScheduledNoticeContext context) {
@@ -116,13 +137,30 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
     ScheduledNoticeContext context) {
 
     // Also fetches user, item and item-related records (holdings, instance, location, etc.)
-    return loanRepository.getById(context.getNotice().getLoanId())
+    return findLoan(context.getNotice().getLoanId(), loanId -> loanRepository.getById(loanId)
+        .thenCompose(r -> r.after(loanPolicyRepository::findPolicyForLoan)))
       .thenCompose(r -> r.after(loanRepository::fetchLatestPatronInfoAddedComment))
-      .thenCompose(r -> r.after(loanPolicyRepository::findPolicyForLoan))
       .thenApply(mapResult(context::withLoan))
       .thenApply(r -> r.next(this::failWhenLoanIsIncomplete));
   }
 
+  /**
+   * Uses the prefetched loan when there is one (copied, as the loan may be changed
+   * whilst handling the notice), otherwise fetches it individually
+   */
+  protected CompletableFuture<Result<Loan>> findLoan(String loanId,
+    Function<String, CompletableFuture<Result<Loan>>> fetchIndividually) {
+
+    if (prefetchedRecords.isMissing(Loan.class, loanId)) {
+      return completedFuture(failed(new RecordNotFoundFailure("loan", loanId)));
+    }
+
+    return prefetchedRecords.find(Loan.class, loanId)
+      .map(Loan::copy)
+      .map(Result::ofAsync)
+      .orElseGet(() -> fetchIndividually.apply(loanId));
+  }
+
   private CompletableFuture<Result<ScheduledNoticeContext>> fetchLostItemFeesForAgedToLostNotice(
     ScheduledNoticeContext context) {
 
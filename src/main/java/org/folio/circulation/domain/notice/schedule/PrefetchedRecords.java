@@ -0,0 +1,50 @@
+package org.folio.circulation.domain.notice.schedule;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Records fetched in bulk for a page of scheduled notices, by type and id, so that
+ * the context for each notice can be built without fetching them one at a time.
+ * <p>
+ * Records that were asked for but not found are remembered too, so that a notice
+ * referring to a missing record can fail without asking for it again. Anything not
+ * asked for is unknown and is expected to be fetched individually.
+ */
+class PrefetchedRecords {
+  private final Map<Class<?>, Map<String, Object>> recordsByType = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Set<String>> missingIdsByType = new ConcurrentHashMap<>();
+
+  <T> void addAll(Class<T> type, Collection<String> requestedIds,
+    Collection<T> foundRecords, Function<T, String> toId) {
+
+    final Map<String, Object> records = recordsOf(type);
+
+    foundRecords.forEach(foundRecord -> records.put(toId.apply(foundRecord), foundRecord));
+
+    final Set<String> missingIds = missingIdsByType.computeIfAbsent(type,
+      key -> ConcurrentHashMap.newKeySet());
+
+    requestedIds.stream()
+      .filter(id -> !records.containsKey(id))
+      .forEach(missingIds::add);
+  }
+
+  <T> Optional<T> find(Class<T> type, String id) {
+    return Optional.ofNullable(id)
+      .map(recordsOf(type)::get)
+      .map(type::cast);
+  }
+
+  boolean isMissing(Class<?> type, String id) {
+    return id != null && missingIdsByType.getOrDefault(type, Set.of()).contains(id);
+  }
+
+  private Map<String, Object> recordsOf(Class<?> type) {
+    return recordsByType.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+  }
+}
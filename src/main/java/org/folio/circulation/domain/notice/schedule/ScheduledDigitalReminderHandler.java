@@ -26,6 +26,7 @@ import java.math.BigDecimal;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -105,13 +106,22 @@ public class ScheduledDigitalReminderHandler extends LoanScheduledNoticeHandler
       .thenCompose(r -> r.after(this::updateNotice));
   }
 
+  @Override
+  protected CompletableFuture<Result<Void>> prefetchLoans(Collection<String> loanIds) {
+    return loanRepository.findByIdsWithItemsAndUsers(loanIds)
+      .thenCompose(r -> r.after(loanPolicyRepository::findLoanPoliciesForLoans))
+      .thenCompose(r -> r.after(overdueFinePolicyRepository::findOverdueFinePoliciesForLoans))
+      .thenApply(mapResult(loans -> addPrefetched(Loan.class, loanIds, loans, Loan::getId)))
+      .thenApply(mapResult(loans -> null));
+  }
+
   @Override
   protected CompletableFuture<Result<ScheduledNoticeContext>> fetchLoan(
     ScheduledNoticeContext context) {
     // Also fetches user, item and item-related records (holdings, instance, location, etc.)
-    return loanRepository.getById(context.getNotice().getLoanId())
-      .thenCompose(r -> r.after(loanPolicyRepository::findPolicyForLoan))
-      .thenCompose(overdueFinePolicyRepository::findOverdueFinePolicyForLoan)
+    return findLoan(context.getNotice().getLoanId(), loanId -> loanRepository.getById(loanId)
+        .thenCompose(r -> r.after(loanPolicyRepository::findPolicyForLoan))
+        .thenCompose(overdueFinePolicyRepository::findOverdueFinePolicyForLoan))
       .thenApply(mapResult(context::withLoan))
       .thenApply(r -> r.next(this::failWhenLoanIsIncomplete));
   }
@@ -1,7 +1,11 @@
 package org.folio.circulation.domain.notice.schedule;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.ofAsync;
@@ -11,11 +15,15 @@ import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.ItemRelatedRecord;
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.UserRelatedRecord;
 import org.folio.circulation.domain.notice.ScheduledPatronNoticeService;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
@@ -30,21 +38,27 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.RecordNotFoundFailure;
+import org.folio.circulation.support.async.Throttle;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
+import org.folio.circulation.support.results.CommonFailures;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
 
 public abstract class ScheduledNoticeHandler {
   protected static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final String JOB_NAME = "scheduled-notices";
+  private static final String TEMPLATES_COLLECTION_PROPERTY_NAME = "templates";
 
   protected final ScheduledNoticesRepository scheduledNoticesRepository;
   protected final LoanRepository loanRepository;
   protected final AccountRepository accountRepository;
   protected final PatronNoticePolicyRepository patronNoticePolicyRepository;
   protected final CollectionResourceClient templateNoticesClient;
+  protected final PrefetchedRecords prefetchedRecords;
   private final ScheduledPatronNoticeService patronNoticeService;
   private final EventPublisher eventPublisher;
+  private final Throttle throttle;
 
   protected ScheduledNoticeHandler(Clients clients, LoanRepository loanRepository) {
     this.scheduledNoticesRepository = ScheduledNoticesRepository.using(clients);
@@ -52,20 +66,78 @@ public abstract class ScheduledNoticeHandler {
     this.accountRepository = new AccountRepository(clients);
     this.patronNoticePolicyRepository = new PatronNoticePolicyRepository(clients);
     this.templateNoticesClient = clients.noticeTemplatesClient();
+    this.prefetchedRecords = new PrefetchedRecords();
     this.patronNoticeService = new ScheduledPatronNoticeService(clients);
     this.eventPublisher = new EventPublisher(clients.pubSubPublishingService());
+    this.throttle = Throttle.forJob(clients.getTenantId(), JOB_NAME);
+  }
+
+  Throttle getThrottle() {
+    return throttle;
   }
 
   public CompletableFuture<Result<List<ScheduledNotice>>> handleContexts(
     Collection<ScheduledNoticeContext> contexts) {
 
-    return allOf(contexts, this::handleContext);
+    return prefetchFor(contexts.stream()
+        .map(ScheduledNoticeContext::getNotice)
+        .collect(toList()))
+      .thenCompose(r -> allOf(contexts, throttle, this::handleContext));
   }
 
   public CompletableFuture<Result<List<ScheduledNotice>>> handleNotices(
     Collection<ScheduledNotice> scheduledNotices) {
 
-    return allOf(scheduledNotices, this::handleNotice);
+    return prefetchFor(scheduledNotices)
+      .thenCompose(r -> allOf(scheduledNotices, throttle, this::handleNotice));
+  }
+
+  /**
+   * Fetches the records needed for many notices at once, any failure only being logged
+   * as each notice falls back to fetching whatever was not prefetched individually
+   */
+  CompletableFuture<Result<Void>> prefetchFor(Collection<ScheduledNotice> notices) {
+    log.debug("prefetchFor:: parameters notices: {}", notices::size);
+
+    if (notices.isEmpty()) {
+      return ofAsync(() -> null);
+    }
+
+    return prefetch(notices)
+      .exceptionally(CommonFailures::failedDueToServerError)
+      .thenApply(r -> {
+        if (r.failed()) {
+          log.warn("prefetchFor:: failed to prefetch records for {} notices, " +
+            "they will be fetched individually: {}", notices.size(), r.cause());
+        }
+        return succeeded(null);
+      });
+  }
+
+  protected CompletableFuture<Result<Void>> prefetch(Collection<ScheduledNotice> notices) {
+    Set<String> templateIds = idsOf(notices, notice -> notice.getConfiguration().getTemplateId());
+
+    return findWithMultipleCqlIndexValues(templateNoticesClient,
+        TEMPLATES_COLLECTION_PROPERTY_NAME, identity())
+      .findByIds(templateIds)
+      .thenApply(mapResult(templates -> addPrefetched(JsonObject.class, templateIds,
+        templates, template -> template.getString("id"))))
+      .thenApply(mapResult(templates -> null));
+  }
+
+  protected <T> Collection<T> addPrefetched(Class<T> type, Collection<String> requestedIds,
+    MultipleRecords<T> records, Function<T, String> toId) {
+
+    prefetchedRecords.addAll(type, requestedIds, records.getRecords(), toId);
+
+    return records.getRecords();
+  }
+
+  protected static <T> Set<String> idsOf(Collection<T> records, Function<T, String> toId) {
+    return records.stream()
+      .map(toId)
+      .filter(Objects::nonNull)
+      .collect(toSet());
   }
 
   private CompletableFuture<Result<ScheduledNotice>> handleNotice(ScheduledNotice notice) {
@@ -192,6 +264,14 @@ public abstract class ScheduledNoticeHandler {
 
     String templateId = context.getNotice().getConfiguration().getTemplateId();
 
+    if (prefetchedRecords.find(JsonObject.class, templateId).isPresent()) {
+      return ofAsync(() -> context);
+    }
+
+    if (prefetchedRecords.isMissing(JsonObject.class, templateId)) {
+      return completedFuture(failed(new RecordNotFoundFailure("template", templateId)));
+    }
+
     var responseInterpreter = new ResponseInterpreter<ScheduledNoticeContext>()
       .on(404, failed(new RecordNotFoundFailure("template", templateId)))
       .on(200, succeeded(context))
@@ -1,6 +1,5 @@
 package org.folio.circulation.domain.representations;
 
-import static java.util.Comparator.comparing;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.folio.circulation.domain.representations.CallNumberComponentsRepresentation.createCallNumberComponents;
@@ -9,7 +8,6 @@ import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 import static org.folio.circulation.support.json.JsonPropertyWriter.writeNamedObject;
 
 import java.lang.invoke.MethodHandles;
-import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,9 +37,8 @@ public class ItemsInTransitReport {
 
   public JsonObject build() {
     log.debug("build:: ");
-    List<JsonObject> reportEntries = reportContext.getItems().values().stream()
-      .sorted(sortByCheckinServicePointComparator())
-      .map(this::buildEntry)
+    List<JsonObject> reportEntries = buildEntries().stream()
+      .map(ItemsInTransitReportEntry::getRepresentation)
       .collect(toList());
 
     JsonObject result = new JsonObject()
@@ -51,13 +48,22 @@ public class ItemsInTransitReport {
     return result;
   }
 
-  private Comparator<Item> sortByCheckinServicePointComparator() {
-    log.debug("sortByCheckinServicePointComparator:: ");
-    return comparing(item -> ofNullable(reportContext.getLoans().get(item.getItemId()))
+  public List<ItemsInTransitReportEntry> buildEntries() {
+    log.debug("buildEntries:: ");
+    return reportContext.getItems().values().stream()
+      .filter(item -> item != null && !item.isNotFound())
+      .map(item -> new ItemsInTransitReportEntry(item.getItemId(),
+        getCheckInServicePointName(item), buildEntry(item)))
+      .sorted(ItemsInTransitReportEntry.REPORT_ORDER)
+      .collect(toList());
+  }
+
+  private String getCheckInServicePointName(Item item) {
+    return ofNullable(reportContext.getLoans().get(item.getItemId()))
       .map(Loan::getCheckInServicePointId)
       .map(id -> reportContext.getServicePoints().get(id))
       .map(ServicePoint::getName)
-      .orElse(null), Comparator.nullsLast(String::compareTo));
+      .orElse(null);
   }
 
   private JsonObject buildEntry(Item item) {
@@ -0,0 +1,27 @@
+package org.folio.circulation.domain.representations;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.nullsLast;
+
+import java.util.Comparator;
+
+import io.vertx.core.json.JsonObject;
+import lombok.Value;
+
+/**
+ * An entry in the items in transit report, together with the name of the service point
+ * the item was last checked in at, which the report is sorted by.
+ * <p>
+ * Entries are shared between reports, so their representation must not be modified.
+ */
+@Value
+public class ItemsInTransitReportEntry {
+  public static final Comparator<ItemsInTransitReportEntry> REPORT_ORDER =
+    comparing(ItemsInTransitReportEntry::getCheckInServicePointName,
+      nullsLast(String::compareTo))
+      .thenComparing(ItemsInTransitReportEntry::getItemId, nullsLast(String::compareTo));
+
+  String itemId;
+  String checkInServicePointName;
+  JsonObject representation;
+}
@@ -23,6 +23,7 @@ import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.RequestAndRelatedRecords;
 import org.folio.circulation.resources.context.RenewalContext;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.http.server.ValidationError;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.ValidationErrorFailure;
@@ -85,14 +86,16 @@ public class AutomatedPatronBlocksValidator {
     log.debug("refuse:: parameters userId: {}, actionPredicate, mapTo", userId);
 
     return ofAsync(() -> userId)
-      .thenComposeAsync(r -> r.after(automatedPatronBlocksRepository::findByUserId))
-      .thenComposeAsync(r -> r.after(blocks -> getActionBlock(blocks, actionPredicate)))
+      .thenComposeAsync(r -> r.after(automatedPatronBlocksRepository::findByUserId),
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(blocks -> getActionBlock(blocks, actionPredicate)),
+        ContextExecutor.forCurrentContext())
       .thenComposeAsync(result -> result.failAfter(this::blocksExist,
         blockList -> actionIsBlockedForPatronErrorFunction.apply(
           blockList.stream()
             .map(AutomatedPatronBlock::getMessage)
             .collect(Collectors.toList())
-        )))
+        )), ContextExecutor.forCurrentContext())
       .thenApply(result -> result.map(v -> mapTo));
   }
 
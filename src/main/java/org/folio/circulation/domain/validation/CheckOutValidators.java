@@ -65,6 +65,7 @@ public class CheckOutValidators {
   private final BlockValidator<LoanAndRelatedRecords> loanPolicyValidator;
   private final BlockValidator<LoanAndRelatedRecords> automatedPatronBlocksValidator;
   private final BlockValidator<LoanAndRelatedRecords> manualPatronBlocksValidator;
+  private final boolean patronBlockOverrideRequested;
 
   private final CirculationErrorHandler errorHandler;
 
@@ -114,6 +115,9 @@ public class CheckOutValidators {
     loanPolicyValidator = createLoanPolicyValidator(request, permissions);
 
     manualPatronBlocksValidator = createManualPatronBlocksValidator(request, permissions, clients);
+
+    patronBlockOverrideRequested = request.getBlockOverrides().getPatronBlockOverride()
+      .isRequested();
   }
 
   private ValidationErrorFailure errorWhenInIncorrectStatus(Item item) {
@@ -189,6 +193,39 @@ public class CheckOutValidators {
         r, manualPatronBlocksValidator.getErrorType(), result)));
   }
 
+  /**
+   * Checks both manual and automated patron blocks, fetching them at the same time.
+   * Errors are recorded in the same order as checking manual blocks and then automated blocks
+   */
+  public CompletableFuture<Result<LoanAndRelatedRecords>>
+  refuseWhenCheckOutActionIsBlockedForPatron(Result<LoanAndRelatedRecords> result) {
+
+    log.debug("refuseWhenCheckOutActionIsBlockedForPatron:: parameters result: {}",
+      () -> resultAsString(result));
+
+    if (errorHandler.hasAny(FAILED_TO_FETCH_USER)) {
+      log.info("refuseWhenCheckOutActionIsBlockedForPatron:: error handler has {}",
+        FAILED_TO_FETCH_USER);
+      return completedFuture(result);
+    }
+
+    if (patronBlockOverrideRequested) {
+      // overriding validators change the loan, so are applied one after the other
+      return refuseWhenCheckOutActionIsBlockedManuallyForPatron(result)
+        .thenCompose(this::refuseWhenCheckOutActionIsBlockedAutomaticallyForPatron);
+    }
+
+    return result.after(l -> manualPatronBlocksValidator.validate(l)
+      .thenCombine(automatedPatronBlocksValidator.validate(l), (manual, automated) -> {
+        final Result<LoanAndRelatedRecords> afterManualBlocks =
+          errorHandler.handleValidationResult(manual,
+            manualPatronBlocksValidator.getErrorType(), result);
+
+        return afterManualBlocks.next(records -> errorHandler.handleValidationResult(
+          automated, automatedPatronBlocksValidator.getErrorType(), afterManualBlocks));
+      }));
+  }
+
   public Result<LoanAndRelatedRecords> refuseWhenProxyUserIsInactive(
     Result<LoanAndRelatedRecords> result) {
 
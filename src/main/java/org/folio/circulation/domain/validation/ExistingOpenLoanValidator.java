@@ -10,6 +10,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.ValidationErrorFailure;
 
@@ -34,7 +35,8 @@ public class ExistingOpenLoanValidator {
     return ofAsync(() -> loanAndRelatedRecords.getLoan().getItemId())
       .thenComposeAsync(result -> result.failAfter(loanRepository::hasOpenLoan,
         v -> existingOpenLoanErrorFunction.apply(
-          "Cannot check out item that already has an open loan")))
+          "Cannot check out item that already has an open loan")),
+            ContextExecutor.forCurrentContext())
       .thenApply(result -> result.map(v -> loanAndRelatedRecords));
   }
 }
@@ -29,6 +29,7 @@ import org.folio.circulation.domain.representations.CheckOutByBarcodeRequest;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.server.ValidationError;
 import org.folio.circulation.support.results.Result;
@@ -90,7 +91,7 @@ public class ItemLimitValidator {
 
           cause.setItemLimit(itemLimit);
           return itemLimitErrorFunction.apply(cause);
-        }))
+        }), ContextExecutor.forCurrentContext())
       .thenApply(result -> result.map(v -> records));
   }
 
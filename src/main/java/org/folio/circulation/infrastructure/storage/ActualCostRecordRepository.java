@@ -11,7 +11,6 @@ import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailur
 import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.PageLimit.one;
-import static org.folio.circulation.support.http.client.PageLimit.oneThousand;
 import static org.folio.circulation.support.logging.LogHelper.asString;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
@@ -29,7 +28,9 @@ import org.folio.circulation.storage.mappers.ActualCostRecordMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.fetching.CqlQueryFinder;
+import org.folio.circulation.support.fetching.GetManyRecordsRepository;
 import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.Offset;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
 import org.folio.circulation.support.results.Result;
@@ -37,7 +38,7 @@ import org.folio.circulation.support.utils.ClockUtil;
 
 import io.vertx.core.json.JsonObject;
 
-public class ActualCostRecordRepository {
+public class ActualCostRecordRepository implements GetManyRecordsRepository<ActualCostRecord> {
 
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final CollectionResourceClient actualCostRecordStorageClient;
@@ -92,12 +93,21 @@ public class ActualCostRecordRepository {
       .thenApply(mapResult(loan::withActualCostRecord));
   }
 
-  public CompletableFuture<Result<Collection<ActualCostRecord>>> findExpiredActualCostRecords() {
-    Result<CqlQuery> query = CqlQuery.lessThan("expirationDate", ClockUtil.getZonedDateTime())
+  public Result<CqlQuery> expiredActualCostRecordsQuery() {
+    return CqlQuery.lessThan("expirationDate", ClockUtil.getZonedDateTime())
       .combine(exactMatch(STATUS_FIELD_NAME, "Open"), CqlQuery::and);
+  }
+
+  @Override
+  public CompletableFuture<Result<MultipleRecords<ActualCostRecord>>> getMany(
+    CqlQuery cqlQuery, PageLimit pageLimit, Offset offset) {
+
+    log.debug("getMany:: parameters cqlQuery: {}, pageLimit: {}, offset: {}", cqlQuery,
+      pageLimit, offset);
 
-    return find(query, oneThousand())
-      .thenApply(r -> r.map(MultipleRecords::getRecords));
+    return actualCostRecordStorageClient.getMany(cqlQuery, pageLimit, offset)
+      .thenApply(r -> r.next(response -> MultipleRecords.from(response,
+        ActualCostRecordMapper::toDomain, ACTUAL_COST_RECORDS)));
   }
 
   private CompletableFuture<Result<ActualCostRecord>> findOne(Result<CqlQuery> query) {
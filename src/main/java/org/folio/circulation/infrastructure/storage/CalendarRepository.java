@@ -1,24 +1,31 @@
 package org.folio.circulation.infrastructure.storage;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.UnaryOperator;
 
 import org.folio.circulation.AdjacentOpeningDays;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.OpeningDay;
+import org.folio.circulation.domain.OpeningHoursIndex;
+import org.folio.circulation.infrastructure.storage.cache.OpeningHoursCache;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.server.ValidationError;
 import org.folio.circulation.support.results.Result;
+import org.folio.circulation.support.utils.ClockUtil;
 
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -40,14 +47,69 @@ public class CalendarRepository {
 
   private final CollectionResourceClient calendarClient;
   private final ConfigurationRepository configurationRepository;
+  private final String tenantId;
+  private final OpeningHoursCache openingHoursCache;
 
   public CalendarRepository(Clients clients) {
     this.calendarClient = clients.calendarStorageClient();
     this.configurationRepository = new ConfigurationRepository(clients);
+    this.tenantId = clients.getTenantId();
+    this.openingHoursCache = OpeningHoursCache.getInstance();
   }
 
   public CompletableFuture<Result<AdjacentOpeningDays>> lookupOpeningDays(
     LocalDate requestedDate, String servicePointId) {
+
+    if (!openingHoursCache.isEnabled()) {
+      return fetchAdjacentOpeningDays(requestedDate, servicePointId);
+    }
+
+    return configurationRepository.findTimeZoneConfiguration()
+      .thenCompose(r -> r.after(zone -> findOpeningHoursIndex(servicePointId, zone)))
+      .thenCompose(r -> r.after(index -> index
+        .flatMap(i -> i.getAdjacentOpeningDays(requestedDate))
+        .map(days -> completedFuture(succeeded(days)))
+        .orElseGet(() -> fetchAdjacentOpeningDays(requestedDate, servicePointId))));
+  }
+
+  public CompletableFuture<Result<Collection<OpeningDay>>> fetchOpeningDaysBetweenDates(
+    String servicePointId, ZonedDateTime startDate, ZonedDateTime endDate) {
+
+    if (!openingHoursCache.isEnabled()) {
+      return fetchAllOpeningDays(servicePointId, startDate, endDate);
+    }
+
+    final LocalDate firstDate = startDate.toLocalDate();
+    final LocalDate lastDate = endDate.toLocalDate();
+
+    return configurationRepository.findTimeZoneConfiguration()
+      .thenCompose(r -> r.after(zone -> findOpeningHoursIndex(servicePointId, zone)))
+      .thenCompose(r -> r.after(index -> index
+        .filter(i -> i.covers(firstDate, lastDate))
+        .map(i -> Result.<Collection<OpeningDay>>ofAsync(
+          i.getOpenDaysBetween(firstDate, lastDate)))
+        .orElseGet(() -> fetchAllOpeningDays(servicePointId, startDate, endDate))));
+  }
+
+  /**
+   * Finds the index of the service point's openings around today, a failure (or error)
+   * fetching the index is ignored so that the calendar is asked instead (and responds as usual)
+   */
+  private CompletableFuture<Result<Optional<OpeningHoursIndex>>> findOpeningHoursIndex(
+    String servicePointId, ZoneId zone) {
+
+    final LocalDate today = ClockUtil.getZonedDateTime().withZoneSameInstant(zone)
+      .toLocalDate();
+
+    return openingHoursCache.getOrFetch(tenantId, servicePointId, zone, today,
+        (firstDate, lastDate) -> fetchOpenDays(servicePointId, firstDate, lastDate, zone))
+      .thenApply(r -> succeeded(r.map(Optional::of).orElse(Optional.empty())))
+      .exceptionally(e -> succeeded(Optional.empty()));
+  }
+
+  private CompletableFuture<Result<AdjacentOpeningDays>> fetchAdjacentOpeningDays(
+    LocalDate requestedDate, String servicePointId) {
+
     String path = String.format(SURROUNDING_DATES_PATH, servicePointId, requestedDate);
 
     // TODO: Validation error should have parameters
@@ -63,7 +125,7 @@ public class CalendarRepository {
       .fetch(path);
   }
 
-  public CompletableFuture<Result<Collection<OpeningDay>>> fetchOpeningDaysBetweenDates(
+  private CompletableFuture<Result<Collection<OpeningDay>>> fetchAllOpeningDays(
     String servicePointId, ZonedDateTime startDate, ZonedDateTime endDate) {
     String path = String.format(
       ALL_DATES_PATH,
@@ -77,7 +139,17 @@ public class CalendarRepository {
       .thenCombineAsync(
         configurationRepository.findTimeZoneConfiguration(),
         Result.combined(CalendarRepository::getOpeningDaysFromOpeningDayCollection)
-      );
+      , ContextExecutor.forCurrentContext());
+  }
+
+  private CompletableFuture<Result<Collection<OpeningDay>>> fetchOpenDays(
+    String servicePointId, LocalDate firstDate, LocalDate lastDate, ZoneId zone) {
+
+    String path = String.format(ALL_DATES_PATH, servicePointId, firstDate, lastDate,
+      Integer.MAX_VALUE);
+
+    return calendarClient.get(path)
+      .thenApply(r -> r.next(response -> getOpeningDaysFromOpeningDayCollection(response, zone)));
   }
 
   private static Result<Collection<OpeningDay>> getOpeningDaysFromOpeningDayCollection(
@@ -1,28 +1,41 @@
 package org.folio.circulation.infrastructure.storage;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.circulation.rules.RulesExecutionParameters.forItem;
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.ItemRelatedRecord;
 import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.UserRelatedRecord;
 import org.folio.circulation.domain.notice.PatronNoticeEvent;
+import org.folio.circulation.infrastructure.storage.cache.PolicyCache;
+import org.folio.circulation.infrastructure.storage.cache.PolicyType;
 import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.rules.CirculationRulesProcessor;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -32,12 +45,18 @@ public abstract class CirculationPolicyRepository<T> {
 
   protected final CollectionResourceClient policyStorageClient;
   protected final CirculationRulesProcessor circulationRulesProcessor;
+  protected final String tenantId;
+  protected final PolicyCache policyCache;
+  private final PolicyType policyType;
 
   protected CirculationPolicyRepository(CollectionResourceClient policyStorageClient,
-    Clients clients) {
+    Clients clients, PolicyType policyType) {
 
     this.policyStorageClient = policyStorageClient;
     this.circulationRulesProcessor = clients.circulationRulesProcessor();
+    this.tenantId = clients.getTenantId();
+    this.policyCache = PolicyCache.getInstance();
+    this.policyType = policyType;
   }
 
   public CompletableFuture<Result<T>> lookupPolicy(Loan loan) {
@@ -51,9 +70,22 @@ public abstract class CirculationPolicyRepository<T> {
   public CompletableFuture<Result<T>> lookupPolicy(
     Item item, User user) {
 
-    return lookupPolicyId(item, user)
+    return lookupMatchedPolicy(lookupPolicyId(item, user));
+  }
+
+  public CompletableFuture<Result<T>> lookupPolicy(
+    RulesExecutionParameters rulesExecutionParameters) {
+
+    return lookupMatchedPolicy(lookupPolicyId(rulesExecutionParameters));
+  }
+
+  private CompletableFuture<Result<T>> lookupMatchedPolicy(
+    CompletableFuture<Result<CirculationRuleMatch>> ruleMatchLookup) {
+
+    return ruleMatchLookup
       .thenComposeAsync(r -> r.after(ruleMatchEntity -> lookupPolicy(
-        ruleMatchEntity.getPolicyId(), ruleMatchEntity.getAppliedRuleConditions())));
+        ruleMatchEntity.getPolicyId(), ruleMatchEntity.getAppliedRuleConditions())),
+          ContextExecutor.forCurrentContext());
   }
 
   private Result<T> mapToPolicy(JsonObject json, AppliedRuleConditions ruleConditionsEntity) {
@@ -67,12 +99,45 @@ public abstract class CirculationPolicyRepository<T> {
   public CompletableFuture<Result<T>> lookupPolicy(String policyId, AppliedRuleConditions conditionsEntity) {
     log.info("Looking up policy with id {}", policyId);
 
-    return SingleRecordFetcher.json(policyStorageClient, "circulation policy",
-      response -> failedDueToServerError(getPolicyNotFoundErrorMessage(policyId)))
-      .fetch(policyId)
+    return policyCache.getOrFetch(tenantId, policyType, policyId,
+        id -> SingleRecordFetcher.json(policyStorageClient, "circulation policy",
+          response -> failedDueToServerError(getPolicyNotFoundErrorMessage(id)))
+        .fetch(id))
       .thenApply(result -> result.next(json -> mapToPolicy(json, conditionsEntity)));
   }
 
+  /**
+   * Fetches a policy by ID, using the unknown policy when it cannot be found
+   */
+  protected CompletableFuture<Result<T>> findPolicyById(String policyId,
+    String recordType, Function<JsonObject, T> mapper, Function<String, T> unknownPolicy) {
+
+    return policyCache.getOrFetch(tenantId, policyType, policyId,
+        id -> FetchSingleRecord.<JsonObject>forRecord(recordType)
+          .using(policyStorageClient)
+          .mapTo(identity())
+          .whenNotFound(succeeded(null))
+          .fetch(id))
+      .thenApply(mapResult(json -> json == null
+        ? unknownPolicy.apply(policyId)
+        : mapper.apply(json)));
+  }
+
+  /**
+   * Fetches the policies with the IDs, policies that cannot be found are left out
+   */
+  protected CompletableFuture<Result<Map<String, T>>> findPoliciesByIds(
+    Collection<String> policyIds, Function<JsonObject, T> mapper) {
+
+    return policyCache.getAllOrFetch(tenantId, policyType, policyIds,
+        ids -> findWithMultipleCqlIndexValues(policyStorageClient,
+          policyType.getRecordsPropertyName(), identity())
+          .findByIds(ids)
+          .thenApply(mapResult(MultipleRecords::getRecords)))
+      .thenApply(mapResult(representations -> representations.stream()
+        .collect(toMap(json -> json.getString("id"), mapper, (first, second) -> first))));
+  }
+
   public <R extends UserRelatedRecord & ItemRelatedRecord>
   CompletableFuture<Result<CirculationRuleMatch>> lookupPolicyId(R userAndItemRelatedRecord) {
 
@@ -99,27 +164,33 @@ public abstract class CirculationPolicyRepository<T> {
         "Unable to apply circulation rules for unknown item"));
     }
 
-    if (user.getPatronGroupId() == null) {
-      log.error("PatronGroupId is null for user {}", user.getId());
+    return lookupPolicyId(forItem(item, user));
+  }
+
+  public CompletableFuture<Result<CirculationRuleMatch>> lookupPolicyId(
+    RulesExecutionParameters rulesExecutionParameters) {
+
+    if (rulesExecutionParameters.getPatronGroupId() == null) {
+      log.error("PatronGroupId is null for {}", rulesExecutionParameters);
       return completedFuture(failedDueToServerError("Unable to apply circulation rules to a user with null value as patronGroupId"));
     }
 
-    if (item.getEffectiveLocationId() == null) {
-      log.error("LocationId is null for item {}", item.getItemId());
+    if (rulesExecutionParameters.getLocationId() == null) {
+      log.error("LocationId is null for {}", rulesExecutionParameters);
       return completedFuture(failedDueToServerError("Unable to apply circulation rules to an item with null value as locationId"));
     }
 
-    if (item.getLoanTypeId() == null) {
-      log.error("LoanTypeId is null for item {}", item.getItemId());
+    if (rulesExecutionParameters.getLoanTypeId() == null) {
+      log.error("LoanTypeId is null for {}", rulesExecutionParameters);
       return completedFuture(failedDueToServerError("Unable to apply circulation rules to an item which loan type can not be determined"));
     }
 
-    if (item.getMaterialTypeId() == null) {
-      log.error("MaterialTypeId is null for item {}", item.getItemId());
+    if (rulesExecutionParameters.getMaterialTypeId() == null) {
+      log.error("MaterialTypeId is null for {}", rulesExecutionParameters);
       return completedFuture(failedDueToServerError("Unable to apply circulation rules to an item with null value as materialTypeId"));
     }
 
-    return getPolicyAndMatch(forItem(item, user));
+    return getPolicyAndMatch(rulesExecutionParameters);
   }
 
   protected abstract String getPolicyNotFoundErrorMessage(String policyId);
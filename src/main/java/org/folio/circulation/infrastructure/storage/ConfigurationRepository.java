@@ -1,6 +1,10 @@
 package org.folio.circulation.infrastructure.storage;
 
 import static org.folio.circulation.domain.MultipleRecords.from;
+import static org.folio.circulation.infrastructure.storage.cache.TenantSettingType.SCHEDULER_NOTICES_LIMIT;
+import static org.folio.circulation.infrastructure.storage.cache.TenantSettingType.SESSION_TIMEOUT;
+import static org.folio.circulation.infrastructure.storage.cache.TenantSettingType.TIME_ZONE;
+import static org.folio.circulation.infrastructure.storage.cache.TenantSettingType.TLR;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 
 import java.time.ZoneId;
@@ -13,6 +17,7 @@ import org.folio.circulation.domain.ConfigurationService;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.anonymization.config.LoanAnonymizationConfiguration;
 import org.folio.circulation.domain.configuration.TlrSettingsConfiguration;
+import org.folio.circulation.infrastructure.storage.cache.TenantSettingsCache;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.GetManyRecordsClient;
 import org.folio.circulation.support.http.client.CqlQuery;
@@ -29,12 +34,28 @@ public class ConfigurationRepository {
   private static final PageLimit DEFAULT_PAGE_LIMIT = PageLimit.one();
 
   private final GetManyRecordsClient configurationClient;
+  private final String tenantId;
+  private final TenantSettingsCache settingsCache = TenantSettingsCache.getInstance();
 
   public ConfigurationRepository(Clients clients) {
     configurationClient = clients.configurationStorageClient();
+    tenantId = clients.getTenantId();
   }
 
   public CompletableFuture<Result<PageLimit>> lookupSchedulerNoticesProcessingLimit() {
+    return settingsCache.getOrFetch(tenantId, SCHEDULER_NOTICES_LIMIT,
+      this::fetchSchedulerNoticesProcessingLimit);
+  }
+
+  public CompletableFuture<Result<Integer>> lookupSessionTimeout() {
+    return settingsCache.getOrFetch(tenantId, SESSION_TIMEOUT, this::fetchSessionTimeout);
+  }
+
+  public CompletableFuture<Result<TlrSettingsConfiguration>> lookupTlrSettings() {
+    return settingsCache.getOrFetch(tenantId, TLR, this::fetchTlrSettings);
+  }
+
+  private CompletableFuture<Result<PageLimit>> fetchSchedulerNoticesProcessingLimit() {
     Result<CqlQuery> cqlQueryResult = defineModuleNameAndConfigNameFilter(
       "NOTIFICATION_SCHEDULER", "noticesLimit");
 
@@ -42,14 +63,14 @@ public class ConfigurationRepository {
       .thenApply(result -> result.map(PageLimit::limit));
   }
 
-  public CompletableFuture<Result<Integer>> lookupSessionTimeout() {
+  private CompletableFuture<Result<Integer>> fetchSessionTimeout() {
     Result<CqlQuery> otherSettingsQuery = defineModuleNameAndConfigNameFilter(
       "CHECKOUT", "other_settings");
 
     return lookupConfigurations(otherSettingsQuery, applySessionTimeout());
   }
 
-  public CompletableFuture<Result<TlrSettingsConfiguration>> lookupTlrSettings() {
+  private CompletableFuture<Result<TlrSettingsConfiguration>> fetchTlrSettings() {
     Result<CqlQuery> queryResult = defineModuleNameAndConfigNameFilter(
       "SETTINGS", "TLR");
 
@@ -82,6 +103,10 @@ public class ConfigurationRepository {
   }
 
   public CompletableFuture<Result<ZoneId>> findTimeZoneConfiguration() {
+    return settingsCache.getOrFetch(tenantId, TIME_ZONE, this::fetchTimeZoneConfiguration);
+  }
+
+  private CompletableFuture<Result<ZoneId>> fetchTimeZoneConfiguration() {
     Result<CqlQuery> cqlQueryResult = defineModuleNameAndConfigNameFilter(
       "ORG", "localeSettings");
 
@@ -13,6 +13,7 @@ import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -26,11 +27,14 @@ import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.infrastructure.storage.cache.ReferenceDataCache;
 import org.folio.circulation.storage.mappers.ServicePointMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
+import org.folio.circulation.support.async.ContextExecutor;
+import org.folio.circulation.support.cache.ExpiringCache;
 import org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.results.Result;
@@ -39,9 +43,11 @@ public class ServicePointRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private final CollectionResourceClient servicePointsStorageClient;
+  private final ExpiringCache<String, ServicePoint> servicePointsCache;
 
   public ServicePointRepository(Clients clients) {
     servicePointsStorageClient = clients.servicePointsStorage();
+    servicePointsCache = ReferenceDataCache.getInstance().servicePoints(clients.getTenantId());
   }
 
   public CompletableFuture<Result<ServicePoint>> getServicePointById(UUID id) {
@@ -63,11 +69,12 @@ public class ServicePointRepository {
 
     final var mapper = new ServicePointMapper();
 
-    return FetchSingleRecord.<ServicePoint>forRecord("service point")
+    return servicePointsCache.getOrFetch(id, servicePointId ->
+      FetchSingleRecord.<ServicePoint>forRecord("service point")
         .using(servicePointsStorageClient)
         .mapTo(mapper::toDomain)
         .whenNotFound(succeeded(null))
-        .fetch(id);
+        .fetch(servicePointId));
   }
 
   public CompletableFuture<Result<ServicePoint>> getServicePointForRequest(Request request) {
@@ -78,7 +85,7 @@ public class ServicePointRepository {
   public CompletableFuture<Result<Loan>> findServicePointsForLoan(Result<Loan> loanResult) {
     log.debug("findServicePointsForLoan:: parameters loanResult: {}", loanResult);
     return fetchCheckInServicePoint(loanResult)
-      .thenComposeAsync(this::fetchCheckOutServicePoint);
+      .thenComposeAsync(this::fetchCheckOutServicePoint, ContextExecutor.forCurrentContext());
   }
 
   private CompletableFuture<Result<Loan>> fetchCheckOutServicePoint(Result<Loan> loanResult) {
@@ -122,13 +129,10 @@ public class ServicePointRepository {
       return completedFuture(succeeded(multipleLoans));
     }
 
-    final FindWithMultipleCqlIndexValues<ServicePoint> fetcher = createServicePointsFetcher();
-
-    return fetcher.findByIds(servicePointsToFetch)
+    return fetchServicePointsByIds(servicePointsToFetch)
       .thenApply(multipleServicePointsResult -> multipleServicePointsResult.next(
-          multipleServicePoints -> {
+          spCollection -> {
             List<Loan> newLoanList = new ArrayList<>();
-            Collection<ServicePoint> spCollection = multipleServicePoints.getRecords();
             for(Loan loan : loans) {
               Loan newLoan = loan;
               for(ServicePoint servicePoint : spCollection) {
@@ -166,13 +170,10 @@ public class ServicePointRepository {
       return completedFuture(succeeded(multipleRequests));
     }
 
-    final FindWithMultipleCqlIndexValues<ServicePoint> fetcher = createServicePointsFetcher();
-
-    return fetcher.findByIds(servicePointsToFetch)
+    return fetchServicePointsByIds(servicePointsToFetch)
         .thenApply(multipleServicePointsResult -> multipleServicePointsResult.next(
-          multipleServicePoints -> {
+          spCollection -> {
             List<Request> newRequestList = new ArrayList<>();
-            Collection<ServicePoint> spCollection = multipleServicePoints.getRecords();
             for(Request request : requests) {
               Request newRequest = null;
               boolean foundSP = false; //Have we found a matching service point for the request?
@@ -202,8 +203,16 @@ public class ServicePointRepository {
 
     log.debug("findServicePointsByIds:: parameters ids: {}", () -> collectionAsString(ids));
 
-    return createServicePointsFetcher().findByIds(ids)
-      .thenApply(r -> r.map(MultipleRecords::getRecords));
+    return fetchServicePointsByIds(ids);
+  }
+
+  private CompletableFuture<Result<Collection<ServicePoint>>> fetchServicePointsByIds(
+    Collection<String> ids) {
+
+    return servicePointsCache.getAllOrFetch(ids, missingIds -> createServicePointsFetcher()
+        .findByIds(missingIds)
+        .thenApply(r -> r.map(MultipleRecords::getRecords)), ServicePoint::getId)
+      .thenApply(r -> r.map(Map::values));
   }
 
   public CompletableFuture<Result<Collection<ServicePoint>>> fetchPickupLocationServicePoints() {
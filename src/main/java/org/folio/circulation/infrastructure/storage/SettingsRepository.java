@@ -6,6 +6,7 @@ import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Configuration;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.configuration.CheckoutLockConfiguration;
+import org.folio.circulation.infrastructure.storage.cache.TenantSettingsCache;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.GetManyRecordsClient;
 import org.folio.circulation.support.http.client.CqlQuery;
@@ -15,31 +16,25 @@ import org.folio.circulation.support.results.Result;
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
 
+import static org.folio.circulation.infrastructure.storage.cache.TenantSettingType.CHECK_OUT_LOCK;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 public class SettingsRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final GetManyRecordsClient settingsClient;
+  private final String tenantId;
 
   public SettingsRepository(Clients clients) {
     settingsClient = clients.settingsStorageClient();
+    tenantId = clients.getTenantId();
   }
 
   public CompletableFuture<Result<CheckoutLockConfiguration>> lookUpCheckOutLockSettings() {
     try {
-      log.debug("lookUpCheckOutLockSettings:: fetching checkout lock settings");
-      final Result<CqlQuery> moduleQuery = exactMatch("scope", "mod-circulation");
-      final Result<CqlQuery> configNameQuery = exactMatch("key", "checkoutLockFeature");
-
-      return moduleQuery.combine(configNameQuery, CqlQuery::and)
-        .after(cqlQuery -> settingsClient.getMany(cqlQuery, PageLimit.noLimit()))
-        .thenApply(result -> result.next(response -> MultipleRecords.from(response, Configuration::new, "items")))
-        .thenApply(r -> r.map(r1 -> r1.getRecords().stream().findFirst()
-          .map(Configuration::getValue)
-          .map(JsonObject::new)
-          .orElse(new JsonObject())))
-        .thenApply(r -> r.map(CheckoutLockConfiguration::from))
+      // the default used when the settings cannot be fetched is not cached
+      return TenantSettingsCache.getInstance()
+        .getOrFetch(tenantId, CHECK_OUT_LOCK, this::fetchCheckOutLockSettings)
         .thenApply(r -> r.mapFailure(failure -> {
           log.warn("lookUpCheckOutLockSettings:: Error while fetching checkout lock settings {}", failure);
           return succeeded(CheckoutLockConfiguration.from(new JsonObject()));
@@ -49,4 +44,19 @@ public class SettingsRepository {
       return CompletableFuture.completedFuture(succeeded(CheckoutLockConfiguration.from(new JsonObject())));
     }
   }
+
+  private CompletableFuture<Result<CheckoutLockConfiguration>> fetchCheckOutLockSettings() {
+    log.debug("fetchCheckOutLockSettings:: fetching checkout lock settings");
+    final Result<CqlQuery> moduleQuery = exactMatch("scope", "mod-circulation");
+    final Result<CqlQuery> configNameQuery = exactMatch("key", "checkoutLockFeature");
+
+    return moduleQuery.combine(configNameQuery, CqlQuery::and)
+      .after(cqlQuery -> settingsClient.getMany(cqlQuery, PageLimit.noLimit()))
+      .thenApply(result -> result.next(response -> MultipleRecords.from(response, Configuration::new, "items")))
+      .thenApply(r -> r.map(r1 -> r1.getRecords().stream().findFirst()
+        .map(Configuration::getValue)
+        .map(JsonObject::new)
+        .orElse(new JsonObject())))
+      .thenApply(r -> r.map(CheckoutLockConfiguration::from));
+  }
 }
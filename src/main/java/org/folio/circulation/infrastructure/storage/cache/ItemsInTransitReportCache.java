@@ -0,0 +1,238 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+import static org.folio.Environment.getItemsInTransitReportCacheTimeToLiveSeconds;
+import static org.folio.circulation.domain.representations.ItemsInTransitReportEntry.REPORT_ORDER;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.representations.ItemsInTransitReportEntry;
+
+/**
+ * Process wide cache of the items in transit report for each tenant.
+ * <p>
+ * The whole report is built when there is no report, or the report is older than the
+ * time to live. Items which are changed after that (as reported by item change events)
+ * are remembered, so that only the entries for those items need to be built again
+ * before the report is next used.
+ * <p>
+ * Every change is given a sequence number, which is used to tell which changes were
+ * made after a report (or the entries for changed items) started to be built.
+ */
+public final class ItemsInTransitReportCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final ItemsInTransitReportCache instance = new ItemsInTransitReportCache(
+    () -> Duration.ofSeconds(getItemsInTransitReportCacheTimeToLiveSeconds()), System::nanoTime);
+
+  /** reports for each tenantId */
+  private final Map<String, TenantReport> tenants = new ConcurrentHashMap<>();
+  private final Supplier<Duration> timeToLive;
+  private final LongSupplier ticker;
+
+  public static ItemsInTransitReportCache getInstance() {
+    return instance;
+  }
+
+  ItemsInTransitReportCache(Supplier<Duration> timeToLive,
+    LongSupplier ticker) {
+
+    this.timeToLive = timeToLive;
+    this.ticker = ticker;
+  }
+
+  /**
+   * Returns the tenant's report, unless there is no report or it has expired
+   */
+  public Optional<ReportSnapshot> get(String tenantId) {
+    if (tenantId == null) {
+      return Optional.empty();
+    }
+
+    return forTenant(tenantId).snapshot(ticker.getAsLong(), timeToLive.get().toNanos());
+  }
+
+  /**
+   * The sequence number to use when storing a report which is about to be built
+   */
+  public long beginBuild(String tenantId) {
+    return tenantId == null ? 0 : forTenant(tenantId).currentSequence();
+  }
+
+  /**
+   * Stores a newly built report, unless the report has been invalidated since it began
+   */
+  public void store(String tenantId, long builtFromSequence,
+    Collection<ItemsInTransitReportEntry> entries) {
+
+    if (tenantId == null || !isEnabled()) {
+      return;
+    }
+
+    forTenant(tenantId).store(builtFromSequence, sorted(entries.stream()),
+      ticker.getAsLong());
+  }
+
+  /**
+   * Replaces the entries for the changed items in the snapshot's report with those
+   * which have been built again. Nothing is stored if the report has since been replaced
+   *
+   * @return the entries of the refreshed report
+   */
+  public List<ItemsInTransitReportEntry> refresh(String tenantId, ReportSnapshot snapshot,
+    Collection<ItemsInTransitReportEntry> rebuiltEntries) {
+
+    final Set<String> changedItemIds = snapshot.changedItemIds();
+
+    final List<ItemsInTransitReportEntry> refreshed = sorted(Stream.concat(
+      snapshot.entries().stream()
+        .filter(entry -> !changedItemIds.contains(entry.getItemId())),
+      rebuiltEntries.stream()));
+
+    if (tenantId != null) {
+      forTenant(tenantId).refresh(snapshot, refreshed);
+    }
+
+    return refreshed;
+  }
+
+  /**
+   * Remembers that an item has changed, so that its entry is built again
+   */
+  public void itemChanged(String tenantId, String itemId) {
+    final TenantReport report = tenants.get(tenantId);
+
+    if (report == null) {
+      return;
+    }
+
+    if (itemId == null) {
+      invalidate(tenantId);
+    }
+    else {
+      report.itemChanged(itemId);
+    }
+  }
+
+  /**
+   * Discards the tenant's report, including any report which is being built
+   */
+  public void invalidate(String tenantId) {
+    log.info("invalidate:: invalidating items in transit report for tenant {}", tenantId);
+
+    Optional.ofNullable(tenants.get(tenantId))
+      .ifPresent(TenantReport::invalidate);
+  }
+
+  public void dropCache(String tenantId) {
+    log.info("dropCache:: dropping items in transit report for tenant {}", tenantId);
+    tenants.remove(tenantId);
+  }
+
+  public void dropCache() {
+    tenants.clear();
+  }
+
+  private boolean isEnabled() {
+    return timeToLive.get().toNanos() > 0;
+  }
+
+  private TenantReport forTenant(String tenantId) {
+    return tenants.computeIfAbsent(tenantId, id -> new TenantReport());
+  }
+
+  private static List<ItemsInTransitReportEntry> sorted(
+    Stream<ItemsInTransitReportEntry> entries) {
+
+    return entries.sorted(REPORT_ORDER).toList();
+  }
+
+  /**
+   * A report together with the items changed since it was built
+   *
+   * @param entries the report entries, in report order
+   * @param changedItemIds the items whose entries need to be built again
+   * @param sequence the latest change included in the changed items
+   */
+  public record ReportSnapshot(List<ItemsInTransitReportEntry> entries,
+    Set<String> changedItemIds, long sequence) {
+
+    public boolean hasChanges() {
+      return !changedItemIds.isEmpty();
+    }
+  }
+
+  private static class TenantReport {
+    private List<ItemsInTransitReportEntry> entries;
+    private long builtAt;
+    private long sequence;
+    private long invalidatedAt;
+    /** sequence number of the latest change for each changed item */
+    private final Map<String, Long> changedItems = new HashMap<>();
+
+    private synchronized Optional<ReportSnapshot> snapshot(long now, long timeToLiveNanos) {
+      if (entries == null || now - builtAt >= timeToLiveNanos) {
+        return Optional.empty();
+      }
+
+      return Optional.of(new ReportSnapshot(entries, Set.copyOf(changedItems.keySet()),
+        sequence));
+    }
+
+    private synchronized long currentSequence() {
+      return sequence;
+    }
+
+    private synchronized void store(long builtFromSequence,
+      List<ItemsInTransitReportEntry> builtEntries, long now) {
+
+      if (builtFromSequence < invalidatedAt) {
+        log.info("store:: report was invalidated whilst being built, not storing it");
+        return;
+      }
+
+      entries = builtEntries;
+      builtAt = now;
+      forgetChangesUpTo(builtFromSequence);
+    }
+
+    private synchronized void refresh(ReportSnapshot snapshot,
+      List<ItemsInTransitReportEntry> refreshedEntries) {
+
+      // another refresh or build has already replaced the report
+      if (entries != snapshot.entries()) {
+        return;
+      }
+
+      entries = refreshedEntries;
+      forgetChangesUpTo(snapshot.sequence());
+    }
+
+    private synchronized void itemChanged(String itemId) {
+      changedItems.put(itemId, ++sequence);
+    }
+
+    private synchronized void invalidate() {
+      entries = null;
+      changedItems.clear();
+      invalidatedAt = ++sequence;
+    }
+
+    private void forgetChangesUpTo(long includedSequence) {
+      // changes made after building started might not be included
+      changedItems.values().removeIf(changedAt -> changedAt <= includedSequence);
+    }
+  }
+}
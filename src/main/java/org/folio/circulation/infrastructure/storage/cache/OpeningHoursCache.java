@@ -0,0 +1,166 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.function.Function.identity;
+import static org.folio.Environment.getOpeningHoursCacheTimeToLiveSeconds;
+import static org.folio.circulation.support.results.Result.ofAsync;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.circulation.domain.OpeningDay;
+import org.folio.circulation.domain.OpeningHoursIndex;
+import org.folio.circulation.support.async.ContextExecutor;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Process wide cache of an index of each service point's openings, for each tenant,
+ * covering a number of days either side of the day it was fetched.
+ * <p>
+ * An index older than the time to live is still used, whilst it is fetched again in
+ * the background (moving the days it covers along with it). An index older than twice
+ * the time to live is fetched before being used. The calendar does not publish change
+ * events, so a change may take up to the time to live to be used.
+ * <p>
+ * Only one fetch for each service point is made at a time, requests that need the same
+ * index whilst it is being fetched wait for that fetch.
+ */
+public final class OpeningHoursCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final OpeningHoursCache instance = new OpeningHoursCache(
+    () -> Duration.ofSeconds(getOpeningHoursCacheTimeToLiveSeconds()),
+    Environment::getOpeningHoursCacheDays, System::nanoTime);
+
+  /** indexes for each tenantId/servicePointId */
+  private final Map<String, CachedIndex> indexes = new ConcurrentHashMap<>();
+  /** indexes being fetched, for each tenantId/servicePointId */
+  private final Map<String, CompletableFuture<Result<OpeningHoursIndex>>> fetching =
+    new ConcurrentHashMap<>();
+  private final Supplier<Duration> timeToLive;
+  private final IntSupplier days;
+  private final LongSupplier ticker;
+
+  public static OpeningHoursCache getInstance() {
+    return instance;
+  }
+
+  OpeningHoursCache(Supplier<Duration> timeToLive, IntSupplier days, LongSupplier ticker) {
+    this.timeToLive = timeToLive;
+    this.days = days;
+    this.ticker = ticker;
+  }
+
+  public boolean isEnabled() {
+    return days.getAsInt() > 0 && timeToLive.get().toNanos() > 0;
+  }
+
+  /**
+   * Returns the index of the service point's openings around today, otherwise uses the
+   * fetcher to get the open days between two dates to build it
+   */
+  public CompletableFuture<Result<OpeningHoursIndex>> getOrFetch(String tenantId,
+    String servicePointId, ZoneId zone, LocalDate today,
+    BiFunction<LocalDate, LocalDate, CompletableFuture<Result<Collection<OpeningDay>>>> fetcher) {
+
+    final String key = tenantId + "/" + servicePointId;
+    final long timeToLiveNanos = timeToLive.get().toNanos();
+    final CachedIndex cached = indexes.get(key);
+
+    if (cached != null && cached.isUsableFor(zone, today)) {
+      final long age = ticker.getAsLong() - cached.fetchedAt();
+
+      if (age < 2 * timeToLiveNanos) {
+        if (age >= timeToLiveNanos) {
+          log.debug("getOrFetch:: refreshing openings for service point {}", servicePointId);
+          fetch(key, zone, today, fetcher);
+        }
+
+        return ofAsync(cached.index());
+      }
+    }
+
+    return fetch(key, zone, today, fetcher);
+  }
+
+  public void dropCache(String tenantId) {
+    log.info("dropCache:: dropping openings for tenant {}", tenantId);
+    indexes.keySet().removeIf(key -> key.startsWith(tenantId + "/"));
+  }
+
+  public void dropCache() {
+    indexes.clear();
+  }
+
+  private CompletableFuture<Result<OpeningHoursIndex>> fetch(String key, ZoneId zone,
+    LocalDate today,
+    BiFunction<LocalDate, LocalDate, CompletableFuture<Result<Collection<OpeningDay>>>> fetcher) {
+
+    final CompletableFuture<Result<OpeningHoursIndex>> fetched = new CompletableFuture<>();
+    final CompletableFuture<Result<OpeningHoursIndex>> inFlight =
+      fetching.putIfAbsent(key, fetched);
+
+    if (inFlight != null) {
+      // continue on this request's context, rather than the one which started the fetch
+      return inFlight.thenApplyAsync(identity(), ContextExecutor.forCurrentContext());
+    }
+
+    final LocalDate firstDate = today.minusDays(days.getAsInt());
+    final LocalDate lastDate = today.plusDays(days.getAsInt());
+
+    apply(fetcher, firstDate, lastDate)
+      .thenApply(r -> r.map(openingDays -> OpeningHoursIndex.of(openingDays, firstDate,
+        lastDate, zone)))
+      .whenComplete((result, error) -> {
+        fetching.remove(key, fetched);
+
+        if (error != null) {
+          fetched.completeExceptionally(error);
+          return;
+        }
+
+        if (result.succeeded()) {
+          log.debug("fetch:: {} open days between {} and {} for {}",
+            result.value().size(), firstDate, lastDate, key);
+
+          indexes.put(key, new CachedIndex(result.value(), ticker.getAsLong()));
+        }
+
+        fetched.complete(result);
+      });
+
+    return fetched;
+  }
+
+  private static CompletableFuture<Result<Collection<OpeningDay>>> apply(
+    BiFunction<LocalDate, LocalDate, CompletableFuture<Result<Collection<OpeningDay>>>> fetcher,
+    LocalDate firstDate, LocalDate lastDate) {
+
+    try {
+      return fetcher.apply(firstDate, lastDate);
+    }
+    catch (RuntimeException e) {
+      return failedFuture(e);
+    }
+  }
+
+  private record CachedIndex(OpeningHoursIndex index, long fetchedAt) {
+    private boolean isUsableFor(ZoneId zone, LocalDate today) {
+      return Objects.equals(index.getZone(), zone) && index.covers(today, today);
+    }
+  }
+}
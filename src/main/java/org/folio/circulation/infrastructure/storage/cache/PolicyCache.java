@@ -0,0 +1,252 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+import static org.folio.Environment.getPolicyCacheMaximumSize;
+import static org.folio.Environment.getPolicyCacheTimeToLiveSeconds;
+import static org.folio.circulation.support.http.client.PageLimit.limit;
+import static org.folio.circulation.support.results.Result.ofAsync;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.cache.CacheStatistics;
+import org.folio.circulation.support.cache.ExpiringCache;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Process wide cache of circulation policy representations for each tenant.
+ * <p>
+ * Every entry records the version of the tenant's policies it was fetched for.
+ * Invalidating a tenant moves it on to a new version, so entries from older versions,
+ * including those from fetches which were still in flight, are never returned.
+ * <p>
+ * Cached policies are used without asking storage. Policy storage does not publish change
+ * events, so entries are only kept current by expiring and by invalidating the tenant's
+ * policies when the circulation rules are changed or the module is enabled for the tenant.
+ * <p>
+ * Representations are copied when stored and when returned,
+ * as the policies built from them may modify them.
+ */
+public final class PolicyCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final PolicyCache instance = new PolicyCache();
+
+  /** policy caches for each tenantId */
+  private final Map<String, TenantPolicies> tenants = new ConcurrentHashMap<>();
+
+  public static PolicyCache getInstance() {
+    return instance;
+  }
+
+  private PolicyCache() {}
+
+  /**
+   * Returns the cached representation of the policy, otherwise uses the fetcher to get it.
+   * A fetcher may return null for a policy that does not exist, this is never cached
+   */
+  public CompletableFuture<Result<JsonObject>> getOrFetch(String tenantId, PolicyType type,
+    String id, Function<String, CompletableFuture<Result<JsonObject>>> fetcher) {
+
+    final TenantPolicies policies = forTenant(tenantId);
+    final long version = policies.getVersion();
+
+    return policies.get(type, id)
+      .map(representation -> ofAsync(() -> representation))
+      .orElseGet(() -> fetcher.apply(id)
+        .thenApply(r -> r.map(representation -> {
+          policies.put(type, id, representation, version);
+          return representation;
+        })));
+  }
+
+  /**
+   * Returns the cached representations of the policies and uses the fetcher
+   * for those which are not present, policies which do not exist are left out
+   */
+  public CompletableFuture<Result<Collection<JsonObject>>> getAllOrFetch(String tenantId,
+    PolicyType type, Collection<String> ids,
+    Function<Collection<String>, CompletableFuture<Result<Collection<JsonObject>>>> fetcher) {
+
+    final TenantPolicies policies = forTenant(tenantId);
+    final long version = policies.getVersion();
+
+    final List<JsonObject> present = new ArrayList<>();
+    final List<String> missingIds = new ArrayList<>();
+
+    ids.stream()
+      .filter(Objects::nonNull)
+      .distinct()
+      .forEach(id -> policies.get(type, id)
+        .ifPresentOrElse(present::add, () -> missingIds.add(id)));
+
+    if (missingIds.isEmpty()) {
+      return ofAsync(() -> present);
+    }
+
+    return fetcher.apply(missingIds)
+      .thenApply(r -> r.map(fetched -> {
+        final List<JsonObject> all = new ArrayList<>(present);
+
+        fetched.stream()
+          .filter(Objects::nonNull)
+          .forEach(representation -> {
+            policies.put(type, representation.getString("id"), representation, version);
+            all.add(representation);
+          });
+
+        return all;
+      }));
+  }
+
+  /**
+   * Fetches all of the tenant's policies of a type (up to the maximum size of the cache)
+   *
+   * @return the number of policies that were cached
+   */
+  public CompletableFuture<Result<Integer>> warmUp(String tenantId, PolicyType type,
+    CollectionResourceClient client) {
+
+    log.info("warmUp:: warming up {} policies for tenant {}", type, tenantId);
+
+    final TenantPolicies policies = forTenant(tenantId);
+    final long version = policies.getVersion();
+
+    if (!policies.isEnabled()) {
+      log.info("warmUp:: policy cache is disabled");
+      return ofAsync(() -> 0);
+    }
+
+    return client.get(limit(getPolicyCacheMaximumSize()))
+      .thenApply(r -> r.next(response -> MultipleRecords.from(response,
+        Function.identity(), type.getRecordsPropertyName())))
+      .thenApply(r -> r.map(MultipleRecords::getRecords))
+      .thenApply(r -> r.map(representations -> {
+        representations.forEach(representation -> policies.put(type,
+          representation.getString("id"), representation, version));
+
+        return representations.size();
+      }));
+  }
+
+  /**
+   * Invalidates all of the cached policies for the tenant
+   */
+  public void invalidate(String tenantId) {
+    final TenantPolicies policies = tenants.get(tenantId);
+
+    if (policies == null) {
+      log.info("invalidate:: no cached policies for tenant {}", tenantId);
+      return;
+    }
+
+    log.info("invalidate:: invalidating policies for tenant {}, version {}",
+      tenantId, policies.getVersion());
+
+    policies.invalidateAll();
+  }
+
+  public long getVersion(String tenantId) {
+    return forTenant(tenantId).getVersion();
+  }
+
+  public void dropCache(String tenantId) {
+    log.info("dropCache:: dropping policy cache for tenant {}", tenantId);
+    tenants.remove(tenantId);
+  }
+
+  public void dropCache() {
+    tenants.clear();
+  }
+
+  public Map<PolicyType, CacheStatistics> getStatistics(String tenantId) {
+    final Map<PolicyType, CacheStatistics> statistics = new EnumMap<>(PolicyType.class);
+    final TenantPolicies policies = tenants.get(tenantId);
+
+    for (PolicyType type : PolicyType.values()) {
+      statistics.put(type, policies == null
+        ? CacheStatistics.empty()
+        : policies.caches.get(type).getStatistics());
+    }
+
+    return statistics;
+  }
+
+  private TenantPolicies forTenant(String tenantId) {
+    if (tenantId == null) {
+      return TenantPolicies.DISABLED;
+    }
+
+    return tenants.computeIfAbsent(tenantId, id -> {
+      log.info("forTenant:: creating policy cache for tenant {}", id);
+
+      return new TenantPolicies(Duration.ofSeconds(getPolicyCacheTimeToLiveSeconds()),
+        getPolicyCacheMaximumSize());
+    });
+  }
+
+  private static class TenantPolicies {
+    private static final TenantPolicies DISABLED = new TenantPolicies(Duration.ZERO, 0);
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<PolicyType, ExpiringCache<String, VersionedPolicy>> caches =
+      new EnumMap<>(PolicyType.class);
+
+    private TenantPolicies(Duration timeToLive, int maximumSize) {
+      for (PolicyType type : PolicyType.values()) {
+        caches.put(type, new ExpiringCache<>(timeToLive, maximumSize));
+      }
+    }
+
+    private boolean isEnabled() {
+      return caches.values().stream().allMatch(ExpiringCache::isEnabled);
+    }
+
+    private long getVersion() {
+      return version.get();
+    }
+
+    private Optional<JsonObject> get(PolicyType type, String id) {
+      final long currentVersion = getVersion();
+
+      return caches.get(type).get(id)
+        .filter(policy -> policy.version() == currentVersion)
+        .map(policy -> policy.representation().copy());
+    }
+
+    private void put(PolicyType type, String id, JsonObject representation,
+      long fetchedForVersion) {
+
+      // a fetch that started before the policies were invalidated may be out of date
+      if (representation == null || fetchedForVersion != getVersion()) {
+        return;
+      }
+
+      caches.get(type).put(id,
+        new VersionedPolicy(representation.copy(), fetchedForVersion));
+    }
+
+    private void invalidateAll() {
+      version.incrementAndGet();
+      caches.values().forEach(ExpiringCache::invalidateAll);
+    }
+  }
+
+  private record VersionedPolicy(JsonObject representation, long version) { }
+}
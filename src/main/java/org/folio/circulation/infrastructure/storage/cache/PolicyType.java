@@ -0,0 +1,17 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum PolicyType {
+  LOAN("loanPolicies"),
+  OVERDUE_FINE("overdueFinePolicies"),
+  LOST_ITEM("lostItemFeePolicies"),
+  REQUEST("requestPolicies"),
+  NOTICE("patronNoticePolicies"),
+  FIXED_DUE_DATE_SCHEDULE("fixedDueDateSchedules");
+
+  private final String recordsPropertyName;
+}
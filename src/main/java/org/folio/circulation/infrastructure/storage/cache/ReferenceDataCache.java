@@ -0,0 +1,170 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+import static org.folio.Environment.getReferenceDataCacheMaximumSize;
+import static org.folio.Environment.getReferenceDataCacheTimeToLiveSeconds;
+import static org.folio.circulation.support.http.client.PageLimit.limit;
+import static org.folio.circulation.support.results.Result.ofAsync;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.storage.mappers.LocationMapper;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.cache.CacheStatistics;
+import org.folio.circulation.support.cache.ExpiringCache;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Process wide cache of slowly changing inventory reference data (locations,
+ * libraries, campuses, institutions and service points) for each tenant.
+ * <p>
+ * Entries expire after a time to live and are invalidated when change events
+ * for the record are received from Kafka.
+ */
+public final class ReferenceDataCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final ReferenceDataCache instance = new ReferenceDataCache();
+
+  /** reference data caches for each tenantId */
+  private final Map<String, TenantReferenceData> tenants = new ConcurrentHashMap<>();
+
+  public static ReferenceDataCache getInstance() {
+    return instance;
+  }
+
+  private ReferenceDataCache() {}
+
+  public ExpiringCache<String, Location> locations(String tenantId) {
+    return forTenant(tenantId).get(ReferenceDataType.LOCATION);
+  }
+
+  public ExpiringCache<String, Library> libraries(String tenantId) {
+    return forTenant(tenantId).get(ReferenceDataType.LIBRARY);
+  }
+
+  public ExpiringCache<String, Campus> campuses(String tenantId) {
+    return forTenant(tenantId).get(ReferenceDataType.CAMPUS);
+  }
+
+  public ExpiringCache<String, Institution> institutions(String tenantId) {
+    return forTenant(tenantId).get(ReferenceDataType.INSTITUTION);
+  }
+
+  public ExpiringCache<String, ServicePoint> servicePoints(String tenantId) {
+    return forTenant(tenantId).get(ReferenceDataType.SERVICE_POINT);
+  }
+
+  /**
+   * Fetches all of the tenant's locations (up to the maximum size of the cache), so that
+   * the locations needed when applying the circulation rules do not need to be fetched
+   *
+   * @return the number of locations that were cached
+   */
+  public CompletableFuture<Result<Integer>> warmUpLocations(String tenantId,
+    CollectionResourceClient locationsStorageClient) {
+
+    log.info("warmUpLocations:: warming up locations for tenant {}", tenantId);
+
+    final ExpiringCache<String, Location> locations = locations(tenantId);
+
+    if (!locations.isEnabled()) {
+      log.info("warmUpLocations:: reference data cache is disabled");
+      return ofAsync(() -> 0);
+    }
+
+    return locationsStorageClient.get(limit(getReferenceDataCacheMaximumSize()))
+      .thenApply(r -> r.next(response -> MultipleRecords.from(response,
+        new LocationMapper()::toDomain, "locations")))
+      .thenApply(r -> r.map(MultipleRecords::getRecords))
+      .thenApply(r -> r.map(fetched -> {
+        locations.putAll(fetched, Location::getId);
+
+        return fetched.size();
+      }));
+  }
+
+  public void invalidate(String tenantId, ReferenceDataType type, String id) {
+    log.info("invalidate:: invalidating {} {} for tenant {}", type, id, tenantId);
+
+    final TenantReferenceData referenceData = tenants.get(tenantId);
+
+    if (referenceData == null) {
+      log.info("invalidate:: no cached reference data for tenant {}", tenantId);
+      return;
+    }
+
+    if (id == null) {
+      referenceData.get(type).invalidateAll();
+    }
+    else {
+      referenceData.get(type).invalidate(id);
+    }
+  }
+
+  public void dropCache(String tenantId) {
+    log.info("dropCache:: dropping reference data cache for tenant {}", tenantId);
+    tenants.remove(tenantId);
+  }
+
+  public void dropCache() {
+    tenants.clear();
+  }
+
+  public Map<ReferenceDataType, CacheStatistics> getStatistics(String tenantId) {
+    final Map<ReferenceDataType, CacheStatistics> statistics = new EnumMap<>(ReferenceDataType.class);
+    final TenantReferenceData referenceData = tenants.get(tenantId);
+
+    for (ReferenceDataType type : ReferenceDataType.values()) {
+      statistics.put(type, referenceData == null
+        ? CacheStatistics.empty()
+        : referenceData.get(type).getStatistics());
+    }
+
+    return statistics;
+  }
+
+  private TenantReferenceData forTenant(String tenantId) {
+    if (tenantId == null) {
+      return TenantReferenceData.DISABLED;
+    }
+
+    return tenants.computeIfAbsent(tenantId, id -> {
+      log.info("forTenant:: creating reference data cache for tenant {}", id);
+
+      return new TenantReferenceData(
+        Duration.ofSeconds(getReferenceDataCacheTimeToLiveSeconds()),
+        getReferenceDataCacheMaximumSize());
+    });
+  }
+
+  private static class TenantReferenceData {
+    private static final TenantReferenceData DISABLED = new TenantReferenceData(Duration.ZERO, 0);
+
+    private final Map<ReferenceDataType, ExpiringCache<String, ?>> caches =
+      new EnumMap<>(ReferenceDataType.class);
+
+    private TenantReferenceData(Duration timeToLive, int maximumSize) {
+      for (ReferenceDataType type : ReferenceDataType.values()) {
+        caches.put(type, new ExpiringCache<>(timeToLive, maximumSize));
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ExpiringCache<String, T> get(ReferenceDataType type) {
+      return (ExpiringCache<String, T>) caches.get(type);
+    }
+  }
+}
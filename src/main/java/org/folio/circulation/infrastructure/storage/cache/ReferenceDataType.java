@@ -0,0 +1,9 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+public enum ReferenceDataType {
+  LOCATION,
+  LIBRARY,
+  CAMPUS,
+  INSTITUTION,
+  SERVICE_POINT
+}
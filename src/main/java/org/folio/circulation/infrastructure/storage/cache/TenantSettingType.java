@@ -0,0 +1,9 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+public enum TenantSettingType {
+  TIME_ZONE,
+  TLR,
+  SESSION_TIMEOUT,
+  SCHEDULER_NOTICES_LIMIT,
+  CHECK_OUT_LOCK
+}
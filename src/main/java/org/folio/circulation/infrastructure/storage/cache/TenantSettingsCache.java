@@ -0,0 +1,178 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+import static org.folio.Environment.getTenantSettingsCacheTimeToLiveSeconds;
+import static org.folio.circulation.support.results.Result.ofAsync;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Process wide cache of each tenant's settings (e.g. time zone, title level request
+ * settings and check out lock settings), held as an immutable snapshot which is
+ * replaced whenever a setting is fetched.
+ * <p>
+ * A setting older than the time to live is still used, whilst it is fetched again in
+ * the background. A setting older than twice the time to live is fetched before being
+ * used. Configuration and settings storage do not publish change events, so a change
+ * may take up to the time to live to be used.
+ * <p>
+ * Only successful, non-null settings are stored and settings must be immutable.
+ */
+public final class TenantSettingsCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final TenantSettingsCache instance = new TenantSettingsCache(
+    () -> Duration.ofSeconds(getTenantSettingsCacheTimeToLiveSeconds()), System::nanoTime);
+
+  /** settings snapshots for each tenantId */
+  private final Map<String, TenantSettings> tenants = new ConcurrentHashMap<>();
+  /** settings being fetched in the background, as tenantId/type */
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+  private final Supplier<Duration> timeToLive;
+  private final LongSupplier ticker;
+
+  public static TenantSettingsCache getInstance() {
+    return instance;
+  }
+
+  TenantSettingsCache(Supplier<Duration> timeToLive, LongSupplier ticker) {
+    this.timeToLive = timeToLive;
+    this.ticker = ticker;
+  }
+
+  /**
+   * Returns the tenant's setting, otherwise uses the fetcher to get it
+   */
+  public <T> CompletableFuture<Result<T>> getOrFetch(String tenantId, TenantSettingType type,
+    Supplier<CompletableFuture<Result<T>>> fetcher) {
+
+    final long timeToLiveNanos = timeToLive.get().toNanos();
+
+    if (tenantId == null || timeToLiveNanos <= 0) {
+      return fetcher.get();
+    }
+
+    final TenantSettings settings = tenants.getOrDefault(tenantId, TenantSettings.EMPTY);
+    final Optional<CachedSetting> cached = settings.get(type);
+
+    if (cached.isPresent()) {
+      final long age = ticker.getAsLong() - cached.get().fetchedAt();
+
+      if (age < 2 * timeToLiveNanos) {
+        if (age >= timeToLiveNanos) {
+          refreshInBackground(tenantId, type, fetcher, settings.version());
+        }
+
+        @SuppressWarnings("unchecked")
+        final T value = (T) cached.get().value();
+
+        return ofAsync(() -> value);
+      }
+    }
+
+    return fetch(tenantId, type, fetcher, settings.version());
+  }
+
+  /**
+   * Discards all of the tenant's settings, including those which are being fetched
+   */
+  public void dropCache(String tenantId) {
+    log.info("dropCache:: dropping settings for tenant {}", tenantId);
+
+    tenants.computeIfPresent(tenantId, (id, settings) -> settings.cleared());
+  }
+
+  public void dropCache() {
+    tenants.clear();
+  }
+
+  private <T> CompletableFuture<Result<T>> fetch(String tenantId, TenantSettingType type,
+    Supplier<CompletableFuture<Result<T>>> fetcher, long version) {
+
+    return fetcher.get()
+      .thenApply(r -> r.map(value -> {
+        store(tenantId, type, value, version);
+        return value;
+      }));
+  }
+
+  private <T> void refreshInBackground(String tenantId, TenantSettingType type,
+    Supplier<CompletableFuture<Result<T>>> fetcher, long version) {
+
+    final String key = tenantId + "/" + type;
+
+    if (!refreshing.add(key)) {
+      return;
+    }
+
+    log.debug("refreshInBackground:: refreshing {} setting for tenant {}", type, tenantId);
+
+    try {
+      fetch(tenantId, type, fetcher, version)
+        .whenComplete((result, error) -> {
+          refreshing.remove(key);
+
+          if (error != null || result.failed()) {
+            log.warn("refreshInBackground:: failed to refresh {} setting for tenant {}: {}",
+              type, tenantId, error != null ? error.getMessage() : result.cause());
+          }
+        });
+    }
+    catch (RuntimeException e) {
+      refreshing.remove(key);
+      log.warn("refreshInBackground:: failed to refresh {} setting for tenant {}",
+        type, tenantId, e);
+    }
+  }
+
+  private void store(String tenantId, TenantSettingType type, Object value, long version) {
+    if (value == null) {
+      return;
+    }
+
+    final CachedSetting setting = new CachedSetting(value, ticker.getAsLong());
+
+    // a setting fetched before the settings were dropped is not stored
+    tenants.compute(tenantId, (id, settings) -> {
+      final TenantSettings current = settings == null ? TenantSettings.EMPTY : settings;
+
+      return current.version() == version ? current.with(type, setting) : current;
+    });
+  }
+
+  private record CachedSetting(Object value, long fetchedAt) { }
+
+  private record TenantSettings(long version, Map<TenantSettingType, CachedSetting> settings) {
+    private static final TenantSettings EMPTY = new TenantSettings(0, Map.of());
+
+    private Optional<CachedSetting> get(TenantSettingType type) {
+      return Optional.ofNullable(settings.get(type));
+    }
+
+    private TenantSettings with(TenantSettingType type, CachedSetting setting) {
+      final Map<TenantSettingType, CachedSetting> updated = new EnumMap<>(TenantSettingType.class);
+
+      updated.putAll(settings);
+      updated.put(type, setting);
+
+      return new TenantSettings(version, Collections.unmodifiableMap(updated));
+    }
+
+    private TenantSettings cleared() {
+      return new TenantSettings(version + 1, Map.of());
+    }
+  }
+}
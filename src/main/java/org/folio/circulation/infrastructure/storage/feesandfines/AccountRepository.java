@@ -38,6 +38,7 @@ import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.GetManyRecordsClient;
 import org.folio.circulation.support.RecordNotFoundFailure;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
@@ -133,7 +134,8 @@ public class AccountRepository {
       .thenCompose(r -> r.after(this::findFeeFineActionsForAccounts))
       .thenComposeAsync(r -> r.after(multipleRecords -> completedFuture(succeeded(multipleRecords.getRecords()
         .stream()
-        .collect(Collectors.groupingBy(Account::getLoanId))))));
+        .collect(Collectors.groupingBy(Account::getLoanId))))),
+          ContextExecutor.forCurrentContext());
   }
 
   public CompletableFuture<Result<MultipleRecords<Account>>> findFeeFineActionsForAccounts(
@@ -168,7 +170,8 @@ public class AccountRepository {
     return createFeeFineActionFetcher().find(byIndex(ACCOUNT_ID_FIELD_NAME, loanIds))
         .thenComposeAsync(r -> r.after(multipleRecords -> completedFuture(succeeded(
             multipleRecords.getRecords().stream().collect(
-                Collectors.groupingBy(FeeFineAction::getAccountId))))));
+                Collectors.groupingBy(FeeFineAction::getAccountId))))),
+                  ContextExecutor.forCurrentContext());
   }
 
   private FindWithMultipleCqlIndexValues<FeeFineAction> createFeeFineActionFetcher() {
@@ -200,6 +203,14 @@ public class AccountRepository {
       .fetch(id);
   }
 
+  public CompletableFuture<Result<MultipleRecords<Account>>> findByIds(Collection<String> ids) {
+    log.debug("findByIds:: parameters ids: {}", () -> collectionAsString(ids));
+
+    return findWithMultipleCqlIndexValues(accountsStorageClient,
+        ACCOUNTS_COLLECTION_PROPERTY_NAME, Account::from)
+      .findByIds(ids);
+  }
+
   public CompletableFuture<Result<Account>> create(StoredAccount account) {
     log.debug("create:: parameters account: {}", account);
     final ResponseInterpreter<Account> interpreter = new ResponseInterpreter<Account>()
@@ -1,7 +1,8 @@
 package org.folio.circulation.infrastructure.storage.feesandfines;
 
 import static java.util.Objects.isNull;
-import static java.util.concurrent.CompletableFuture.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
@@ -26,6 +27,7 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.RecordNotFoundFailure;
+import org.folio.circulation.support.async.Throttle;
 import org.folio.circulation.support.fetching.CqlQueryFinder;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
@@ -35,10 +37,14 @@ import org.folio.circulation.support.results.Result;
 
 public class FeeFineActionRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final String CREATE_ALL_JOB_NAME = "fee-fine-actions";
+
   private final CollectionResourceClient feeFineActionsStorageClient;
+  private final String tenantId;
 
   public FeeFineActionRepository(Clients clients) {
     feeFineActionsStorageClient = clients.feeFineActionsStorageClient();
+    tenantId = clients.getTenantId();
   }
 
   public CompletableFuture<Result<FeeFineAction>> create(StoredFeeFineAction feeFineAction) {
@@ -70,6 +76,16 @@ public class FeeFineActionRepository {
       });
   }
 
+  public CompletableFuture<Result<MultipleRecords<FeeFineAction>>> findByIds(
+    Collection<String> ids) {
+
+    log.debug("findByIds:: parameters ids: {}", () -> collectionAsString(ids));
+
+    return findWithMultipleCqlIndexValues(feeFineActionsStorageClient, "feefineactions",
+      FeeFineAction::from)
+      .findByIds(ids);
+  }
+
   public CompletableFuture<Result<FeeFineAction>> findChargeActionForAccount(Account account) {
     log.debug("findChargeActionForAccount:: params account: {}", account);
 
@@ -91,10 +107,9 @@ public class FeeFineActionRepository {
 
     log.debug("createAll:: parameters feeFineActions: {}", () -> collectionAsString(feeFineActions));
 
-    return allOf(feeFineActions.stream()
-      .map(this::create)
-      .toArray(CompletableFuture[]::new))
-      .thenApply(Result::succeeded)
+    // there is no batch endpoint for fee/fine actions, so only a limited number are created at once
+    return allOf(feeFineActions, Throttle.forJob(tenantId, CREATE_ALL_JOB_NAME), this::create)
+      .thenApply(mapResult(actions -> (Void) null))
       .exceptionally(CommonFailures::failedDueToServerError);
   }
 }
@@ -7,6 +7,7 @@ import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -18,6 +19,8 @@ import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.storage.mappers.ItemMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.GetManyRecordsClient;
+import org.folio.circulation.support.fetching.CqlIndexValuesFinder;
+import org.folio.circulation.support.fetching.CqlQueryFinder;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.http.client.CqlQuery;
 
@@ -40,6 +43,18 @@ public class ItemReportRepository {
     return future;
   }
 
+  public CompletableFuture<Result<MultipleRecords<Item>>> getItemsByIdsAndField(
+    Collection<String> itemIds, String fieldName, String fieldValue) {
+
+    log.debug("getItemsByIdsAndField:: parameters itemIds: {}, fieldName: {}, fieldValue: {}",
+      itemIds::size, () -> fieldName, () -> fieldValue);
+
+    final var finder = new CqlIndexValuesFinder<>(
+      new CqlQueryFinder<>(itemsClient, "items", new ItemMapper()::toDomain));
+
+    return finder.findByIdIndexAndQuery(itemIds, "id", exactMatch(fieldName, fieldValue));
+  }
+
   private ItemsReportFetcher fillResultItemContext(ItemsReportFetcher itemsReportFetcher,
                                                    Result<MultipleRecords<Item>> itemRecords) {
 
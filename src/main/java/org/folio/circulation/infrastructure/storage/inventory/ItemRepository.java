@@ -44,6 +44,7 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.fetching.CqlIndexValuesFinder;
 import org.folio.circulation.support.fetching.CqlQueryFinder;
 import org.folio.circulation.support.http.client.CqlQuery;
@@ -148,15 +149,16 @@ public class ItemRepository {
       .thenComposeAsync(itemResult -> itemResult.after(when(item -> ofAsync(item::isNotFound),
         item -> fetchItemByBarcode(barcode, createCirculationItemFinder())
           .thenApply(r -> r.mapFailure(failure -> Result.succeeded(item)))
-        , item -> completedFuture(itemResult))))
-      .thenComposeAsync(this::fetchItemRelatedRecords);
+        , item -> completedFuture(itemResult))), ContextExecutor.forCurrentContext())
+      .thenComposeAsync(this::fetchItemRelatedRecords, ContextExecutor.forCurrentContext());
   }
 
   public CompletableFuture<Result<Item>> fetchById(String itemId) {
     return fetchItem(itemId)
       .thenComposeAsync(itemResult -> itemResult.after(when(item -> ofAsync(item::isNotFound),
-        item -> fetchCirculationItem(itemId), item -> completedFuture(itemResult))))
-      .thenComposeAsync(this::fetchItemRelatedRecords);
+        item -> fetchCirculationItem(itemId), item -> completedFuture(itemResult))),
+          ContextExecutor.forCurrentContext())
+      .thenComposeAsync(this::fetchItemRelatedRecords, ContextExecutor.forCurrentContext());
   }
 
   private CompletableFuture<Result<Item>> fetchCirculationItem(String id) {
@@ -168,15 +170,25 @@ public class ItemRepository {
       .thenApply(r -> r.map(mapper::toDomain));
   }
 
-  private CompletableFuture<Result<MultipleRecords<Item>>> fetchLocations(
-    Result<MultipleRecords<Item>> result) {
+  private CompletableFuture<Result<MultipleRecords<Item>>> fetchInstancesAndLocations(
+    MultipleRecords<Item> items) {
+
+    final var instances = fetchInstances(items);
+    final var locations = fetchLocations(items);
+
+    return instances.thenCombine(locations, (instancesResult, locationsResult) ->
+      instancesResult.map(fetchedInstances -> withInstances(items, fetchedInstances))
+        .combine(locationsResult, this::withLocations));
+  }
+
+  private MultipleRecords<Item> withLocations(MultipleRecords<Item> items,
+    MultipleRecords<Location> locations) {
 
-    return result.combineAfter(this::fetchLocations,
-      (items, locations) -> items
-        .combineRecords(locations, matchRecordsById(Item::getPermanentLocationId, Location::getId),
-          Item::withPermanentLocation, null)
-        .combineRecords(locations, matchRecordsById(Item::getEffectiveLocationId, Location::getId),
-          Item::withLocation, null));
+    return items
+      .combineRecords(locations, matchRecordsById(Item::getPermanentLocationId, Location::getId),
+        Item::withPermanentLocation, null)
+      .combineRecords(locations, matchRecordsById(Item::getEffectiveLocationId, Location::getId),
+        Item::withLocation, null);
   }
 
   private CompletableFuture<Result<MultipleRecords<Location>>> fetchLocations(
@@ -193,40 +205,44 @@ public class ItemRepository {
     return locationRepository.fetchLocations(allLocationIds);
   }
 
-  private CompletableFuture<Result<MultipleRecords<Item>>> fetchMaterialTypes(
-    Result<MultipleRecords<Item>> result) {
+  private MultipleRecords<Item> withMaterialTypes(MultipleRecords<Item> items,
+    MultipleRecords<MaterialType> materialTypes) {
 
-    return result.after(items ->
-      materialTypeRepository.getMaterialTypes(items)
-        .thenApply(mapResult(materialTypes -> items.combineRecords(materialTypes,
-          matchRecordsById(Item::getMaterialTypeId, MaterialType::getId),
-          Item::withMaterialType, MaterialType.unknown()))));
+    return items.combineRecords(materialTypes,
+      matchRecordsById(Item::getMaterialTypeId, MaterialType::getId),
+      Item::withMaterialType, MaterialType.unknown());
   }
 
-  private CompletableFuture<Result<MultipleRecords<Item>>> fetchLoanTypes(
-    Result<MultipleRecords<Item>> result) {
+  private CompletableFuture<Result<MultipleRecords<LoanType>>> fetchLoanTypes(
+    MultipleRecords<Item> items) {
 
-    return result.after(items -> {
-      final var loanTypeIdsToFetch = items.toKeys(Item::getLoanTypeId);
+    final var loanTypeIdsToFetch = items.toKeys(Item::getLoanTypeId);
 
-      return loanTypeRepository.findByIds(loanTypeIdsToFetch)
-        .thenApply(mapResult(loanTypes -> items.combineRecords(loanTypes,
-          matchRecordsById(Item::getLoanTypeId, LoanType::getId),
-          Item::withLoanType, LoanType.unknown())));
-    });
+    return loanTypeRepository.findByIds(loanTypeIdsToFetch);
   }
 
-  private CompletableFuture<Result<MultipleRecords<Item>>> fetchInstances(
-    Result<MultipleRecords<Item>> result) {
+  private MultipleRecords<Item> withLoanTypes(MultipleRecords<Item> items,
+    MultipleRecords<LoanType> loanTypes) {
 
-    return result.after(items -> {
-      final var instanceIds = items.toKeys(Item::getInstanceId);
+    return items.combineRecords(loanTypes,
+      matchRecordsById(Item::getLoanTypeId, LoanType::getId),
+      Item::withLoanType, LoanType.unknown());
+  }
 
-      return instanceRepository.fetchByIds(instanceIds)
-        .thenApply(mapResult(instances -> items.combineRecords(instances,
-          matchRecordsById(Item::getInstanceId, Instance::getId),
-          Item::withInstance, Instance.unknown())));
-    });
+  private CompletableFuture<Result<MultipleRecords<Instance>>> fetchInstances(
+    MultipleRecords<Item> items) {
+
+    final var instanceIds = items.toKeys(Item::getInstanceId);
+
+    return instanceRepository.fetchByIds(instanceIds);
+  }
+
+  private MultipleRecords<Item> withInstances(MultipleRecords<Item> items,
+    MultipleRecords<Instance> instances) {
+
+    return items.combineRecords(instances,
+      matchRecordsById(Item::getInstanceId, Instance::getId),
+      Item::withInstance, Instance.unknown());
   }
 
   private CompletableFuture<Result<MultipleRecords<Item>>> fetchHoldingsRecords(
@@ -332,7 +348,7 @@ public class ItemRepository {
     return finder.find(byIndex(indexName, ids))
       .thenApply(mapResult(identityMap::add))
       .thenApply(mapResult(m -> m.mapRecords(mapper::toDomain)))
-      .thenComposeAsync(this::fetchItemsRelatedRecords)
+      .thenComposeAsync(this::fetchItemsRelatedRecords, ContextExecutor.forCurrentContext())
       .thenApply(mapResult(MultipleRecords::getRecords));
   }
 
@@ -351,22 +367,32 @@ public class ItemRepository {
     return finder.find(byIndex(indexName, ids).withQuery(query))
       .thenApply(mapResult(identityMap::add))
       .thenApply(mapResult(m -> m.mapRecords(mapper::toDomain)))
-      .thenComposeAsync(this::fetchItemsRelatedRecords);
+      .thenComposeAsync(this::fetchItemsRelatedRecords, ContextExecutor.forCurrentContext());
   }
 
   private CompletableFuture<Result<MultipleRecords<Item>>> fetchFor(
     Collection<String> itemIds) {
 
     return fetchItems(itemIds)
-      .thenComposeAsync(this::fetchItemsRelatedRecords);
+      .thenComposeAsync(this::fetchItemsRelatedRecords, ContextExecutor.forCurrentContext());
   }
 
   public CompletableFuture<Result<Item>> fetchItemRelatedRecords(Result<Item> itemResult) {
+    // the location, material type and loan type only depend upon the item itself,
+    // so are fetched at the same time as the holdings and then the instance
+    final var location = itemResult.after(locationRepository::getEffectiveLocation);
+    final var materialType = itemResult.after(materialTypeRepository::getFor);
+    final var loanType = itemResult.after(this::fetchLoanType);
+
     return itemResult.combineAfter(this::fetchHoldingsRecord, Item::withHoldings)
-      .thenComposeAsync(combineAfter(this::fetchInstance, Item::withInstance))
-      .thenComposeAsync(combineAfter(locationRepository::getEffectiveLocation, Item::withLocation))
-      .thenComposeAsync(combineAfter(materialTypeRepository::getFor, Item::withMaterialType))
-      .thenComposeAsync(combineAfter(this::fetchLoanType, Item::withLoanType));
+      .thenComposeAsync(combineAfter(this::fetchInstance, Item::withInstance),
+        ContextExecutor.forCurrentContext())
+      .thenCombine(location, (r, locationResult) -> r.combine(locationResult,
+        Item::withLocation))
+      .thenCombine(materialType, (r, materialTypeResult) -> r.combine(materialTypeResult,
+        Item::withMaterialType))
+      .thenCombine(loanType, (r, loanTypeResult) -> r.combine(loanTypeResult,
+        Item::withLoanType));
   }
 
   private CompletableFuture<Result<Holdings>> fetchHoldingsRecord(Item item) {
@@ -399,11 +425,19 @@ public class ItemRepository {
   public CompletableFuture<Result<MultipleRecords<Item>>> fetchItemsRelatedRecords(
     Result<MultipleRecords<Item>> items) {
 
+    // material types and loan types only depend upon the items themselves,
+    // the instances and locations (permanent location can come from the holdings)
+    // are fetched at the same time once the holdings have been fetched
+    final var materialTypes = items.after(materialTypeRepository::getMaterialTypes);
+    final var loanTypes = items.after(this::fetchLoanTypes);
+
     return fetchHoldingsRecords(items)
-      .thenComposeAsync(this::fetchInstances)
-      .thenComposeAsync(this::fetchLocations)
-      .thenComposeAsync(this::fetchMaterialTypes)
-      .thenComposeAsync(this::fetchLoanTypes);
+      .thenComposeAsync(r -> r.after(this::fetchInstancesAndLocations),
+        ContextExecutor.forCurrentContext())
+      .thenCombine(materialTypes, (r, materialTypesResult) -> r.combine(materialTypesResult,
+        this::withMaterialTypes))
+      .thenCombine(loanTypes, (r, loanTypesResult) -> r.combine(loanTypesResult,
+        this::withLoanTypes));
   }
 
   private CqlQueryFinder<JsonObject> createItemFinder() {
@@ -30,6 +30,7 @@ import org.folio.circulation.domain.Location;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.ServicePoint;
 import org.folio.circulation.infrastructure.storage.ServicePointRepository;
+import org.folio.circulation.infrastructure.storage.cache.ReferenceDataCache;
 import org.folio.circulation.storage.mappers.CampusMapper;
 import org.folio.circulation.storage.mappers.InstitutionMapper;
 import org.folio.circulation.storage.mappers.LibraryMapper;
@@ -38,10 +39,13 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.cache.ExpiringCache;
 import org.folio.circulation.support.fetching.CqlQueryFinder;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.results.Result;
 
+import io.vertx.core.json.JsonObject;
+
 public class LocationRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final CollectionResourceClient locationsStorageClient;
@@ -49,18 +53,22 @@ public class LocationRepository {
   private final CollectionResourceClient campusesStorageClient;
   private final CollectionResourceClient librariesStorageClient;
   private final ServicePointRepository servicePointRepository;
+  private final String tenantId;
+  private final ReferenceDataCache referenceDataCache;
 
   private LocationRepository(CollectionResourceClient locationsStorageClient,
     CollectionResourceClient institutionsStorageClient,
     CollectionResourceClient campusesStorageClient,
     CollectionResourceClient librariesStorageClient,
-    ServicePointRepository servicePointRepository) {
+    ServicePointRepository servicePointRepository, String tenantId) {
 
     this.locationsStorageClient = locationsStorageClient;
     this.institutionsStorageClient = institutionsStorageClient;
     this.campusesStorageClient = campusesStorageClient;
     this.librariesStorageClient = librariesStorageClient;
     this.servicePointRepository = servicePointRepository;
+    this.tenantId = tenantId;
+    this.referenceDataCache = ReferenceDataCache.getInstance();
   }
 
   public static LocationRepository using(Clients clients,
@@ -68,13 +76,14 @@ public class LocationRepository {
 
     return new LocationRepository(clients.locationsStorage(),
       clients.institutionsStorage(), clients.campusesStorage(),
-      clients.librariesStorage(), servicePointRepository);
+      clients.librariesStorage(), servicePointRepository, clients.getTenantId());
   }
 
   public static LocationRepository using(Clients clients) {
     return new LocationRepository(clients.locationsStorage(),
       clients.institutionsStorage(), clients.campusesStorage(),
-      clients.librariesStorage(), new ServicePointRepository(clients));
+      clients.librariesStorage(), new ServicePointRepository(clients),
+      clients.getTenantId());
   }
 
   public CompletableFuture<Result<Location>> getEffectiveLocation(Item item) {
@@ -111,10 +120,8 @@ public class LocationRepository {
       return ofAsync(() -> Location.unknown(null));
     }
 
-    return SingleRecordFetcher.json(locationsStorageClient, "location",
-      response -> succeeded(null))
-      .fetch(id)
-      .thenApply(r -> r.map(new LocationMapper()::toDomain));
+    return fetchReferenceRecord(referenceDataCache.locations(tenantId),
+      locationsStorageClient, "location", id, new LocationMapper()::toDomain);
   }
 
   public CompletableFuture<Result<Map<String, Location>>> getItemLocations(
@@ -148,9 +155,8 @@ public class LocationRepository {
       return ofAsync(() -> location);
     }
 
-    return SingleRecordFetcher.json(librariesStorageClient, "library", response -> succeeded(null))
-      .fetch(location.getLibraryId())
-      .thenApply(mapResult(new LibraryMapper()::toDomain))
+    return fetchReferenceRecord(referenceDataCache.libraries(tenantId),
+      librariesStorageClient, "library", location.getLibraryId(), new LibraryMapper()::toDomain)
       .thenApply(mapResult(location::withLibrary));
   }
 
@@ -161,9 +167,8 @@ public class LocationRepository {
       return ofAsync(() -> location);
     }
 
-    return SingleRecordFetcher.json(campusesStorageClient, "campus", response -> succeeded(null))
-      .fetch(location.getCampusId())
-      .thenApply(mapResult(new CampusMapper()::toDomain))
+    return fetchReferenceRecord(referenceDataCache.campuses(tenantId),
+      campusesStorageClient, "campus", location.getCampusId(), new CampusMapper()::toDomain)
       .thenApply(mapResult(location::withCampus));
   }
 
@@ -174,9 +179,9 @@ public class LocationRepository {
       return ofAsync(() -> location);
     }
 
-    return SingleRecordFetcher.json(institutionsStorageClient, "institution", response -> succeeded(null))
-      .fetch(location.getInstitutionId())
-      .thenApply(mapResult(new InstitutionMapper()::toDomain))
+    return fetchReferenceRecord(referenceDataCache.institutions(tenantId),
+      institutionsStorageClient, "institution", location.getInstitutionId(),
+      new InstitutionMapper()::toDomain)
       .thenApply(mapResult(location::withInstitution));
   }
 
@@ -204,8 +209,8 @@ public class LocationRepository {
 
     final Set<String> libraryIds = uniqueSet(locations, Location::getLibraryId);
 
-    return fetcher.findByIds(libraryIds)
-      .thenApply(mapResult(records -> records.toMap(Library::getId)));
+    return fetchReferenceRecords(referenceDataCache.libraries(tenantId), fetcher,
+      libraryIds, Library::getId);
   }
 
   public CompletableFuture<Result<Map<String, Campus>>> getCampuses(
@@ -219,8 +224,8 @@ public class LocationRepository {
 
     final Set<String> campusesIds = uniqueSet(locations, Location::getCampusId);
 
-    return fetcher.findByIds(campusesIds)
-      .thenApply(mapResult(records -> records.toMap(Campus::getId)));
+    return fetchReferenceRecords(referenceDataCache.campuses(tenantId), fetcher,
+      campusesIds, Campus::getId);
   }
 
   public CompletableFuture<Result<Map<String, Institution>>> getInstitutions(
@@ -234,8 +239,8 @@ public class LocationRepository {
 
     final Set<String> institutionsIds = uniqueSet(locations, Location::getInstitutionId);
 
-    return fetcher.findByIds(institutionsIds)
-      .thenApply(mapResult(records -> records.toMap(Institution::getId)));
+    return fetchReferenceRecords(referenceDataCache.institutions(tenantId), fetcher,
+      institutionsIds, Institution::getId);
   }
 
   public CompletableFuture<Result<Collection<Location>>> fetchLibraries(Collection<Location> locations) {
@@ -291,6 +296,30 @@ public class LocationRepository {
       .thenApply(r -> r.map(MultipleRecords::getRecords));
   }
 
+  /**
+   * Fetches a single reference record through the cache, records which are not found
+   * are not cached and are mapped the same way as a missing representation
+   */
+  private <T> CompletableFuture<Result<T>> fetchReferenceRecord(
+    ExpiringCache<String, T> cache, CollectionResourceClient client, String recordType,
+    String id, Function<JsonObject, T> mapper) {
+
+    return cache.getOrFetch(id, key -> SingleRecordFetcher.jsonOrNull(client, recordType)
+        .fetch(key)
+        .thenApply(mapResult(representation -> representation == null
+          ? null
+          : mapper.apply(representation))))
+      .thenApply(mapResult(value -> value == null ? mapper.apply(null) : value));
+  }
+
+  private <T> CompletableFuture<Result<Map<String, T>>> fetchReferenceRecords(
+    ExpiringCache<String, T> cache, FindWithMultipleCqlIndexValues<T> fetcher,
+    Set<String> ids, Function<T, String> keyMapper) {
+
+    return cache.getAllOrFetch(ids, missingIds -> fetcher.findByIds(missingIds)
+      .thenApply(mapResult(MultipleRecords::getRecords)), keyMapper);
+  }
+
   private <T, R> Set<R> uniqueSet(Collection<T> collection, Function<T, R> mapper) {
     return collection.stream()
       .filter(Objects::nonNull)
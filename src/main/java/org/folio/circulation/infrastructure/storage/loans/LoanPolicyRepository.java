@@ -1,7 +1,10 @@
 package org.folio.circulation.infrastructure.storage.loans;
 
 import static java.util.Objects.isNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.circulation.domain.policy.LoanPolicy.unknown;
+import static org.folio.circulation.infrastructure.storage.cache.PolicyType.FIXED_DUE_DATE_SCHEDULE;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -28,14 +31,15 @@ import org.folio.circulation.domain.policy.FixedDueDateSchedules;
 import org.folio.circulation.domain.policy.LoanPolicy;
 import org.folio.circulation.domain.policy.NoFixedDueDateSchedules;
 import org.folio.circulation.infrastructure.storage.CirculationPolicyRepository;
+import org.folio.circulation.infrastructure.storage.cache.PolicyType;
 import org.folio.circulation.resources.context.RenewalContext;
 import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.GetManyRecordsClient;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -45,7 +49,7 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
   private final GetManyRecordsClient fixedDueDateSchedulesStorageClient;
 
   public LoanPolicyRepository(Clients clients) {
-    super(clients.loanPoliciesStorage(), clients);
+    super(clients.loanPoliciesStorage(), clients, PolicyType.LOAN);
     this.fixedDueDateSchedulesStorageClient = clients.fixedDueDateSchedules();
   }
 
@@ -92,11 +96,8 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
       return ofAsync(() -> unknown(null));
     }
 
-    return FetchSingleRecord.<LoanPolicy>forRecord("loan policy")
-      .using(policyStorageClient)
-      .mapTo(LoanPolicy::from)
-      .whenNotFound(succeeded(unknown(loanPolicyId)))
-      .fetch(loanPolicyId);
+    return findPolicyById(loanPolicyId, "loan policy", LoanPolicy::from,
+      LoanPolicy::unknown);
   }
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findLoanPoliciesForLoans(MultipleRecords<Loan> multipleLoans) {
@@ -120,22 +121,23 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
             .filter(Objects::nonNull)
             .collect(Collectors.toSet());
 
-    final FindWithMultipleCqlIndexValues<LoanPolicy> fetcher = createLoanPoliciesFetcher();
-
-    return fetcher.findByIds(loansToFetch)
-      .thenApply(mapResult(r -> r.toMap(LoanPolicy::getId)));
-  }
-
-  private FindWithMultipleCqlIndexValues<LoanPolicy> createLoanPoliciesFetcher() {
-    return findWithMultipleCqlIndexValues(policyStorageClient, "loanPolicies",
-      LoanPolicy::from);
+    return findPoliciesByIds(loansToFetch, LoanPolicy::from);
   }
 
   @Override
   public CompletableFuture<Result<LoanPolicy>> lookupPolicy(Loan loan) {
     log.debug("lookupPolicy:: parameters loan: {}", loan);
     return super.lookupPolicy(loan)
-      .thenComposeAsync(r -> r.after(this::lookupSchedules));
+      .thenComposeAsync(r -> r.after(this::lookupSchedules), ContextExecutor.forCurrentContext());
+  }
+
+  @Override
+  public CompletableFuture<Result<LoanPolicy>> lookupPolicy(
+    RulesExecutionParameters rulesExecutionParameters) {
+
+    log.debug("lookupPolicy:: parameters rulesExecutionParameters: {}", rulesExecutionParameters);
+    return super.lookupPolicy(rulesExecutionParameters)
+      .thenComposeAsync(r -> r.after(this::lookupSchedules), ContextExecutor.forCurrentContext());
   }
 
   private CompletableFuture<Result<LoanPolicy>> lookupSchedules(LoanPolicy loanPolicy) {
@@ -177,12 +179,22 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
 
     log.debug("getSchedules:: parameters schedulesIds: {}", () -> collectionAsString(schedulesIds));
 
-    final FindWithMultipleCqlIndexValues<FixedDueDateSchedules> fetcher
+    return policyCache.getAllOrFetch(tenantId, FIXED_DUE_DATE_SCHEDULE, schedulesIds,
+        this::fetchSchedules)
+      .thenApply(mapResult(schedules -> schedules.stream()
+        .map(FixedDueDateSchedules::from)
+        .collect(toMap(FixedDueDateSchedules::getId, identity(), (first, second) -> first))));
+  }
+
+  private CompletableFuture<Result<Collection<JsonObject>>> fetchSchedules(
+    Collection<String> schedulesIds) {
+
+    final FindWithMultipleCqlIndexValues<JsonObject> fetcher
       = findWithMultipleCqlIndexValues(fixedDueDateSchedulesStorageClient,
-        "fixedDueDateSchedules", FixedDueDateSchedules::from);
+        FIXED_DUE_DATE_SCHEDULE.getRecordsPropertyName(), identity());
 
     return fetcher.findByIds(schedulesIds)
-      .thenApply(mapResult(schedules -> schedules.toMap(FixedDueDateSchedules::getId)));
+      .thenApply(mapResult(MultipleRecords::getRecords));
   }
 
   @Override
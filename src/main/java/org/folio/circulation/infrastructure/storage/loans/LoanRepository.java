@@ -62,6 +62,7 @@ import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.RecordNotFoundFailure;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.fetching.GetManyRecordsRepository;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.Offset;
@@ -186,8 +187,8 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
 
   public CompletableFuture<Result<Loan>> getById(String id) {
     return fetchLoan(id)
-      .thenComposeAsync(this::fetchItem)
-      .thenComposeAsync(this::fetchUser)
+      .thenComposeAsync(this::fetchItem, ContextExecutor.forCurrentContext())
+      .thenComposeAsync(this::fetchUser, ContextExecutor.forCurrentContext())
       .exceptionally(CommonFailures::failedDueToServerError);
   }
 
@@ -264,7 +265,8 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
   public CompletableFuture<Result<MultipleRecords<Loan>>> findBy(String query) {
     return loansStorageClient.getManyWithRawQueryStringParameters(query)
       .thenApply(flatMapResult(this::mapResponseToLoans))
-      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
+      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem),
+        ContextExecutor.forCurrentContext());
   }
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findByIds(Collection<String> loanIds) {
@@ -273,7 +275,23 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
       findWithMultipleCqlIndexValues(loansStorageClient, RECORDS_PROPERTY_NAME, Loan::from);
 
     return fetcher.findByIds(loanIds)
-      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
+      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem),
+        ContextExecutor.forCurrentContext());
+  }
+
+  /**
+   * Bulk equivalent of {@link #getById(String)}, fetching the item (and its related records)
+   * and the user for each loan
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findByIdsWithItemsAndUsers(
+    Collection<String> loanIds) {
+
+    log.debug("findByIdsWithItemsAndUsers:: parameters loanIds: {}",
+      () -> collectionAsString(loanIds));
+
+    return findByIds(loanIds)
+      .thenComposeAsync(r -> r.after(userRepository::findUsersWithAddressTypeNamesForLoans),
+        ContextExecutor.forCurrentContext());
   }
 
   public CompletableFuture<Result<Collection<Loan>>> findByItemIds(
@@ -441,7 +459,8 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
       loansLimit, userId);
 
     return findOpenLoansByUserId(loansLimit, userId)
-      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
+      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem),
+        ContextExecutor.forCurrentContext());
   }
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findOpenLoansByUserIdWithItemAndHoldings(
@@ -452,7 +471,8 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
 
     // Only fetching HoldingsRecord for each item to avoid fetching instances, locations etc.
     return findOpenLoansByUserId(loansLimit, userId)
-      .thenComposeAsync(loans -> itemRepository.fetchItemsWithHoldings(loans, Loan::withItem));
+      .thenComposeAsync(loans -> itemRepository.fetchItemsWithHoldings(loans, Loan::withItem),
+        ContextExecutor.forCurrentContext());
   }
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findOpenLoansByUserId(
@@ -1,7 +1,6 @@
 package org.folio.circulation.infrastructure.storage.loans;
 
 import static java.util.Objects.isNull;
-import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
@@ -23,12 +22,11 @@ import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.policy.lostitem.LostItemPolicy;
 import org.folio.circulation.infrastructure.storage.CirculationPolicyRepository;
+import org.folio.circulation.infrastructure.storage.cache.PolicyType;
 import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.FetchSingleRecord;
-import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -37,7 +35,7 @@ public class LostItemPolicyRepository extends CirculationPolicyRepository<LostIt
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   public LostItemPolicyRepository(Clients clients) {
-    super(clients.lostItemPoliciesStorage(), clients);
+    super(clients.lostItemPoliciesStorage(), clients, PolicyType.LOST_ITEM);
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> lookupLostItemPolicy(
@@ -86,15 +84,7 @@ public class LostItemPolicyRepository extends CirculationPolicyRepository<LostIt
       .filter(Objects::nonNull)
       .collect(Collectors.toSet());
 
-    final FindWithMultipleCqlIndexValues<LostItemPolicy> fetcher = createLostItemPoliciesFetcher();
-
-    return fetcher.findByIds(loansToFetch)
-      .thenApply(mapResult(r -> r.toMap(LostItemPolicy::getId)));
-  }
-
-  private FindWithMultipleCqlIndexValues<LostItemPolicy> createLostItemPoliciesFetcher() {
-    return findWithMultipleCqlIndexValues(policyStorageClient, "lostItemFeePolicies",
-      LostItemPolicy::from);
+    return findPoliciesByIds(loansToFetch, LostItemPolicy::from);
   }
 
   public CompletableFuture<Result<Loan>> findLostItemPolicyForLoan(
@@ -117,11 +107,8 @@ public class LostItemPolicyRepository extends CirculationPolicyRepository<LostIt
       return ofAsync(() -> LostItemPolicy.unknown(null));
     }
 
-    return FetchSingleRecord.<LostItemPolicy>forRecord("lostItemFeePolicies")
-      .using(policyStorageClient)
-      .mapTo(LostItemPolicy::from)
-      .whenNotFound(succeeded(LostItemPolicy.unknown(lostItemPolicyId)))
-      .fetch(lostItemPolicyId);
+    return findPolicyById(lostItemPolicyId, "lostItemFeePolicies", LostItemPolicy::from,
+      LostItemPolicy::unknown);
   }
 
   @Override
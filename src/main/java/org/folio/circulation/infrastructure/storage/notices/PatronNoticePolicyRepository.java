@@ -5,6 +5,7 @@ import java.util.function.Function;
 
 import org.folio.circulation.domain.notice.PatronNoticePolicy;
 import org.folio.circulation.infrastructure.storage.CirculationPolicyRepository;
+import org.folio.circulation.infrastructure.storage.cache.PolicyType;
 import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.rules.CirculationRuleMatch;
@@ -23,7 +24,7 @@ public class PatronNoticePolicyRepository extends CirculationPolicyRepository<Pa
   private PatronNoticePolicyRepository(
     Clients clients,
     Function<JsonObject, Result<PatronNoticePolicy>> patronNoticePolicyMapper) {
-    super(clients.patronNoticePolicesStorageClient(), clients);
+    super(clients.patronNoticePolicesStorageClient(), clients, PolicyType.NOTICE);
     this.patronNoticePolicyMapper = patronNoticePolicyMapper;
   }
 
@@ -5,6 +5,8 @@ import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.core.http.HttpMethod.POST;
 import static io.vertx.core.http.HttpMethod.PUT;
 import static java.util.function.Function.identity;
+import static org.folio.Environment.getBatchWriteMaximumSize;
+import static org.folio.Environment.getBatchWriteWindowMilliseconds;
 import static org.folio.HttpStatus.HTTP_CREATED;
 import static org.folio.HttpStatus.HTTP_NO_CONTENT;
 import static org.folio.HttpStatus.HTTP_OK;
@@ -25,6 +27,7 @@ import static org.folio.circulation.support.logging.PatronNoticeLogHelper.logRes
 import static org.folio.circulation.support.results.ResultBinding.flatMapResult;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
 
+import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
@@ -53,7 +56,8 @@ public class ScheduledNoticesRepository {
 
   public static ScheduledNoticesRepository using(Clients clients) {
     return new ScheduledNoticesRepository(
-      clients.scheduledNoticesStorageClient());
+      clients.scheduledNoticesStorageClient().withCoalescedDeletes(
+        getBatchWriteMaximumSize(), Duration.ofMillis(getBatchWriteWindowMilliseconds())));
   }
 
   private final CollectionResourceClient scheduledNoticesStorageClient;
@@ -110,6 +114,10 @@ public class ScheduledNoticesRepository {
       .thenApply(noContentRecordInterpreter(scheduledNotice)::flatMap);
   }
 
+  /**
+   * Deletes the notice together with any others deleted at around the same time
+   * (e.g. whilst sending a page of scheduled notices) using a single request
+   */
   public CompletableFuture<Result<ScheduledNotice>> delete(
     ScheduledNotice scheduledNotice) {
 
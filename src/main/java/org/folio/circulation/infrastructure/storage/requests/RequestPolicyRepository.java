@@ -4,11 +4,12 @@ import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
+import static org.folio.circulation.infrastructure.storage.cache.PolicyType.REQUEST;
+import static org.folio.circulation.rules.RulesExecutionParameters.forItem;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
-import static org.folio.circulation.support.results.Result.failed;
-import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import static org.folio.circulation.support.utils.LogUtil.asJson;
 
 import java.lang.invoke.MethodHandles;
@@ -23,20 +24,22 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.commons.lang3.ObjectUtils;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.RequestAndRelatedRecords;
 import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.policy.RequestPolicy;
+import org.folio.circulation.infrastructure.storage.cache.PolicyCache;
 import org.folio.circulation.rules.CirculationRuleCriteria;
-import org.folio.circulation.support.CirculationRulesClient;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.CirculationRulesProcessor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
-import org.folio.circulation.support.ForwardOnFailure;
 import org.folio.circulation.support.SingleRecordFetcher;
-import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -44,12 +47,16 @@ import io.vertx.core.json.JsonObject;
 public class RequestPolicyRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
-  private final CirculationRulesClient circulationRequestRulesClient;
+  private final CirculationRulesProcessor circulationRulesProcessor;
   private final CollectionResourceClient requestPoliciesStorageClient;
+  private final String tenantId;
+  private final PolicyCache policyCache;
 
   public RequestPolicyRepository(Clients clients) {
-    this.circulationRequestRulesClient = clients.circulationRequestRules();
+    this.circulationRulesProcessor = clients.circulationRulesProcessor();
     this.requestPoliciesStorageClient = clients.requestPoliciesStorage();
+    this.tenantId = clients.getTenantId();
+    this.policyCache = PolicyCache.getInstance();
   }
 
   public CompletableFuture<Result<RequestAndRelatedRecords>> lookupRequestPolicy(
@@ -74,7 +81,8 @@ public class RequestPolicyRepository {
   public CompletableFuture<Result<RequestPolicy>> lookupRequestPolicy(Item item, User user) {
     log.debug("lookupRequestPolicy:: parameters item: {}, user: {}", item, user);
     return lookupRequestPolicyId(item, user)
-      .thenComposeAsync(r -> r.after(this::lookupRequestPolicy))
+      .thenComposeAsync(r -> r.after(this::lookupRequestPolicy),
+        ContextExecutor.forCurrentContext())
       .thenApply(result -> result.map(RequestPolicy::from));
   }
 
@@ -104,24 +112,33 @@ public class RequestPolicyRepository {
     String requestPolicyId) {
 
     log.debug("lookupRequestPolicy:: parameters requestPolicyId: {}", requestPolicyId);
-    return SingleRecordFetcher.json(requestPoliciesStorageClient, "request policy",
-        response -> failedDueToServerError(format(
-          "Request policy %s could not be found, please check circulation rules", requestPolicyId)))
-      .fetch(requestPolicyId);
+    return policyCache.getOrFetch(tenantId, REQUEST, requestPolicyId,
+      id -> SingleRecordFetcher.json(requestPoliciesStorageClient, "request policy",
+          response -> failedDueToServerError(format(
+            "Request policy %s could not be found, please check circulation rules", id)))
+        .fetch(id));
   }
 
   private CompletableFuture<Result<Map<RequestPolicy, Set<Item>>>>
   lookupRequestPolicies(Map<String, Set<Item>> requestPolicyIdMap) {
 
-    FindWithMultipleCqlIndexValues<RequestPolicy> finder = findWithMultipleCqlIndexValues(
-      requestPoliciesStorageClient, "requestPolicies", RequestPolicy::from);
-
-    return finder.findByIds(requestPolicyIdMap.keySet())
-      .thenApply(r -> r.map(MultipleRecords::getRecords))
+    return policyCache.getAllOrFetch(tenantId, REQUEST, requestPolicyIdMap.keySet(),
+        this::fetchRequestPolicies)
       .thenApply(r -> r.map(requestPolicies -> requestPolicies.stream()
+        .map(RequestPolicy::from)
         .collect(toMap(identity(), policy -> requestPolicyIdMap.get(policy.getId())))));
   }
 
+  private CompletableFuture<Result<Collection<JsonObject>>> fetchRequestPolicies(
+    Collection<String> requestPolicyIds) {
+
+    FindWithMultipleCqlIndexValues<JsonObject> finder = findWithMultipleCqlIndexValues(
+      requestPoliciesStorageClient, REQUEST.getRecordsPropertyName(), identity());
+
+    return finder.findByIds(requestPolicyIds)
+      .thenApply(r -> r.map(MultipleRecords::getRecords));
+  }
+
   private CompletableFuture<Result<String>> lookupRequestPolicyId(
     Item item, User user) {
 
@@ -141,43 +158,42 @@ public class RequestPolicyRepository {
       "Applying request rules for material type: {}, patron group: {}, loan type: {}, location: {}",
       materialTypeId, patronGroupId, loanTypeId, locationId);
 
-    return lookupRequestPolicyId(materialTypeId, patronGroupId, loanTypeId, locationId);
+    return lookupRequestPolicyId(item, patronGroupId);
   }
 
   private CompletableFuture<Result<String>> lookupRequestPolicyId(
     CirculationRuleCriteria criteria) {
 
     log.debug("lookupRequestPolicyId:: parameters criteria: {}", criteria);
-    return lookupRequestPolicyId(criteria.getMaterialTypeId(),
-      criteria.getPatronGroupId(), criteria.getLoanTypeId(), criteria.getLocationId());
+    // every item matching the criteria has the same location
+    return lookupRequestPolicyId(criteria.getItem(), criteria.getPatronGroupId());
   }
 
-  private CompletableFuture<Result<String>> lookupRequestPolicyId(String materialTypeId,
-    String patronGroupId, String loanTypeId, String locationId) {
+  /**
+   * Applies the request rules within this module, rather than via the rules endpoint, so
+   * that applying them for many items only needs locations which have not been cached
+   */
+  private CompletableFuture<Result<String>> lookupRequestPolicyId(Item item,
+    String patronGroupId) {
+
+    final String materialTypeId = item.getMaterialTypeId();
+    final String loanTypeId = item.getLoanTypeId();
+    final String locationId = item.getEffectiveLocationId();
 
     log.debug("lookupRequestPolicyId:: parameters materialTypeId: {}, patronGroupId: {}," +
       "loanTypeId: {}, locationId: {}", materialTypeId, patronGroupId, loanTypeId, locationId);
 
-    return circulationRequestRulesClient.applyRules(loanTypeId, locationId,
-        materialTypeId, patronGroupId)
-      .thenComposeAsync(r -> r.after(this::processRulesResponse));
-  }
+    if (!ObjectUtils.allNotNull(materialTypeId, loanTypeId, patronGroupId, locationId)) {
+      String errorMessage = format("Failed to apply rules for " +
+          "materialTypeId: %s, loanTypeId: %s, patronGroupId: %s, locationId: %s",
+        materialTypeId, loanTypeId, patronGroupId, locationId);
+
+      log.error(errorMessage);
 
-  private CompletableFuture<Result<String>> processRulesResponse(Response response) {
-    log.debug("processRulesResponse:: parameters response: {}", response);
-    final CompletableFuture<Result<String>> future = new CompletableFuture<>();
-
-    if (response.getStatusCode() == 404) {
-      log.info("processRulesResponse:: no matching request rules found");
-      future.complete(failedDueToServerError("Unable to find matching request rules"));
-    } else if (response.getStatusCode() != 200) {
-      log.info("processRulesResponse:: failed to apply request rules");
-      future.complete(failed(new ForwardOnFailure(response)));
-    } else {
-      log.info("processRulesResponse:: successfully applied request rules");
-      future.complete(succeeded(response.getJson().getString("requestPolicyId")));
+      return completedFuture(failedDueToServerError(errorMessage));
     }
 
-    return future;
+    return circulationRulesProcessor.getRequestPolicyAndMatch(forItem(item, patronGroupId))
+      .thenApply(mapResult(CirculationRuleMatch::getPolicyId));
   }
 }
@@ -20,6 +20,7 @@ import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.LogManager;
@@ -41,8 +42,10 @@ import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.RecordNotFoundFailure;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.fetching.CqlIndexValuesFinder;
 import org.folio.circulation.support.fetching.CqlQueryFinder;
+import org.folio.circulation.support.fetching.MultipleRecordsEnricher;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
@@ -117,9 +120,27 @@ public class RequestRepository {
   }
 
   public CompletableFuture<Result<MultipleRecords<Request>>> findBy(String query) {
+    return findBy(query, relatedRecordsEnricher().getStageNames());
+  }
+
+  /**
+   * @param relatedRecords the names of the kinds of related records to fetch,
+   * see {@link #selectRelatedRecords(String, String)}
+   */
+  public CompletableFuture<Result<MultipleRecords<Request>>> findBy(String query,
+    Set<String> relatedRecords) {
+
     return requestsStorageClient.getManyWithRawQueryStringParameters(query)
       .thenApply(flatMapResult(this::mapResponseToRequests))
-      .thenCompose(r -> r.after(this::fetchAdditionalFields));
+      .thenCompose(r -> r.after(requests -> fetchAdditionalFields(requests, relatedRecords)));
+  }
+
+  /**
+   * Chooses the kinds of related records to fetch from a comma separated list of names
+   * (items, loans, servicePoints, users, patronGroups and instances), all of them when blank
+   */
+  public Result<Set<String>> selectRelatedRecords(String names, String parameterName) {
+    return relatedRecordsEnricher().select(names, parameterName);
   }
 
   CompletableFuture<Result<MultipleRecords<Request>>> findBy(CqlQuery query, PageLimit pageLimit) {
@@ -131,15 +152,48 @@ public class RequestRepository {
   private CompletableFuture<Result<MultipleRecords<Request>>> fetchAdditionalFields(
     MultipleRecords<Request> requestRecords) {
 
-    log.debug("fetchAdditionalFields:: parameters requestRecords: {}", ()-> multipleRecordsAsString(requestRecords));
+    return fetchAdditionalFields(requestRecords, relatedRecordsEnricher().getStageNames());
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Request>>> fetchAdditionalFields(
+    MultipleRecords<Request> requestRecords, Set<String> relatedRecords) {
+
+    log.debug("fetchAdditionalFields:: parameters requestRecords: {}, relatedRecords: {}",
+      () -> multipleRecordsAsString(requestRecords), () -> relatedRecords);
 
-    return ofAsync(() -> requestRecords)
-      .thenComposeAsync(requests -> itemRepository.fetchItemsFor(requests, Request::withItem))
-      .thenComposeAsync(result -> result.after(loanRepository::findOpenLoansFor))
-      .thenComposeAsync(result -> result.after(servicePointRepository::findServicePointsForRequests))
-      .thenComposeAsync(result -> result.after(userRepository::findUsersForRequests))
-      .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers))
-      .thenComposeAsync(result -> result.after(instanceRepository::findInstancesForRequests));
+    return relatedRecordsEnricher().enrich(requestRecords, relatedRecords);
+  }
+
+  /**
+   * The related records are fetched at the same time, apart from the patron groups
+   * which need the requester and proxy
+   */
+  private MultipleRecordsEnricher<Request> relatedRecordsEnricher() {
+    return new MultipleRecordsEnricher<>(Request::getId)
+      .stage("items",
+        requests -> itemRepository.fetchItemsFor(succeeded(requests), Request::withItem),
+        (request, enriched) -> request.withItem(enriched.getItem()))
+      .stage("loans",
+        requests -> loanRepository.findOpenLoansFor(requests),
+        (request, enriched) -> request.withLoan(enriched.getLoan()))
+      .stage("servicePoints",
+        requests -> servicePointRepository.findServicePointsForRequests(requests),
+        (request, enriched) -> request.withPickupServicePoint(enriched.getPickupServicePoint()))
+      .stage("users",
+        requests -> userRepository.findUsersForRequests(requests),
+        RequestRepository::withUsersOf)
+      .stage("patronGroups", "users",
+        requests -> patronGroupRepository.findPatronGroupsForRequestsUsers(requests),
+        RequestRepository::withUsersOf)
+      .stage("instances",
+        requests -> instanceRepository.findInstancesForRequests(requests),
+        (request, enriched) -> request.withInstance(enriched.getInstance()));
+  }
+
+  private static Request withUsersOf(Request request, Request enriched) {
+    return request
+      .withRequester(enriched.getRequester())
+      .withProxy(enriched.getProxy());
   }
 
   CompletableFuture<Result<MultipleRecords<Request>>> findByWithoutItems(
@@ -189,16 +243,16 @@ public class RequestRepository {
   public CompletableFuture<Result<Request>> fetchRelatedRecords(Request request) {
     log.debug("fetchRelatedRecords:: parameters request: {}", request);
     return ofAsync(request)
-      .thenComposeAsync(this::fetchRequester)
-      .thenComposeAsync(this::fetchProxy)
-      .thenComposeAsync(this::fetchPickupServicePoint)
-      .thenComposeAsync(this::fetchPatronGroups)
+      .thenComposeAsync(this::fetchRequester, ContextExecutor.forCurrentContext())
+      .thenComposeAsync(this::fetchProxy, ContextExecutor.forCurrentContext())
+      .thenComposeAsync(this::fetchPickupServicePoint, ContextExecutor.forCurrentContext())
+      .thenComposeAsync(this::fetchPatronGroups, ContextExecutor.forCurrentContext())
       .thenComposeAsync(result -> result.combineAfter(itemRepository::fetchFor,
-        Request::withItem))
+        Request::withItem), ContextExecutor.forCurrentContext())
       // TODO: avoid fetching instance twice if item is found
       .thenComposeAsync(result -> result.combineAfter(instanceRepository::fetch,
-        Request::withInstance))
-      .thenComposeAsync(this::fetchLoan);
+        Request::withInstance), ContextExecutor.forCurrentContext())
+      .thenComposeAsync(this::fetchLoan, ContextExecutor.forCurrentContext());
   }
 
   private CompletableFuture<Result<Request>> fetchRequest(String id) {
@@ -2,6 +2,7 @@ package org.folio.circulation.infrastructure.storage.users;
 
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.utils.LogUtil.collectionAsString;
 import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsString;
@@ -11,7 +12,9 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import io.vertx.core.json.JsonArray;
@@ -83,6 +86,35 @@ public class AddressTypeRepository {
       .thenApply(r -> user);
   }
 
+  /**
+   * Inserts address type names in the addresses of many users,
+   * fetching the address types for all of them at once.
+   * @param users User objects, possibly with address arrays.
+   * @return The same User objects with mutated address arrays if any.
+   */
+  public CompletableFuture<Result<Collection<User>>> setAddressTypeNamesOnUsersAddresses(
+    Collection<User> users) {
+
+    log.debug("setAddressTypeNamesOnUsersAddresses:: parameters users: {}", users::size);
+
+    Set<String> addressTypeIds = users.stream()
+      .map(User::getAddresses)
+      .flatMap(addresses -> IntStream.range(0, addresses.size())
+        .mapToObj(index -> addresses.getJsonObject(index).getString("addressTypeId")))
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+
+    if (addressTypeIds.isEmpty()) {
+      return ofAsync(() -> users);
+    }
+
+    return getAddressTypesByIds(addressTypeIds)
+      .thenApply(mapResult(addressTypes -> {
+        users.forEach(user -> resolveAddressTypesNamesForIds(addressTypes, user.getAddresses()));
+        return users;
+      }));
+  }
+
   private JsonArray resolveAddressTypesNamesForIds(
     MultipleRecords<AddressType> addressTypes, JsonArray addresses) {
     Map<String, AddressType> addressTypeMap = addressTypes.toMap(AddressType::getId);
@@ -33,6 +33,7 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
@@ -86,7 +87,7 @@ public class UserRepository {
       .mapTo(User::new)
       .whenNotFound(succeeded(null))
       .fetch(userId)
-      .thenComposeAsync(this::resolveAddressTypeNames);
+      .thenComposeAsync(this::resolveAddressTypeNames, ContextExecutor.forCurrentContext());
   }
 
   public CompletableFuture<Result<User>> getUserWithPatronGroup(String userId) {
@@ -101,8 +102,8 @@ public class UserRepository {
       .mapTo(User::new)
       .whenNotFound(succeeded(null))
       .fetch(userId)
-      .thenComposeAsync(this::findUserGroup)
-      .thenComposeAsync(this::resolveAddressTypeNames);
+      .thenComposeAsync(this::findUserGroup, ContextExecutor.forCurrentContext())
+      .thenComposeAsync(this::resolveAddressTypeNames, ContextExecutor.forCurrentContext());
   }
 
   private CompletableFuture<Result<User>> findUserGroup(Result<User> user){
@@ -153,6 +154,24 @@ public class UserRepository {
         .collect(Collectors.toList())));
   }
 
+  /**
+   * Bulk equivalent of fetching the user for each loan individually,
+   * including the names of the address types of each user's addresses
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findUsersWithAddressTypeNamesForLoans(
+    MultipleRecords<Loan> multipleLoans) {
+
+    log.debug("findUsersWithAddressTypeNamesForLoans:: parameters multipleLoans: {}",
+      () -> multipleRecordsAsString(multipleLoans));
+
+    return getUsersForLoans(multipleLoans.getRecords())
+      .thenCompose(r -> r.after(users -> addressTypeRepository
+        .setAddressTypeNamesOnUsersAddresses(users.values())
+        .thenApply(mapResult(v -> users))))
+      .thenApply(r -> r.map(users -> multipleLoans.mapRecords(
+        loan -> loan.withUser(users.getOrDefault(loan.getUserId(), null)))));
+  }
+
   private CompletableFuture<Result<Map<String, User>>> getUsersForLoans(
     Collection<Loan> loans) {
 
@@ -4,6 +4,7 @@ import static org.folio.circulation.rules.RulesExecutionParameters.forRequest;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -13,7 +14,9 @@ import org.apache.logging.log4j.Logger;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.rules.CirculationRulesProcessor;
 import org.folio.circulation.rules.RulesExecutionParameters;
+import org.folio.circulation.rules.cache.CirculationRulesCache;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.cache.CacheStatistics;
 import org.folio.circulation.support.http.server.ClientErrorResponse;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
@@ -21,6 +24,7 @@ import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
@@ -39,6 +43,10 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
   public static final String LOCATION_ID_NAME = "location_id";
   public static final String LOAN_TYPE_ID_NAME = "loan_type_id";
 
+  public static final String MATCH_CACHE_HITS_HEADER = "X-Rules-Match-Cache-Hits";
+  public static final String MATCH_CACHE_MISSES_HEADER = "X-Rules-Match-Cache-Misses";
+  public static final String MATCH_CACHE_HIT_RATE_HEADER = "X-Rules-Match-Cache-Hit-Rate";
+
   private final String applyPath;
   private final String applyAllPath;
 
@@ -132,9 +140,25 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
     triggerFunction.apply(clients.circulationRulesProcessor(), forRequest(context))
       .thenCompose(r -> r.after(mapToJson))
       .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenApply(r -> r.map(response -> {
+        writeMatchStatistics(routingContext.response(), context.getTenantId());
+        return response;
+      }))
       .thenAccept(context::writeResultToHttpResponse);
   }
 
+  private void writeMatchStatistics(HttpServerResponse response, String tenantId) {
+    final CacheStatistics statistics = CirculationRulesCache.getInstance()
+      .getMatchStatistics(tenantId);
+
+    log.debug("writeMatchStatistics:: tenantId: {}, statistics: {}", tenantId, statistics);
+
+    response.putHeader(MATCH_CACHE_HITS_HEADER, String.valueOf(statistics.hits()));
+    response.putHeader(MATCH_CACHE_MISSES_HEADER, String.valueOf(statistics.misses()));
+    response.putHeader(MATCH_CACHE_HIT_RATE_HEADER,
+      String.format(Locale.ROOT, "%.4f", statistics.hitRate()));
+  }
+
   private boolean invalidApplyParameters(HttpServerRequest request) {
     return
         invalidUuid(request, ITEM_TYPE_ID_NAME) ||
@@ -72,8 +72,8 @@ public class AddInfoResource extends Resource {
       .after(r -> getExistingLoan(loanRepository, r))
       .thenApply(this::toLoanAndRelatedRecords)
       .thenApply(r -> addPatronOrStaffInfo(r, request))
-      .thenComposeAsync(r -> r.after(loanRepository::updateLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishInfoAddedEvent));
+      .thenComposeAsync(r -> r.after(loanRepository::updateLoan), executor)
+      .thenComposeAsync(r -> r.after(eventPublisher::publishInfoAddedEvent), executor);
   }
 
   private Result<AddInfoRequest> createAddInfoRequest(RoutingContext routingContext) {
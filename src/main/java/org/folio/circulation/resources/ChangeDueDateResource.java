@@ -93,13 +93,13 @@ public class ChangeDueDateResource extends Resource {
       .thenApply(LoanValidator::refuseWhenLoanIsClosed)
       .thenApply(this::toLoanAndRelatedRecords)
       .thenComposeAsync(r -> r.combineAfter(configurationRepository::lookupTlrSettings,
-        LoanAndRelatedRecords::withTlrSettings))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+        LoanAndRelatedRecords::withTlrSettings), executor)
+      .thenComposeAsync(r -> r.after(requestQueueRepository::get), executor)
       .thenApply(itemStatusValidator::refuseWhenItemStatusDoesNotAllowDueDateChange)
       .thenApply(r -> changeDueDate(r, request))
       .thenApply(r -> r.map(this::unsetDueDateChangedByRecallIfNoOpenRecallsInQueue))
-      .thenComposeAsync(r -> r.after(loanRepository::updateLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenComposeAsync(r -> r.after(loanRepository::updateLoan), executor)
+      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent), executor)
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
       .thenCompose(r -> r.after(loanNoticeSender::sendManualDueDateChangeNotice));
   }
@@ -128,7 +128,7 @@ public class ChangeDueDateResource extends Resource {
 
     return loanRepository.getById(changeDueDateRequest.getLoanId())
       .thenApplyAsync(r -> r.map(exitingLoan -> exitingLoan.setPreviousDueDate(
-        exitingLoan.getDueDate())));
+        exitingLoan.getDueDate())), executor);
   }
 
   private Result<LoanAndRelatedRecords> changeDueDate(Result<LoanAndRelatedRecords> loanResult,
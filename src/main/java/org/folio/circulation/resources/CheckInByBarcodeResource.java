@@ -88,45 +88,52 @@ public class CheckInByBarcodeResource extends Resource {
       .thenApply(checkInValidators::refuseWhenItemIsNotAllowedForCheckIn)
       .thenApply(checkInValidators::refuseWhenClaimedReturnedIsNotResolved)
       .thenComposeAsync(r -> r.combineAfter(configurationRepository::lookupTlrSettings,
-        CheckInContext::withTlrSettings))
+        CheckInContext::withTlrSettings), executor)
       .thenComposeAsync(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
-        CheckInContext::withTimeZone))
+        CheckInContext::withTimeZone), executor)
       .thenComposeAsync(findItemResult -> findItemResult.combineAfter(
-        processAdapter::getRequestQueue, CheckInContext::withRequestQueue))
-      .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest))
+        processAdapter::getRequestQueue, CheckInContext::withRequestQueue), executor)
+      .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest), executor)
       .thenApply(findRequestQueueResult -> findRequestQueueResult.map(
         processAdapter::setInHouseUse))
-      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
-      .thenComposeAsync(setUserResult -> setUserResult.after(processAdapter::logCheckInOperation))
+      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())),
+        executor)
+      .thenComposeAsync(setUserResult -> setUserResult.after(processAdapter::logCheckInOperation),
+        executor)
       .thenComposeAsync(logCheckInResult -> logCheckInResult.combineAfter(
-        processAdapter::findSingleOpenLoan, CheckInContext::withLoan))
+        processAdapter::findSingleOpenLoan, CheckInContext::withLoan), executor)
       .thenComposeAsync(findLoanResult -> findLoanResult.combineAfter(
-        processAdapter::checkInLoan, CheckInContext::withLoan))
+        processAdapter::checkInLoan, CheckInContext::withLoan), executor)
       .thenComposeAsync(checkInLoan -> checkInLoan.combineAfter(
-        processAdapter::updateRequestQueue, CheckInContext::withRequestQueue))
-        .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest))
+        processAdapter::updateRequestQueue, CheckInContext::withRequestQueue), executor)
+        .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest), executor)
       .thenComposeAsync(updateRequestQueueResult -> updateRequestQueueResult.combineAfter(
-        processAdapter::updateItem, CheckInContext::withItemAndUpdatedLoan))
+        processAdapter::updateItem, CheckInContext::withItemAndUpdatedLoan), executor)
       .thenApply(handleItemStatus -> handleItemStatus.next(
         requestNoticeSender::sendNoticeOnRequestAwaitingPickup))
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getDestinationServicePoint, CheckInContext::withItemAndUpdatedLoan))
+        processAdapter::getDestinationServicePoint, CheckInContext::withItemAndUpdatedLoan),
+        executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getCheckInServicePoint, CheckInContext::withCheckInServicePoint))
+        processAdapter::getCheckInServicePoint, CheckInContext::withCheckInServicePoint), executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getPickupServicePoint, CheckInContext::withHighestPriorityFulfillableRequest))
+        processAdapter::getPickupServicePoint, CheckInContext::withHighestPriorityFulfillableRequest),
+        executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getRequester, CheckInContext::withHighestPriorityFulfillableRequest))
+        processAdapter::getRequester, CheckInContext::withHighestPriorityFulfillableRequest),
+        executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getAddressType, CheckInContext::withHighestPriorityFulfillableRequest))
+        processAdapter::getAddressType, CheckInContext::withHighestPriorityFulfillableRequest),
+        executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::updateLoan, CheckInContext::withLoan))
+        processAdapter::updateLoan, CheckInContext::withLoan), executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.after(
-        patronActionSessionService::saveCheckInSessionRecord))
-      .thenComposeAsync(r -> r.after(processAdapter::refundLostItemFees))
+        patronActionSessionService::saveCheckInSessionRecord), executor)
+      .thenComposeAsync(r -> r.after(processAdapter::refundLostItemFees), executor)
       .thenComposeAsync(r -> r.after(
-        records -> processAdapter.createOverdueFineIfNecessary(records, context)))
-      .thenComposeAsync(r -> r.after(v -> eventPublisher.publishItemCheckedInEvents(v, userRepository, loanRepository)))
+        records -> processAdapter.createOverdueFineIfNecessary(records, context)), executor)
+      .thenComposeAsync(r -> r.after(v -> eventPublisher.publishItemCheckedInEvents(v, userRepository, loanRepository)),
+        executor)
       .thenApply(r -> r.next(requestScheduledNoticeService::rescheduleRequestNotices))
       .thenApply(r -> r.map(CheckInByBarcodeResponse::fromRecords))
       .thenApply(r -> r.map(CheckInByBarcodeResponse::toHttpResponse))
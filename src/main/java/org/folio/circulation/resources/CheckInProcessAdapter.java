@@ -6,6 +6,7 @@ import static org.folio.circulation.support.results.Result.succeeded;
 import java.lang.invoke.MethodHandles;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -44,6 +45,7 @@ import org.folio.circulation.services.RequestQueueService;
 import org.folio.circulation.storage.ItemByBarcodeInStorageFinder;
 import org.folio.circulation.storage.SingleOpenLoanForItemInStorageFinder;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
 
@@ -66,6 +68,7 @@ class CheckInProcessAdapter {
   private final RequestQueueService requestQueueService;
   protected final EventPublisher eventPublisher;
   private final DepartmentRepository departmentRepository;
+  private final Executor executor = ContextExecutor.forCurrentContext();
 
   @SuppressWarnings("squid:S00107")
   CheckInProcessAdapter(
@@ -244,7 +247,7 @@ class CheckInProcessAdapter {
       return completedFuture(succeeded(null));
     }
     return userRepository.getUserWithPatronGroup(firstRequest)
-      .thenComposeAsync(departmentRepository::findDepartmentsForUser)
+      .thenComposeAsync(departmentRepository::findDepartmentsForUser, executor)
       .thenApply(r -> r.map(firstRequest::withRequester));
   }
 
@@ -12,6 +12,7 @@ import static org.folio.circulation.support.http.server.JsonHttpResponse.created
 import static org.folio.circulation.support.http.server.JsonHttpResponse.ok;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
 import java.time.ZonedDateTime;
@@ -22,12 +23,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.CheckOutLock;
+import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.LoanRepresentation;
 import org.folio.circulation.domain.LoanService;
 import org.folio.circulation.domain.RequestQueue;
 import org.folio.circulation.domain.UpdateRequestQueue;
+import org.folio.circulation.domain.User;
+import org.folio.circulation.domain.configuration.CheckoutLockConfiguration;
 import org.folio.circulation.domain.notice.schedule.LoanScheduledNoticeService;
 import org.folio.circulation.domain.notice.schedule.ReminderFeeScheduledNoticeService;
 import org.folio.circulation.domain.notice.schedule.RequestScheduledNoticeService;
@@ -54,6 +58,7 @@ import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.resources.handlers.error.CirculationErrorHandler;
 import org.folio.circulation.resources.handlers.error.CirculationErrorType;
 import org.folio.circulation.resources.handlers.error.OverridingErrorHandler;
+import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
@@ -140,49 +145,62 @@ public class CheckOutByBarcodeResource extends Resource {
 
     final SettingsRepository settingsRepository = new SettingsRepository(clients);
 
+    // records which do not depend upon one another are fetched at the same time,
+    // any errors are still recorded in the order of the validations that use them
+    final var userLookup = userRepository.getUserByBarcode(request.getUserBarcode());
+    final var proxyUserLookup = userRepository.getProxyUserByBarcode(
+      request.getProxyUserBarcode());
+    final var itemLookup = itemRepository.fetchByBarcode(request.getItemBarcode());
+    final var tlrSettingsLookup = configurationRepository.lookupTlrSettings();
+    final var timeZoneLookup = configurationRepository.findTimeZoneConfiguration();
+    final var checkOutLockSettingsLookup = settingsRepository.lookUpCheckOutLockSettings();
+
     ofAsync(() -> new LoanAndRelatedRecords(request.toLoan()))
       .thenApply(validators::refuseCheckOutWhenServicePointIsNotPresent)
-      .thenComposeAsync(r -> lookupUser(request.getUserBarcode(), userRepository, r, errorHandler))
-      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedManuallyForPatron)
-      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedAutomaticallyForPatron)
-      .thenComposeAsync(r -> lookupProxyUser(request.getProxyUserBarcode(), userRepository, r, errorHandler))
+      .thenComposeAsync(r -> lookupUser(userLookup, r, errorHandler), executor)
+      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedForPatron, executor)
+      .thenComposeAsync(r -> lookupProxyUser(proxyUserLookup, r, errorHandler), executor)
       .thenApply(validators::refuseWhenUserIsInactive)
       .thenApply(validators::refuseWhenProxyUserIsInactive)
-      .thenComposeAsync(validators::refuseWhenInvalidProxyRelationship)
-      .thenComposeAsync(r -> lookupItem(request.getItemBarcode(), itemRepository, r))
+      .thenComposeAsync(validators::refuseWhenInvalidProxyRelationship, executor)
+      .thenComposeAsync(r -> lookupItem(itemLookup, r), executor)
       .thenApply(validators::refuseWhenItemNotFound)
       .thenApply(validators::refuseWhenItemIsAlreadyCheckedOut)
       .thenApply(validators::refuseWhenItemIsNotAllowedForCheckOut)
-      .thenComposeAsync(validators::refuseWhenItemHasOpenLoans)
-      .thenComposeAsync(r -> r.combineAfter(configurationRepository::lookupTlrSettings,
+      .thenCompose(r -> r.combineAfter(records -> tlrSettingsLookup,
         LoanAndRelatedRecords::withTlrSettings))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+      .thenComposeAsync(r -> r.after(l -> refuseWhenItemHasOpenLoansAndFetchRequestQueue(l,
+        validators, requestQueueRepository)), executor)
       .thenCompose(validators::refuseWhenRequestedByAnotherPatron)
-      .thenComposeAsync(r -> r.after(l -> lookupLoanPolicy(l, loanPolicyRepository, errorHandler)))
-      .thenComposeAsync(validators::refuseWhenItemLimitIsReached)
+      .thenComposeAsync(r -> r.after(l -> applyLoanPolicy(l, loanPolicyRepository,
+        errorHandler)), executor)
+      .thenComposeAsync(validators::refuseWhenItemLimitIsReached, executor)
       .thenCompose(validators::refuseWhenItemIsNotLoanable)
       .thenApply(r -> r.next(errorHandler::failWithValidationErrors))
-      .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
+      .thenCompose(r -> r.combineAfter(records -> timeZoneLookup,
         LoanAndRelatedRecords::withTimeZone))
-      .thenComposeAsync(r -> r.after(overdueFinePolicyRepository::lookupOverdueFinePolicy))
-      .thenComposeAsync(r -> r.after(lostItemPolicyRepository::lookupLostItemPolicy))
+      .thenComposeAsync(r -> r.after(l -> applyFeePolicies(l, overdueFinePolicyRepository,
+        lostItemPolicyRepository)), executor)
       .thenApply(r -> r.next(this::setItemLocationIdAtCheckout))
-      .thenComposeAsync(r -> r.after(relatedRecords -> checkOut(relatedRecords, clients)))
+      .thenComposeAsync(r -> r.after(relatedRecords -> checkOut(relatedRecords, clients)), executor)
       .thenApply(r -> r.map(this::checkOutItem))
-      .thenCompose(r -> r.after(l -> acquireLockIfNeededOrFail(settingsRepository,
+      .thenCompose(r -> r.after(l -> acquireLockIfNeededOrFail(checkOutLockSettingsLookup,
         checkOutLockRepository, l, checkOutLockId, validators, errorHandler)))
-      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
-      .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices))
-      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled))
-      .thenComposeAsync(r -> r.after(patronGroupRepository::findPatronGroupForLoanAndRelatedRecords))
-      .thenComposeAsync(r -> r.after(l -> updateItem(l, itemRepository)))
-      .thenComposeAsync(r -> r.after(loanRepository::createLoan))
+      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut), executor)
+      .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices),
+        executor)
+      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled), executor)
+      .thenComposeAsync(r -> r.after(patronGroupRepository::findPatronGroupForLoanAndRelatedRecords),
+        executor)
+      .thenComposeAsync(r -> r.after(l -> updateItem(l, itemRepository)), executor)
+      .thenComposeAsync(r -> r.after(loanRepository::createLoan), executor)
       .thenComposeAsync(r -> r.after(l -> saveCheckOutSessionRecord(l, patronActionSessionService,
-        errorHandler)))
+        errorHandler)), executor)
       .thenApply(r -> deleteCheckOutLock(r, checkOutLockRepository, checkOutLockId.get()))
-      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
+      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())),
+        executor)
       .thenComposeAsync(r -> r.after(l -> publishItemCheckedOutEvent(l, eventPublisher,
-        userRepository, errorHandler)))
+        userRepository, errorHandler)), executor)
       .thenApply(r -> r.next(scheduledNoticeService::scheduleNoticesForLoanDueDate))
       .thenApply(r -> r.next(reminderFeeScheduledNoticesService::scheduleFirstReminder))
       .thenApply(r -> r.map(LoanAndRelatedRecords::getLoan))
@@ -192,14 +210,15 @@ public class CheckOutByBarcodeResource extends Resource {
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> acquireLockIfNeededOrFail(
-    SettingsRepository settingsRepository, CheckOutLockRepository checkOutLockRepository,
+    CompletableFuture<Result<CheckoutLockConfiguration>> checkOutLockSettingsLookup,
+    CheckOutLockRepository checkOutLockRepository,
     LoanAndRelatedRecords loanAndRelatedRecords, AtomicReference<String> checkOutLockId,
     CheckOutValidators validators, CirculationErrorHandler errorHandler) {
 
     log.debug("acquireLockIfNeededOrFail:: parameters loanAndRelatedRecords: {}",
       () -> loanAndRelatedRecords);
 
-    return settingsRepository.lookUpCheckOutLockSettings()
+    return checkOutLockSettingsLookup
       .thenApply(cr -> succeeded(loanAndRelatedRecords).combine(cr,
         LoanAndRelatedRecords::withCheckoutLockConfiguration))
       .thenCompose(r -> r.after(records -> this.acquireLock(records, checkOutLockRepository,
@@ -274,17 +293,63 @@ public class CheckOutByBarcodeResource extends Resource {
         succeeded(records)));
   }
 
-  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupLoanPolicy(
+  private CompletableFuture<Result<LoanAndRelatedRecords>> applyLoanPolicy(
     LoanAndRelatedRecords loanAndRelatedRecords, LoanPolicyRepository loanPolicyRepository,
     CirculationErrorHandler errorHandler) {
 
-    log.debug("lookupLoanPolicy:: parameters loanAndRelatedRecords: {}", () -> loanAndRelatedRecords);
+    log.debug("applyLoanPolicy:: parameters loanAndRelatedRecords: {}", () -> loanAndRelatedRecords);
+
+    final Loan loan = loanAndRelatedRecords.getLoan();
 
-    if (errorHandler.hasAny(FAILED_TO_FETCH_ITEM)) {
+    if (errorHandler.hasAny(FAILED_TO_FETCH_ITEM) || loan.getUser() == null) {
+      log.info("applyLoanPolicy:: item or user is missing");
       return completedFuture(succeeded(loanAndRelatedRecords));
     }
 
-    return loanPolicyRepository.lookupLoanPolicy(loanAndRelatedRecords);
+    return loanPolicyRepository.lookupPolicy(
+        RulesExecutionParameters.forItem(loan.getItem(), loan.getUser()))
+      .thenApply(r -> r.map(loanPolicy -> loanAndRelatedRecords.withLoan(
+        loan.withLoanPolicy(loanPolicy))));
+  }
+
+  /**
+   * Looks up the overdue fine and lost item policies at the same time, once the
+   * check out has been validated
+   */
+  private CompletableFuture<Result<LoanAndRelatedRecords>> applyFeePolicies(
+    LoanAndRelatedRecords loanAndRelatedRecords,
+    OverdueFinePolicyRepository overdueFinePolicyRepository,
+    LostItemPolicyRepository lostItemPolicyRepository) {
+
+    log.debug("applyFeePolicies:: parameters loanAndRelatedRecords: {}",
+      () -> loanAndRelatedRecords);
+
+    final Loan loan = loanAndRelatedRecords.getLoan();
+    final var rulesExecutionParameters = RulesExecutionParameters.forItem(
+      loan.getItem(), loan.getUser());
+
+    final var lostItemPolicyLookup = lostItemPolicyRepository.lookupPolicy(
+      rulesExecutionParameters);
+
+    return overdueFinePolicyRepository.lookupPolicy(rulesExecutionParameters)
+      .thenApply(r -> r.map(loan::withOverdueFinePolicy))
+      .thenCombine(lostItemPolicyLookup, (r, policy) -> r.combine(policy,
+        Loan::withLostItemPolicy))
+      .thenApply(r -> r.map(loanAndRelatedRecords::withLoan));
+  }
+
+  private CompletableFuture<Result<LoanAndRelatedRecords>>
+  refuseWhenItemHasOpenLoansAndFetchRequestQueue(LoanAndRelatedRecords loanAndRelatedRecords,
+    CheckOutValidators validators, RequestQueueRepository requestQueueRepository) {
+
+    log.debug("refuseWhenItemHasOpenLoansAndFetchRequestQueue:: parameters " +
+      "loanAndRelatedRecords: {}", () -> loanAndRelatedRecords);
+
+    final var requestQueueLookup = requestQueueRepository.get(loanAndRelatedRecords);
+
+    return validators.refuseWhenItemHasOpenLoans(succeeded(loanAndRelatedRecords))
+      .thenCombine(requestQueueLookup, (validated, requestQueue) -> validated.combine(
+        requestQueue, (records, queue) -> records.withRequestQueue(queue.getRequestQueue())));
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> updateItem(
@@ -316,34 +381,34 @@ public class CheckOutByBarcodeResource extends Resource {
     return String.format("/circulation/loans/%s", id);
   }
 
-  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupUser(String barcode,
-    UserRepository userRepository, Result<LoanAndRelatedRecords> loanResult,
+  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupUser(
+    CompletableFuture<Result<User>> userLookup, Result<LoanAndRelatedRecords> loanResult,
     CirculationErrorHandler errorHandler) {
 
-    log.debug("lookupUser:: parameters barcode: {}", barcode);
+    log.debug("lookupUser:: parameters loanResult: {}", () -> resultAsString(loanResult));
 
-    return userRepository.getUserByBarcode(barcode)
+    return userLookup
       .thenApply(userResult -> loanResult.combine(userResult, LoanAndRelatedRecords::withRequestingUser))
       .thenApply(r -> errorHandler.handleValidationResult(r, FAILED_TO_FETCH_USER, loanResult));
   }
 
-  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupProxyUser(String barcode,
-    UserRepository userRepository, Result<LoanAndRelatedRecords> loanResult,
+  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupProxyUser(
+    CompletableFuture<Result<User>> proxyUserLookup, Result<LoanAndRelatedRecords> loanResult,
     CirculationErrorHandler errorHandler) {
 
-    log.debug("lookupProxyUser:: parameters barcode: {}", barcode);
+    log.debug("lookupProxyUser:: parameters loanResult: {}", () -> resultAsString(loanResult));
 
-    return userRepository.getProxyUserByBarcode(barcode)
+    return proxyUserLookup
       .thenApply(userResult -> loanResult.combine(userResult, LoanAndRelatedRecords::withProxyingUser))
       .thenApply(r -> errorHandler.handleValidationResult(r, FAILED_TO_FETCH_PROXY_USER, loanResult));
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> lookupItem(
-    String barcode, ItemRepository itemRepository, Result<LoanAndRelatedRecords> loanResult) {
+    CompletableFuture<Result<Item>> itemLookup, Result<LoanAndRelatedRecords> loanResult) {
 
-    log.debug("lookupItem:: parameters barcode: {}", barcode);
+    log.debug("lookupItem:: parameters loanResult: {}", () -> resultAsString(loanResult));
 
-    return itemRepository.fetchByBarcode(barcode)
+    return itemLookup
       .thenApply(itemResult -> loanResult.combine(itemResult, LoanAndRelatedRecords::withItem));
   }
 
@@ -198,19 +198,24 @@ public class CirculationRulesResource extends Resource {
     return Result.ofAsync(() -> ids)
       .thenCombineAsync(
         getPolicyIdsByType(loanPolicyClient, "loanPolicies", "l"),
-        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
+        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap),
+        executor)
       .thenCombineAsync(
         getPolicyIdsByType(noticePolicyClient, "patronNoticePolicies", "n"),
-        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
+        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap),
+        executor)
       .thenCombineAsync(
         getPolicyIdsByType(requestPolicyClient, "requestPolicies", "r"),
-        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
+        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap),
+        executor)
       .thenCombineAsync(
         getPolicyIdsByType(overdueFinePolicyClient, "overdueFinePolicies", "o"),
-        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
+        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap),
+        executor)
       .thenCombineAsync(
         getPolicyIdsByType(lostItemFeePolicyClient, "lostItemFeePolicies", "i"),
-        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap));
+        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap),
+        executor);
   }
 
   private Map<String, Set<String>> getTotalMap(Map<String, Set<String>> totalMap,
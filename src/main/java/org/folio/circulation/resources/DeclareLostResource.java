@@ -63,7 +63,7 @@ public class DeclareLostResource extends Resource {
 
     validateDeclaredLostRequest(routingContext)
       .after(request -> declareItemLost(request, clients, context))
-      .thenComposeAsync(r -> r.after(loan -> publishEvent(loan, eventPublisher)))
+      .thenComposeAsync(r -> r.after(loan -> publishEvent(loan, eventPublisher)), executor)
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .thenAccept(context::writeResultToHttpResponse);
   }
@@ -1,17 +1,32 @@
 package org.folio.circulation.resources;
 
+import static org.folio.Environment.getStreamingResponseBatchSize;
+import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.services.ItemsInTransitReportService;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.StreamingJsonResponse;
 import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 
 
 public class ItemsInTransitResource extends Resource {
+  private static final String ITEMS_KEY = "items";
+  private static final String OFFSET_PARAMETER = "offset";
+  private static final String LIMIT_PARAMETER = "limit";
+
   private final String rootPath;
 
   public ItemsInTransitResource(String rootPath, HttpClient client) {
@@ -28,9 +43,46 @@ public class ItemsInTransitResource extends Resource {
   private void buildReport(RoutingContext routingContext) {
     final WebContext context = new WebContext(routingContext);
     final Clients clients = Clients.create(context, client);
+    final var reportService = new ItemsInTransitReportService(clients);
+
+    final StreamingJsonResponse response = context.streamingJsonResponse(ITEMS_KEY);
+
+    final Result<Integer> limit = getPagingParameter(context, LIMIT_PARAMETER,
+      Integer.MAX_VALUE);
+
+    getPagingParameter(context, OFFSET_PARAMETER, 0)
+      .after(offset -> limit.after(pageLimit ->
+        reportService.getReport(context.getTenantId(), offset, pageLimit)))
+      .thenCompose(r -> r.after(page -> writePage(page, response)))
+      .whenComplete(response::end);
+  }
+
+  private static CompletableFuture<Result<Integer>> writePage(
+    MultipleRecords<JsonObject> page, StreamingJsonResponse response) {
+
+    return response.writeInBatches(new ArrayList<>(page.getRecords()),
+        getStreamingResponseBatchSize(), batch -> ofAsync(() -> batch))
+      .thenApply(r -> r.map(written -> page.getTotalRecords()));
+  }
+
+  private static Result<Integer> getPagingParameter(WebContext context, String name,
+    int defaultValue) {
+
+    final String value = context.getStringParameter(name);
+
+    if (value == null) {
+      return succeeded(defaultValue);
+    }
+
+    try {
+      final int parsedValue = Integer.parseInt(value);
 
-    new ItemsInTransitReportService(clients).buildReport()
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
-      .thenAccept(context::writeResultToHttpResponse);
+      return parsedValue >= 0
+        ? succeeded(parsedValue)
+        : failedValidation("Must be zero or greater", name, value);
+    }
+    catch (NumberFormatException e) {
+      return failedValidation("Must be a whole number", name, value);
+    }
   }
 }
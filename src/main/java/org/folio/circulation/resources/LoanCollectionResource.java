@@ -47,6 +47,7 @@ import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.services.RequestQueueService;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.fetching.MultipleRecordsEnricher;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
@@ -58,6 +59,7 @@ import io.vertx.ext.web.RoutingContext;
 
 public class LoanCollectionResource extends CollectionResource {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private static final String INCLUDE_PARAMETER = "include";
 
   public LoanCollectionResource(HttpClient client) {
     super(client, "/circulation/loans");
@@ -116,21 +118,24 @@ public class LoanCollectionResource extends CollectionResource {
       .thenApply(this::refuseWhenNotOpenOrClosed)
       .thenApply(this::refuseWhenOpenAndNoUserId)
       .thenApply(spLoanLocationValidator::checkServicePointLoanLocation)
-      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem)
+      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem, executor)
       .thenApply(itemNotFoundValidator::refuseWhenItemNotFound)
       .thenApply(alreadyCheckedOutValidator::refuseWhenItemIsAlreadyCheckedOut)
       .thenApply(itemStatusValidator::refuseWhenItemIsMissing)
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
-      .thenCombineAsync(requestQueueRepository.getByItemId(loan.getItemId()), this::addRequestQueue)
-      .thenCombineAsync(userRepository.getUserFailOnNotFound(loan.getUserId()), this::addUser)
+      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid), executor)
+      .thenCombineAsync(requestQueueRepository.getByItemId(loan.getItemId()), this::addRequestQueue,
+        executor)
+      .thenCombineAsync(userRepository.getUserFailOnNotFound(loan.getUserId()), this::addUser,
+        executor)
       .thenCompose(requestedByAnotherPatronValidator::refuseWhenRequestedByAnotherPatron)
-      .thenComposeAsync(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
-      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
-      .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices))
-      .thenComposeAsync(r -> r.after(updateItem::onLoanCreated))
-      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled))
-      .thenComposeAsync(r -> r.after(loanRepository::createLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenComposeAsync(r -> r.after(loanPolicyRepository::lookupLoanPolicy), executor)
+      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut), executor)
+      .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices),
+        executor)
+      .thenComposeAsync(r -> r.after(updateItem::onLoanCreated), executor)
+      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled), executor)
+      .thenComposeAsync(r -> r.after(loanRepository::createLoan), executor)
+      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent), executor)
       .thenApply(r -> r.map(LoanAndRelatedRecords::getLoan))
       .thenApply(r -> r.map(loanRepresentation::extendedLoan))
       .thenApply(r -> r.map(JsonHttpResponse::created))
@@ -186,20 +191,21 @@ public class LoanCollectionResource extends CollectionResource {
       .thenApply(this::refuseWhenOpenAndNoUserId)
       .thenApply(spLoanLocationValidator::checkServicePointLoanLocation)
       .thenApply(this::refuseWhenClosedAndNoCheckInServicePointId)
-      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem)
+      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem, executor)
       .thenApply(itemNotFoundValidator::refuseWhenItemNotFound)
       .thenCompose(changeDueDateValidator::refuseChangeDueDateForItemInDisallowedStatus)
-      .thenCombineAsync(userRepository.getUser(loan.getUserId()), this::addUser)
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
-      .thenCombineAsync(requestQueueRepository.getByItemId(loan.getItemId()), this::addRequestQueue)
+      .thenCombineAsync(userRepository.getUser(loan.getUserId()), this::addUser, executor)
+      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid), executor)
+      .thenCombineAsync(requestQueueRepository.getByItemId(loan.getItemId()), this::addRequestQueue,
+        executor)
       .thenApply(r -> r.map(this::unsetDueDateChangedByRecallIfNoOpenRecallsInQueue))
-      .thenComposeAsync(result -> result.after(requestQueueUpdate::onCheckIn))
-      .thenComposeAsync(result -> result.after(updateItem::onLoanUpdate))
+      .thenComposeAsync(result -> result.after(requestQueueUpdate::onCheckIn), executor)
+      .thenComposeAsync(result -> result.after(updateItem::onLoanUpdate), executor)
       // Loan must be updated after item
       // due to snapshot of item status stored with the loan
       // as this is how the loan action history is populated
-      .thenComposeAsync(result -> result.after(loanRepository::updateLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenComposeAsync(result -> result.after(loanRepository::updateLoan), executor)
+      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent), executor)
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
       .thenCompose(r -> r.after(loanNoticeSender::sendManualDueDateChangeNotice))
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
@@ -225,13 +231,13 @@ public class LoanCollectionResource extends CollectionResource {
     String id = routingContext.request().getParam("id");
 
     loanRepository.getById(id)
-      .thenComposeAsync(accountRepository::findAccountsAndActionsForLoan)
-      .thenComposeAsync(servicePointRepository::findServicePointsForLoan)
-      .thenComposeAsync(userRepository::findUserForLoan)
-      .thenComposeAsync(loanPolicyRepository::findPolicyForLoan)
-      .thenComposeAsync(overdueFinePolicyRepository::findOverdueFinePolicyForLoan)
-      .thenComposeAsync(lostItemPolicyRepository::findLostItemPolicyForLoan)
-      .thenComposeAsync(patronGroupRepository::findGroupForLoan)
+      .thenComposeAsync(accountRepository::findAccountsAndActionsForLoan, executor)
+      .thenComposeAsync(servicePointRepository::findServicePointsForLoan, executor)
+      .thenComposeAsync(userRepository::findUserForLoan, executor)
+      .thenComposeAsync(loanPolicyRepository::findPolicyForLoan, executor)
+      .thenComposeAsync(overdueFinePolicyRepository::findOverdueFinePolicyForLoan, executor)
+      .thenComposeAsync(lostItemPolicyRepository::findLostItemPolicyForLoan, executor)
+      .thenComposeAsync(patronGroupRepository::findGroupForLoan, executor)
       .thenApply(loanResult -> loanResult.map(loanRepresentation::extendedLoan))
       .thenApply(r -> r.map(JsonHttpResponse::ok))
       .thenAccept(context::writeResultToHttpResponse);
@@ -265,21 +271,30 @@ public class LoanCollectionResource extends CollectionResource {
     final AccountRepository accountRepository = new AccountRepository(clients);
     final PatronGroupRepository patronGroupRepository = new PatronGroupRepository(clients);
 
-    loanRepository.findBy(routingContext.request().query())
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(accountRepository::findAccountsForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(servicePointRepository::findServicePointsForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(userRepository::findUsersForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(loanPolicyRepository::findLoanPoliciesForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(overdueFinePolicyRepository::findOverdueFinePoliciesForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(lostItemPolicyRepository::findLostItemPoliciesForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(patronGroupRepository::findPatronGroupsByIds))
+    // the patron group at checkout is written into the loan's representation (rather than
+    // a new copy of the loan), so it is added to the loans from the users stage,
+    // which each have their own copy of the representation
+    final MultipleRecordsEnricher<Loan> enricher = new MultipleRecordsEnricher<>(Loan::getId)
+      .stage("accounts", accountRepository::findAccountsForLoans,
+        (loan, enriched) -> loan.withAccounts(enriched.getAccounts()))
+      .stage("servicePoints", servicePointRepository::findServicePointsForLoans,
+        (loan, enriched) -> loan
+          .withCheckinServicePoint(enriched.getCheckinServicePoint())
+          .withCheckoutServicePoint(enriched.getCheckoutServicePoint()))
+      .stage("users", userRepository::findUsersForLoans,
+        (loan, enriched) -> loan.withUser(enriched.getUser()))
+      .stage("loanPolicies", loanPolicyRepository::findLoanPoliciesForLoans,
+        (loan, enriched) -> loan.withLoanPolicy(enriched.getLoanPolicy()))
+      .stage("overdueFinePolicies", overdueFinePolicyRepository::findOverdueFinePoliciesForLoans,
+        (loan, enriched) -> loan.withOverdueFinePolicy(enriched.getOverdueFinePolicy()))
+      .stage("lostItemPolicies", lostItemPolicyRepository::findLostItemPoliciesForLoans,
+        (loan, enriched) -> loan.withLostItemPolicy(enriched.getLostItemPolicy()))
+      .stage("patronGroups", "users", patronGroupRepository::findPatronGroupsByIds,
+        (loan, enriched) -> loan.withPatronGroupAtCheckout(enriched.getPatronGroupAtCheckout()));
+
+    enricher.select(context.getStringParameter(INCLUDE_PARAMETER), INCLUDE_PARAMETER)
+      .after(include -> loanRepository.findBy(context.getQueryStringWithout(INCLUDE_PARAMETER))
+        .thenCompose(r -> r.after(loans -> enricher.enrich(loans, include))))
       .thenApply(multipleLoanRecordsResult -> multipleLoanRecordsResult.map(loans ->
         loans.asJson(loanRepresentation::extendedLoan, "loans")))
       .thenApply(r -> r.map(JsonHttpResponse::ok))
@@ -400,7 +415,7 @@ public class LoanCollectionResource extends CollectionResource {
         exitingLoan.setPreviousDueDate(exitingLoan.getDueDate());
         loan.setPreviousDueDate(exitingLoan.getDueDate());
         return exitingLoan;
-      }));
+      }), executor);
   }
 
   private LoanAndRelatedRecords unsetDueDateChangedByRecallIfNoOpenRecallsInQueue(
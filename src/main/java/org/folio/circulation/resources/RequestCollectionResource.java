@@ -56,6 +56,8 @@ import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 
 public class RequestCollectionResource extends CollectionResource {
+  private static final String INCLUDE_PARAMETER = "include";
+
   public RequestCollectionResource(HttpClient client) {
     super(client, "/circulation/requests");
   }
@@ -232,7 +234,11 @@ public class RequestCollectionResource extends CollectionResource {
     final var requestRepository = RequestRepository.using(clients,
       itemRepository, userRepository, loanRepository);
 
-    fromFutureResult(requestRepository.findBy(routingContext.request().query()))
+    final String include = context.getStringParameter(INCLUDE_PARAMETER);
+
+    fromFutureResult(requestRepository.selectRelatedRecords(include, INCLUDE_PARAMETER)
+      .after(relatedRecords -> requestRepository.findBy(
+        context.getQueryStringWithout(INCLUDE_PARAMETER), relatedRecords)))
       .map(this::mapToJson)
       .map(JsonHttpResponse::ok)
       .onComplete(context::write, context::write);
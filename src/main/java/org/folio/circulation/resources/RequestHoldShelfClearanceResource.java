@@ -1,5 +1,6 @@
 package org.folio.circulation.resources;
 
+import static org.folio.Environment.getStreamingResponseBatchSize;
 import static org.folio.circulation.domain.ItemStatus.AWAITING_PICKUP;
 import static org.folio.circulation.domain.RequestStatus.CLOSED_CANCELLED;
 import static org.folio.circulation.domain.RequestStatus.CLOSED_PICKUP_EXPIRED;
@@ -39,12 +40,11 @@ import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.StreamingJsonResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
@@ -71,7 +71,6 @@ public class RequestHoldShelfClearanceResource extends Resource {
   private static final String REQUESTS_KEY = "requests";
   private static final String STATUS_KEY = "status";
   private static final String STATUS_NAME_KEY = "status.name";
-  private static final String TOTAL_RECORDS_KEY = "totalRecords";
   private static final String REQUEST_CLOSED_DATE_KEY = "awaitingPickupRequestClosedDate";
 
   private final String rootPath;
@@ -94,19 +93,21 @@ public class RequestHoldShelfClearanceResource extends Resource {
     final ItemRepository itemRepository = new ItemRepository(clients);
     final GetManyRecordsClient requestsStorage = clients.requestsStorage();
     final ItemReportRepository itemReportRepository = new ItemReportRepository(clients);
+    final StreamingJsonResponse response = context.streamingJsonResponse(REQUESTS_KEY);
 
     final String servicePointId = routingContext.request().getParam(SERVICE_POINT_ID_PARAM);
 
     itemReportRepository.getAllItemsByField(STATUS_NAME_KEY, AWAITING_PICKUP.getValue())
-      .thenComposeAsync(r -> r.after(this::mapContextToItemIdList))
-      .thenComposeAsync(r -> r.after(this::mapItemIdsInBatchItemIds))
-      .thenComposeAsync(r -> findAwaitingPickupRequestsByItemsIds(requestsStorage, r.value()))
-      .thenComposeAsync(r -> findExpiredOrCancelledRequestByItemIds(requestsStorage, r.value()))
+      .thenComposeAsync(r -> r.after(this::mapContextToItemIdList), executor)
+      .thenComposeAsync(r -> r.after(this::mapItemIdsInBatchItemIds), executor)
+      .thenComposeAsync(r -> findAwaitingPickupRequestsByItemsIds(requestsStorage, r.value()),
+        executor)
+      .thenComposeAsync(r -> findExpiredOrCancelledRequestByItemIds(requestsStorage, r.value()),
+        executor)
       .thenApply(r -> findExpiredOrCancelledRequestByServicePoint(servicePointId, r.value()))
-      .thenCompose(r -> fetchItemToRequest(r, itemRepository))
-      .thenApply(this::mapResultToJson)
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
-      .thenAccept(context::writeResultToHttpResponse);
+      .thenCompose(r -> r.after(requests -> response.writeInBatches(requests,
+        getStreamingResponseBatchSize(), batch -> fetchItemsAndMapToJson(batch, itemRepository))))
+      .whenComplete(response::end);
   }
 
   private CompletableFuture<Result<List<String>>> mapContextToItemIdList(ItemsReportFetcher itemsReportFetcher) {
@@ -281,30 +282,23 @@ public class RequestHoldShelfClearanceResource extends Resource {
       .thenApply(result -> result.next(this::mapResponseToRequest));
   }
 
-  private CompletableFuture<Result<List<Request>>> fetchItemToRequest(
-    Result<List<Request>> requestsResult, ItemRepository itemRepository) {
+  private CompletableFuture<Result<List<JsonObject>>> fetchItemsAndMapToJson(
+    List<Request> requests, ItemRepository itemRepository) {
 
-    return requestsResult.after(
-      requests -> allOf(requests, request -> fetchItem(itemRepository, request)));
+    return allOf(requests, request -> fetchItem(itemRepository, request))
+      .thenApply(r -> r.map(this::toRequestRepresentations));
   }
 
-  private Result<JsonObject> mapResultToJson(Result<List<Request>> requestsResult) {
-    return requestsResult.map(this::toRequestsResponse);
-  }
-
-  private JsonObject toRequestsResponse(List<Request> requests) {
-    final List<JsonObject> requestsRepresentations = requests.stream()
+  private List<JsonObject> toRequestRepresentations(List<Request> requests) {
+    return requests.stream()
       .map(request -> new RequestRepresentation().extendedRepresentation(request))
       .collect(Collectors.toList());
-
-    return new JsonObject()
-      .put(REQUESTS_KEY, new JsonArray(requestsRepresentations))
-      .put(TOTAL_RECORDS_KEY, requestsRepresentations.size());
   }
 
   private CompletableFuture<Result<Request>> fetchItem(ItemRepository itemRepository, Request request) {
     return CompletableFuture.completedFuture(Result.succeeded(request))
-      .thenComposeAsync(result -> result.combineAfter(itemRepository::fetchFor, Request::withItem));
+      .thenComposeAsync(result -> result.combineAfter(itemRepository::fetchFor, Request::withItem),
+        executor);
   }
 
   private Result<MultipleRecords<Request>> mapResponseToRequest(Response response) {
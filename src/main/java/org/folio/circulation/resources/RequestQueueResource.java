@@ -173,7 +173,7 @@ public class RequestQueueResource extends Resource {
       CompletableFuture.runAsync(() -> {
         List<Request> reordered = r.getReorderRequestToRequestMap().values().stream().filter(Request::hasChangedPosition).collect(Collectors.toList());
         eventPublisher.publishLogRecord(mapToRequestLogEventJson(reordered), LogEventType.REQUEST_REORDERED);
-      });
+      }, executor);
       return null;
     });
     return reorderRequestContext;
@@ -1,13 +1,20 @@
 package org.folio.circulation.resources;
 
+import java.util.concurrent.Executor;
+
+import org.folio.circulation.support.async.ContextExecutor;
+
 import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 
 public abstract class Resource {
   protected final HttpClient client;
+  /** runs asynchronous steps on the context the resource was registered on */
+  protected final Executor executor;
 
   public Resource(HttpClient client) {
     this.client = client;
+    this.executor = ContextExecutor.forCurrentContext();
   }
 
   public abstract void register(Router router);
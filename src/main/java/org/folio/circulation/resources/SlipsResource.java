@@ -5,6 +5,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
+import static org.folio.Environment.getStreamingResponseBatchSize;
 import static org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria.byIndex;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithCqlQuery;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
@@ -12,16 +13,19 @@ import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.flatMapResult;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import static org.folio.circulation.support.utils.LogUtil.collectionAsString;
 import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsString;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -47,7 +51,7 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.StreamingJsonResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
 
@@ -65,7 +69,6 @@ public abstract class SlipsResource extends Resource {
   private static final String ITEM_ID_KEY = "itemId";
   private static final String STATUS_NAME_KEY = "status.name";
   private static final String REQUEST_TYPE_KEY = "requestType";
-  private static final String TOTAL_RECORDS_KEY = "totalRecords";
   private static final String SERVICE_POINT_ID_PARAM = "servicePointId";
   private static final String EFFECTIVE_LOCATION_ID_KEY = "effectiveLocationId";
   private static final String PRIMARY_SERVICE_POINT_KEY = "primaryServicePoint";
@@ -110,20 +113,31 @@ public abstract class SlipsResource extends Resource {
     final UUID servicePointId = UUID.fromString(
       routingContext.request().getParam(SERVICE_POINT_ID_PARAM));
 
+    final StreamingJsonResponse response = context.streamingJsonResponse(collectionName);
+
+    final Function<MultipleRecords<Request>, CompletableFuture<Result<MultipleRecords<Request>>>>
+      fetchRelatedRecords = requests -> userRepository.findUsersForRequests(requests)
+        .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers),
+          executor)
+        .thenComposeAsync(r -> r.after(departmentRepository::findDepartmentsForRequestUsers),
+          executor)
+        .thenComposeAsync(r -> r.after(addressTypeRepository::findAddressTypesForRequests), executor)
+        .thenComposeAsync(r -> r.after(servicePointRepository::findServicePointsForRequests),
+          executor);
+
     fetchLocationsForServicePoint(servicePointId, clients)
       .thenComposeAsync(r -> r.after(locations -> fetchItemsForLocations(locations,
-        itemRepository, LocationRepository.using(clients, servicePointRepository))))
-      .thenComposeAsync(r -> r.after(items -> fetchRequests(items, clients)))
-      .thenComposeAsync(r -> r.after(userRepository::findUsersForRequests))
-      .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers))
-      .thenComposeAsync(r -> r.after(departmentRepository::findDepartmentsForRequestUsers))
-      .thenComposeAsync(r -> r.after(addressTypeRepository::findAddressTypesForRequests))
-      .thenComposeAsync(r -> r.after(servicePointRepository::findServicePointsForRequests))
-      .thenApply(flatMapResult(this::mapResultToJson))
-      .thenComposeAsync(r -> r.combineAfter(() -> servicePointRepository.getServicePointById(servicePointId),
-        this::addPrimaryServicePointNameToStaffSlipContext))
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
-      .thenAccept(context::writeResultToHttpResponse);
+        itemRepository, LocationRepository.using(clients, servicePointRepository))), executor)
+      .thenComposeAsync(r -> r.after(items -> fetchRequests(items, clients)), executor)
+      .thenComposeAsync(r -> r.combineAfter(
+        () -> servicePointRepository.getServicePointById(servicePointId), StaffSlipsToWrite::new),
+        executor)
+      .thenCompose(r -> r.after(slips -> response.writeInBatches(
+        new ArrayList<>(slips.requests().getRecords()), getStreamingResponseBatchSize(),
+        batch -> fetchRelatedRecords.apply(new MultipleRecords<>(batch, batch.size()))
+          .thenApply(mapResult(requests -> mapToStaffSlipContexts(requests,
+            slips.primaryServicePoint()))))))
+      .whenComplete(response::end);
   }
 
   private CompletableFuture<Result<MultipleRecords<Location>>> fetchLocationsForServicePoint(
@@ -160,7 +174,7 @@ public abstract class SlipsResource extends Resource {
 
     return itemRepository.findByIndexNameAndQuery(locationIds, EFFECTIVE_LOCATION_ID_KEY, statusQuery)
       .thenComposeAsync(r -> r.after(items -> fetchLocationDetailsForItems(items, locations,
-        locationRepository)));
+        locationRepository)), executor);
   }
 
   private CompletableFuture<Result<MultipleRecords<Request>>> fetchRequests(
@@ -205,9 +219,9 @@ public abstract class SlipsResource extends Resource {
     }
 
     return completedFuture(succeeded(locationsForItems))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchLibraries))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchInstitutions))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchCampuses))
+      .thenComposeAsync(r -> r.after(locationRepository::fetchLibraries), executor)
+      .thenComposeAsync(r -> r.after(locationRepository::fetchInstitutions), executor)
+      .thenComposeAsync(r -> r.after(locationRepository::fetchCampuses), executor)
       .thenApply(flatMapResult(locations -> matchLocationsToItems(items, locations)));
   }
 
@@ -236,22 +250,19 @@ public abstract class SlipsResource extends Resource {
       itemMap.getOrDefault(request.getItemId(), null))));
   }
 
-  private Result<JsonObject> mapResultToJson(MultipleRecords<Request> requests) {
-    log.debug("mapResultToJson:: parameters requests: {}", () -> multipleRecordsAsString(requests));
-    List<JsonObject> representations = requests.getRecords().stream()
+  private List<JsonObject> mapToStaffSlipContexts(MultipleRecords<Request> requests,
+    ServicePoint primaryServicePoint) {
+
+    log.debug("mapToStaffSlipContexts:: parameters requests: {}",
+      () -> multipleRecordsAsString(requests));
+
+    return requests.getRecords().stream()
       .map(TemplateContextUtil::createStaffSlipContext)
+      .map(staffSlip -> TemplateContextUtil.addPrimaryServicePointNameToStaffSlip(staffSlip,
+        primaryServicePoint))
       .toList();
-    JsonObject jsonRepresentations = new JsonObject()
-      .put(collectionName, representations)
-      .put(TOTAL_RECORDS_KEY, representations.size());
-
-    return succeeded(jsonRepresentations);
   }
 
-  private JsonObject addPrimaryServicePointNameToStaffSlipContext(JsonObject context,
-    ServicePoint servicePoint) {
-
-    return TemplateContextUtil.addPrimaryServicePointNameToStaffSlipContext(
-      context, servicePoint, collectionName);
-  }
+  private record StaffSlipsToWrite(MultipleRecords<Request> requests,
+    ServicePoint primaryServicePoint) { }
 }
@@ -1,14 +1,23 @@
 package org.folio.circulation.resources;
 
+import static org.folio.circulation.infrastructure.storage.cache.PolicyType.LOAN;
+import static org.folio.circulation.infrastructure.storage.cache.PolicyType.LOST_ITEM;
+import static org.folio.circulation.infrastructure.storage.cache.PolicyType.NOTICE;
+import static org.folio.circulation.infrastructure.storage.cache.PolicyType.OVERDUE_FINE;
+import static org.folio.circulation.infrastructure.storage.cache.PolicyType.REQUEST;
 import static org.folio.circulation.support.http.server.JsonHttpResponse.created;
 import static org.folio.circulation.support.http.server.NoContentResponse.noContent;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.circulation.infrastructure.storage.cache.PolicyCache;
+import org.folio.circulation.infrastructure.storage.cache.PolicyType;
+import org.folio.circulation.infrastructure.storage.cache.ReferenceDataCache;
 import org.folio.circulation.rules.cache.CirculationRulesCache;
 import org.folio.circulation.services.PubSubRegistrationService;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.ServerErrorResponse;
 import org.folio.circulation.support.http.server.WebContext;
@@ -38,6 +47,8 @@ public class TenantActivationResource extends Resource {
     Map<String, String> headers = webContext.getHeaders();
     PubSubRegistrationService.registerModule(headers, routingContext.vertx())
       .thenCompose(ignored -> warmUpCirculationRulesCache(webContext, clients))
+      .thenCompose(ignored -> warmUpPolicyCache(webContext, clients))
+      .thenCompose(ignored -> warmUpLocationCache(webContext, clients))
       .thenRun(() -> created(new JsonObject()).writeTo(routingContext.response()))
       .exceptionally(throwable -> {
         ServerErrorResponse.internalError(routingContext.response(), throwable.getLocalizedMessage());
@@ -55,4 +66,46 @@ public class TenantActivationResource extends Resource {
         failure -> log.error("warmUpCirculationRulesCache:: warm-up failed: {}", failure)
       ));
   }
+
+  private CompletableFuture<Void> warmUpPolicyCache(WebContext context, Clients clients) {
+    log.info("warmUpPolicyCache:: warming up policy cache");
+
+    final String tenantId = context.getTenantId();
+    final PolicyCache policyCache = PolicyCache.getInstance();
+
+    // policies may have changed while the module was disabled for the tenant
+    policyCache.invalidate(tenantId);
+
+    return CompletableFuture.allOf(
+        warmUpPolicies(tenantId, LOAN, clients.loanPoliciesStorage()),
+        warmUpPolicies(tenantId, OVERDUE_FINE, clients.overdueFinesPoliciesStorage()),
+        warmUpPolicies(tenantId, LOST_ITEM, clients.lostItemPoliciesStorage()),
+        warmUpPolicies(tenantId, REQUEST, clients.requestPoliciesStorage()),
+        warmUpPolicies(tenantId, NOTICE, clients.patronNoticePolicesStorageClient()))
+      .thenRun(() -> log.info("warmUpPolicyCache:: warm-up complete, version {}",
+        policyCache.getVersion(tenantId)));
+  }
+
+  private CompletableFuture<Void> warmUpLocationCache(WebContext context, Clients clients) {
+    log.info("warmUpLocationCache:: warming up location cache");
+
+    return ReferenceDataCache.getInstance()
+      .warmUpLocations(context.getTenantId(), clients.locationsStorage())
+      .thenAccept(r -> r.applySideEffect(
+        count -> log.info("warmUpLocationCache:: cached {} locations", count),
+        failure -> log.error("warmUpLocationCache:: warm-up failed: {}", failure)
+      ));
+  }
+
+  private CompletableFuture<Void> warmUpPolicies(String tenantId, PolicyType policyType,
+    CollectionResourceClient policyStorageClient) {
+
+    return PolicyCache.getInstance()
+      .warmUp(tenantId, policyType, policyStorageClient)
+      .thenAccept(r -> r.applySideEffect(
+        count -> log.info("warmUpPolicies:: cached {} {} policies", count, policyType),
+        failure -> log.error("warmUpPolicies:: warm-up of {} policies failed: {}",
+          policyType, failure)
+      ));
+  }
 }
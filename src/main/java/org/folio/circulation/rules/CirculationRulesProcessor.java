@@ -1,20 +1,25 @@
 package org.folio.circulation.rules;
 
+import static java.util.function.Function.identity;
 import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
 import static org.folio.circulation.support.results.Result.combined;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Location;
+import org.folio.circulation.infrastructure.storage.cache.ReferenceDataCache;
 import org.folio.circulation.rules.cache.CirculationRulesCache;
 import org.folio.circulation.storage.mappers.LocationMapper;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
+import org.folio.circulation.support.async.ContextExecutor;
+import org.folio.circulation.support.async.WorkerPool;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonArray;
@@ -47,7 +52,7 @@ public class CirculationRulesProcessor {
     log.debug("getLoanPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.loanPolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.loanPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getLostItemPolicyAndMatch(
@@ -62,7 +67,7 @@ public class CirculationRulesProcessor {
     log.debug("getLostItemPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.lostItemPolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.lostItemPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getNoticePolicyAndMatch(
@@ -77,7 +82,7 @@ public class CirculationRulesProcessor {
     log.debug("getNoticePolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.noticePolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.noticePolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getOverduePolicyAndMatch(
@@ -92,7 +97,7 @@ public class CirculationRulesProcessor {
     log.debug("getOverduePolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.overduePolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.overduePolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getRequestPolicyAndMatch(
@@ -107,31 +112,45 @@ public class CirculationRulesProcessor {
     log.debug("getRequestPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.requestPolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.requestPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   private <T> CompletableFuture<Result<T>> triggerRules(RulesExecutionParameters params,
-    BiFunction<Drools, RulesExecutionParameters, T> droolsFunction) {
+    BiFunction<RulesEngine, RulesExecutionParameters, T> rulesFunction) {
 
+    final Executor contextExecutor = ContextExecutor.forCurrentContext();
     val rulesFuture = CirculationRulesCache.getInstance()
-      .getDrools(tenantId, circulationRulesStorage);
+      .getRulesEngine(tenantId, circulationRulesStorage);
 
-    return fetchLocation(params).thenCombine(rulesFuture, combined(
-      (newParams, drools) -> {
+    return returnTo(contextExecutor, fetchLocation(params).thenCombineAsync(rulesFuture, combined(
+      (newParams, rulesEngine) -> {
         log.info("Applying circulation rules with parameters: {}", newParams);
-        return succeeded(droolsFunction.apply(drools, newParams));
-      }));
+        return succeeded(rulesFunction.apply(rulesEngine, newParams));
+      }), WorkerPool.getInstance()));
   }
 
   private <T> CompletableFuture<Result<T>> executeRules(RulesExecutionParameters params,
     BiFunction<ExecutableRules, RulesExecutionParameters, Result<T>> rulesExecutor) {
 
+    final Executor contextExecutor = ContextExecutor.forCurrentContext();
     val rulesFuture = CirculationRulesCache.getInstance()
       .getExecutableRules(tenantId, circulationRulesStorage);
 
-    return fetchLocation(params)
-      .thenCombine(rulesFuture, combined((parametersWithLocation, rules) ->
-        rulesExecutor.apply(rules, parametersWithLocation)));
+    return returnTo(contextExecutor, fetchLocation(params)
+      .thenCombineAsync(rulesFuture, combined((parametersWithLocation, rules) ->
+        rulesExecutor.apply(rules, parametersWithLocation)), WorkerPool.getInstance()));
+  }
+
+  /**
+   * Continues on the context the rules were applied from, rather than on the worker
+   * thread which executed them
+   */
+  private static <T> CompletableFuture<Result<T>> returnTo(Executor contextExecutor,
+    CompletableFuture<Result<T>> executedOnWorker) {
+
+    return executedOnWorker
+      .exceptionally(WorkerPool::failWhenRejected)
+      .thenApplyAsync(identity(), contextExecutor);
   }
 
   private CompletableFuture<Result<RulesExecutionParameters>> fetchLocation(
@@ -144,12 +163,19 @@ public class CirculationRulesProcessor {
       return ofAsync(() -> params);
     }
 
+    // locations are shared by all requests (and preloaded when the module is enabled),
+    // so applying the rules for many items usually needs no requests for locations
+    return ReferenceDataCache.getInstance().locations(tenantId)
+      .getOrFetch(params.getLocationId(), this::fetchLocationById)
+      .thenApply(r -> r.map(params::withLocation))
+      .thenApply(r -> r.mapFailure(failure -> succeeded(params)));
+  }
+
+  private CompletableFuture<Result<Location>> fetchLocationById(String locationId) {
     return FetchSingleRecord.<Location>forRecord("location")
       .using(locationStorageClient)
       .mapTo(new LocationMapper()::toDomain)
-      .whenNotFound(failedValidation("Cannot find location", "location_id", params.getLocationId()))
-      .fetch(params.getLocationId())
-      .thenApply(r -> r.map(params::withLocation))
-      .thenApply(r -> r.mapFailure(failure -> succeeded(params)));
+      .whenNotFound(failedValidation("Cannot find location", "location_id", locationId))
+      .fetch(locationId);
   }
 }
@@ -0,0 +1,93 @@
+package org.folio.circulation.rules;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The criteria of a line of a circulation rules file, together with those of the lines
+ * it is nested within.
+ * <p>
+ * Shared by {@link Text2Drools} and {@link Text2DecisionTree}, so both give the rule
+ * for a line the same salience.
+ */
+abstract class CriteriaMatcher {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  final int indentation;
+  final Set<String> criteriaUsed = new HashSet<>(4);
+  int maxCriteriumPriority;
+
+  CriteriaMatcher(int indentation, Set<String> criteriaUsed, int maxCriteriumPriority) {
+    this.indentation = indentation;
+    this.criteriaUsed.addAll(criteriaUsed);
+    this.maxCriteriumPriority = maxCriteriumPriority;
+  }
+
+  /**
+   * Add the criterium type to criteriaUsed and maxCriteriumPriority.
+   * @param letter one of t, a, b, c, s, m, g
+   * @param criteriumPriority the priority of each criterium type letter
+   */
+  void addCriterium(String letter, Map<String, Integer> criteriumPriority) {
+    switch (letter) {
+    case "a":
+    case "b":
+    case "c":
+    case "s":
+      criteriaUsed.add("a");  // all location type letters count as one
+      break;
+    default:
+      criteriaUsed.add(letter);
+    }
+    maxCriteriumPriority = Math.max(maxCriteriumPriority,
+      criteriumPriority.getOrDefault(letter, 0));
+  }
+
+  /**
+   * Pop all matchers whose indentation is >= the current indentation.
+   */
+  static void popObsoleteMatchers(Deque<? extends CriteriaMatcher> stack, int indentation) {
+    while (!stack.isEmpty() && stack.peek().indentation >= indentation) {
+      stack.pop();
+    }
+  }
+
+  /**
+   * The salience of the rule for a line.
+   * @param line the line number of the rule
+   * @param matcher the criteria of the line, null for the fallback-policy
+   * @param priority the priority types, criterium types first and line last
+   */
+  static int getSalience(int line, CriteriaMatcher matcher, PriorityType[] priority) {
+    int salience = line;
+    if (priority[2] == PriorityType.FIRST_LINE) {
+      salience = 10000000 - line;
+    }
+
+    salience += priority(matcher, priority[1]) *  10000000;
+    salience += priority(matcher, priority[0]) * 100000000;
+
+    return salience;
+  }
+
+  private static int priority(CriteriaMatcher matcher, PriorityType type) {
+    if (matcher == null) {  // fallback-policy
+      log.debug("priority:: matcher is null");
+      return 0;
+    }
+    switch (type) {
+    case CRITERIUM:
+      return matcher.maxCriteriumPriority;
+    case NUMBER_OF_CRITERIA:
+      return matcher.criteriaUsed.size();
+    default:
+      return 0;
+    }
+  }
+}
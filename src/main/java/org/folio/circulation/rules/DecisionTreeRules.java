@@ -0,0 +1,274 @@
+package org.folio.circulation.rules;
+
+import static java.util.Comparator.comparingInt;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.folio.circulation.support.utils.LogUtil.asJson;
+
+import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Location;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Circulation rules compiled into an immutable structure which is matched
+ * without creating a rules engine session.
+ * <p>
+ * Rules are held in priority order (highest salience first, as for Drools).
+ * A rule that requires one of a set of values for a criterium is indexed by those values,
+ * so only the rules indexed by the facts, and the rules that cannot be indexed
+ * (only all or negated criteria, or none at all), need to be checked.
+ */
+public class DecisionTreeRules implements RulesEngine {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  /** rules in priority order */
+  private final List<Rule> rules;
+  /** for each criterium letter, the rules (by position) that require each id */
+  private final Map<String, Map<String, BitSet>> index = new HashMap<>();
+  /** the rules (by position) which must always be checked */
+  private final BitSet unindexed = new BitSet();
+
+  DecisionTreeRules(Collection<Rule> rules) {
+    this.rules = rules.stream()
+      .sorted(comparingInt(Rule::salience).reversed())
+      .toList();
+
+    for (int position = 0; position < this.rules.size(); position++) {
+      final int rulePosition = position;
+
+      this.rules.get(position).mostSelectiveCriterium()
+        .ifPresentOrElse(criterium -> criterium.ids().forEach(id -> index
+            .computeIfAbsent(criterium.letter(), letter -> new HashMap<>())
+            .computeIfAbsent(id, key -> new BitSet())
+            .set(rulePosition)),
+          () -> unindexed.set(rulePosition));
+    }
+
+    log.info("DecisionTreeRules:: compiled {} rules, {} always checked",
+      this.rules.size(), unindexed.cardinality());
+  }
+
+  @Override
+  public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
+    log.debug("loanPolicy:: params params: {}, location: {}", params, location);
+
+    return firstMatch(params, location)
+      .map(rule -> new CirculationRuleMatch(rule.policyId("l"), new AppliedRuleConditions(
+        rule.uses("m"), rule.uses("t"), rule.uses("g"))))
+      .orElseGet(DecisionTreeRules::noMatch);
+  }
+
+  @Override
+  public JsonArray loanPolicies(MultiMap params, Location location) {
+    log.debug("loanPolicies:: params params: {}, location: {}", params, location);
+
+    return allMatches(params, location, "l", "loanPolicyId");
+  }
+
+  @Override
+  public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
+    log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
+
+    return policyWithoutConditions(params, location, "r");
+  }
+
+  @Override
+  public JsonArray requestPolicies(MultiMap params, Location location) {
+    log.debug("requestPolicies:: parameters params: {}, location: {}", params, location);
+
+    return allMatches(params, location, "r", "requestPolicyId");
+  }
+
+  @Override
+  public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
+    log.debug("noticePolicy:: parameters params: {}, location: {}", params, location);
+
+    return policyWithoutConditions(params, location, "n");
+  }
+
+  @Override
+  public JsonArray noticePolicies(MultiMap params, Location location) {
+    log.debug("noticePolicies:: parameters params: {}, location: {}", params, location);
+
+    return allMatches(params, location, "n", "noticePolicyId");
+  }
+
+  @Override
+  public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
+    log.debug("overduePolicy:: parameters params: {}, location: {}", params, location);
+
+    return policyWithoutConditions(params, location, "o");
+  }
+
+  @Override
+  public JsonArray overduePolicies(MultiMap params, Location location) {
+    log.debug("overduePolicies:: parameters params: {}, location: {}", params, location);
+
+    return allMatches(params, location, "o", "overduePolicyId");
+  }
+
+  @Override
+  public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
+    log.debug("lostItemPolicy:: parameters params: {}, location: {}", params, location);
+
+    return policyWithoutConditions(params, location, "i");
+  }
+
+  @Override
+  public JsonArray lostItemPolicies(MultiMap params, Location location) {
+    log.debug("lostItemPolicies:: parameters params: {}, location: {}", params, location);
+
+    return allMatches(params, location, "i", "lostItemPolicyId");
+  }
+
+  private CirculationRuleMatch policyWithoutConditions(MultiMap params, Location location,
+    String policyType) {
+
+    // applied conditions are only reported for loan policies, as with Drools
+    return firstMatch(params, location)
+      .map(rule -> new CirculationRuleMatch(rule.policyId(policyType),
+        new AppliedRuleConditions(false, false, false)))
+      .orElseGet(DecisionTreeRules::noMatch);
+  }
+
+  private JsonArray allMatches(MultiMap params, Location location, String policyType,
+    String policyIdPropertyName) {
+
+    final JsonArray array = new JsonArray();
+
+    matches(params, location).forEach(rule -> array.add(new JsonObject()
+      .put(policyIdPropertyName, rule.policyId(policyType))
+      .put("circulationRuleLine", rule.line())));
+
+    log.info("allMatches:: result: {}", () -> asJson(array.stream().toList()));
+
+    return array;
+  }
+
+  private Optional<Rule> firstMatch(MultiMap params, Location location) {
+    return matches(params, location).findFirst();
+  }
+
+  private Stream<Rule> matches(MultiMap params, Location location) {
+    final Map<String, String> facts = facts(params, location);
+    final BitSet candidates = (BitSet) unindexed.clone();
+
+    index.forEach((letter, rulesById) -> {
+      final BitSet rulesForFact = rulesById.get(facts.get(letter));
+
+      if (rulesForFact != null) {
+        candidates.or(rulesForFact);
+      }
+    });
+
+    return candidates.stream()
+      .mapToObj(rules::get)
+      .filter(rule -> rule.matches(facts));
+  }
+
+  /**
+   * The facts for each criterium letter, the location criteria are only present
+   * when there is a location (a fact may be present with a null value)
+   */
+  private static Map<String, String> facts(MultiMap params, Location location) {
+    final Map<String, String> facts = new HashMap<>();
+
+    facts.put("m", params.get(ITEM_TYPE_ID_NAME));
+    facts.put("t", params.get(LOAN_TYPE_ID_NAME));
+    facts.put("g", params.get(PATRON_TYPE_ID_NAME));
+    facts.put("s", params.get(LOCATION_ID_NAME));
+
+    if (location != null) {
+      facts.put("a", location.getInstitutionId());
+      facts.put("b", location.getCampusId());
+      facts.put("c", location.getLibraryId());
+    }
+
+    return facts;
+  }
+
+  private static CirculationRuleMatch noMatch() {
+    return new CirculationRuleMatch(null, new AppliedRuleConditions(false, false, false));
+  }
+
+  /**
+   * A single line of the rules that has policies
+   *
+   * @param criteria the criteria of the line and of all of the lines it is nested within
+   * @param policyIds policy id for each policy type letter
+   */
+  record Rule(int line, int salience, List<Criterium> criteria, Map<String, String> policyIds) {
+    Rule {
+      criteria = List.copyOf(criteria);
+      policyIds = Map.copyOf(policyIds);
+    }
+
+    String policyId(String policyType) {
+      return policyIds.get(policyType);
+    }
+
+    boolean uses(String letter) {
+      return criteria.stream().anyMatch(criterium -> criterium.letter().equals(letter));
+    }
+
+    boolean matches(Map<String, String> facts) {
+      return criteria.stream().allMatch(criterium -> criterium.matches(facts));
+    }
+
+    /**
+     * The criterium that requires the fewest values, if any, only rules which
+     * have one of those values can match
+     */
+    Optional<Criterium> mostSelectiveCriterium() {
+      return criteria.stream()
+        .filter(Criterium::isIndexable)
+        .min(comparingInt(criterium -> criterium.ids().size()));
+    }
+  }
+
+  /**
+   * A criterium of a line, e.g. {@code m book dvd}, {@code g !staff} or {@code t all}
+   *
+   * @param ids the required (or when negated, excluded) ids, empty for all
+   */
+  record Criterium(String letter, Set<String> ids, boolean negated) {
+    Criterium {
+      ids = Set.copyOf(ids);
+    }
+
+    boolean isIndexable() {
+      return !negated && !ids.isEmpty();
+    }
+
+    boolean matches(Map<String, String> facts) {
+      // a criterium can never match a fact that is not present, even when it is negated
+      if (!facts.containsKey(letter)) {
+        return false;
+      }
+
+      if (ids.isEmpty()) {
+        return true;
+      }
+
+      final String value = facts.get(letter);
+
+      return negated != (value != null && ids.contains(value));
+    }
+  }
+}
@@ -32,7 +32,7 @@ import io.vertx.core.json.JsonObject;
 /**
  * Holds a Drools kieSession to calculate a loan policy.
  */
-public class Drools {
+public class Drools implements RulesEngine {
   // https://docs.jboss.org/drools/release/6.2.0.CR1/drools-docs/html/ch19.html
   // http://www.deepakgaikwad.net/index.php/2016/05/16/drools-tutorial-beginners.html
 
@@ -92,6 +92,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
     log.debug("loanPolicy:: params params: {}, location: {}", params, location);
     final var match = new Match();
@@ -117,6 +118,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a loanPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray loanPolicies(MultiMap params, Location location) {
     log.debug("loanPolicies:: params params: {}, location: {}", params, location);
     final var match = new Match();
@@ -144,6 +146,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
     log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -163,6 +166,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a requestPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray requestPolicies(MultiMap params, Location location) {
     log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
 
@@ -192,6 +196,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
     log.debug("noticePolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -211,6 +216,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a noticePolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray noticePolicies(MultiMap params, Location location) {
     log.debug("noticePolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -239,6 +245,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
     log.debug("overduePolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -258,6 +265,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a overduePolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray overduePolicies(MultiMap params, Location location) {
     log.debug("overduePolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -286,6 +294,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
     log.debug("lostItemPolicy:: parameters params: {}, location: {}", params, location);
 
@@ -306,6 +315,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a lostItemPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray lostItemPolicies(MultiMap params, Location location) {
     log.debug("lostItemPolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
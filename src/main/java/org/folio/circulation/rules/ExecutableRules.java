@@ -11,6 +11,7 @@ import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.cache.RuleMatchMemo;
 import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.results.Result;
@@ -23,52 +24,59 @@ public class ExecutableRules {
 
   @Getter()
   private final String text;
-  private final Drools drools;
+  private final RulesEngine rulesEngine;
+  private final RuleMatchMemo matchMemo;
 
-  public ExecutableRules(String text, Drools drools) {
+  public ExecutableRules(String text, RulesEngine rulesEngine) {
+    this(text, rulesEngine, RuleMatchMemo.disabled());
+  }
+
+  public ExecutableRules(String text, RulesEngine rulesEngine, RuleMatchMemo matchMemo) {
     this.text = text;
-    this.drools = drools;
+    this.rulesEngine = rulesEngine;
+    this.matchMemo = matchMemo;
   }
 
   public Result<CirculationRuleMatch> determineLoanPolicy(RulesExecutionParameters parameters) {
     log.debug("determineLoanPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::loanPolicy, "loan policy");
+    return determinePolicy(parameters, rulesEngine::loanPolicy, "loan policy");
   }
 
   public Result<CirculationRuleMatch> determineRequestPolicy(RulesExecutionParameters parameters) {
     log.debug("determineRequestPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::requestPolicy, "request policy");
+    return determinePolicy(parameters, rulesEngine::requestPolicy, "request policy");
   }
 
   public Result<CirculationRuleMatch> determineNoticePolicy(RulesExecutionParameters parameters) {
     log.debug("determineNoticePolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::noticePolicy, "notice policy");
+    return determinePolicy(parameters, rulesEngine::noticePolicy, "notice policy");
   }
 
   public Result<CirculationRuleMatch> determineLostItemPolicy(RulesExecutionParameters parameters) {
     log.debug("determineLostItemPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::lostItemPolicy, "lost item policy");
+    return determinePolicy(parameters, rulesEngine::lostItemPolicy, "lost item policy");
   }
 
   public Result<CirculationRuleMatch> determineOverduePolicy(RulesExecutionParameters parameters) {
     log.debug("determineOverduePolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::overduePolicy, "overdude policy");
+    return determinePolicy(parameters, rulesEngine::overduePolicy, "overdude policy");
   }
 
   private Result<CirculationRuleMatch> determinePolicy(RulesExecutionParameters parameters,
-    BiFunction<MultiMap, Location, CirculationRuleMatch> droolsExecutor, String policyType) {
+    BiFunction<MultiMap, Location, CirculationRuleMatch> rulesExecutor, String policyType) {
 
     if (log.isInfoEnabled()) {
       log.info("Executing circulation rules: `{}` with parameters: `{}` to determine {}",
         text, parameters, policyType);
     }
 
-    return of(() -> droolsExecutor.apply(parameters.toMap(), parameters.getLocation()))
+    return matchMemo.getOrMatch(policyType, parameters,
+        () -> of(() -> rulesExecutor.apply(parameters.toMap(), parameters.getLocation())))
       .failWhen(this::noMatch, fail(parameters, policyType));
   }
 
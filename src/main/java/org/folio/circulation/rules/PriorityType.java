@@ -0,0 +1,23 @@
+package org.folio.circulation.rules;
+
+/**
+ * How the rules matching the same facts are ordered, declared by the priority line
+ * of a circulation rules file.
+ */
+enum PriorityType {
+  NONE,
+  FIRST_LINE,
+  LAST_LINE,
+  NUMBER_OF_CRITERIA,
+  CRITERIUM;
+  public static PriorityType getPriorityType(String type) {
+    switch (type) {
+      case "":                   return NONE;
+      case "first-line":         return FIRST_LINE;
+      case "last-line":          return LAST_LINE;
+      case "number-of-criteria": return NUMBER_OF_CRITERIA;
+      case "criterium":          return CRITERIUM;
+      default: throw new IllegalArgumentException("Unknown type name: " + type);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package org.folio.circulation.rules;
+
+import org.folio.circulation.domain.Location;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Determines the policies that apply to a set of facts according to the circulation rules.
+ * <p>
+ * The single policy methods return the policy of the highest priority matching rule,
+ * the plural methods return all of the matching rules in priority order, each match
+ * has a policy id and a circulationRuleLine field.
+ */
+public interface RulesEngine {
+  CirculationRuleMatch loanPolicy(MultiMap params, Location location);
+
+  JsonArray loanPolicies(MultiMap params, Location location);
+
+  CirculationRuleMatch requestPolicy(MultiMap params, Location location);
+
+  JsonArray requestPolicies(MultiMap params, Location location);
+
+  CirculationRuleMatch noticePolicy(MultiMap params, Location location);
+
+  JsonArray noticePolicies(MultiMap params, Location location);
+
+  CirculationRuleMatch overduePolicy(MultiMap params, Location location);
+
+  JsonArray overduePolicies(MultiMap params, Location location);
+
+  CirculationRuleMatch lostItemPolicy(MultiMap params, Location location);
+
+  JsonArray lostItemPolicies(MultiMap params, Location location);
+}
@@ -43,8 +43,23 @@ public final class RulesExecutionParameters {
 
   public static RulesExecutionParameters forItem(Item item, User user) {
     log.debug("forItem:: parameters item: {}, user: {}", item, user);
+    return forItem(item, user.getPatronGroupId());
+  }
+
+  public static RulesExecutionParameters forItem(Item item, String patronGroupId) {
     return new RulesExecutionParameters(item.getLoanTypeId(), item.getEffectiveLocationId(),
-      item.getMaterialTypeId(), user.getPatronGroupId(), item.getLocation());
+      item.getMaterialTypeId(), patronGroupId, loadedLocation(item));
+  }
+
+  /**
+   * The item's location, unless it has not been loaded (in which case it is looked up
+   * when the rules are applied), as the rules need the location's institution, campus
+   * and library
+   */
+  private static Location loadedLocation(Item item) {
+    final Location location = item.getLocation();
+
+    return location == null || location.getInstitutionId() == null ? null : location;
   }
 
   public static RulesExecutionParameters forRequest(WebContext context) {
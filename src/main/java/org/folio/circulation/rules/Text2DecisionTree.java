@@ -0,0 +1,199 @@
+package org.folio.circulation.rules;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.rules.CirculationRulesParser.CriteriumContext;
+import org.folio.circulation.rules.CirculationRulesParser.CriteriumPriorityContext;
+import org.folio.circulation.rules.CirculationRulesParser.DedentContext;
+import org.folio.circulation.rules.CirculationRulesParser.DefaultPrioritiesContext;
+import org.folio.circulation.rules.CirculationRulesParser.ExprContext;
+import org.folio.circulation.rules.CirculationRulesParser.FallbackpolicyContext;
+import org.folio.circulation.rules.CirculationRulesParser.IndentContext;
+import org.folio.circulation.rules.CirculationRulesParser.LastLinePrioritiesContext;
+import org.folio.circulation.rules.CirculationRulesParser.LinePriorityContext;
+import org.folio.circulation.rules.CirculationRulesParser.PoliciesContext;
+import org.folio.circulation.rules.CirculationRulesParser.PolicyContext;
+import org.folio.circulation.rules.CirculationRulesParser.SevenCriteriumLettersContext;
+import org.folio.circulation.rules.CirculationRulesParser.ThreePrioritiesContext;
+import org.folio.circulation.rules.CirculationRulesParser.TwoPrioritiesContext;
+import org.folio.circulation.rules.DecisionTreeRules.Criterium;
+import org.folio.circulation.rules.DecisionTreeRules.Rule;
+
+/**
+ * Compile a circulation rules text in FOLIO format into {@link DecisionTreeRules}.
+ * <p>
+ * Every line with policies becomes a rule with the same criteria and salience
+ * as the Drools rule generated for it by {@link Text2Drools}, so both give the same matches.
+ * The text is expected to have been validated by {@link Text2Drools} beforehand.
+ */
+public class Text2DecisionTree extends CirculationRulesBaseListener {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final Matcher defaultMatcher = new Matcher(0, Set.of(), 0, List.of());
+
+  private final LinkedList<Matcher> stack = new LinkedList<>();
+  private final List<Rule> rules = new ArrayList<>();
+  private final Map<String, Integer> criteriumPriority = new HashMap<>(7);
+  private final PriorityType[] priority =
+    { PriorityType.NONE, PriorityType.NONE, PriorityType.FIRST_LINE };
+
+  private int indentation = 0;
+
+  private Text2DecisionTree() { }
+
+  /**
+   * Compile circulation rules from FOLIO text format into a decision structure.
+   * @param text String with a circulation rules file in FOLIO syntax.
+   * @return the compiled rules
+   */
+  public static DecisionTreeRules convert(String text) {
+    log.debug("convert:: parameters text: {}", text);
+    Text2DecisionTree text2DecisionTree = new Text2DecisionTree();
+    new ParseTreeWalker().walk(text2DecisionTree, Text2Drools.parse(text));
+
+    return new DecisionTreeRules(text2DecisionTree.rules);
+  }
+
+  private void setIndentation(TerminalNode node) {
+    // INDENT10 -> 10
+    // DEDENT2 -> 2
+    indentation = Integer.parseInt(node.getText().substring(6));
+  }
+
+  @Override
+  public void exitIndent(IndentContext indent) {
+    setIndentation(indent.INDENT());
+  }
+
+  @Override
+  public void exitDedent(DedentContext dedent) {
+    setIndentation(dedent.DEDENT());
+  }
+
+  @Override
+  public void exitSevenCriteriumLetters(SevenCriteriumLettersContext letters) {
+    for (int i = 0; i < letters.CRITERIUM_LETTER().size(); i++) {
+      criteriumPriority.put(letters.CRITERIUM_LETTER(i).getText(), 7 - i);
+    }
+  }
+
+  private static PriorityType getType(CriteriumPriorityContext ctx) {
+    return ctx.sevenCriteriumLetters() != null
+      ? PriorityType.CRITERIUM
+      : PriorityType.NUMBER_OF_CRITERIA;
+  }
+
+  private static PriorityType getType(LinePriorityContext ctx) {
+    return PriorityType.getPriorityType(ctx.getText());
+  }
+
+  @Override
+  public void exitLastLinePriorities(LastLinePrioritiesContext ctx) {
+    priority[0] = PriorityType.NONE;
+    priority[1] = PriorityType.NONE;
+    priority[2] = PriorityType.LAST_LINE;
+  }
+
+  @Override
+  public void exitTwoPriorities(TwoPrioritiesContext ctx) {
+    priority[0] = PriorityType.NONE;
+    priority[1] = getType(ctx.criteriumPriority());
+    priority[2] = getType(ctx.linePriority());
+  }
+
+  @Override
+  public void exitThreePriorities(ThreePrioritiesContext ctx) {
+    priority[0] = getType(ctx.criteriumPriority(0));
+    priority[1] = getType(ctx.criteriumPriority(1));
+    priority[2] = getType(ctx.linePriority());
+  }
+
+  @Override
+  public void exitDefaultPriorities(DefaultPrioritiesContext ctx) {
+    priority[0] = PriorityType.CRITERIUM;
+    priority[1] = PriorityType.NUMBER_OF_CRITERIA;
+    priority[2] = PriorityType.LAST_LINE;
+  }
+
+  @Override
+  public void enterFallbackpolicy(FallbackpolicyContext ctx) {
+    CriteriaMatcher.popObsoleteMatchers(stack, indentation);
+    addRule(ctx.policies());
+  }
+
+  @Override
+  public void exitExpr(ExprContext expr) {
+    CriteriaMatcher.popObsoleteMatchers(stack, indentation);
+
+    Matcher previousMatcher = stack.isEmpty() ? defaultMatcher : stack.peek();
+    Matcher matcher = new Matcher(indentation, previousMatcher.criteriaUsed,
+      previousMatcher.maxCriteriumPriority, previousMatcher.criteria);
+
+    for (CriteriumContext criteriumContext : expr.criterium()) {
+      addCriterium(criteriumContext, matcher);
+    }
+
+    stack.push(matcher);
+
+    addRule(expr.policies());
+  }
+
+  private void addRule(PoliciesContext policies) {
+    if (policies == null) {
+      return;
+    }
+
+    int line = policies.getStart().getLine();
+    Matcher matcher = stack.peek();
+    Map<String, String> policyIds = new HashMap<>();
+
+    for (PolicyContext policy : policies.policy()) {
+      policyIds.put(policy.POLICY_TYPE().getText(), policy.NAME().getText());
+    }
+
+    rules.add(new Rule(line, CriteriaMatcher.getSalience(line, matcher, priority),
+      matcher == null ? List.of() : matcher.criteria, policyIds));
+  }
+
+  private void addCriterium(CriteriumContext criteriumContext, Matcher matcher) {
+    String letter = criteriumContext.getStart().getText();
+
+    matcher.addCriterium(letter, criteriumPriority);
+
+    if (criteriumContext.all() != null) {
+      matcher.criteria.add(new Criterium(letter, Set.of(), false));
+      return;
+    }
+
+    TerminalNode terminal = criteriumContext.getChild(TerminalNode.class, 1);
+    boolean not = terminal != null && terminal.getText().equals("!");
+
+    Set<String> ids = new LinkedHashSet<>();
+    criteriumContext.NAME().forEach(name -> ids.add(name.getText()));
+
+    matcher.criteria.add(new Criterium(letter, ids, not));
+  }
+
+  private static class Matcher extends CriteriaMatcher {
+    /** the criteria of this line and of the lines it is nested within */
+    final List<Criterium> criteria = new ArrayList<>();
+
+    Matcher(int indentation, Set<String> criteriaUsed, int maxCriteriumPriority,
+      List<Criterium> criteria) {
+
+      super(indentation, criteriaUsed, maxCriteriumPriority);
+      this.criteria.addAll(criteria);
+    }
+  }
+}
@@ -5,7 +5,6 @@ import static org.apache.commons.text.StringEscapeUtils.escapeJava;
 
 import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -133,15 +132,8 @@ public class Text2Drools extends CirculationRulesBaseListener {
 
   private static String getDroolsRepresentation(String text, Text2Drools text2drools) {
     log.debug("getDroolsRepresentation:: parameters text: {}", text);
-    CharStream input = CharStreams.fromString(text);
-    CirculationRulesLexer lexer = new CirculationRulesLexer(input);
-    CommonTokenStream tokens = new CommonTokenStream(lexer);
-    CirculationRulesParser parser = new CirculationRulesParser(tokens);
-    parser.removeErrorListeners(); // remove ConsoleErrorListener
-    parser.addErrorListener(new ErrorListener());
-    CirculationRulesFileContext entryPoint = parser.circulationRulesFile();
     ParseTreeWalker walker = new ParseTreeWalker();
-    walker.walk(text2drools, entryPoint);
+    walker.walk(text2drools, parse(text));
 
     String droolsRepresentation = text2drools.drools.toString();
     log.debug("getDroolsRepresentation:: result: {}", droolsRepresentation);
@@ -150,16 +142,18 @@ public class Text2Drools extends CirculationRulesBaseListener {
   }
 
   /**
-   * Pop all matchers whose indentation is >= the current indentation.
+   * Parse a circulation rules text in FOLIO format.
+   * @param text String with a circulation rules file in FOLIO syntax.
+   * @return the parse tree of the file
    */
-  private void popObsoleteMatchers() {
-    while (! stack.isEmpty()) {
-      Matcher matcher = stack.peek();
-      if (matcher.indentation < indentation) {
-        return;
-      }
-      stack.pop();
-    }
+  static CirculationRulesFileContext parse(String text) {
+    CharStream input = CharStreams.fromString(text);
+    CirculationRulesLexer lexer = new CirculationRulesLexer(input);
+    CommonTokenStream tokens = new CommonTokenStream(lexer);
+    CirculationRulesParser parser = new CirculationRulesParser(tokens);
+    parser.removeErrorListeners(); // remove ConsoleErrorListener
+    parser.addErrorListener(new ErrorListener());
+    return parser.circulationRulesFile();
   }
 
   private void setIndentation(TerminalNode node) {
@@ -271,7 +265,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
     }
 
     // Generate fallback rule
-    popObsoleteMatchers();
+    CriteriaMatcher.popObsoleteMatchers(stack, indentation);
     generateRule(ctx.policies());
   }
 
@@ -311,7 +305,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
 
   @Override
   public void exitExpr(ExprContext expr) {
-    popObsoleteMatchers();
+    CriteriaMatcher.popObsoleteMatchers(stack, indentation);
 
     Matcher previousMatcher = stack.peek();
 
@@ -341,7 +335,9 @@ public class Text2Drools extends CirculationRulesBaseListener {
 
     int line = policies.getStart().getLine();
     drools.append("rule \"line ").append(line).append("\"\n");
-    drools.append("  salience ").append(getSalience(line)).append("\n");
+    drools.append("  salience ")
+      .append(CriteriaMatcher.getSalience(line, stack.peek(), priority))
+      .append("\n");
     drools.append("  when\n");
     stack.descendingIterator().forEachRemaining(matcher -> drools.append(matcher.drools));
     drools.append("  then\n");
@@ -374,34 +370,6 @@ public class Text2Drools extends CirculationRulesBaseListener {
     }
   }
 
-  private int getSalience(int line) {
-    int salience = line;
-    if (priority[2] == PriorityType.FIRST_LINE) {
-      salience = 10000000 - line;
-    }
-
-    Matcher matcher = stack.peek();
-    salience += priority(matcher, priority[1]) *  10000000;
-    salience += priority(matcher, priority[0]) * 100000000;
-
-    return salience;
-  }
-
-  private static int priority(Matcher matcher, PriorityType type) {
-    if (matcher == null) {  // fallback-policy
-      log.debug("priority:: matcher is null");
-      return 0;
-    }
-    switch (type) {
-    case CRITERIUM:
-      return matcher.maxCriteriumPriority;
-    case NUMBER_OF_CRITERIA:
-      return matcher.criteriaUsed.size();
-    default:
-      return 0;
-    }
-  }
-
   /** Add criteriumContext to matcher: criteriaUsed, maxCriteriumPriority, drools expression.
    * <p>
    * Two examples for drools expressions:
@@ -413,19 +381,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
   private void addCriterium(CriteriumContext criteriumContext, Matcher matcher) {
     String criteriumTypeLetter = criteriumContext.getStart().getText();
 
-    switch(criteriumTypeLetter) {
-    case "a":
-    case "b":
-    case "c":
-    case "s":
-      matcher.criteriaUsed.add("a");  // all location type letters count as one
-      break;
-    default:
-      matcher.criteriaUsed.add(criteriumTypeLetter);
-    }
-    matcher.maxCriteriumPriority =
-        Math.max(matcher.maxCriteriumPriority,
-                 criteriumPriority.getOrDefault(criteriumTypeLetter, 0));
+    matcher.addCriterium(criteriumTypeLetter, criteriumPriority);
 
     matcher.drools.append("    ");
     String field = criteriumTypeClassname(criteriumTypeLetter);
@@ -497,37 +453,14 @@ public class Text2Drools extends CirculationRulesBaseListener {
     sb.append('"');
   }
 
-  private static class Matcher {
-    int indentation;
-    Set<String> criteriaUsed = new HashSet<>(4);
-    int maxCriteriumPriority;
+  private static class Matcher extends CriteriaMatcher {
     StringBuilder drools;
 
     public Matcher(int indentation, Set<String> criteriaUsed,
       int maxCriteriumPriority, StringBuilder drools) {
 
-      this.indentation = indentation;
-      this.criteriaUsed.addAll(criteriaUsed);
-      this.maxCriteriumPriority = maxCriteriumPriority;
+      super(indentation, criteriaUsed, maxCriteriumPriority);
       this.drools = drools;
     }
   }
-
-  private enum PriorityType {
-    NONE,
-    FIRST_LINE,
-    LAST_LINE,
-    NUMBER_OF_CRITERIA,
-    CRITERIUM;
-    public static PriorityType getPriorityType(String type) {
-      switch (type) {
-        case "":                   return NONE;
-        case "first-line":         return FIRST_LINE;
-        case "last-line":          return LAST_LINE;
-        case "number-of-criteria": return NUMBER_OF_CRITERIA;
-        case "criterium":          return CRITERIUM;
-        default: throw new IllegalArgumentException("Unknown type name: " + type);
-      }
-    }
-  }
 }
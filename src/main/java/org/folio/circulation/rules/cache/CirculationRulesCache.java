@@ -1,24 +1,34 @@
 package org.folio.circulation.rules.cache;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.split;
+import static org.folio.Environment.getCirculationRulesDecisionTreeTenants;
+import static org.folio.Environment.getCirculationRulesMatchCacheMaximumSize;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.events.DomainEvent;
 import org.folio.circulation.domain.events.EntityChangedEventData;
+import org.folio.circulation.infrastructure.storage.cache.PolicyCache;
 import org.folio.circulation.rules.Drools;
 import org.folio.circulation.rules.ExecutableRules;
+import org.folio.circulation.rules.RulesEngine;
+import org.folio.circulation.rules.Text2DecisionTree;
 import org.folio.circulation.rules.Text2Drools;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.cache.CacheStatistics;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.results.Result;
 
@@ -28,8 +38,11 @@ public final class CirculationRulesCache {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private static final CirculationRulesCache instance = new CirculationRulesCache();
-  /** rules and Drools for each tenantId */
+  private static final String ALL_TENANTS = "*";
+  /** rules and rules engine for each tenantId */
   private final Map<String, Rules> rulesMap = new ConcurrentHashMap<>();
+  /** incremented each time any tenant's rules are built */
+  private final AtomicLong rulesVersion = new AtomicLong();
 
   public static CirculationRulesCache getInstance() {
     return instance;
@@ -41,14 +54,21 @@ public final class CirculationRulesCache {
     rulesMap.clear();
   }
 
-  public CompletableFuture<Result<Drools>> reloadRules(String tenantId,
+  public CompletableFuture<Result<RulesEngine>> reloadRules(String tenantId,
     CollectionResourceClient circulationRulesClient) {
 
-    log.info("reloadRules:: reloading rules for tenant {}", tenantId);
+    return fetchRules(tenantId, circulationRulesClient)
+      .thenApply(r -> r.map(Rules::getRulesEngine));
+  }
+
+  private CompletableFuture<Result<Rules>> fetchRules(String tenantId,
+    CollectionResourceClient circulationRulesClient) {
+
+    log.info("fetchRules:: reloading rules for tenant {}", tenantId);
 
     return circulationRulesClient.get()
       .thenApply(r -> r.map(response -> getRulesAsText(response, tenantId)))
-      .thenApply(r -> r.next(rulesAsText -> buildRules(tenantId, rulesAsText)));
+      .thenApply(r -> r.next(rulesAsText -> build(tenantId, rulesAsText)));
   }
 
   private static String getRulesAsText(Response response, String tenantId) {
@@ -59,7 +79,11 @@ public final class CirculationRulesCache {
     return circulationRules.getString("rulesAsText");
   }
 
-  public Result<Drools> buildRules(String tenantId, String rulesAsText) {
+  public Result<RulesEngine> buildRules(String tenantId, String rulesAsText) {
+    return build(tenantId, rulesAsText).map(Rules::getRulesEngine);
+  }
+
+  private Result<Rules> build(String tenantId, String rulesAsText) {
     log.info("buildRules:: building rules for tenant {}", tenantId);
     log.debug("buildRules:: rules={}", rulesAsText);
 
@@ -68,36 +92,72 @@ public final class CirculationRulesCache {
       return failed(new ServerErrorFailure("Cannot apply blank circulation rules"));
     }
 
+    // always converted to Drools, as this also validates the rules
     String droolsText = Text2Drools.convert(rulesAsText);
-    Drools drools = new Drools(tenantId, droolsText);
-    log.info("buildRules:: done building Drools for tenant {}", tenantId);
+    RulesEngine rulesEngine = usesDecisionTree(tenantId)
+      ? Text2DecisionTree.convert(rulesAsText)
+      : new Drools(tenantId, droolsText);
+    log.info("buildRules:: done building {} for tenant {}",
+      rulesEngine.getClass().getSimpleName(), tenantId);
     log.debug("buildRules:: Drools as text: {}", droolsText);
 
     long timestamp = System.currentTimeMillis();
     log.debug("buildRules:: timestamp={}", timestamp);
-    Rules rules = new Rules(rulesAsText, droolsText, drools, timestamp);
+    // replacing the rules replaces the policies matched by them in a single step
+    RuleMatchMemo matchMemo = new RuleMatchMemo(rulesVersion.incrementAndGet(),
+      getCirculationRulesMatchCacheMaximumSize());
+    Rules rules = new Rules(rulesAsText, droolsText, rulesEngine, timestamp, matchMemo);
     rulesMap.put(tenantId, rules);
 
-    return succeeded(drools);
+    // changes to policies usually go together with changes to the rules
+    PolicyCache.getInstance().invalidate(tenantId);
+
+    return succeeded(rules);
+  }
+
+  /**
+   * Whether the tenant's rules are matched by a decision tree compiled from them
+   * instead of by Drools, configured by a comma separated list of tenants (or * for all)
+   */
+  private static boolean usesDecisionTree(String tenantId) {
+    return Arrays.stream(split(getCirculationRulesDecisionTreeTenants(), ','))
+      .map(StringUtils::trim)
+      .anyMatch(tenant -> tenant.equals(ALL_TENANTS) || tenant.equals(tenantId));
   }
 
   public CompletableFuture<Result<ExecutableRules>> getExecutableRules(String tenantId,
     CollectionResourceClient circulationRulesClient) {
 
-    return getDrools(tenantId, circulationRulesClient)
-      .thenApply(r -> r.map(drools ->
-        new ExecutableRules(rulesMap.get(tenantId).getRulesAsText(), drools)));
+    log.info("getExecutableRules:: getting executable rules for tenant {}", tenantId);
+
+    // the text, engine and matches are taken from the same rules, in case they are rebuilt
+    return getOrFetchRules(tenantId, circulationRulesClient)
+      .thenApply(r -> r.map(rules -> new ExecutableRules(rules.getRulesAsText(),
+        rules.getRulesEngine(), rules.getMatchMemo())));
+  }
+
+  public CacheStatistics getMatchStatistics(String tenantId) {
+    return Optional.ofNullable(rulesMap.get(tenantId))
+      .map(Rules::getMatchMemo)
+      .map(RuleMatchMemo::getStatistics)
+      .orElseGet(CacheStatistics::empty);
   }
 
-  public CompletableFuture<Result<Drools>> getDrools(String tenantId,
+  public CompletableFuture<Result<RulesEngine>> getRulesEngine(String tenantId,
     CollectionResourceClient circulationRulesClient) {
 
-    log.info("getDrools:: getting Drools for tenant {}", tenantId);
+    log.info("getRulesEngine:: getting rules engine for tenant {}", tenantId);
+
+    return getOrFetchRules(tenantId, circulationRulesClient)
+      .thenApply(r -> r.map(Rules::getRulesEngine));
+  }
+
+  private CompletableFuture<Result<Rules>> getOrFetchRules(String tenantId,
+    CollectionResourceClient circulationRulesClient) {
 
     return Optional.ofNullable(getRules(tenantId))
-      .map(Rules::getDrools)
       .map(Result::ofAsync)
-      .orElseGet(() -> reloadRules(tenantId, circulationRulesClient));
+      .orElseGet(() -> fetchRules(tenantId, circulationRulesClient));
   }
 
   public void handleRulesUpdateEvent(DomainEvent<EntityChangedEventData> event) {
@@ -0,0 +1,76 @@
+package org.folio.circulation.rules.cache;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.RulesExecutionParameters;
+import org.folio.circulation.support.cache.CacheStatistics;
+import org.folio.circulation.support.cache.ExpiringCache;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Remembers the policy matched by a single version of the circulation rules
+ * for each combination of facts, so that the rules only need to be executed
+ * the first time a combination is seen.
+ * <p>
+ * A memo belongs to the rules it was created for, replacing the rules
+ * replaces the memo, so entries can never outlive the rules they were matched by.
+ */
+public class RuleMatchMemo {
+  private final long rulesVersion;
+  private final ExpiringCache<Facts, CirculationRuleMatch> matches;
+
+  public RuleMatchMemo(long rulesVersion, int maximumSize) {
+    this.rulesVersion = rulesVersion;
+    this.matches = ExpiringCache.withoutExpiry(maximumSize);
+  }
+
+  public static RuleMatchMemo disabled() {
+    return new RuleMatchMemo(0, 0);
+  }
+
+  /**
+   * Returns the remembered match for the facts, otherwise executes the rules,
+   * only successful matches are remembered
+   */
+  public Result<CirculationRuleMatch> getOrMatch(String policyType,
+    RulesExecutionParameters parameters, Supplier<Result<CirculationRuleMatch>> rulesExecutor) {
+
+    final Facts facts = Facts.from(rulesVersion, policyType, parameters);
+
+    return matches.get(facts)
+      .map(Result::succeeded)
+      .orElseGet(() -> rulesExecutor.get()
+        .map(match -> matches.put(facts, match)));
+  }
+
+  public long getRulesVersion() {
+    return rulesVersion;
+  }
+
+  public CacheStatistics getStatistics() {
+    return matches.getStatistics();
+  }
+
+  /**
+   * The facts that are inserted into a rules session, a match depends upon nothing else
+   */
+  private record Facts(long rulesVersion, String policyType, String materialTypeId,
+    String loanTypeId, String patronGroupId, String locationId, String institutionId,
+    String campusId, String libraryId) {
+
+    private static Facts from(long rulesVersion, String policyType,
+      RulesExecutionParameters parameters) {
+
+      final Optional<Location> location = Optional.ofNullable(parameters.getLocation());
+
+      return new Facts(rulesVersion, policyType, parameters.getMaterialTypeId(),
+        parameters.getLoanTypeId(), parameters.getPatronGroupId(), parameters.getLocationId(),
+        location.map(Location::getInstitutionId).orElse(null),
+        location.map(Location::getCampusId).orElse(null),
+        location.map(Location::getLibraryId).orElse(null));
+    }
+  }
+}
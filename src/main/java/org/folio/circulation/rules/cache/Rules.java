@@ -1,6 +1,6 @@
 package org.folio.circulation.rules.cache;
 
-import org.folio.circulation.rules.Drools;
+import org.folio.circulation.rules.RulesEngine;
 
 import lombok.Getter;
 import lombok.AllArgsConstructor;
@@ -10,14 +10,18 @@ import lombok.AllArgsConstructor;
 public class Rules {
   private final String rulesAsText;
   private final String rulesAsDrools;
-  private final Drools drools;
+  /** Drools or the decision tree compiled from the rules */
+  private final RulesEngine rulesEngine;
   /** System.currentTimeMillis() of the last load/reload of the rules from the storage */
   private final long reloadTimestamp;
+  /** policies matched by these rules */
+  private final RuleMatchMemo matchMemo;
 
   public Rules() {
     rulesAsText = "";
     rulesAsDrools = "";
-    drools = null;
+    rulesEngine = null;
     reloadTimestamp = 0;
+    matchMemo = RuleMatchMemo.disabled();
   }
 }
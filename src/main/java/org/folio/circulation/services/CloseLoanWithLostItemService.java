@@ -20,6 +20,7 @@ import org.folio.circulation.infrastructure.storage.feesandfines.AccountReposito
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.loans.LostItemPolicyRepository;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 public class CloseLoanWithLostItemService {
@@ -66,8 +67,10 @@ public class CloseLoanWithLostItemService {
 
   private CompletableFuture<Result<Loan>> fetchLoanFeeFineData(Loan loan) {
     return accountRepository.findAccountsForLoan(loan)
-      .thenComposeAsync(lostItemPolicyRepository::findLostItemPolicyForLoan)
-      .thenComposeAsync(r -> r.after(actualCostRecordRepository::findByLoan));
+      .thenComposeAsync(lostItemPolicyRepository::findLostItemPolicyForLoan,
+        ContextExecutor.forCurrentContext())
+      .thenComposeAsync(r -> r.after(actualCostRecordRepository::findByLoan),
+        ContextExecutor.forCurrentContext());
   }
 
   private CompletableFuture<Result<Loan>> closeLoanAsLostAndPaid(Loan loan,
@@ -34,6 +34,7 @@ import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTimeOptional;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -55,6 +56,7 @@ import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.resources.context.RenewalContext;
 import org.folio.circulation.support.HttpFailure;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
 
@@ -78,6 +80,7 @@ public class EventPublisher {
   public static final String NEW_DUE_DATE_FROM_PREVIOUS_DUE_DATE = "New due date: %s (from %s)";
 
   private final PubSubPublishingService pubSubPublishingService;
+  private final Executor executor = ContextExecutor.forCurrentContext();
   private WebContext webContext;
 
   public EventPublisher(RoutingContext routingContext) {
@@ -109,13 +112,14 @@ public class EventPublisher {
       runAsync(() -> userRepository.getUser(loanAndRelatedRecords.getLoggedInUserId())
         .thenApplyAsync(r -> r.after(loggedInUser -> completedFuture(
           succeeded(pubSubPublishingService.publishEvent(LOG_RECORD.name(),
-            mapToCheckOutLogEventContent(loanAndRelatedRecords, loggedInUser)))))));
+            mapToCheckOutLogEventContent(loanAndRelatedRecords, loggedInUser))))), executor),
+        executor);
 
       logger.info("publishItemCheckedOutEvent:: publishing ITEM_CHECKED_OUT event for loan {}",
         loan.getId());
       // run ITEM_CHECKED_OUT event publishing asynchronously to prevent any impact on the performance of check-out
       runAsync(() -> pubSubPublishingService.publishEvent(ITEM_CHECKED_OUT.name(),
-        payloadJsonObject.encode()));
+        payloadJsonObject.encode()), executor);
     } else {
       logger.error(FAILED_TO_PUBLISH_LOG_TEMPLATE, ITEM_CHECKED_OUT.name());
     }
@@ -137,7 +141,7 @@ public class EventPublisher {
         return userResult.after(loggedInUser -> CompletableFuture.completedFuture(
         Result.succeeded(pubSubPublishingService.publishEvent(LOG_RECORD.name(),
           mapToCheckInLogEventContent(checkInContext, loggedInUser, null)))));
-      }));
+      }, executor), executor);
 
     if (checkInContext.getLoan() != null) {
       Loan loan = checkInContext.getLoan();
@@ -172,7 +176,7 @@ public class EventPublisher {
 
     LoanLogContext loanLogContext = LoanLogContext.from(loan)
       .withDescription(String.format("Additional information: %s", loan.getActionComment()));
-    runAsync(() -> publishLogRecord(loanLogContext.asJson(), LOAN));
+    runAsync(() -> publishLogRecord(loanLogContext.asJson(), LOAN), executor);
 
     JsonObject payloadJson = new JsonObject();
     write(payloadJson, USER_ID_FIELD, loan.getUserId());
@@ -213,9 +217,9 @@ public class EventPublisher {
       write(payloadJsonObject, DUE_DATE_FIELD, loan.getDueDate());
       write(payloadJsonObject, DUE_DATE_CHANGED_BY_RECALL_FIELD, loan.wasDueDateChangedByRecall());
 
-      runAsync(() -> publishDueDateLogEvent(loan));
+      runAsync(() -> publishDueDateLogEvent(loan), executor);
       if (renewalContext) {
-        runAsync(() -> publishRenewedEvent(loan.copy().withUser(user)));
+        runAsync(() -> publishRenewedEvent(loan.copy().withUser(user)), executor);
       }
 
       return pubSubPublishingService.publishEvent(LOAN_DUE_DATE_CHANGED.name(), payloadJsonObject.encode())
@@ -388,7 +392,8 @@ public class EventPublisher {
   }
 
   public RequestAndRelatedRecords publishLogRecordAsync(RequestAndRelatedRecords requestAndRelatedRecords, Request originalRequest, LogEventType logEventType) {
-    runAsync(() -> publishLogRecord(mapToRequestLogEventJson(originalRequest, fetchRequestAndUpdateMetadata(requestAndRelatedRecords)), logEventType));
+    runAsync(() -> publishLogRecord(mapToRequestLogEventJson(originalRequest,
+      fetchRequestAndUpdateMetadata(requestAndRelatedRecords)), logEventType), executor);
     return requestAndRelatedRecords;
   }
 
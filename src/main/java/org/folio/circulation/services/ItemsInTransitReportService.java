@@ -11,6 +11,7 @@ import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -27,12 +28,16 @@ import org.folio.circulation.domain.Holdings;
 import org.folio.circulation.domain.Instance;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.PatronGroup;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.ServicePoint;
 import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.representations.ItemsInTransitReport;
+import org.folio.circulation.domain.representations.ItemsInTransitReportEntry;
 import org.folio.circulation.infrastructure.storage.ServicePointRepository;
+import org.folio.circulation.infrastructure.storage.cache.ItemsInTransitReportCache;
+import org.folio.circulation.infrastructure.storage.cache.ItemsInTransitReportCache.ReportSnapshot;
 import org.folio.circulation.infrastructure.storage.inventory.InstanceRepository;
 import org.folio.circulation.infrastructure.storage.inventory.ItemReportRepository;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
@@ -75,8 +80,62 @@ public class ItemsInTransitReportService {
   }
 
   public CompletableFuture<Result<JsonObject>> buildReport() {
+    return buildReportContext(this::fetchItems)
+      .thenApply(this::mapToJsonObject)
+      .whenComplete(this::handleResult);
+  }
+
+  /**
+   * Gets a page of the tenant's report, building only the entries for items changed
+   * since the report was last built, or the whole report when it has expired
+   */
+  public CompletableFuture<Result<MultipleRecords<JsonObject>>> getReport(String tenantId,
+    int offset, int limit) {
+
+    return getReportEntries(tenantId)
+      .thenApply(mapResult(entries -> toPage(entries, offset, limit)))
+      .whenComplete(this::handleResult);
+  }
+
+  private CompletableFuture<Result<List<ItemsInTransitReportEntry>>> getReportEntries(
+    String tenantId) {
+
+    final ItemsInTransitReportCache reportCache = ItemsInTransitReportCache.getInstance();
+
+    return reportCache.get(tenantId)
+      .map(snapshot -> snapshot.hasChanges()
+        ? refreshReportEntries(tenantId, snapshot)
+        : ofAsync(snapshot.entries()))
+      .orElseGet(() -> {
+        final long sequence = reportCache.beginBuild(tenantId);
+
+        return buildReportContext(this::fetchItems)
+          .thenApply(mapResult(this::mapToEntries))
+          .thenApply(mapResult(entries -> {
+            reportCache.store(tenantId, sequence, entries);
+            return entries;
+          }));
+      });
+  }
+
+  private CompletableFuture<Result<List<ItemsInTransitReportEntry>>> refreshReportEntries(
+    String tenantId, ReportSnapshot snapshot) {
+
+    log.info("refreshReportEntries:: rebuilding entries for {} changed items",
+      snapshot.changedItemIds().size());
+
+    return buildReportContext(context -> fetchItems(context, snapshot.changedItemIds()))
+      .thenApply(mapResult(this::mapToEntries))
+      .thenApply(mapResult(rebuiltEntries -> ItemsInTransitReportCache.getInstance()
+        .refresh(tenantId, snapshot, rebuiltEntries)));
+  }
+
+  private CompletableFuture<Result<ItemsInTransitReportContext>> buildReportContext(
+    Function<ItemsInTransitReportContext, CompletableFuture<Result<ItemsInTransitReportContext>>>
+      itemsFetcher) {
+
     return completedFuture(succeeded(new ItemsInTransitReportContext()))
-      .thenCompose(r -> r.after(this::fetchItems))
+      .thenCompose(r -> r.after(itemsFetcher))
       .thenCompose(r -> r.after(this::fetchHoldingsRecords))
       .thenCompose(r -> r.after(this::fetchInstances))
       .thenCompose(r -> r.after(this::fetchLocations))
@@ -84,12 +143,10 @@ public class ItemsInTransitReportService {
       .thenCompose(r -> r.after(this::fetchRequests))
       .thenCompose(r -> r.after(this::fetchUsers))
       .thenCompose(r -> r.after(this::fetchPatronGroups))
-      .thenCompose(r -> r.after(this::fetchServicePoints))
-      .thenApply(this::mapToJsonObject)
-      .whenComplete(this::handleResult);
+      .thenCompose(r -> r.after(this::fetchServicePoints));
   }
 
-  private void handleResult(Result<JsonObject> result, Throwable throwable) {
+  private <T> void handleResult(Result<T> result, Throwable throwable) {
     if (throwable != null) {
       log.error("An exception was caught while building the report", throwable);
     } else if (result != null) {
@@ -116,6 +173,15 @@ public class ItemsInTransitReportService {
       .thenApply(mapResult(context::withItems));
   }
 
+  private CompletableFuture<Result<ItemsInTransitReportContext>> fetchItems(
+    ItemsInTransitReportContext context, Collection<String> itemIds) {
+
+    return itemReportRepository.getItemsByIdsAndField(itemIds, "status.name",
+        IN_TRANSIT.getValue())
+      .thenApply(mapResult(items -> toMap(items.getRecords(), Item::getItemId)))
+      .thenApply(mapResult(context::withItems));
+  }
+
   private CompletableFuture<Result<ItemsInTransitReportContext>> fetchHoldingsRecords(
     ItemsInTransitReportContext context) {
 
@@ -225,6 +291,22 @@ public class ItemsInTransitReportService {
       .collect(Collectors.toMap(keyMapper, identity(), (left, right) -> left));
   }
 
+  private List<ItemsInTransitReportEntry> mapToEntries(ItemsInTransitReportContext context) {
+    return new ItemsInTransitReport(context).buildEntries();
+  }
+
+  private MultipleRecords<JsonObject> toPage(List<ItemsInTransitReportEntry> entries,
+    int offset, int limit) {
+
+    final List<JsonObject> page = entries.stream()
+      .skip(offset)
+      .limit(limit)
+      .map(ItemsInTransitReportEntry::getRepresentation)
+      .collect(Collectors.toList());
+
+    return new MultipleRecords<>(page, entries.size());
+  }
+
   private Result<JsonObject> mapToJsonObject(Result<ItemsInTransitReportContext> context) {
     return context.map(ItemsInTransitReport::new)
       .map(ItemsInTransitReport::build);
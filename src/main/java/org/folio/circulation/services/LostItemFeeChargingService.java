@@ -39,6 +39,7 @@ import org.folio.circulation.infrastructure.storage.users.PatronGroupRepository;
 import org.folio.circulation.services.actualcostrecord.ActualCostRecordService;
 import org.folio.circulation.services.support.CreateAccountCommand;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 import lombok.AllArgsConstructor;
@@ -129,7 +130,8 @@ public class LostItemFeeChargingService {
 
   private CompletableFuture<Result<Loan>> applyFees(ReferenceDataContext referenceData, Loan loan) {
     return fetchFeeFineTypes(succeeded(referenceData))
-    .thenComposeAsync(r -> r.after(actualCostRecordService::createIfNecessaryForDeclaredLostItem))
+    .thenComposeAsync(r -> r.after(actualCostRecordService::createIfNecessaryForDeclaredLostItem),
+      ContextExecutor.forCurrentContext())
     .thenApply(this::buildAccountsAndActions)
     .thenCompose(r -> r.after(feeFineFacade::createAccounts))
     .thenApply(r -> r.map(notUsed -> loan));
@@ -23,6 +23,7 @@ import org.folio.circulation.infrastructure.storage.ActualCostRecordRepository;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.services.CloseLoanWithLostItemService;
+import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.results.Result;
 
 public class ActualCostRecordExpirationService {
@@ -44,8 +45,10 @@ public class ActualCostRecordExpirationService {
   }
 
   public CompletableFuture<Result<Void>> expireActualCostRecords() {
-    return actualCostRecordRepository.findExpiredActualCostRecords()
-      .thenCompose(r -> r.after(this::processExpiredActualCostRecords))
+    return actualCostRecordRepository.expiredActualCostRecordsQuery()
+      .after(query -> PageableFetcher.inIdOrder(actualCostRecordRepository,
+          ActualCostRecord::getId)
+        .processPages(query, records -> processExpiredActualCostRecords(records.getRecords())))
       .whenComplete(this::logResult);
   }
 
@@ -53,7 +56,7 @@ public class ActualCostRecordExpirationService {
     Collection<ActualCostRecord> records) {
 
     if (records.isEmpty()) {
-      log.info("Found no expired actual cost records to process");
+      log.info("Found no more expired actual cost records to process");
       return emptyAsync();
     }
 
@@ -10,7 +10,6 @@ import static org.folio.circulation.domain.representations.LoanProperties.DATE_L
 import static org.folio.circulation.domain.representations.LoanProperties.ITEM_STATUS;
 import static org.folio.circulation.domain.representations.LoanProperties.LOST_ITEM_HAS_BEEN_BILLED;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
-import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThanOrEqualTo;
@@ -58,6 +57,8 @@ import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.services.FeeFineFacade;
 import org.folio.circulation.services.support.CreateAccountCommand;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.async.ContextExecutor;
+import org.folio.circulation.support.async.Throttle;
 import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.results.Result;
@@ -66,6 +67,7 @@ import lombok.val;
 
 public class ChargeLostFeesWhenAgedToLostService {
   private static final Logger log = LogManager.getLogger(ChargeLostFeesWhenAgedToLostService.class);
+  private static final String JOB_NAME = "age-to-lost-fee-charging";
 
   private final LostItemPolicyRepository lostItemPolicyRepository;
   private final FeeFineOwnerRepository feeFineOwnerRepository;
@@ -79,6 +81,7 @@ public class ChargeLostFeesWhenAgedToLostService {
   private final PageableFetcher<Loan> loanPageableFetcher;
   private final FeeFineScheduledNoticeService feeFineScheduledNoticeService;
   private final ActualCostRecordService actualCostRecordService;
+  private final Throttle throttle;
 
   public ChargeLostFeesWhenAgedToLostService(Clients clients,
     ItemRepository itemRepository, UserRepository userRepository) {
@@ -93,11 +96,12 @@ public class ChargeLostFeesWhenAgedToLostService {
     this.storeLoanAndItem = new StoreLoanAndItem(loanRepository,
       itemRepository);
     this.eventPublisher = new EventPublisher(clients.pubSubPublishingService());
-    this.loanPageableFetcher = new PageableFetcher<>(loanRepository);
+    this.loanPageableFetcher = PageableFetcher.inIdOrder(loanRepository, Loan::getId);
     this.feeFineScheduledNoticeService = FeeFineScheduledNoticeService.using(clients);
     this.actualCostRecordService = new ActualCostRecordService(new ActualCostRecordRepository(clients),
       LocationRepository.using(clients, new ServicePointRepository(clients)),
       new IdentifierTypeRepository(clients), new PatronGroupRepository(clients));
+    this.throttle = Throttle.forJob(clients.getTenantId(), JOB_NAME);
   }
 
   public CompletableFuture<Result<Void>> chargeFees() {
@@ -128,7 +132,7 @@ public class ChargeLostFeesWhenAgedToLostService {
     Result<List<LoanToChargeFees>> loansToChargeFeesResult) {
 
     return loansToChargeFeesResult
-      .after(loans -> allOf(loans, this::chargeLostFees))
+      .after(loans -> allOf(loans, throttle, this::chargeLostFees))
       .thenApply(Result::mapEmpty);
   }
 
@@ -251,7 +255,8 @@ public class ChargeLostFeesWhenAgedToLostService {
     return itemRepository.fetchItemsFor(succeeded(loans), Loan::withItem)
       .thenApply(r -> r.next(this::excludeLoansWithNonexistentItems))
       .thenCompose(r -> r.after(userRepository::findUsersForLoans))
-      .thenComposeAsync(r -> r.after(lostItemPolicyRepository::findLostItemPoliciesForLoans));
+      .thenComposeAsync(r -> r.after(lostItemPolicyRepository::findLostItemPoliciesForLoans),
+        ContextExecutor.forCurrentContext());
   }
 
   private Result<MultipleRecords<Loan>> excludeLoansWithNonexistentItems(
@@ -273,9 +278,9 @@ public class ChargeLostFeesWhenAgedToLostService {
     final Result<CqlQuery> hasNotBeenBilledQuery = exactMatch(
       lostItemHasBeenBilled, "false");
 
+    // loans are fetched in id order, see PageableFetcher
     return billingDateQuery.combine(agedToLostQuery, CqlQuery::and)
-      .combine(hasNotBeenBilledQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending(billingDateProperty)));
+      .combine(hasNotBeenBilledQuery, CqlQuery::and);
   }
 
   private Result<LoanToChargeFees> validateCanCreateAccountForLoan(LoanToChargeFees loanToChargeFees) {
@@ -4,7 +4,6 @@ import static org.folio.circulation.domain.ItemStatus.AGED_TO_LOST;
 import static org.folio.circulation.domain.ItemStatus.CLAIMED_RETURNED;
 import static org.folio.circulation.domain.ItemStatus.DECLARED_LOST;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
-import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThan;
 import static org.folio.circulation.support.http.client.CqlQuery.notEqual;
@@ -28,6 +27,7 @@ import org.folio.circulation.infrastructure.storage.loans.LostItemPolicyReposito
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.async.Throttle;
 import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.results.Result;
@@ -35,6 +35,7 @@ import org.folio.circulation.support.utils.ClockUtil;
 
 public class MarkOverdueLoansAsAgedLostService {
   private static final Logger log = LogManager.getLogger(MarkOverdueLoansAsAgedLostService.class);
+  private static final String JOB_NAME = "age-to-lost";
 
   private final LostItemPolicyRepository lostItemPolicyRepository;
   private final ItemRepository itemRepository;
@@ -43,6 +44,7 @@ public class MarkOverdueLoansAsAgedLostService {
   private final PageableFetcher<Loan> loanPageableFetcher;
   private final LoanScheduledNoticeService loanScheduledNoticeService;
   private final UserRepository userRepository;
+  private final Throttle throttle;
 
   public MarkOverdueLoansAsAgedLostService(Clients clients,
     ItemRepository itemRepository, LoanRepository loanRepository) {
@@ -51,9 +53,10 @@ public class MarkOverdueLoansAsAgedLostService {
     this.lostItemPolicyRepository = new LostItemPolicyRepository(clients);
     this.storeLoanAndItem = new StoreLoanAndItem(loanRepository, itemRepository);
     this.eventPublisher = new EventPublisher(clients.pubSubPublishingService());
-    this.loanPageableFetcher = new PageableFetcher<>(loanRepository);
+    this.loanPageableFetcher = PageableFetcher.inIdOrder(loanRepository, Loan::getId);
     this.loanScheduledNoticeService = LoanScheduledNoticeService.using(clients);
     this.userRepository = new UserRepository(clients);
+    this.throttle = Throttle.forJob(clients.getTenantId(), JOB_NAME);
   }
 
   public CompletableFuture<Result<Void>> processAgeToLost() {
@@ -82,7 +85,8 @@ public class MarkOverdueLoansAsAgedLostService {
   private CompletableFuture<Result<List<Loan>>> publishAgedToLostEvents(
     Result<List<Loan>> allLoansResult) {
 
-    return allLoansResult.after(allLoans -> allOf(allLoans, eventPublisher::publishAgedToLostEvents))
+    return allLoansResult.after(allLoans -> allOf(allLoans, throttle,
+      eventPublisher::publishAgedToLostEvents))
       .thenApply(r -> r.next(ignored -> allLoansResult));
   }
 
@@ -112,7 +116,7 @@ public class MarkOverdueLoansAsAgedLostService {
 
     return loanRecordsResult
       .map(MultipleRecords::getRecords)
-      .after(loans -> allOf(loans, storeLoanAndItem::updateLoanAndItemInStorage));
+      .after(loans -> allOf(loans, throttle, storeLoanAndItem::updateLoanAndItemInStorage));
   }
 
   private Result<MultipleRecords<Loan>> getLoansThatHaveToBeAgedToLost(
@@ -145,11 +149,11 @@ public class MarkOverdueLoansAsAgedLostService {
     final Result<CqlQuery> agedToLostQuery = notEqual("itemStatus", AGED_TO_LOST.getValue());
     final Result<CqlQuery> declaredLostQuery = notEqual("itemStatus", DECLARED_LOST.getValue());
 
+    // loans are fetched in id order, see PageableFetcher
     return statusQuery.combine(dueDateQuery, CqlQuery::and)
       .combine(claimedReturnedQuery, CqlQuery::and)
       .combine(agedToLostQuery, CqlQuery::and)
-      .combine(declaredLostQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending("dueDate")));
+      .combine(declaredLostQuery, CqlQuery::and);
   }
 
   private CompletableFuture<Result<Void>> scheduleAgedToLostNotices(Result<List<Loan>> result) {
@@ -0,0 +1,51 @@
+package org.folio.circulation.services.events;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.kafka.client.consumer.KafkaConsumerRecord;
+import io.vertx.kafka.client.producer.KafkaHeader;
+
+/**
+ * Reads the parts of change events published by inventory storage that are needed
+ * to invalidate cached records
+ */
+final class InventoryStorageEvents {
+  private static final String TENANT_HEADER = "X-Okapi-Tenant";
+
+  private InventoryStorageEvents() { }
+
+  static String getTenantId(JsonObject event,
+    KafkaConsumerRecord<String, String> consumerRecord) {
+
+    return Optional.ofNullable(event.getString("tenant"))
+      .orElseGet(() -> consumerRecord.headers().stream()
+        .filter(header -> TENANT_HEADER.equalsIgnoreCase(header.key()))
+        .map(KafkaHeader::value)
+        .map(String::valueOf)
+        .findFirst()
+        .orElse(null));
+  }
+
+  /**
+   * The new and old versions of the record, either of which may be missing
+   */
+  static Stream<JsonObject> getVersions(JsonObject event) {
+    // storage modules either wrap the versions in a data property or put them at the top level
+    final JsonObject versions = Optional.ofNullable(event.getJsonObject("data"))
+      .orElse(event);
+
+    return Stream.of(versions.getJsonObject("new"), versions.getJsonObject("old"))
+      .filter(Objects::nonNull);
+  }
+
+  static String getRecordId(JsonObject event) {
+    return getVersions(event)
+      .map(version -> version.getString("id"))
+      .filter(Objects::nonNull)
+      .findFirst()
+      .orElse(null);
+  }
+}
@@ -0,0 +1,65 @@
+package org.folio.circulation.services.events;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.circulation.domain.ItemStatus.IN_TRANSIT;
+import static org.folio.circulation.services.events.InventoryStorageEvents.getRecordId;
+import static org.folio.circulation.services.events.InventoryStorageEvents.getTenantId;
+import static org.folio.circulation.services.events.InventoryStorageEvents.getVersions;
+
+import org.folio.circulation.infrastructure.storage.cache.ItemsInTransitReportCache;
+import org.folio.kafka.AsyncRecordHandler;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.kafka.client.consumer.KafkaConsumerRecord;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Remembers changes to items that are, or were, in transit, so that their entries
+ * in the items in transit report are built again.
+ * <p>
+ * When the items cannot be identified (e.g. all items are deleted), the whole report
+ * is invalidated for the tenant.
+ */
+@Log4j2
+public class ItemsInTransitReportUpdateEventHandler implements AsyncRecordHandler<String, String> {
+  private static final String DELETE_ALL_EVENT_TYPE = "DELETE_ALL";
+
+  @Override
+  public Future<String> handle(KafkaConsumerRecord<String, String> consumerRecord) {
+    try {
+      final String eventKey = consumerRecord.key();
+      log.debug("handle:: item event received: key={}", eventKey);
+
+      final JsonObject event = new JsonObject(consumerRecord.value());
+      final String tenantId = getTenantId(event, consumerRecord);
+
+      if (isBlank(tenantId)) {
+        throw new IllegalArgumentException("Event does not identify a tenant: " + eventKey);
+      }
+
+      final ItemsInTransitReportCache reportCache = ItemsInTransitReportCache.getInstance();
+
+      if (DELETE_ALL_EVENT_TYPE.equals(event.getString("type"))) {
+        reportCache.invalidate(tenantId);
+      }
+      else if (isOrWasInTransit(event)) {
+        reportCache.itemChanged(tenantId, getRecordId(event));
+      }
+
+      return succeededFuture(eventKey);
+    } catch (Exception e) {
+      log.error("handle:: failed to process item event", e);
+      return failedFuture(e);
+    }
+  }
+
+  private static boolean isOrWasInTransit(JsonObject event) {
+    return getVersions(event)
+      .map(item -> item.getJsonObject("status"))
+      .anyMatch(status -> status != null
+        && IN_TRANSIT.getValue().equals(status.getString("name")));
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.circulation.services.events;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.circulation.services.events.InventoryStorageEvents.getRecordId;
+import static org.folio.circulation.services.events.InventoryStorageEvents.getTenantId;
+
+import org.folio.circulation.infrastructure.storage.cache.ReferenceDataCache;
+import org.folio.circulation.infrastructure.storage.cache.ReferenceDataType;
+import org.folio.kafka.AsyncRecordHandler;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.kafka.client.consumer.KafkaConsumerRecord;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Invalidates cached reference data when a record is changed in inventory storage.
+ * <p>
+ * Any change to a record (including deletion) invalidates that record, when the
+ * record cannot be identified all records of that type are invalidated for the tenant.
+ */
+@Log4j2
+public class ReferenceDataUpdateEventHandler implements AsyncRecordHandler<String, String> {
+  private final ReferenceDataType referenceDataType;
+
+  public ReferenceDataUpdateEventHandler(ReferenceDataType referenceDataType) {
+    this.referenceDataType = referenceDataType;
+  }
+
+  @Override
+  public Future<String> handle(KafkaConsumerRecord<String, String> consumerRecord) {
+    try {
+      final String eventKey = consumerRecord.key();
+      log.info("handle:: {} event received: key={}", referenceDataType, eventKey);
+      log.debug("handle:: value={}", consumerRecord::value);
+
+      final JsonObject event = new JsonObject(consumerRecord.value());
+      final String tenantId = getTenantId(event, consumerRecord);
+
+      if (isBlank(tenantId)) {
+        throw new IllegalArgumentException("Event does not identify a tenant: " + eventKey);
+      }
+
+      ReferenceDataCache.getInstance()
+        .invalidate(tenantId, referenceDataType, getRecordId(event));
+
+      log.info("handle:: {} event processed: {}", referenceDataType, eventKey);
+      return succeededFuture(eventKey);
+    } catch (Exception e) {
+      log.error("handle:: failed to process {} event", referenceDataType, e);
+      return failedFuture(e);
+    }
+  }
+}
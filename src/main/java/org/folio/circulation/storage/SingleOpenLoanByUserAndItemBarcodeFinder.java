@@ -13,6 +13,7 @@ import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.resources.renewal.RenewByBarcodeRequest;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 public class SingleOpenLoanByUserAndItemBarcodeFinder {
@@ -42,9 +43,11 @@ public class SingleOpenLoanByUserAndItemBarcodeFinder {
       this.userRepository, false);
 
     return itemFinder.findItemByBarcode(itemBarcode)
-      .thenComposeAsync(itemResult -> itemResult.after(singleOpenLoanFinder::findSingleOpenLoan))
+      .thenComposeAsync(itemResult -> itemResult.after(singleOpenLoanFinder::findSingleOpenLoan),
+        ContextExecutor.forCurrentContext())
       .thenApply(UserNotFoundValidator::refuseWhenUserNotFound)
-      .thenComposeAsync(loanResult -> loanResult.after(refuseWhenUserDoesNotMatch(userBarcode)));
+      .thenComposeAsync(loanResult -> loanResult.after(refuseWhenUserDoesNotMatch(userBarcode)),
+        ContextExecutor.forCurrentContext());
   }
 
   private Function<Loan, CompletableFuture<Result<Loan>>> refuseWhenUserDoesNotMatch(
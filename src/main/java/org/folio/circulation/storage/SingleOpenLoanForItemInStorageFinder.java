@@ -18,6 +18,7 @@ import org.folio.circulation.domain.validation.MoreThanOneLoanValidator;
 import org.folio.circulation.domain.validation.NoLoanValidator;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
+import org.folio.circulation.support.async.ContextExecutor;
 import org.folio.circulation.support.results.Result;
 
 public class SingleOpenLoanForItemInStorageFinder {
@@ -46,7 +47,7 @@ public class SingleOpenLoanForItemInStorageFinder {
       .thenApply(loanResult -> loanResult.map(this::getFirstLoan))
       .thenApply(checkForNoLoanIfNeeded(noLoanValidator, allowNoLoanToBeFound))
       .thenApply(loanResult -> loanResult.map(loan -> mapPossibleSingleLoan(loan, item)))
-      .thenComposeAsync(this::fetchUser)
+      .thenComposeAsync(this::fetchUser, ContextExecutor.forCurrentContext())
       .thenApply(loanResult -> loanResult.map(possibleLoan -> possibleLoan.orElse(null)));
   }
 
@@ -1,6 +1,9 @@
 package org.folio.circulation.support;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.util.ArrayList;
@@ -9,11 +12,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.folio.circulation.support.async.ContextExecutor;
+import org.folio.circulation.support.async.Throttle;
 import org.folio.circulation.support.results.Result;
 
 public class AsyncCoordinationUtil {
@@ -48,6 +57,36 @@ public class AsyncCoordinationUtil {
       .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
   }
 
+  /**
+   * Applies {@code asyncAction} to all the elements in {@code collection},
+   * no faster than {@code throttle} allows, and combines results to list
+   */
+  public static <T, R> CompletableFuture<Result<List<R>>> allOf(
+    Collection<T> collection, Throttle throttle,
+    Function<T, CompletableFuture<Result<R>>> asyncAction) {
+
+    return allResultsOf(collection, throttle, asyncAction)
+      .thenApply(Result::combineAll);
+  }
+
+  /**
+   * Applies {@code asyncAction} to the elements in {@code collection} in order,
+   * starting the next when fewer than the maximum concurrency of {@code throttle}
+   * are in progress and (when limited) enough time has passed since the previous,
+   * and returns a CompletableFuture with a list of all results
+   */
+  public static <T, R> CompletableFuture<List<Result<R>>> allResultsOf(
+    Collection<T> collection, Throttle throttle,
+    Function<T, CompletableFuture<Result<R>>> asyncAction) {
+
+    if (throttle.isUnlimited()) {
+      return allResultsOf(collection, asyncAction);
+    }
+
+    return new ThrottledActions<>(new ArrayList<>(collection), throttle, asyncAction)
+      .start();
+  }
+
   /**
    * Applies BiFunction {@code asyncAction} to all key-value pairs in {@code map}
    * and combines results to list
@@ -113,4 +152,135 @@ public class AsyncCoordinationUtil {
 
     return future.thenApply(r -> r.map(ignored -> results));
   }
+
+  private static class ThrottledActions<T, R> {
+    private final List<T> elements;
+    private final Function<T, CompletableFuture<Result<R>>> asyncAction;
+    private final int maximumConcurrency;
+    private final long nanosBetweenStarts;
+    private final Executor executor = ContextExecutor.forCurrentContext();
+    private final AtomicReferenceArray<Result<R>> results;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final CompletableFuture<List<Result<R>>> allCompleted = new CompletableFuture<>();
+    private long nextStart = System.nanoTime();
+
+    private ThrottledActions(List<T> elements, Throttle throttle,
+      Function<T, CompletableFuture<Result<R>>> asyncAction) {
+
+      this.elements = elements;
+      this.asyncAction = asyncAction;
+      this.maximumConcurrency = throttle.getMaximumConcurrency() > 0
+        ? throttle.getMaximumConcurrency()
+        : elements.size();
+      this.nanosBetweenStarts = throttle.getMaximumPerSecond() > 0
+        ? TimeUnit.SECONDS.toNanos(1) / throttle.getMaximumPerSecond()
+        : 0;
+      this.results = new AtomicReferenceArray<>(elements.size());
+      this.remaining = new AtomicInteger(elements.size());
+    }
+
+    private CompletableFuture<List<Result<R>>> start() {
+      if (elements.isEmpty()) {
+        return completedFuture(new ArrayList<>());
+      }
+
+      for (int lane = 0; lane < Math.min(maximumConcurrency, elements.size()); lane++) {
+        takeNext();
+      }
+
+      return allCompleted;
+    }
+
+    /**
+     * Keeps starting actions until one is still in progress (which takes the next
+     * when it completes) or has to wait, so that actions completing immediately
+     * do not build up the stack
+     */
+    private void takeNext() {
+      int index;
+
+      while ((index = nextIndex.getAndIncrement()) < elements.size()) {
+        final long delay = reserveStart();
+
+        if (delay > 0) {
+          final int delayedIndex = index;
+
+          delayedExecutor(delay, NANOSECONDS, executor).execute(() -> {
+            if (run(delayedIndex)) {
+              takeNext();
+            }
+          });
+
+          return;
+        }
+
+        if (!run(index)) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * @return whether the action has already completed
+     */
+    private boolean run(int index) {
+      final CompletableFuture<Result<R>> future = apply(elements.get(index));
+
+      if (future.isDone()) {
+        future.whenComplete((result, error) -> completed(index, result, error));
+
+        return true;
+      }
+
+      future.whenComplete((result, error) -> {
+        completed(index, result, error);
+        takeNext();
+      });
+
+      return false;
+    }
+
+    private CompletableFuture<Result<R>> apply(T element) {
+      try {
+        return asyncAction.apply(element);
+      }
+      catch (RuntimeException e) {
+        return failedFuture(e);
+      }
+    }
+
+    private void completed(int index, Result<R> result, Throwable error) {
+      if (error != null) {
+        nextIndex.set(elements.size());
+        allCompleted.completeExceptionally(error);
+
+        return;
+      }
+
+      results.set(index, result);
+
+      if (remaining.decrementAndGet() == 0) {
+        final List<Result<R>> allResults = new ArrayList<>(elements.size());
+
+        for (int i = 0; i < elements.size(); i++) {
+          allResults.add(results.get(i));
+        }
+
+        allCompleted.complete(allResults);
+      }
+    }
+
+    /**
+     * @return how long to wait before starting the next action
+     */
+    private synchronized long reserveStart() {
+      final long now = System.nanoTime();
+      final long start = Math.max(now, nextStart);
+
+      nextStart = start + nanosBetweenStarts;
+
+      return start - now;
+    }
+  }
 }
@@ -10,6 +10,7 @@ import org.folio.circulation.support.http.server.WebContext;
 import io.vertx.core.http.HttpClient;
 
 public class Clients {
+  private final String tenantId;
   private final CollectionResourceClient requestsStorageClient;
   private final CollectionResourceClient requestsBatchStorageClient;
   private final CollectionResourceClient cancellationReasonStorageClient;
@@ -75,6 +76,8 @@ public class Clients {
   }
 
   private Clients(OkapiHttpClient client, WebContext context) {
+    tenantId = context.getTenantId();
+
     try {
       requestsStorageClient = createRequestsStorageClient(client, context);
       requestsBatchStorageClient = createRequestsBatchStorageClient(client, context);
@@ -142,6 +145,10 @@ public class Clients {
     }
   }
 
+  public String getTenantId() {
+    return tenantId;
+  }
+
   public CollectionResourceClient requestsStorage() {
     return requestsStorageClient;
   }
@@ -2,12 +2,16 @@ package org.folio.circulation.support;
 
 import static java.lang.String.format;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 import static org.folio.circulation.support.http.client.Offset.noOffset;
 
 import java.net.URL;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.circulation.support.async.WriteCoalescer;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.Offset;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
@@ -20,10 +24,33 @@ import io.vertx.core.json.JsonObject;
 public class CollectionResourceClient implements GetManyRecordsClient {
   private final OkapiHttpClient client;
   private final URL collectionRoot;
+  /** only present when deletes by id are coalesced */
+  private final WriteCoalescer<String, Response> deletions;
 
   public CollectionResourceClient(OkapiHttpClient client, URL collectionRoot) {
     this.collectionRoot = collectionRoot;
     this.client = client;
+    this.deletions = null;
+  }
+
+  private CollectionResourceClient(OkapiHttpClient client, URL collectionRoot,
+    int maximumBatchSize, Duration window) {
+
+    this.collectionRoot = collectionRoot;
+    this.client = client;
+    this.deletions = new WriteCoalescer<>(maximumBatchSize, window, this::deleteAll);
+  }
+
+  /**
+   * Creates a client for the same collection which deletes records by id together with
+   * any others deleted within the window (e.g. by the concurrent actions of a batch job),
+   * using a single request to delete them by CQL query. Every delete in a batch responds
+   * with the response to that request.
+   */
+  public CollectionResourceClient withCoalescedDeletes(int maximumBatchSize,
+    Duration window) {
+
+    return new CollectionResourceClient(client, collectionRoot, maximumBatchSize, window);
   }
 
   public CompletableFuture<Result<Response>> post(JsonObject representation, Object... pathVariables) {
@@ -46,6 +73,10 @@ public class CollectionResourceClient implements GetManyRecordsClient {
   }
 
   public CompletableFuture<Result<Response>> delete(String id) {
+    if (deletions != null) {
+      return deletions.write(id);
+    }
+
     return client.delete(individualRecordUrl(id));
   }
 
@@ -109,6 +140,14 @@ public class CollectionResourceClient implements GetManyRecordsClient {
     return client.get(collectionRoot, cqlQuery, pageLimit, offset);
   }
 
+  private CompletableFuture<Result<Response>> deleteAll(List<String> ids) {
+    if (ids.size() == 1) {
+      return client.delete(individualRecordUrl(ids.get(0)));
+    }
+
+    return exactMatchAny("id", ids).after(this::deleteMany);
+  }
+
   private String individualRecordUrl(String id) {
     return format("%s/%s", collectionRoot, id);
   }
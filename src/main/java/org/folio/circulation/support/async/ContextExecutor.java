@@ -0,0 +1,37 @@
+package org.folio.circulation.support.async;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Runs tasks on a Vert.x context, so that asynchronous steps of a request
+ * stay on the context the request is handled on, rather than moving to
+ * the common fork join pool
+ */
+public class ContextExecutor implements Executor {
+  private final Context context;
+
+  private ContextExecutor(Context context) {
+    this.context = context;
+  }
+
+  /**
+   * An executor for the context of the calling thread, or the common fork join pool
+   * when not called from a Vert.x thread (e.g. in unit tests)
+   */
+  public static Executor forCurrentContext() {
+    final Context context = Vertx.currentContext();
+
+    return context == null
+      ? ForkJoinPool.commonPool()
+      : new ContextExecutor(context);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    context.runOnContext(v -> command.run());
+  }
+}
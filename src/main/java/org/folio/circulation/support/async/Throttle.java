@@ -0,0 +1,87 @@
+package org.folio.circulation.support.async;
+
+import static org.folio.Environment.getBatchConcurrencyLimits;
+import static org.folio.Environment.getBatchRateLimits;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import lombok.Value;
+
+/**
+ * Limits how many asynchronous actions (e.g. requests to storage made by batch jobs)
+ * are in progress at once and how many are started each second, zero meaning no limit.
+ * <p>
+ * The limits for a job can be configured for all tenants or for a specific tenant,
+ * as a comma separated list of {@code <scope>=<limit>} entries, where the scope is
+ * {@code *} (every job), {@code <job>}, {@code <tenant>/*} or {@code <tenant>/<job>},
+ * the most specific matching entry being used, e.g. {@code *=10,age-to-lost=5,diku/*=20}
+ */
+@Value
+public class Throttle {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final int DEFAULT_MAXIMUM_CONCURRENCY = 10;
+
+  int maximumConcurrency;
+  int maximumPerSecond;
+
+  public static Throttle unlimited() {
+    return new Throttle(0, 0);
+  }
+
+  public static Throttle of(int maximumConcurrency, int maximumPerSecond) {
+    return new Throttle(Math.max(0, maximumConcurrency), Math.max(0, maximumPerSecond));
+  }
+
+  public static Throttle forJob(String tenantId, String job) {
+    final Throttle throttle = of(
+      limitFor(getBatchConcurrencyLimits(), tenantId, job, DEFAULT_MAXIMUM_CONCURRENCY),
+      limitFor(getBatchRateLimits(), tenantId, job, 0));
+
+    log.debug("forJob:: parameters tenantId: {}, job: {}, result: {}", tenantId, job, throttle);
+
+    return throttle;
+  }
+
+  public boolean isUnlimited() {
+    return maximumConcurrency == 0 && maximumPerSecond == 0;
+  }
+
+  static int limitFor(String limits, String tenantId, String job, int defaultLimit) {
+    final Map<String, Integer> limitsByScope = parse(limits);
+
+    return Stream.of(tenantId + "/" + job, tenantId + "/*", job, "*")
+      .filter(limitsByScope::containsKey)
+      .map(limitsByScope::get)
+      .findFirst()
+      .orElse(defaultLimit);
+  }
+
+  private static Map<String, Integer> parse(String limits) {
+    final Map<String, Integer> limitsByScope = new HashMap<>();
+
+    for (String entry : StringUtils.split(StringUtils.defaultString(limits), ',')) {
+      final String[] scopeAndLimit = entry.split("=", 2);
+
+      try {
+        if (scopeAndLimit.length == 1) {
+          limitsByScope.put("*", Integer.parseInt(scopeAndLimit[0].trim()));
+        } else {
+          limitsByScope.put(scopeAndLimit[0].trim(), Integer.parseInt(scopeAndLimit[1].trim()));
+        }
+      }
+      catch (NumberFormatException e) {
+        log.warn("parse:: invalid limit '{}' in '{}'", entry, limits);
+      }
+    }
+
+    return limitsByScope;
+  }
+}
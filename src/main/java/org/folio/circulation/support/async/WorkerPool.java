@@ -0,0 +1,89 @@
+package org.folio.circulation.support.async;
+
+import static org.folio.Environment.getWorkerPoolQueueSize;
+import static org.folio.Environment.getWorkerPoolSize;
+import static org.folio.circulation.support.results.Result.failed;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * A bounded pool of threads for CPU heavy steps (e.g. executing circulation rules),
+ * so that they neither hold up a Vert.x context nor compete for the common fork join pool.
+ * <p>
+ * When all of the threads are busy and the queue is full, tasks are rejected rather than
+ * being run by the thread submitting them, which is usually a Vert.x event loop.
+ */
+public class WorkerPool implements Executor {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final WorkerPool instance = new WorkerPool(getWorkerPoolSize(),
+    getWorkerPoolQueueSize());
+
+  private final ThreadPoolExecutor executor;
+
+  WorkerPool(int size, int queueSize) {
+    log.info("WorkerPool:: size: {}, queue size: {}", size, queueSize);
+
+    executor = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+      new ArrayBlockingQueue<>(queueSize), new WorkerThreadFactory(),
+      new ThreadPoolExecutor.AbortPolicy());
+
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  public static WorkerPool getInstance() {
+    return instance;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    executor.execute(command);
+  }
+
+  /**
+   * Fails the result of a step that was rejected because the pool was saturated,
+   * any other exception is passed on
+   */
+  public static <T> Result<T> failWhenRejected(Throwable throwable) {
+    final Throwable cause = throwable instanceof CompletionException
+      && throwable.getCause() != null ? throwable.getCause() : throwable;
+
+    if (cause instanceof RejectedExecutionException) {
+      log.warn("failWhenRejected:: worker pool is saturated");
+
+      return failed(new ServerErrorFailure(
+        "Too many requests are being processed, please try again later"));
+    }
+
+    throw throwable instanceof CompletionException completionException
+      ? completionException
+      : new CompletionException(throwable);
+  }
+
+  private static class WorkerThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      final Thread thread = new Thread(runnable,
+        "circulation-worker-" + threadNumber.incrementAndGet());
+
+      thread.setDaemon(true);
+
+      return thread;
+    }
+  }
+}
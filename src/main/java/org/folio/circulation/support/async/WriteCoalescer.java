@@ -0,0 +1,126 @@
+package org.folio.circulation.support.async;
+
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Coalesces writes of individual records made within a short window of each other
+ * (e.g. by the concurrent actions of a batch job) into batches, which are written
+ * together by a single request to storage.
+ * <p>
+ * A batch is written once it reaches the maximum size, or when the window has passed
+ * since the first record in it was added. Every write in a batch completes with the
+ * result of writing the batch.
+ *
+ * @param <T> type of the records written
+ * @param <R> type of the result of writing a batch
+ */
+public class WriteCoalescer<T, R> {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final int maximumBatchSize;
+  private final Duration window;
+  private final Function<List<T>, CompletableFuture<Result<R>>> batchWriter;
+  private final Executor executor = ContextExecutor.forCurrentContext();
+  private List<PendingWrite<T, R>> pending = new ArrayList<>();
+  /** incremented every time a batch is taken, so that a late timer does not cut the next short */
+  private long generation;
+
+  public WriteCoalescer(int maximumBatchSize, Duration window,
+    Function<List<T>, CompletableFuture<Result<R>>> batchWriter) {
+
+    this.maximumBatchSize = Math.max(1, maximumBatchSize);
+    this.window = window;
+    this.batchWriter = batchWriter;
+  }
+
+  /**
+   * Adds the record to the next batch, completing once that batch has been written
+   */
+  public CompletableFuture<Result<R>> write(T record) {
+    final CompletableFuture<Result<R>> written = new CompletableFuture<>();
+    final List<PendingWrite<T, R>> batch;
+
+    synchronized (this) {
+      pending.add(new PendingWrite<>(record, written));
+
+      if (pending.size() >= maximumBatchSize || window.isZero() || window.isNegative()) {
+        batch = takePending();
+      }
+      else {
+        if (pending.size() == 1) {
+          writeAfterWindow(generation);
+        }
+
+        batch = List.of();
+      }
+    }
+
+    writeBatch(batch);
+
+    return written;
+  }
+
+  private void writeAfterWindow(long batchGeneration) {
+    delayedExecutor(window.toNanos(), NANOSECONDS, executor).execute(() -> {
+      final List<PendingWrite<T, R>> batch;
+
+      synchronized (this) {
+        batch = generation == batchGeneration ? takePending() : List.of();
+      }
+
+      writeBatch(batch);
+    });
+  }
+
+  private List<PendingWrite<T, R>> takePending() {
+    final List<PendingWrite<T, R>> batch = pending;
+
+    pending = new ArrayList<>();
+    generation++;
+
+    return batch;
+  }
+
+  private void writeBatch(List<PendingWrite<T, R>> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    log.debug("writeBatch:: writing batch of {} records", batch::size);
+
+    apply(batch.stream().map(PendingWrite::record).toList())
+      .whenComplete((result, error) -> batch.forEach(write -> {
+        if (error != null) {
+          write.written().completeExceptionally(error);
+        }
+        else {
+          write.written().complete(result);
+        }
+      }));
+  }
+
+  private CompletableFuture<Result<R>> apply(List<T> records) {
+    try {
+      return batchWriter.apply(records);
+    }
+    catch (RuntimeException e) {
+      return failedFuture(e);
+    }
+  }
+
+  private record PendingWrite<T, R>(T record, CompletableFuture<Result<R>> written) { }
+}
@@ -0,0 +1,31 @@
+package org.folio.circulation.support.cache;
+
+import io.vertx.core.json.JsonObject;
+
+public record CacheStatistics(long hits, long misses, long evictions, int size) {
+  public static CacheStatistics empty() {
+    return new CacheStatistics(0, 0, 0, 0);
+  }
+
+  public long requests() {
+    return hits + misses;
+  }
+
+  public double hitRate() {
+    return requests() == 0 ? 0 : (double) hits / requests();
+  }
+
+  public CacheStatistics add(CacheStatistics other) {
+    return new CacheStatistics(hits + other.hits, misses + other.misses,
+      evictions + other.evictions, size + other.size);
+  }
+
+  public JsonObject toJson() {
+    return new JsonObject()
+      .put("hits", hits)
+      .put("misses", misses)
+      .put("evictions", evictions)
+      .put("size", size)
+      .put("hitRate", hitRate());
+  }
+}
@@ -0,0 +1,236 @@
+package org.folio.circulation.support.cache;
+
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.folio.circulation.support.results.Result;
+
+/**
+ * In-memory cache with a time to live for each entry and a maximum number of entries.
+ * <p>
+ * When the maximum size is reached, the least recently used entry is evicted.
+ * Only successful, non-null values are ever stored, failures are never cached.
+ * <p>
+ * Values are shared between all readers, so they must be immutable.
+ */
+public class ExpiringCache<K, V> {
+  private static final long NO_EXPIRY = -1;
+
+  private final long timeToLiveNanos;
+  private final int maximumSize;
+  private final LongSupplier ticker;
+  private final Map<K, Entry<V>> entries;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public ExpiringCache(Duration timeToLive, int maximumSize) {
+    this(timeToLive, maximumSize, System::nanoTime);
+  }
+
+  ExpiringCache(Duration timeToLive, int maximumSize, LongSupplier ticker) {
+    this.timeToLiveNanos = timeToLive == null ? NO_EXPIRY : timeToLive.toNanos();
+    this.maximumSize = maximumSize;
+    this.ticker = ticker;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        final boolean tooLarge = size() > ExpiringCache.this.maximumSize;
+
+        if (tooLarge) {
+          evictions.increment();
+        }
+
+        return tooLarge;
+      }
+    };
+  }
+
+  /**
+   * A cache that never holds any entries, every lookup is a miss
+   */
+  public static <K, V> ExpiringCache<K, V> disabled() {
+    return new ExpiringCache<>(Duration.ZERO, 0);
+  }
+
+  /**
+   * A cache where entries never expire, they are only evicted when the cache is full
+   */
+  public static <K, V> ExpiringCache<K, V> withoutExpiry(int maximumSize) {
+    return new ExpiringCache<>(null, maximumSize);
+  }
+
+  public boolean isEnabled() {
+    return maximumSize > 0 && (timeToLiveNanos > 0 || timeToLiveNanos == NO_EXPIRY);
+  }
+
+  public Optional<V> get(K key) {
+    if (!isEnabled() || key == null) {
+      misses.increment();
+      return Optional.empty();
+    }
+
+    final V value;
+
+    synchronized (entries) {
+      final Entry<V> entry = entries.get(key);
+
+      if (entry != null && entry.hasExpired(ticker.getAsLong())) {
+        entries.remove(key);
+        evictions.increment();
+        value = null;
+      }
+      else {
+        value = entry == null ? null : entry.getValue();
+      }
+    }
+
+    if (value == null) {
+      misses.increment();
+    }
+    else {
+      hits.increment();
+    }
+
+    return Optional.ofNullable(value);
+  }
+
+  /**
+   * Looks up all of the keys, returning only those entries which are present
+   */
+  public Map<K, V> getAllPresent(Collection<K> keys) {
+    final Map<K, V> present = new HashMap<>();
+
+    keys.stream()
+      .filter(Objects::nonNull)
+      .distinct()
+      .forEach(key -> get(key).ifPresent(value -> present.put(key, value)));
+
+    return present;
+  }
+
+  public V put(K key, V value) {
+    if (!isEnabled() || key == null || value == null) {
+      return value;
+    }
+
+    synchronized (entries) {
+      entries.put(key, timeToLiveNanos == NO_EXPIRY
+        ? new Entry<>(value, false, 0)
+        : new Entry<>(value, true, ticker.getAsLong() + timeToLiveNanos));
+    }
+
+    return value;
+  }
+
+  public void putAll(Collection<V> values, Function<V, K> keyMapper) {
+    values.stream()
+      .filter(Objects::nonNull)
+      .forEach(value -> put(keyMapper.apply(value), value));
+  }
+
+  /**
+   * Returns the cached value for the key, otherwise uses the fetcher to get the value
+   * and stores it if the fetch succeeded with a non-null value
+   */
+  public CompletableFuture<Result<V>> getOrFetch(K key,
+    Function<K, CompletableFuture<Result<V>>> fetcher) {
+
+    return get(key)
+      .map(value -> ofAsync(() -> value))
+      .orElseGet(() -> fetcher.apply(key)
+        .thenApply(r -> r.map(value -> put(key, value))));
+  }
+
+  /**
+   * Returns the cached values for the keys and uses the fetcher for the keys which
+   * are not present, storing the fetched values in the cache
+   */
+  public CompletableFuture<Result<Map<K, V>>> getAllOrFetch(Collection<K> keys,
+    Function<Collection<K>, CompletableFuture<Result<Collection<V>>>> fetcher,
+    Function<V, K> keyMapper) {
+
+    final Map<K, V> present = getAllPresent(keys);
+
+    final var missingKeys = keys.stream()
+      .filter(Objects::nonNull)
+      .filter(key -> !present.containsKey(key))
+      .distinct()
+      .toList();
+
+    if (missingKeys.isEmpty()) {
+      return ofAsync(() -> present);
+    }
+
+    return fetcher.apply(missingKeys)
+      .thenApply(r -> r.next(fetched -> {
+        putAll(fetched, keyMapper);
+
+        final Map<K, V> all = new HashMap<>(present);
+        fetched.stream()
+          .filter(Objects::nonNull)
+          .forEach(value -> all.put(keyMapper.apply(value), value));
+
+        return succeeded(all);
+      }));
+  }
+
+  public void invalidate(K key) {
+    if (key == null) {
+      return;
+    }
+
+    synchronized (entries) {
+      entries.remove(key);
+    }
+  }
+
+  public void invalidateAll() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public CacheStatistics getStatistics() {
+    return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size());
+  }
+
+  private static class Entry<V> {
+    private final V value;
+    private final boolean expires;
+    private final long expiresAt;
+
+    private Entry(V value, boolean expires, long expiresAt) {
+      this.value = value;
+      this.expires = expires;
+      this.expiresAt = expiresAt;
+    }
+
+    private V getValue() {
+      return value;
+    }
+
+    private boolean hasExpired(long now) {
+      return expires && now - expiresAt >= 0;
+    }
+  }
+}
@@ -0,0 +1,226 @@
+package org.folio.circulation.support.fetching;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.results.CommonFailures;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Enriches a page of records with related records, each kind of related record being
+ * fetched by a named stage.
+ * <p>
+ * Stages that do not depend upon another stage are run at the same time, upon the records
+ * as they were originally. A stage that depends upon another is run upon the records as
+ * enriched by that stage. Once every stage has completed, what each stage added is merged
+ * into the records, in the order the stages were declared.
+ * <p>
+ * Which stages are run can be chosen by name (e.g. from a query parameter), any stage
+ * that a chosen stage depends upon is also run.
+ */
+public class MultipleRecordsEnricher<T> {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final Function<T, String> toId;
+  private final Map<String, Stage<T>> stages = new LinkedHashMap<>();
+
+  /**
+   * @param toId how to identify a record, so that what each stage added can be merged
+   */
+  public MultipleRecordsEnricher(Function<T, String> toId) {
+    this.toId = toId;
+  }
+
+  /**
+   * @param name the name used to choose the stage
+   * @param enrichment fetches the related records and adds them to the records
+   * @param merge adds what the stage added to a record (the second argument)
+   * to another copy of the same record (the first argument)
+   */
+  public MultipleRecordsEnricher<T> stage(String name,
+    Function<MultipleRecords<T>, CompletableFuture<Result<MultipleRecords<T>>>> enrichment,
+    BinaryOperator<T> merge) {
+
+    return stage(name, null, enrichment, merge);
+  }
+
+  /**
+   * @param dependsOn the name of a previously declared stage, whose enriched records
+   * are used by this stage
+   */
+  public MultipleRecordsEnricher<T> stage(String name, String dependsOn,
+    Function<MultipleRecords<T>, CompletableFuture<Result<MultipleRecords<T>>>> enrichment,
+    BinaryOperator<T> merge) {
+
+    if (dependsOn != null && !stages.containsKey(dependsOn)) {
+      throw new IllegalArgumentException(String.format(
+        "Stage %s depends upon %s which has not been declared", name, dependsOn));
+    }
+
+    stages.put(name, new Stage<>(dependsOn, enrichment, merge));
+
+    return this;
+  }
+
+  public Set<String> getStageNames() {
+    return Collections.unmodifiableSet(stages.keySet());
+  }
+
+  /**
+   * Chooses the stages to run from a comma separated list of names
+   *
+   * @param names the names of the stages, when blank every stage is chosen
+   * @param parameterName the name of the parameter the names came from, for reporting
+   * unknown names
+   */
+  public Result<Set<String>> select(String names, String parameterName) {
+    if (StringUtils.isBlank(names)) {
+      return succeeded(getStageNames());
+    }
+
+    final Set<String> selected = new LinkedHashSet<>();
+
+    for (String name : StringUtils.split(names, ',')) {
+      final String trimmedName = name.trim();
+
+      if (!stages.containsKey(trimmedName)) {
+        log.warn("select:: unknown stage '{}' in '{}'", trimmedName, names);
+
+        return failedValidation(String.format("%s is not one of: %s", trimmedName,
+          String.join(", ", stages.keySet())), parameterName, names);
+      }
+
+      selected.add(trimmedName);
+    }
+
+    return succeeded(selected);
+  }
+
+  public CompletableFuture<Result<MultipleRecords<T>>> enrich(MultipleRecords<T> records) {
+    return enrich(records, stages.keySet());
+  }
+
+  public CompletableFuture<Result<MultipleRecords<T>>> enrich(MultipleRecords<T> records,
+    Set<String> selected) {
+
+    final Set<String> stagesToRun = withDependencies(selected);
+
+    log.debug("enrich:: parameters records: {}, selected: {}, stages to run: {}",
+      records::size, () -> selected, () -> stagesToRun);
+
+    if (records.isEmpty() || stagesToRun.isEmpty()) {
+      return ofAsync(() -> records);
+    }
+
+    final Map<String, CompletableFuture<Result<MultipleRecords<T>>>> results =
+      new LinkedHashMap<>();
+
+    stages.forEach((name, stage) -> {
+      if (stagesToRun.contains(name)) {
+        final CompletableFuture<Result<MultipleRecords<T>>> input = stage.dependsOn == null
+          ? completedFuture(succeeded(records))
+          : results.get(stage.dependsOn);
+
+        results.put(name, input
+          .thenCompose(r -> r.after(stage.enrichment))
+          .exceptionally(CommonFailures::failedDueToServerError));
+      }
+    });
+
+    return CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new))
+      .thenApply(v -> merge(records, results));
+  }
+
+  private Set<String> withDependencies(Set<String> selected) {
+    final Set<String> stagesToRun = new HashSet<>(selected);
+    final List<String> names = new ArrayList<>(stages.keySet());
+
+    // stages can only depend upon those declared before them,
+    // so going backwards finds every stage that is needed
+    for (int index = names.size() - 1; index >= 0; index--) {
+      final String name = names.get(index);
+      final String dependsOn = stages.get(name).dependsOn;
+
+      if (stagesToRun.contains(name) && dependsOn != null) {
+        stagesToRun.add(dependsOn);
+      }
+    }
+
+    return stagesToRun;
+  }
+
+  private Result<MultipleRecords<T>> merge(MultipleRecords<T> records,
+    Map<String, CompletableFuture<Result<MultipleRecords<T>>>> results) {
+
+    Result<MultipleRecords<T>> merged = succeeded(records);
+
+    for (Map.Entry<String, CompletableFuture<Result<MultipleRecords<T>>>> result
+      : results.entrySet()) {
+
+      final BinaryOperator<T> mergeStage = stages.get(result.getKey()).merge;
+
+      merged = merged.combine(result.getValue().join(),
+        (current, enriched) -> merge(current, enriched, mergeStage));
+    }
+
+    return merged;
+  }
+
+  private MultipleRecords<T> merge(MultipleRecords<T> current, MultipleRecords<T> enriched,
+    BinaryOperator<T> mergeStage) {
+
+    final Map<String, T> enrichedById = new HashMap<>();
+
+    enriched.getRecords().forEach(enrichedRecord -> {
+      final String id = toId.apply(enrichedRecord);
+
+      if (id != null) {
+        enrichedById.putIfAbsent(id, enrichedRecord);
+      }
+    });
+
+    return current.mapRecords(currentRecord -> {
+      final T enrichedRecord = enrichedById.get(toId.apply(currentRecord));
+
+      return enrichedRecord != null
+        ? mergeStage.apply(currentRecord, enrichedRecord)
+        : currentRecord;
+    });
+  }
+
+  private static class Stage<T> {
+    private final String dependsOn;
+    private final Function<MultipleRecords<T>,
+      CompletableFuture<Result<MultipleRecords<T>>>> enrichment;
+    private final BinaryOperator<T> merge;
+
+    private Stage(String dependsOn,
+      Function<MultipleRecords<T>, CompletableFuture<Result<MultipleRecords<T>>>> enrichment,
+      BinaryOperator<T> merge) {
+
+      this.dependsOn = dependsOn;
+      this.enrichment = enrichment;
+      this.merge = merge;
+    }
+  }
+}
@@ -1,72 +1,164 @@
 package org.folio.circulation.support.fetching;
 
-import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.folio.Environment.getBatchPipelineDepth;
+import static org.folio.Environment.getBatchPipelineMaximumRecords;
+import static org.folio.circulation.support.CqlSortBy.ascending;
+import static org.folio.circulation.support.CqlSortBy.none;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
 import static org.folio.circulation.support.http.client.Offset.zeroOffset;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.results.Result.failed;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import static org.folio.circulation.support.results.Result.succeeded;
 
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.Offset;
 import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.results.CommonFailures;
 import org.folio.circulation.support.results.Result;
 
-import lombok.AllArgsConstructor;
-
-@AllArgsConstructor
+/**
+ * Fetches all of the records matching a query a page at a time, processing one page
+ * at a time, in order
+ * <p>
+ * Pages are either fetched by offset, or in id order, starting after the last id
+ * of the previous page. Fetching in id order does not skip or repeat records when
+ * processing a page changes whether records match the query, and does not get slower
+ * the further through the records it gets.
+ * <p>
+ * When fetching in id order, the following pages (up to the pipeline depth) are
+ * fetched whilst a page is being processed, so that fetching and processing overlap.
+ * The number of pages fetched ahead is also limited by the maximum number of records
+ * that can be waiting to be processed. How long was spent fetching, processing and
+ * waiting for pages to be fetched is logged once all of the pages have been processed.
+ * <p>
+ * Pages are processed in a loop rather than by recursion, so the number of pages
+ * is not limited by the depth of the stack.
+ */
 public final class PageableFetcher<T> {
   private static final Logger log = LogManager.getLogger(PageableFetcher.class);
 
-  // This limit needed to prevent stack overflow for recursive fetch
+  // Prevents fetching by offset from going on indefinitely when records are added
   private static final int DEFAULT_MAX_ALLOWED_RECORDS_LIMIT = 1_000_000;
   private static final PageLimit DEFAULT_PAGE_SIZE_LIMIT = limit(500);
+  private static final String ID_INDEX = "id";
 
   private final GetManyRecordsRepository<T> repository;
   private final PageLimit pageSize;
   private final int maxAllowedRecordsToFetchLimit;
+  private final Function<T, String> toId;
+  private final int pipelineDepth;
 
   public PageableFetcher(GetManyRecordsRepository<T> repository) {
     this(repository, DEFAULT_PAGE_SIZE_LIMIT, DEFAULT_MAX_ALLOWED_RECORDS_LIMIT);
   }
 
+  public PageableFetcher(GetManyRecordsRepository<T> repository, PageLimit pageSize,
+    int maxAllowedRecordsToFetchLimit) {
+
+    this(repository, pageSize, maxAllowedRecordsToFetchLimit, null, 0);
+  }
+
+  private PageableFetcher(GetManyRecordsRepository<T> repository, PageLimit pageSize,
+    int maxAllowedRecordsToFetchLimit, Function<T, String> toId, int pipelineDepth) {
+
+    this.repository = repository;
+    this.pageSize = pageSize;
+    this.maxAllowedRecordsToFetchLimit = maxAllowedRecordsToFetchLimit;
+    this.toId = toId;
+    this.pipelineDepth = pipelineDepth;
+  }
+
+  /**
+   * Fetches pages in id order, with the pipeline depth and maximum number of records
+   * waiting to be processed taken from the environment
+   *
+   * @param toId the id of a record, which must be the value of the id index
+   */
+  public static <T> PageableFetcher<T> inIdOrder(GetManyRecordsRepository<T> repository,
+    Function<T, String> toId) {
+
+    return inIdOrder(repository, toId, DEFAULT_PAGE_SIZE_LIMIT,
+      getBatchPipelineDepth(), getBatchPipelineMaximumRecords());
+  }
+
+  /**
+   * @param pipelineDepth the number of pages to fetch ahead of the page being
+   * processed, 0 means a page is only fetched once the previous one has been processed
+   * @param maximumRecordsWaiting the number of records that can have been fetched
+   * but not yet processed, further limiting the pages fetched ahead
+   */
+  public static <T> PageableFetcher<T> inIdOrder(GetManyRecordsRepository<T> repository,
+    Function<T, String> toId, PageLimit pageSize, int pipelineDepth,
+    int maximumRecordsWaiting) {
+
+    final int pagesWaiting = maximumRecordsWaiting / Math.max(1, pageSize.getLimit());
+
+    return new PageableFetcher<>(repository, pageSize, Integer.MAX_VALUE, toId,
+      Math.max(0, Math.min(pipelineDepth, pagesWaiting)));
+  }
+
   public CompletableFuture<Result<Void>> processPages(CqlQuery query, PageProcessor<T> pageProcessor) {
-    return processPagesRecursively(query, pageProcessor, zeroOffset(), 0);
+    final var run = new Run(query, pageProcessor);
+
+    run.start();
+
+    return run.completed;
   }
 
-  private CompletableFuture<Result<Void>> processPagesRecursively(CqlQuery query,
-    PageProcessor<T> pageProcessor, Offset currentOffset, int recordsFetchedOnPreviousIteration) {
+  private Page firstPage(CqlQuery query) {
+    return toId == null
+      ? new Page(zeroOffset(), () -> repository.getMany(query, pageSize, zeroOffset()))
+      : pageAfter(query, null);
+  }
 
-    return repository.getMany(query, pageSize, currentOffset)
-      .thenCompose(r -> r.after(records -> pageProcessor.processPage(records)
-          .thenCompose(processResult -> processResult.after(unused -> {
-            final int recordsFetchedSoFar = recordsFetchedOnPreviousIteration + records.size();
+  private Page nextPage(CqlQuery query, Page current, MultipleRecords<T> records) {
+    if (toId == null) {
+      final var nextOffset = current.offset.nextPage(pageSize);
 
-            if (hasFetchedAllPages(records)) {
-              log.info("All pages have been fetched, total records fetched {}", recordsFetchedSoFar);
+      return new Page(nextOffset, () -> repository.getMany(query, pageSize, nextOffset));
+    }
 
-              return completedFuture(processResult);
-            } else if (hasReachedRecordsLimit(recordsFetchedSoFar)) {
-              log.warn("Terminating fetching because records limit in {} has been reached",
-                maxAllowedRecordsToFetchLimit);
+    return pageAfter(query, lastId(records));
+  }
 
-              return itemCountLimitHasBeenReached();
-            } else {
-              final var nextOffset = currentOffset.nextPage(pageSize);
-              return processPagesRecursively(query, pageProcessor, nextOffset, recordsFetchedSoFar);
-            }
-          }))
-      ));
+  private String lastId(MultipleRecords<T> records) {
+    return records.getRecords().stream()
+      .map(toId)
+      .filter(Objects::nonNull)
+      .max(Comparator.naturalOrder())
+      .orElse(null);
+  }
+
+  private Page pageAfter(CqlQuery query, String lastId) {
+    final var inIdOrder = query.sortBy(none());
+
+    final Result<CqlQuery> pageQuery = lastId == null
+      ? succeeded(inIdOrder)
+      : greaterThan(ID_INDEX, lastId).map(inIdOrder::and);
+
+    return new Page(zeroOffset(), () -> pageQuery
+      .map(q -> q.sortBy(ascending(ID_INDEX)))
+      .after(q -> repository.getMany(q, pageSize, zeroOffset())));
   }
 
-  private CompletableFuture<Result<Void>> itemCountLimitHasBeenReached() {
-    return completedFuture(failed(new ServerErrorFailure(
+  private <R> Result<R> itemCountLimitHasBeenReached() {
+    return failed(new ServerErrorFailure(
       "Maximum allowed item count is set to " + maxAllowedRecordsToFetchLimit
-        + " and it has been reached")));
+        + " and it has been reached"));
   }
 
   private boolean hasReachedRecordsLimit(int recordFetchedSoFar) {
@@ -80,4 +172,209 @@ public final class PageableFetcher<T> {
 
     return latestPage.size() < pageSize.getLimit();
   }
+
+  /**
+   * A page of records, which is only fetched once it is first needed
+   */
+  private final class Page {
+    private final Offset offset;
+    private final Supplier<CompletableFuture<Result<MultipleRecords<T>>>> fetcher;
+    private CompletableFuture<Result<MultipleRecords<T>>> records;
+
+    private Page(Offset offset,
+      Supplier<CompletableFuture<Result<MultipleRecords<T>>>> fetcher) {
+
+      this.offset = offset;
+      this.fetcher = fetcher;
+    }
+
+    private synchronized CompletableFuture<Result<MultipleRecords<T>>> fetch(
+      LongAdder fetchingNanos) {
+
+      if (records == null) {
+        final long start = System.nanoTime();
+
+        records = fetcher.get()
+          .whenComplete((r, e) -> fetchingNanos.add(System.nanoTime() - start));
+      }
+
+      return records;
+    }
+  }
+
+  private final class Run {
+    private final CqlQuery query;
+    private final PageProcessor<T> pageProcessor;
+    private final CompletableFuture<Result<Void>> completed = new CompletableFuture<>();
+
+    // pages that have been fetched (or are being fetched) but not yet processed
+    private final Deque<Page> pipeline = new ArrayDeque<>();
+    private Page lastPageFetched;
+    private boolean allPagesFetched = false;
+    private boolean processing = false;
+
+    private final LongAdder fetchingNanos = new LongAdder();
+    private final LongAdder waitingNanos = new LongAdder();
+    private final LongAdder processingNanos = new LongAdder();
+    private int pagesProcessed = 0;
+    private int recordsFetchedSoFar = 0;
+
+    private Run(CqlQuery query, PageProcessor<T> pageProcessor) {
+      this.query = query;
+      this.pageProcessor = pageProcessor;
+    }
+
+    private void start() {
+      final Page first = firstPage(query);
+
+      synchronized (this) {
+        pipeline.add(first);
+        lastPageFetched = first;
+      }
+
+      first.fetch(fetchingNanos).whenComplete((r, e) -> fetchAhead());
+
+      processPages();
+    }
+
+    /**
+     * Fetches the pages after the last one fetched, for as long as there is room in
+     * the pipeline for them. As the next page can only be fetched once the previous
+     * one has been, this is called again each time a page has been fetched.
+     */
+    private void fetchAhead() {
+      while (true) {
+        final Page next;
+
+        synchronized (this) {
+          final int pagesInProgress = pipeline.size() + (processing ? 1 : 0);
+
+          if (allPagesFetched || pagesInProgress > pipelineDepth
+            || !lastPageFetched.fetch(fetchingNanos).isDone()) {
+
+            return;
+          }
+
+          final Result<MultipleRecords<T>> lastPage = lastPageFetched.fetch(fetchingNanos)
+            .handle((r, e) -> e == null ? r : null)
+            .join();
+
+          if (lastPage == null || lastPage.failed() || hasFetchedAllPages(lastPage.value())) {
+            allPagesFetched = true;
+            return;
+          }
+
+          next = nextPage(query, lastPageFetched, lastPage.value());
+
+          pipeline.add(next);
+          lastPageFetched = next;
+        }
+
+        if (!next.fetch(fetchingNanos).isDone()) {
+          next.fetch(fetchingNanos).whenComplete((r, e) -> fetchAhead());
+          return;
+        }
+      }
+    }
+
+    /**
+     * Processes pages for as long as they complete straight away, continuing
+     * from a new stack (once it completes) when a page has not
+     */
+    private void processPages() {
+      while (true) {
+        final CompletableFuture<Boolean> processed = processNextPage();
+
+        if (!processed.isDone()) {
+          processed.thenAccept(morePages -> {
+            if (Boolean.TRUE.equals(morePages)) {
+              processPages();
+            }
+          });
+          return;
+        }
+
+        if (!Boolean.TRUE.equals(processed.join())) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * @return whether there are more pages to process
+     */
+    private CompletableFuture<Boolean> processNextPage() {
+      final Page page;
+
+      synchronized (this) {
+        page = pipeline.poll();
+        processing = true;
+      }
+
+      final long waitingStart = System.nanoTime();
+
+      return page.fetch(fetchingNanos)
+        .thenCompose(r -> {
+          waitingNanos.add(System.nanoTime() - waitingStart);
+
+          return r.after(this::processRecords);
+        })
+        .exceptionally(CommonFailures::failedDueToServerError)
+        .thenApply(r -> {
+          synchronized (this) {
+            processing = false;
+          }
+
+          if (r.failed()) {
+            finish(failed(r.cause()));
+
+            return false;
+          }
+
+          if (Boolean.TRUE.equals(r.value())) {
+            fetchAhead();
+
+            return true;
+          }
+
+          return false;
+        });
+    }
+
+    private CompletableFuture<Result<Boolean>> processRecords(MultipleRecords<T> records) {
+      final long processingStart = System.nanoTime();
+
+      return pageProcessor.processPage(records)
+        .thenApply(processResult -> processResult.next(unused -> {
+          processingNanos.add(System.nanoTime() - processingStart);
+
+          pagesProcessed++;
+          recordsFetchedSoFar += records.size();
+
+          if (hasFetchedAllPages(records)) {
+            log.info("All pages have been fetched, total records fetched {}", recordsFetchedSoFar);
+
+            finish(processResult);
+
+            return succeeded(false);
+          } else if (hasReachedRecordsLimit(recordsFetchedSoFar)) {
+            log.warn("Terminating fetching because records limit in {} has been reached",
+              maxAllowedRecordsToFetchLimit);
+
+            return itemCountLimitHasBeenReached();
+          } else {
+            return succeeded(true);
+          }
+        }));
+    }
+
+    private void finish(Result<Void> result) {
+      log.info("finish:: processed {} records in {} pages, fetching took {} ms, " +
+          "processing took {} ms, waiting for pages to be fetched took {} ms",
+        recordsFetchedSoFar, pagesProcessed, NANOSECONDS.toMillis(fetchingNanos.sum()),
+        NANOSECONDS.toMillis(processingNanos.sum()), NANOSECONDS.toMillis(waitingNanos.sum()));
+
+      completed.complete(result);
+    }
+  }
 }
@@ -110,6 +110,10 @@ public class CqlQuery implements QueryParameter {
       return this;
     }
 
+    if (StringUtils.isBlank(query)) {
+      return new CqlQuery(other.asText(), sortBy);
+    }
+
     return new CqlQuery(format("%s and %s", asText(), other.asText()), sortBy);
   }
 
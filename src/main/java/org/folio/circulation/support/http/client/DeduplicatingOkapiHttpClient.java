@@ -0,0 +1,128 @@
+package org.folio.circulation.support.http.client;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Makes each distinct request for records from other modules only once whilst
+ * handling an incoming request, see {@link RequestScopedResponses}
+ */
+public class DeduplicatingOkapiHttpClient implements OkapiHttpClient {
+  private final OkapiHttpClient client;
+  private final RequestScopedResponses responses;
+
+  public DeduplicatingOkapiHttpClient(OkapiHttpClient client,
+    RequestScopedResponses responses) {
+
+    this.client = client;
+    this.responses = responses;
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(URL url, JsonObject body) {
+    return written(url.toString(), client.post(url, body));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(String url, JsonObject body) {
+    return written(url, client.post(url, body));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(String url, JsonObject body,
+    Duration timeout) {
+
+    return written(url, client.post(url, body, timeout));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(String url, Duration timeout,
+    QueryParameter... queryParameters) {
+
+    return responses.get(requestKey(url, queryParameters),
+      () -> client.get(url, timeout, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(URL url,
+    QueryParameter... queryParameters) {
+
+    return responses.get(requestKey(url.toString(), queryParameters),
+      () -> client.get(url, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(String url,
+    QueryParameter... queryParameters) {
+
+    return responses.get(requestKey(url, queryParameters),
+      () -> client.get(url, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(URL url, JsonObject body) {
+    return written(url.toString(), client.put(url, body));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(String url, JsonObject body) {
+    return written(url, client.put(url, body));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(String url, JsonObject body,
+    Duration timeout) {
+
+    return written(url, client.put(url, body, timeout));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete(URL url,
+    QueryParameter... queryParameters) {
+
+    return written(url.toString(), client.delete(url, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete(String url,
+    QueryParameter... queryParameters) {
+
+    return written(url, client.delete(url, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete(String url, Duration timeout,
+    QueryParameter... queryParameters) {
+
+    return written(url, client.delete(url, timeout, queryParameters));
+  }
+
+  /**
+   * Responses are forgotten both when the write is made, so that later requests
+   * are not given a response from before it, and once it has completed, in case
+   * a request made during the write was given a response from before it
+   */
+  private CompletableFuture<Result<Response>> written(String url,
+    CompletableFuture<Result<Response>> write) {
+
+    responses.written(url);
+
+    return write.whenComplete((result, error) -> responses.written(url));
+  }
+
+  private static String requestKey(String url, QueryParameter... queryParameters) {
+    final StringBuilder key = new StringBuilder(url);
+
+    for (QueryParameter parameter : queryParameters) {
+      parameter.consume((name, value) -> key.append(key.indexOf("?") < 0 ? '?' : '&')
+        .append(name).append('=').append(value));
+    }
+
+    return key.toString();
+  }
+}
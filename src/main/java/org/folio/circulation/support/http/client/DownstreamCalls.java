@@ -0,0 +1,93 @@
+package org.folio.circulation.support.http.client;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.joining;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * The requests made to other modules whilst handling a single incoming request.
+ * <p>
+ * Requests are grouped by method and path, with any ids in the path replaced,
+ * so that many requests for individual records of the same type
+ * (a sign of fetching related records one at a time) show up as a single
+ * group with a high number of calls.
+ */
+public class DownstreamCalls {
+  private static final Pattern UUID_PATTERN = Pattern.compile(
+    "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+  private final Map<String, PathStatistics> paths = new ConcurrentHashMap<>();
+
+  public void record(HttpMethod method, String url, long bytes, long elapsedNanos) {
+    paths.computeIfAbsent(method.name() + " " + normalisePath(url),
+        key -> new PathStatistics())
+      .record(bytes, elapsedNanos);
+  }
+
+  public long getTotalCalls() {
+    return paths.values().stream()
+      .mapToLong(statistics -> statistics.calls.sum())
+      .sum();
+  }
+
+  public long getTotalBytes() {
+    return paths.values().stream()
+      .mapToLong(statistics -> statistics.bytes.sum())
+      .sum();
+  }
+
+  /**
+   * Summarises the requests made for each path, the most frequently requested first,
+   * e.g. "GET /item-storage/items/:id calls=3 bytes=4120 millis=45"
+   */
+  public String describe() {
+    return paths.entrySet().stream()
+      .sorted(comparingLong((Map.Entry<String, PathStatistics> entry) ->
+        entry.getValue().calls.sum()).reversed()
+        .thenComparing(Map.Entry::getKey))
+      .map(entry -> entry.getKey() + " " + entry.getValue())
+      .collect(joining(", "));
+  }
+
+  static String normalisePath(String url) {
+    final int schemeEnd = url.indexOf("://");
+    final int pathStart = schemeEnd < 0 ? 0 : url.indexOf('/', schemeEnd + 3);
+
+    if (pathStart < 0) {
+      return "/";
+    }
+
+    final int queryStart = url.indexOf('?', pathStart);
+
+    final String path = queryStart < 0
+      ? url.substring(pathStart)
+      : url.substring(pathStart, queryStart);
+
+    return UUID_PATTERN.matcher(path).replaceAll(":id");
+  }
+
+  private static class PathStatistics {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+
+    private void record(long bytes, long elapsedNanos) {
+      this.calls.increment();
+      this.bytes.add(bytes);
+      this.elapsedNanos.add(elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("calls=%d bytes=%d millis=%d", calls.sum(), bytes.sum(),
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos.sum()));
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package org.folio.circulation.support.http.client;
+
+import static org.folio.circulation.support.http.client.DownstreamCalls.normalisePath;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * The responses to requests for records from other modules made whilst handling a
+ * single incoming request, so that the same record is only asked for once.
+ * <p>
+ * When the same request is made again, including whilst the first is still in
+ * progress, it is given the response to the first. Each gets its own copy
+ * of the response, so that changes made to the parsed JSON are not shared.
+ * <p>
+ * Responses are forgotten once anything is written, other than those for reference
+ * data that circulation does not change (e.g. users, policies or locations), which are
+ * only forgotten when something is written to the same module. Failed requests are
+ * not remembered, so that they are tried again.
+ */
+public class RequestScopedResponses {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final Set<String> REFERENCE_DATA_PATHS = Set.of("/addresstypes",
+    "/calendar", "/cancellation-reason-storage", "/circulation", "/circulation-rules-storage",
+    "/configurations", "/departments", "/feefines", "/fixed-due-date-schedule-storage",
+    "/groups", "/holdings-storage", "/identifier-types", "/instance-storage",
+    "/loan-policy-storage", "/loan-types", "/location-units", "/locations",
+    "/lost-item-fees-policies", "/material-types", "/note-types", "/overdue-fines-policies",
+    "/owners", "/patron-notice-policy-storage", "/proxiesfor", "/request-policy-storage",
+    "/service-points", "/settings", "/templates", "/users");
+
+  private final Map<String, RememberedResponse> responses = new ConcurrentHashMap<>();
+  private final int maximumSize;
+
+  /**
+   * @param maximumSize the number of responses above which those already received
+   * are forgotten, to limit how much is kept during long running requests
+   */
+  public RequestScopedResponses(int maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * @param url the URL of the request, including any query parameters,
+   * used to recognise the same request being made again
+   * @param request makes the request, when it has not already been made
+   */
+  public CompletableFuture<Result<Response>> get(String url,
+    Supplier<CompletableFuture<Result<Response>>> request) {
+
+    final var remembered = new RememberedResponse(url);
+    final var existing = responses.putIfAbsent(url, remembered);
+
+    if (existing != null) {
+      log.debug("get:: reusing response for {}", url);
+
+      return existing.copyOfResponse();
+    }
+
+    if (responses.size() > maximumSize) {
+      forgetReceivedResponses();
+    }
+
+    makeRequest(request).whenComplete((result, error) -> {
+      if (error != null || result.failed() || result.value().getStatusCode() >= 500) {
+        responses.remove(url, remembered);
+      }
+
+      if (error != null) {
+        remembered.response.completeExceptionally(error);
+      }
+      else {
+        remembered.response.complete(result);
+      }
+    });
+
+    return remembered.copyOfResponse();
+  }
+
+  /**
+   * Forgets the responses that could have been changed by a write to the URL
+   */
+  public void written(String url) {
+    final String writtenModulePath = modulePath(url);
+
+    responses.values().removeIf(remembered ->
+      !REFERENCE_DATA_PATHS.contains(remembered.modulePath)
+        || remembered.modulePath.equals(writtenModulePath));
+  }
+
+  private static CompletableFuture<Result<Response>> makeRequest(
+    Supplier<CompletableFuture<Result<Response>>> request) {
+
+    try {
+      return request.get();
+    }
+    catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  int size() {
+    return responses.size();
+  }
+
+  private void forgetReceivedResponses() {
+    log.debug("forgetReceivedResponses:: more than {} responses remembered", maximumSize);
+
+    responses.values().removeIf(remembered -> remembered.response.isDone());
+  }
+
+  /**
+   * The first segment of the path, which usually identifies the module
+   * (e.g. /item-storage for /item-storage/items/:id)
+   */
+  private static String modulePath(String url) {
+    final String path = normalisePath(url);
+    final int secondSegmentStart = path.indexOf('/', 1);
+
+    return secondSegmentStart < 0 ? path : path.substring(0, secondSegmentStart);
+  }
+
+  private static class RememberedResponse {
+    private final String modulePath;
+    private final CompletableFuture<Result<Response>> response = new CompletableFuture<>();
+
+    private RememberedResponse(String url) {
+      this.modulePath = modulePath(url);
+    }
+
+    private CompletableFuture<Result<Response>> copyOfResponse() {
+      return response.thenApply(result -> result.map(Response::copy));
+    }
+  }
+}
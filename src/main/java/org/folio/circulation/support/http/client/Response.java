@@ -12,13 +12,30 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpResponse;
 import lombok.val;
 
+/**
+ * A response from another module
+ * <p>
+ * When created from the buffer received from the client, the body is only decoded
+ * into a string when it is asked for, and is only parsed once, the first time the
+ * JSON is asked for. The same {@link JsonObject} is then returned every time, so
+ * changes made to it are seen by anything else that asks for it.
+ */
 public class Response {
-  protected final String body;
+  /**
+   * Responses with bodies at least this large are parsed one record at a time
+   * when they are turned into multiple records
+   */
+  static final int STREAMED_BODY_THRESHOLD_BYTES = 64 * 1024;
+
+  private final Buffer bodyBuffer;
   private final int statusCode;
   private final String contentType;
   private final MultiMap headers;
   private final String fromUrl;
 
+  private String body;
+  private JsonObject json;
+
   public Response(int statusCode, String body, String contentType) {
     this(statusCode, body, contentType, caseInsensitiveMultiMap(), null);
   }
@@ -26,7 +43,14 @@ public class Response {
   public Response(int statusCode, String body, String contentType,
     MultiMap headers, String fromUrl) {
 
+    this(statusCode, null, body, contentType, headers, fromUrl);
+  }
+
+  private Response(int statusCode, Buffer bodyBuffer, String body,
+    String contentType, MultiMap headers, String fromUrl) {
+
     this.statusCode = statusCode;
+    this.bodyBuffer = bodyBuffer;
     this.body = body;
     this.contentType = contentType;
     this.headers = headers;
@@ -38,11 +62,15 @@ public class Response {
 
     headers.addAll(response.headers());
 
-    return new Response(response.statusCode(), response.bodyAsString(),
+    return new Response(response.statusCode(), response.body(), null,
       headers.get(ContentType.CONTENT_TYPE), headers, url);
   }
 
   public boolean hasBody() {
+    if (body == null && bodyBuffer != null) {
+      return isNotBlank(bodyBuffer);
+    }
+
     return StringUtils.isNotBlank(getBody());
   }
 
@@ -51,16 +79,39 @@ public class Response {
   }
 
   public String getBody() {
+    if (body == null && bodyBuffer != null) {
+      body = bodyBuffer.toString();
+    }
+
     return body;
   }
 
   public JsonObject getJson() {
-    if(hasBody()) {
-      return new JsonObject(getBody());
+    if (json == null) {
+      json = parseJson();
     }
-    else {
-      return new JsonObject();
+
+    return json;
+  }
+
+  /**
+   * The body as received, without decoding or parsing it
+   */
+  public Buffer getBodyBuffer() {
+    if (bodyBuffer != null) {
+      return bodyBuffer;
     }
+
+    return body == null ? Buffer.buffer() : Buffer.buffer(body);
+  }
+
+  /**
+   * Whether the body is large enough that it is better to parse it one record
+   * at a time than to parse all of it, and has not already been parsed
+   */
+  public boolean hasLargeUnparsedBody() {
+    return json == null && bodyBuffer != null
+      && bodyBuffer.length() >= STREAMED_BODY_THRESHOLD_BYTES;
   }
 
   public String getContentType() {
@@ -75,6 +126,33 @@ public class Response {
     return fromUrl;
   }
 
+  /**
+   * A copy sharing the body as received, which has not been parsed yet
+   */
+  Response copy() {
+    return new Response(statusCode, bodyBuffer, body, contentType, headers, fromUrl);
+  }
+
+  private JsonObject parseJson() {
+    if (!hasBody()) {
+      return new JsonObject();
+    }
+
+    return body == null
+      ? new JsonObject(bodyBuffer)
+      : new JsonObject(body);
+  }
+
+  private static boolean isNotBlank(Buffer buffer) {
+    for (int index = 0; index < buffer.length(); index++) {
+      if (!Character.isWhitespace(buffer.getByte(index))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   @Override
   public String toString() {
     return format(
@@ -38,16 +38,26 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
   private final String token;
   private final String userId;
   private final String requestId;
+  private final DownstreamCalls downstreamCalls;
 
   public static OkapiHttpClient createClientUsing(HttpClient httpClient,
     URL okapiUrl, String tenantId, String token, String userId, String requestId) {
 
+    return createClientUsing(httpClient, okapiUrl, tenantId, token, userId,
+      requestId, new DownstreamCalls());
+  }
+
+  public static OkapiHttpClient createClientUsing(HttpClient httpClient,
+    URL okapiUrl, String tenantId, String token, String userId, String requestId,
+    DownstreamCalls downstreamCalls) {
+
     return new VertxWebClientOkapiHttpClient(WebClient.wrap(httpClient),
-      okapiUrl, tenantId, token, userId, requestId);
+      okapiUrl, tenantId, token, userId, requestId, downstreamCalls);
   }
 
   private VertxWebClientOkapiHttpClient(WebClient webClient, URL okapiUrl,
-    String tenantId, String token, String userId, String requestId) {
+    String tenantId, String token, String userId, String requestId,
+    DownstreamCalls downstreamCalls) {
 
     this.webClient = webClient;
     this.okapiUrl = okapiUrl;
@@ -55,6 +65,7 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     this.token = token;
     this.userId = userId;
     this.requestId = requestId;
+    this.downstreamCalls = downstreamCalls;
   }
 
   @Override
@@ -74,6 +85,8 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     final CompletableFuture<AsyncResult<HttpResponse<Buffer>>> futureResponse
       = new CompletableFuture<>();
 
+    final long start = System.nanoTime();
+
     final HttpRequest<Buffer> request = withStandardHeaders(
       webClient.requestAbs(HttpMethod.POST, url));
 
@@ -82,7 +95,8 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
       .sendJsonObject(body, futureResponse::complete);
 
     return futureResponse
-      .thenApply(asyncResult -> mapAsyncResultToResult(url, asyncResult));
+      .thenApply(asyncResult -> mapAsyncResultToResult(HttpMethod.POST, url, start,
+        asyncResult));
   }
 
   @Override
@@ -92,6 +106,8 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     final CompletableFuture<AsyncResult<HttpResponse<Buffer>>> futureResponse
       = new CompletableFuture<>();
 
+    final long start = System.nanoTime();
+
     final HttpRequest<Buffer> request = withStandardHeaders(
       webClient.requestAbs(HttpMethod.GET, url));
 
@@ -103,7 +119,8 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
       .send(futureResponse::complete);
 
     return futureResponse
-      .thenApply(asyncResult -> mapAsyncResultToResult(url, asyncResult));
+      .thenApply(asyncResult -> mapAsyncResultToResult(HttpMethod.GET, url, start,
+        asyncResult));
   }
 
   @Override
@@ -137,6 +154,8 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     final CompletableFuture<AsyncResult<HttpResponse<Buffer>>> futureResponse
       = new CompletableFuture<>();
 
+    final long start = System.nanoTime();
+
     final HttpRequest<Buffer> request = withStandardHeaders(
       webClient.requestAbs(HttpMethod.PUT, url));
 
@@ -145,7 +164,8 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
       .sendJsonObject(body, futureResponse::complete);
 
     return futureResponse
-      .thenApply(asyncResult -> mapAsyncResultToResult(url, asyncResult));
+      .thenApply(asyncResult -> mapAsyncResultToResult(HttpMethod.PUT, url, start,
+        asyncResult));
   }
 
   @Override
@@ -169,6 +189,8 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
     final CompletableFuture<AsyncResult<HttpResponse<Buffer>>> futureResponse
       = new CompletableFuture<>();
 
+    final long start = System.nanoTime();
+
     final HttpRequest<Buffer> request = withStandardHeaders(
       webClient.requestAbs(HttpMethod.DELETE, url));
 
@@ -180,7 +202,8 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
       .send(futureResponse::complete);
 
     return futureResponse
-      .thenApply(asyncResult -> mapAsyncResultToResult(url, asyncResult));
+      .thenApply(asyncResult -> mapAsyncResultToResult(HttpMethod.DELETE, url, start,
+        asyncResult));
   }
 
   private HttpRequest<Buffer> withStandardHeaders(HttpRequest<Buffer> request) {
@@ -193,11 +216,21 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
       .putHeader(REQUEST_ID, this.requestId);
   }
 
-  private static Result<Response> mapAsyncResultToResult(String url,
-    AsyncResult<HttpResponse<Buffer>> asyncResult) {
+  private Result<Response> mapAsyncResultToResult(HttpMethod method, String url,
+    long start, AsyncResult<HttpResponse<Buffer>> asyncResult) {
+
+    downstreamCalls.record(method, url, bodyLength(asyncResult), System.nanoTime() - start);
 
     return asyncResult.succeeded()
       ? succeeded(responseFrom(url, asyncResult.result()))
       : failed(new ServerErrorFailure(asyncResult.cause()));
   }
+
+  private static long bodyLength(AsyncResult<HttpResponse<Buffer>> asyncResult) {
+    if (asyncResult.failed() || asyncResult.result().body() == null) {
+      return 0;
+    }
+
+    return asyncResult.result().body().length();
+  }
 }
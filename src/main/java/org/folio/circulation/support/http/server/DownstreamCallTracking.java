@@ -0,0 +1,100 @@
+package org.folio.circulation.support.http.server;
+
+import java.lang.invoke.MethodHandles;
+import java.util.function.BooleanSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.Environment;
+import org.folio.circulation.support.http.client.DownstreamCalls;
+
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Tracks the requests made to other modules whilst handling each incoming request,
+ * logging them once the response has been sent (as a warning when there were more
+ * than the configured budget) and optionally including them in a response header
+ */
+public class DownstreamCallTracking {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  public static final String DOWNSTREAM_CALLS_HEADER = "X-Circulation-Downstream-Calls";
+
+  private static final String DOWNSTREAM_CALLS_KEY = "downstreamCalls";
+
+  private static BooleanSupplier headerEnabled = Environment::isDownstreamCallsHeaderEnabled;
+
+  private DownstreamCallTracking() { }
+
+  /**
+   * Set whether the requests are included in a response header, regardless of the
+   * environment (e.g. to check the requests made by an API test).
+   */
+  public static void setHeaderEnabled(boolean enabled) {
+    headerEnabled = () -> enabled;
+  }
+
+  /**
+   * Set whether the requests are included in a response header from the environment.
+   */
+  public static void setDefaultHeaderEnabled() {
+    headerEnabled = Environment::isDownstreamCallsHeaderEnabled;
+  }
+
+  public static void track(RoutingContext routingContext) {
+    final DownstreamCalls downstreamCalls = new DownstreamCalls();
+
+    routingContext.put(DOWNSTREAM_CALLS_KEY, downstreamCalls);
+
+    if (headerEnabled.getAsBoolean()) {
+      routingContext.addHeadersEndHandler(v -> routingContext.response()
+        .putHeader(DOWNSTREAM_CALLS_HEADER, describe(downstreamCalls)));
+    }
+
+    routingContext.addBodyEndHandler(v -> logDownstreamCalls(routingContext,
+      downstreamCalls));
+
+    routingContext.next();
+  }
+
+  static DownstreamCalls downstreamCalls(RoutingContext routingContext) {
+    return routingContext.get(DOWNSTREAM_CALLS_KEY);
+  }
+
+  private static void logDownstreamCalls(RoutingContext routingContext,
+    DownstreamCalls downstreamCalls) {
+
+    final long totalCalls = downstreamCalls.getTotalCalls();
+    final int budget = Environment.getDownstreamCallBudget();
+
+    if (budget > 0 && totalCalls > budget) {
+      log.warn("logDownstreamCalls:: {} {} made {} requests to other modules, " +
+          "more than the budget of {}: {}", routingContext.request().method(),
+        routePath(routingContext), totalCalls, budget, downstreamCalls.describe());
+    }
+    else if (log.isDebugEnabled()) {
+      log.debug("logDownstreamCalls:: {} {} made {} requests to other modules " +
+          "({} bytes received): {}", routingContext.request().method(),
+        routePath(routingContext), totalCalls, downstreamCalls.getTotalBytes(),
+        downstreamCalls.describe());
+    }
+  }
+
+  /**
+   * The path the matching route was registered with (e.g. /circulation/loans/:id),
+   * so that requests for different records can be grouped together
+   */
+  private static String routePath(RoutingContext routingContext) {
+    final Route route = routingContext.currentRoute();
+
+    return route != null && route.getPath() != null
+      ? route.getPath()
+      : routingContext.request().path();
+  }
+
+  private static String describe(DownstreamCalls downstreamCalls) {
+    return String.format("total=%d; %s", downstreamCalls.getTotalCalls(),
+      downstreamCalls.describe());
+  }
+}
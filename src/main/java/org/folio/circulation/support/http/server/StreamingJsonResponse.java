@@ -0,0 +1,185 @@
+package org.folio.circulation.support.http.server;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.commons.collections4.ListUtils.partition;
+import static org.folio.circulation.support.results.Result.emptyAsync;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.HttpFailure;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Writes a JSON object containing an array of records (followed by the total number
+ * of records) to the response a batch at a time, using chunked transfer encoding.
+ * <p>
+ * Nothing is sent until the first records are written, so a failure before then is
+ * responded to as usual. After that the status code has already been sent, so a
+ * failure resets the connection, leaving the client with an incomplete response.
+ * <p>
+ * Each write waits until the response is able to take more, so that only a batch or
+ * so of records is held waiting to be sent.
+ */
+public class StreamingJsonResponse {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final HttpServerResponse response;
+  private final String recordsPropertyName;
+  private int recordsWritten;
+  private boolean started;
+
+  public StreamingJsonResponse(HttpServerResponse response, String recordsPropertyName) {
+    this.response = response;
+    this.recordsPropertyName = recordsPropertyName;
+  }
+
+  /**
+   * Writes the records, completing once the response is able to take more
+   */
+  public CompletableFuture<Result<Void>> write(Collection<JsonObject> records) {
+    if (response.closed()) {
+      return completedFuture(failed(new ServerErrorFailure(
+        "Connection was closed before all records were written")));
+    }
+
+    if (records.isEmpty()) {
+      return emptyAsync();
+    }
+
+    final Buffer buffer = Buffer.buffer();
+
+    if (!started) {
+      start(buffer);
+    }
+
+    for (JsonObject record : records) {
+      if (recordsWritten > 0) {
+        buffer.appendString(",");
+      }
+
+      buffer.appendString(record.encode());
+      recordsWritten++;
+    }
+
+    response.write(buffer);
+
+    return whenWritable();
+  }
+
+  /**
+   * Maps the records to their representations a batch at a time, writing each batch
+   * before the next is mapped
+   *
+   * @return the number of records written
+   */
+  public <T> CompletableFuture<Result<Integer>> writeInBatches(List<T> records,
+    int batchSize, Function<List<T>, CompletableFuture<Result<List<JsonObject>>>> mapper) {
+
+    CompletableFuture<Result<Void>> written = emptyAsync();
+
+    for (List<T> batch : partition(new ArrayList<>(records), Math.max(1, batchSize))) {
+      written = written.thenCompose(r -> r.after(v -> mapper.apply(batch)
+        .thenCompose(mapped -> mapped.after(this::write))));
+    }
+
+    return written.thenApply(r -> r.map(v -> recordsWritten));
+  }
+
+  /**
+   * Ends the response with the total number of records, or responds with the failure
+   */
+  public void end(Result<Integer> totalRecords) {
+    totalRecords.applySideEffect(this::writeEnd, this::fail);
+  }
+
+  /**
+   * Ends the response as above, unless an exception was thrown whilst writing the records
+   */
+  public void end(Result<Integer> totalRecords, Throwable throwable) {
+    if (throwable != null) {
+      fail(new ServerErrorFailure(throwable));
+    }
+    else {
+      end(totalRecords);
+    }
+  }
+
+  private void writeEnd(int totalRecords) {
+    if (response.closed()) {
+      log.warn("writeEnd:: connection was closed before the response was ended");
+      return;
+    }
+
+    final Buffer buffer = Buffer.buffer();
+
+    if (!started) {
+      start(buffer);
+    }
+
+    buffer.appendString("],\"totalRecords\":")
+      .appendString(Integer.toString(totalRecords))
+      .appendString("}");
+
+    response.end(buffer);
+  }
+
+  private void fail(HttpFailure failure) {
+    if (!started) {
+      failure.writeTo(response);
+      return;
+    }
+
+    log.error("fail:: failed after {} records were written, resetting the connection: {}",
+      recordsWritten, failure);
+
+    if (!response.closed()) {
+      response.reset();
+    }
+  }
+
+  private void start(Buffer buffer) {
+    response.setStatusCode(200);
+    response.putHeader("content-type", "application/json; charset=utf-8");
+    response.setChunked(true);
+
+    buffer.appendString("{")
+      .appendString(Json.encode(recordsPropertyName))
+      .appendString(":[");
+
+    started = true;
+  }
+
+  private CompletableFuture<Result<Void>> whenWritable() {
+    if (!response.writeQueueFull()) {
+      return emptyAsync();
+    }
+
+    final CompletableFuture<Result<Void>> writable = new CompletableFuture<>();
+
+    response.drainHandler(v -> writable.complete(succeeded(null)));
+    response.closeHandler(v -> writable.complete(failed(new ServerErrorFailure(
+      "Connection was closed before all records were written"))));
+
+    // the queue may have drained before the handler was set
+    if (!response.writeQueueFull()) {
+      writable.complete(succeeded(null));
+    }
+
+    return writable;
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.circulation.support.http.server;
 
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 import static org.folio.circulation.support.http.OkapiHeader.OKAPI_URL;
 import static org.folio.circulation.support.http.OkapiHeader.REQUEST_ID;
@@ -9,10 +10,15 @@ import static org.folio.circulation.support.http.OkapiHeader.USER_ID;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Map;
 
+import org.folio.Environment;
 import org.folio.circulation.support.InvalidOkapiLocationException;
+import org.folio.circulation.support.http.client.DeduplicatingOkapiHttpClient;
+import org.folio.circulation.support.http.client.DownstreamCalls;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
+import org.folio.circulation.support.http.client.RequestScopedResponses;
 import org.folio.circulation.support.http.client.VertxWebClientOkapiHttpClient;
 import org.folio.circulation.support.results.Result;
 
@@ -20,6 +26,8 @@ import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.RoutingContext;
 
 public class WebContext {
+  private static final String REQUEST_SCOPED_RESPONSES_KEY = "requestScopedResponses";
+
   private final RoutingContext routingContext;
 
   public WebContext(RoutingContext routingContext) {
@@ -48,6 +56,17 @@ public class WebContext {
     return getHeader(REQUEST_ID);
   }
 
+  /**
+   * @return the requests made to other modules whilst handling this request, or an
+   * untracked instance when no tracking was set up (e.g. for contexts used in tests)
+   */
+  public DownstreamCalls getDownstreamCalls() {
+    final DownstreamCalls downstreamCalls = DownstreamCallTracking.downstreamCalls(
+      routingContext);
+
+    return downstreamCalls != null ? downstreamCalls : new DownstreamCalls();
+  }
+
   private String getHeader(String header) {
     return routingContext.request().getHeader(header);
   }
@@ -68,6 +87,23 @@ public class WebContext {
     return getStringParameter(name, null);
   }
 
+  /**
+   * The raw query string without a parameter that is only meaningful to this module,
+   * so that the rest can be passed on to storage
+   */
+  public String getQueryStringWithout(String parameterName) {
+    final String query = routingContext.request().query();
+
+    if (query == null) {
+      return null;
+    }
+
+    return Arrays.stream(query.split("&"))
+      .filter(parameter -> !parameter.equals(parameterName)
+        && !parameter.startsWith(parameterName + "="))
+      .collect(joining("&"));
+  }
+
   public URL getOkapiBasedUrl(String path) throws MalformedURLException {
     URL currentRequestUrl = new URL(getOkapiLocation());
 
@@ -85,9 +121,39 @@ public class WebContext {
       throw new InvalidOkapiLocationException(getOkapiLocation(), e);
     }
 
-    return VertxWebClientOkapiHttpClient.createClientUsing(httpClient,
-      okapiUrl, getTenantId(), getOkapiToken(), getUserId(),
-      getRequestId());
+    final OkapiHttpClient client = VertxWebClientOkapiHttpClient.createClientUsing(
+      httpClient, okapiUrl, getTenantId(), getOkapiToken(), getUserId(),
+      getRequestId(), getDownstreamCalls());
+
+    return Environment.getRequestScopedResponsesMaximumSize() > 0
+      ? new DeduplicatingOkapiHttpClient(client, getRequestScopedResponses())
+      : client;
+  }
+
+  /**
+   * @return the responses to requests made to other modules whilst handling this
+   * request, shared by every client created for it
+   */
+  private RequestScopedResponses getRequestScopedResponses() {
+    final RequestScopedResponses existing = routingContext.get(REQUEST_SCOPED_RESPONSES_KEY);
+
+    if (existing != null) {
+      return existing;
+    }
+
+    final RequestScopedResponses responses = new RequestScopedResponses(
+      Environment.getRequestScopedResponsesMaximumSize());
+
+    routingContext.put(REQUEST_SCOPED_RESPONSES_KEY, responses);
+
+    return responses;
+  }
+
+  /**
+   * A response which writes the records to the named array property as they become available
+   */
+  public StreamingJsonResponse streamingJsonResponse(String recordsPropertyName) {
+    return new StreamingJsonResponse(routingContext.response(), recordsPropertyName);
   }
 
   public void write(HttpResponse response) {
@@ -0,0 +1,124 @@
+package org.folio.circulation.support.json;
+
+import java.util.function.Consumer;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonEvent;
+import io.vertx.core.parsetools.JsonEventType;
+import io.vertx.core.parsetools.JsonParser;
+
+/**
+ * Parses an array of objects within a JSON object one object at a time, without
+ * parsing the whole of the body into a single {@link JsonObject} first
+ * <p>
+ * Like {@link JsonObjectArrayPropertyFetcher}, entries in the array that are not
+ * objects are skipped, and a missing array is treated as empty
+ */
+public class JsonObjectArrayStreamParser {
+  private final String arrayPropertyName;
+  private final String totalPropertyName;
+  private final Consumer<JsonObject> entryConsumer;
+  private final JsonParser parser = JsonParser.newParser();
+
+  private int depth = 0;
+  private boolean withinArray = false;
+  private Integer total = null;
+  private Throwable failure = null;
+
+  private JsonObjectArrayStreamParser(String arrayPropertyName,
+    String totalPropertyName, Consumer<JsonObject> entryConsumer) {
+
+    this.arrayPropertyName = arrayPropertyName;
+    this.totalPropertyName = totalPropertyName;
+    this.entryConsumer = entryConsumer;
+  }
+
+  /**
+   * @param body the JSON object to parse
+   * @param arrayPropertyName the name of the top level property holding the array
+   * @param totalPropertyName the name of the top level property holding a count
+   * @param entryConsumer given each object in the array, in order
+   * @return the value of the count property, or null when it is not present
+   * @throws DecodeException when the body is not a JSON object
+   */
+  public static Integer parse(Buffer body, String arrayPropertyName,
+    String totalPropertyName, Consumer<JsonObject> entryConsumer) {
+
+    return new JsonObjectArrayStreamParser(arrayPropertyName, totalPropertyName,
+      entryConsumer).parse(body);
+  }
+
+  private Integer parse(Buffer body) {
+    parser.handler(this::handle);
+    parser.exceptionHandler(this::failed);
+
+    parser.handle(body);
+    parser.end();
+
+    if (failure instanceof DecodeException) {
+      throw (DecodeException) failure;
+    }
+    else if (failure != null) {
+      throw new DecodeException(failure.getMessage(), failure);
+    }
+
+    return total;
+  }
+
+  private void handle(JsonEvent event) {
+    if (depth == 0 && event.type() != JsonEventType.START_OBJECT) {
+      failed(new DecodeException("Expected a JSON object but was: " + event.type()));
+      return;
+    }
+
+    switch (event.type()) {
+      case START_OBJECT:
+        depth++;
+        break;
+      case START_ARRAY:
+        depth++;
+        if (depth == 2 && arrayPropertyName.equals(event.fieldName())) {
+          // each object in the array is parsed as a whole, rather than as events
+          withinArray = true;
+          parser.objectValueMode();
+        }
+        break;
+      case END_OBJECT:
+        depth--;
+        break;
+      case END_ARRAY:
+        depth--;
+        if (withinArray && depth == 1) {
+          withinArray = false;
+          parser.objectEventMode();
+        }
+        break;
+      case VALUE:
+        handleValue(event);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void handleValue(JsonEvent event) {
+    if (withinArray && depth == 2) {
+      if (event.value() instanceof JsonObject) {
+        entryConsumer.accept(event.objectValue());
+      }
+    }
+    else if (depth == 1 && totalPropertyName.equals(event.fieldName())
+      && event.isNumber()) {
+
+      total = event.integerValue();
+    }
+  }
+
+  private void failed(Throwable cause) {
+    if (failure == null) {
+      failure = cause;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package org.folio.circulation.support.json;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.folio.circulation.support.utils.DateFormatUtil.parseDateTime;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.function.Function;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Remembers the value last parsed from a property of a representation, so that it is
+ * only parsed again once the property has changed.
+ * <p>
+ * The representation is still the source of truth, the property is read every time
+ * and compared with the one that was parsed. This means it is safe to use with
+ * representations which are changed elsewhere, or are shared between records.
+ * <p>
+ * Parsed values must be immutable.
+ */
+public class ParsedPropertyCache<T> {
+  private final Function<String, T> parser;
+  private Parsed<T> parsed;
+
+  public ParsedPropertyCache(Function<String, T> parser) {
+    this.parser = parser;
+  }
+
+  /**
+   * Parses date times in the same way as {@link JsonPropertyFetcher#getDateTimeProperty}
+   */
+  public static ParsedPropertyCache<ZonedDateTime> forDateTime() {
+    return new ParsedPropertyCache<>(value -> isNotBlank(value) ? parseDateTime(value) : null);
+  }
+
+  public T get(JsonObject representation, String propertyName) {
+    return parse(representation == null ? null : representation.getString(propertyName));
+  }
+
+  public T parse(String value) {
+    // a single field so that the value and what it was parsed from are always consistent
+    final Parsed<T> current = parsed;
+
+    if (current != null && Objects.equals(current.value(), value)) {
+      return current.result();
+    }
+
+    final T result = parser.apply(value);
+
+    parsed = new Parsed<>(value, result);
+
+    return result;
+  }
+
+  private record Parsed<T>(String value, T result) { }
+}
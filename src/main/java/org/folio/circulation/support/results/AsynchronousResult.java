@@ -8,6 +8,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.folio.circulation.support.HttpFailure;
+import org.folio.circulation.support.async.ContextExecutor;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -75,7 +76,8 @@ public class AsynchronousResult<T> {
    * when the current result is successful and the mapping succeeds, otherwise a failure
    */
   public <R> AsynchronousResult<R> flatMapFuture(Function<T, CompletableFuture<Result<R>>> map) {
-    return fromFutureResult(completionStage.thenComposeAsync(r -> r.after(map)));
+    return fromFutureResult(completionStage.thenComposeAsync(r -> r.after(map),
+      ContextExecutor.forCurrentContext()));
   }
 
   public <R> AsynchronousResult<R> map(Function<T, R> mapper) {
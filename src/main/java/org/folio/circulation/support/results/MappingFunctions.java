@@ -6,6 +6,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.folio.circulation.support.async.ContextExecutor;
+
 public class MappingFunctions {
   private MappingFunctions() { }
 
@@ -34,6 +36,6 @@ public class MappingFunctions {
       conditionFunction.apply(value)
         .thenComposeAsync(r -> r.after(condition -> isTrue(condition)
           ? whenTrue.apply(value)
-          : whenFalse.apply(value)));
+          : whenFalse.apply(value)), ContextExecutor.forCurrentContext());
   }
 }
@@ -10,7 +10,10 @@ import static org.folio.circulation.support.utils.DateTimeUtil.defaultToNow;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -130,27 +133,41 @@ public class DateFormatUtil {
       .toFormatter();
   }
 
+  /**
+   * Parses a date only, as the start of that day in UTC.
+   */
+  private static final DateTimeFormatter START_OF_DAY = new DateTimeFormatterBuilder()
+    .parseCaseInsensitive()
+    .append(DateTimeFormatter.ISO_LOCAL_DATE)
+    .parseDefaulting(ChronoField.NANO_OF_DAY, 0)
+    .parseDefaulting(ChronoField.OFFSET_SECONDS, 0)
+    .toFormatter();
+
+  private static final List<DateTimeFormatter> DATE_TIME_FORMATTERS = List.of(
+    DateTimeFormatter.ISO_OFFSET_DATE_TIME,
+    DateTimeFormatter.ISO_ZONED_DATE_TIME,
+    DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneOffset.UTC),
+    DATE_TIME,
+    DATE_TIME_NANOSECONDS,
+    START_OF_DAY
+  );
+
+  private static final List<DateTimeFormatter> TIME_FORMATTERS = List.of(
+    DateTimeFormatter.ISO_TIME,
+    DateTimeFormatter.ISO_OFFSET_DATE_TIME,
+    DateTimeFormatter.ISO_ZONED_DATE_TIME,
+    TIME,
+    DATE_TIME,
+    START_OF_DAY
+  );
+
   /**
    * Get standard dateTime formatters.
    *
    * @return A list of standard formatters.
    */
   public static List<DateTimeFormatter> getDateTimeFormatters() {
-    DateTimeFormatter startOfDay = new DateTimeFormatterBuilder()
-      .parseCaseInsensitive()
-      .append(DateTimeFormatter.ISO_LOCAL_DATE)
-      .parseDefaulting(ChronoField.NANO_OF_DAY, 0)
-      .parseDefaulting(ChronoField.OFFSET_SECONDS, 0)
-      .toFormatter();
-
-    return List.of(
-      DateTimeFormatter.ISO_OFFSET_DATE_TIME,
-      DateTimeFormatter.ISO_ZONED_DATE_TIME,
-      DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneOffset.UTC),
-      DATE_TIME,
-      DATE_TIME_NANOSECONDS,
-      startOfDay
-    );
+    return DATE_TIME_FORMATTERS;
   }
 
   /**
@@ -159,21 +176,7 @@ public class DateFormatUtil {
    * @return A list of standard formatters.
    */
   public static List<DateTimeFormatter> getTimeFormatters() {
-    DateTimeFormatter startOfDay = new DateTimeFormatterBuilder()
-      .parseCaseInsensitive()
-      .append(DateTimeFormatter.ISO_LOCAL_DATE)
-      .parseDefaulting(ChronoField.NANO_OF_DAY, 0)
-      .parseDefaulting(ChronoField.OFFSET_SECONDS, 0)
-      .toFormatter();
-
-    return List.of(
-      DateTimeFormatter.ISO_TIME,
-      DateTimeFormatter.ISO_OFFSET_DATE_TIME,
-      DateTimeFormatter.ISO_ZONED_DATE_TIME,
-      TIME,
-      DATE_TIME,
-      startOfDay
-    );
+    return TIME_FORMATTERS;
   }
 
   /**
@@ -496,12 +499,22 @@ public class DateFormatUtil {
 
   /**
    * Parse the given value, returning a dateTime.
+   * <p>
+   * Values in the format used by storage (e.g. "2020-10-20T10:20:10.000Z" or
+   * "2020-10-20T10:20:10.000+00:00") are parsed directly, any other values are
+   * parsed by trying each of the standard formatters in turn.
    *
    * @param value The value to parse into a LocalDate.
    * @param zone The time zone to use when parsing.
    * @return A dateTime parsed from the value.
    */
   private static ZonedDateTime parseDateTimeString(String value, ZoneId zone) {
+    final ZonedDateTime canonical = parseCanonicalDateTime(value, zone);
+
+    if (canonical != null) {
+      return canonical;
+    }
+
     List<DateTimeFormatter> formatters = getDateTimeFormatters();
 
     for (int i = 0; i < formatters.size(); i++) {
@@ -523,4 +536,138 @@ public class DateFormatUtil {
     return ZonedDateTime.parse(value).truncatedTo(ChronoUnit.MILLIS);
   }
 
+  /**
+   * Parse a value in the format "yyyy-MM-dd'T'HH:mm:ss[.S...]" followed by "Z",
+   * "+HH:MM" or "+HHMM", giving the same result as the standard formatters.
+   * <p>
+   * The value is the same instant in the given zone, when there is one, otherwise
+   * it is in the offset from the value.
+   *
+   * @param value The value to parse into a ZonedDateTime.
+   * @param zone The time zone to use when parsing.
+   * @return A dateTime parsed from the value or NULL when the value is in any
+   * other format (or is not a valid date and time).
+   */
+  private static ZonedDateTime parseCanonicalDateTime(String value, ZoneId zone) {
+    final int length = value.length();
+
+    if (length < 20 || value.charAt(4) != '-' || value.charAt(7) != '-'
+      || value.charAt(10) != 'T' || value.charAt(13) != ':' || value.charAt(16) != ':') {
+
+      return null;
+    }
+
+    final int year = digits(value, 0, 4);
+    final int month = digits(value, 5, 2);
+    final int day = digits(value, 8, 2);
+    final int hour = digits(value, 11, 2);
+    final int minute = digits(value, 14, 2);
+    final int second = digits(value, 17, 2);
+
+    if (year < 0 || month < 1 || month > 12 || day < 1
+      || day > Month.of(month).length(Year.isLeap(year))
+      || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+
+      return null;
+    }
+
+    int index = 19;
+    int millis = 0;
+
+    if (value.charAt(index) == '.') {
+      final int fractionStart = ++index;
+
+      while (index < length && isDigit(value.charAt(index))) {
+        if (index - fractionStart < 3) {
+          millis = millis * 10 + (value.charAt(index) - '0');
+        }
+
+        index++;
+      }
+
+      final int fractionDigits = index - fractionStart;
+
+      if (fractionDigits < 1 || fractionDigits > 9) {
+        return null;
+      }
+
+      for (int i = fractionDigits; i < 3; i++) {
+        millis *= 10;
+      }
+    }
+
+    final ZoneOffset offset = parseOffset(value, index);
+
+    if (offset == null) {
+      return null;
+    }
+
+    final LocalDateTime localDateTime = LocalDateTime.of(year, month, day, hour, minute,
+      second, millis * 1_000_000);
+
+    return zone == null
+      ? ZonedDateTime.of(localDateTime, offset)
+      : ZonedDateTime.ofInstant(localDateTime, offset, zone);
+  }
+
+  private static ZoneOffset parseOffset(String value, int index) {
+    final int remaining = value.length() - index;
+
+    if (remaining == 1 && value.charAt(index) == 'Z') {
+      return ZoneOffset.UTC;
+    }
+
+    if (remaining != 5 && remaining != 6) {
+      return null;
+    }
+
+    final char sign = value.charAt(index);
+
+    if (sign != '+' && sign != '-') {
+      return null;
+    }
+
+    final int hours = digits(value, index + 1, 2);
+    final int minutesIndex = remaining == 6 ? index + 4 : index + 3;
+
+    if (remaining == 6 && value.charAt(index + 3) != ':') {
+      return null;
+    }
+
+    final int minutes = digits(value, minutesIndex, 2);
+
+    if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59
+      || (hours == 18 && minutes > 0)) {
+
+      return null;
+    }
+
+    final int totalSeconds = (hours * 3600 + minutes * 60) * (sign == '-' ? -1 : 1);
+
+    return ZoneOffset.ofTotalSeconds(totalSeconds);
+  }
+
+  /**
+   * @return the number made up of the digits or -1 when any are not digits
+   */
+  private static int digits(String value, int start, int count) {
+    int result = 0;
+
+    for (int i = start; i < start + count; i++) {
+      final char character = value.charAt(i);
+
+      if (!isDigit(character)) {
+        return -1;
+      }
+
+      result = result * 10 + (character - '0');
+    }
+
+    return result;
+  }
+
+  private static boolean isDigit(char character) {
+    return character >= '0' && character <= '9';
+  }
+
 }
@@ -18,24 +18,34 @@ import static api.support.matchers.EventTypeMatchers.isLogRecordEventType;
 import static api.support.matchers.PubSubRegistrationMatchers.isValidPublishersRegistration;
 import static api.support.matchers.PubSubRegistrationMatchers.isValidSubscribersRegistration;
 import static api.support.matchers.ResponseStatusCodeMatcher.hasStatus;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.HttpStatus.HTTP_CREATED;
 import static org.folio.HttpStatus.HTTP_INTERNAL_SERVER_ERROR;
 import static org.folio.HttpStatus.HTTP_NO_CONTENT;
+import static org.folio.circulation.support.results.Result.failed;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.core.Is.is;
 
+import org.folio.circulation.infrastructure.storage.cache.PolicyCache;
+import org.folio.circulation.infrastructure.storage.cache.PolicyType;
 import org.folio.circulation.rules.cache.CirculationRulesCache;
 import org.folio.circulation.rules.cache.Rules;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.cache.CacheStatistics;
 import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import api.support.APITests;
+import io.vertx.core.json.JsonObject;
+import lombok.SneakyThrows;
 
 class TenantActivationResourceTests extends APITests {
 
@@ -97,4 +107,27 @@ class TenantActivationResourceTests extends APITests {
     assertThat(cachedRules, not(nullValue()));
     assertThat(cachedRules.getRulesAsText(), equalTo(circulationRulesFixture.getCirculationRules()));
   }
+
+  @Test
+  @SneakyThrows
+  void tenantActivationWarmsUpPolicyCache() {
+    final String loanPolicyId = loanPoliciesFixture.canCirculateRolling().getId().toString();
+
+    PolicyCache.getInstance().dropCache();
+    Response response = tenantActivationFixture.postTenant();
+    assertThat(response, hasStatus(HTTP_CREATED));
+
+    final CacheStatistics loanPolicies = PolicyCache.getInstance()
+      .getStatistics(TENANT_ID).get(PolicyType.LOAN);
+
+    assertThat(loanPolicies.size(), greaterThanOrEqualTo(1));
+
+    final Result<JsonObject> cachedPolicy = PolicyCache.getInstance()
+      .getOrFetch(TENANT_ID, PolicyType.LOAN, loanPolicyId,
+        id -> completedFuture(failed(new ServerErrorFailure("Policy should be cached"))))
+      .get();
+
+    assertThat(cachedPolicy.succeeded(), is(true));
+    assertThat(cachedPolicy.value().getString("id"), is(loanPolicyId));
+  }
 }
@@ -0,0 +1,59 @@
+package api.load;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import api.support.APITests;
+import api.support.fixtures.policies.PoliciesToActivate;
+import api.support.http.IndividualResource;
+import api.support.load.LoadDriver;
+import api.support.load.LoadTestData;
+import api.support.load.LoadTestData.LoanPolicies;
+import api.support.load.LoadTestSettings;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Only run when asked for (-Dload.test=true) as seeding and driving the workload
+ * takes minutes, see the README for the settings
+ */
+@EnabledIfSystemProperty(named = "load.test", matches = "true")
+class CirculationLoadTests extends APITests {
+  private static final Logger log = LogManager.getLogger(CirculationLoadTests.class);
+
+  private static final Path REPORT = Path.of("target", "load-test-report.json");
+
+  @Test
+  void canSustainMixedCirculationWorkload() throws IOException {
+    final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    final IndividualResource servicePoint = servicePointsFixture.cd1();
+    final PoliciesToActivate policies = defaultRollingPolicies().build();
+
+    final LoadTestData data = LoadTestData.seed(settings,
+      itemsFixture.basedUponSmallAngryPlanet(), usersFixture.steve().copyJson(),
+      new LoanPolicies(policies.getLoanPolicy().getId(), policies.getOverduePolicy().getId(),
+        policies.getLostItemPolicy().getId()), servicePoint.getId());
+
+    final JsonObject report = new LoadDriver(settings, data, servicePoint.getId()).run();
+
+    log.info("Load test report: {}", report.encodePrettily());
+
+    Files.createDirectories(REPORT.getParent());
+    Files.writeString(REPORT, report.encodePrettily());
+
+    final int completed = report.getJsonArray("operations").stream()
+      .map(JsonObject.class::cast)
+      .mapToInt(operation -> operation.getInteger("completed"))
+      .sum();
+
+    assertThat(completed, greaterThan(0));
+  }
+}
@@ -10,11 +10,13 @@ import static java.time.ZoneOffset.UTC;
 import static java.util.Comparator.comparing;
 import static org.folio.circulation.domain.representations.logs.LogEventType.NOTICE;
 import static org.folio.circulation.domain.representations.logs.LogEventType.NOTICE_ERROR;
+import static org.folio.circulation.support.http.server.DownstreamCallTracking.DOWNSTREAM_CALLS_HEADER;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getDateTimeProperty;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -26,12 +28,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import api.support.builders.AddInfoRequestBuilder;
 import org.folio.circulation.domain.policy.Period;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.http.server.DownstreamCallTracking;
 import org.folio.circulation.support.utils.ClockUtil;
 import org.folio.circulation.support.utils.DateFormatUtil;
 import org.hamcrest.Matcher;
@@ -452,6 +457,31 @@ class DueDateScheduledNoticesProcessingTests extends APITests {
     verifyNumberOfPublishedEvents(NOTICE_ERROR, 2);
   }
 
+  @Test
+  void noticesDeletedWhilstProcessingAreDeletedTogether() {
+    generateLoanAndScheduledNotices();
+
+    final int numberOfNotices = 10;
+
+    createNoticesOverTime(dueDate.minusMinutes(1)::minusHours, numberOfNotices).stream()
+      .map(notice -> notice.put("loanId", UUID.randomUUID().toString()))
+      .forEach(scheduledNoticesClient::create);
+
+    mockClockManagerToReturnFixedDateTime(dueDate.minusSeconds(1));
+    DownstreamCallTracking.setHeaderEnabled(true);
+
+    try {
+      final Response response = scheduledNoticeProcessingClient.runLoanNoticesProcessing();
+
+      assertThat(scheduledNoticeDeletions(response), lessThan(numberOfNotices));
+    } finally {
+      DownstreamCallTracking.setDefaultHeaderEnabled();
+    }
+
+    verifyNumberOfScheduledNotices(0);
+    verifyNumberOfPublishedEvents(NOTICE_ERROR, numberOfNotices);
+  }
+
   @Test
   void testNoticesForNullPatronGroupsDoNotBlockTheQueue() {
     generateLoanAndScheduledNotices();
@@ -787,6 +817,20 @@ class DueDateScheduledNoticesProcessingTests extends APITests {
       );
   }
 
+  private static int scheduledNoticeDeletions(Response response) {
+    final var deletions = Pattern.compile(
+        "DELETE /scheduled-notice-storage/scheduled-notices(/:id)? calls=(\\d+)")
+      .matcher(response.getHeader(DOWNSTREAM_CALLS_HEADER));
+
+    int calls = 0;
+
+    while (deletions.find()) {
+      calls += Integer.parseInt(deletions.group(2));
+    }
+
+    return calls;
+  }
+
   private static Matcher<JsonObject> scheduledNoticeMatcher(UUID loanId, UUID templateId,
     String timing, Period recurringPeriod, ZonedDateTime nextRunTime) {
 
@@ -1,9 +1,17 @@
 package api.loans;
 
 import static api.support.JsonCollectionAssistant.getRecordById;
+import static api.support.MultipleJsonRecords.multipleRecordsFrom;
+import static api.support.http.CqlQuery.exactMatch;
+import static api.support.http.Limit.limit;
+import static api.support.http.api.support.NamedQueryStringParameter.namedParameter;
 import static api.support.matchers.UUIDMatcher.is;
+import static api.support.matchers.ValidationErrorMatchers.hasErrorWith;
+import static api.support.matchers.ValidationErrorMatchers.hasMessageContaining;
+import static api.support.matchers.ValidationErrorMatchers.hasParameter;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,6 +21,7 @@ import org.folio.circulation.support.http.client.Response;
 import org.junit.jupiter.api.Test;
 
 import api.support.APITests;
+import api.support.MultipleJsonRecords;
 import api.support.http.ItemResource;
 import io.vertx.core.json.JsonObject;
 
@@ -111,4 +120,78 @@ class LoanAPIRelatedRecordsTests extends APITests {
       secondFetchedLoan.getJsonObject("item").getString("instanceId"),
       is(temeraire.getInstanceId()));
   }
+
+  @Test
+  void onlyIncludedRelatedRecordsAreFetchedForLoans() {
+    checkOutFixture.checkOutByBarcode(itemsFixture.basedUponSmallAngryPlanet(),
+      usersFixture.jessica());
+
+    checkOutFixture.checkOutByBarcode(itemsFixture.basedUponTemeraire(),
+      usersFixture.james());
+
+    final MultipleJsonRecords loans = multipleRecordsFrom(loansFixture.attemptToGetLoans(
+      namedParameter("include", "users,loanPolicies")), "loans");
+
+    assertThat(loans.size(), is(2));
+
+    loans.forEach(loan -> {
+      assertThat("has borrower", loan.containsKey("borrower"), is(true));
+      assertThat("has loan policy", loan.containsKey("loanPolicy"), is(true));
+      assertThat("has overdue fine policy", loan.containsKey("overdueFinePolicy"), is(false));
+      assertThat("has lost item policy", loan.containsKey("lostItemPolicy"), is(false));
+      assertThat("has checkout service point",
+        loan.containsKey("checkoutServicePoint"), is(false));
+    });
+  }
+
+  @Test
+  void unknownKindOfRelatedRecordsIsRejectedForLoans() {
+    final Response response = loansFixture.attemptToGetLoans(
+      namedParameter("include", "users,unknown"));
+
+    assertThat(response.getStatusCode(), is(422));
+
+    assertThat(response.getJson(), hasErrorWith(allOf(
+      hasMessageContaining("unknown is not one of"),
+      hasParameter("include", "users,unknown"))));
+  }
+
+  @Test
+  void includedRelatedRecordsCanBeCombinedWithQueryAndLimitForLoans() {
+    final IndividualResource jessica = usersFixture.jessica();
+
+    checkOutFixture.checkOutByBarcode(itemsFixture.basedUponSmallAngryPlanet(), jessica);
+    checkOutFixture.checkOutByBarcode(itemsFixture.basedUponNod(), jessica);
+    checkOutFixture.checkOutByBarcode(itemsFixture.basedUponTemeraire(),
+      usersFixture.james());
+
+    // loan storage rejects unexpected parameters, so include must not be passed on
+    final Response response = loansFixture.attemptToGetLoans(
+      exactMatch("userId", jessica.getId().toString()), limit(1),
+      namedParameter("include", "users"));
+
+    assertThat(response.getStatusCode(), is(200));
+
+    final MultipleJsonRecords loans = multipleRecordsFrom(response, "loans");
+
+    assertThat(loans.size(), is(1));
+    assertThat(loans.totalRecords(), is(2));
+    assertThat(loans.getFirst().getString("userId"), is(jessica.getId()));
+    assertThat("has borrower", loans.getFirst().containsKey("borrower"), is(true));
+  }
+
+  @Test
+  void includingPatronGroupsAlsoIncludesUsersForLoans() {
+    checkOutFixture.checkOutByBarcode(itemsFixture.basedUponSmallAngryPlanet(),
+      usersFixture.steve());
+
+    final MultipleJsonRecords loans = multipleRecordsFrom(loansFixture.attemptToGetLoans(
+      namedParameter("include", "patronGroups")), "loans");
+
+    final JsonObject loan = loans.getFirst();
+
+    assertThat("has borrower", loan.containsKey("borrower"), is(true));
+    loanHasPatronGroupProperties(loan, "Regular Group");
+    assertThat("has loan policy", loan.containsKey("loanPolicy"), is(false));
+  }
 }
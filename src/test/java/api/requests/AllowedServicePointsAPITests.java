@@ -14,6 +14,7 @@ import static org.folio.circulation.domain.RequestLevel.TITLE;
 import static org.folio.circulation.domain.RequestType.HOLD;
 import static org.folio.circulation.domain.RequestType.PAGE;
 import static org.folio.circulation.domain.RequestType.RECALL;
+import static org.folio.circulation.support.http.server.DownstreamCallTracking.DOWNSTREAM_CALLS_HEADER;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
@@ -21,6 +22,7 @@ import static org.hamcrest.Matchers.emptyIterable;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 
 import java.time.ZonedDateTime;
@@ -38,6 +40,7 @@ import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.RequestLevel;
 import org.folio.circulation.domain.RequestType;
 import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.http.server.DownstreamCallTracking;
 import org.hamcrest.core.IsNull;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -562,6 +565,29 @@ class AllowedServicePointsAPITests extends APITests {
     assertServicePointsMatch(allowedPageServicePoints, List.of(cd1, cd2));
   }
 
+  @Test
+  void requestPoliciesForInstanceItemsAreChosenWithoutFetchingLocationsOrRules() {
+    var requesterId = usersFixture.steve().getId().toString();
+    var instanceId = itemsFixture.createMultipleItemsForTheSameInstance(3).get(0)
+      .getInstanceId().toString();
+    setRequestPolicyWithAllowedServicePoints(PAGE, Set.of(servicePointsFixture.cd1().getId()));
+
+    // the first request caches the items' locations, as enabling the module would
+    getCreateOp(requesterId, instanceId, null, HttpStatus.SC_OK);
+
+    DownstreamCallTracking.setHeaderEnabled(true);
+
+    try {
+      final String downstreamCalls = getCreateOp(requesterId, instanceId, null,
+        HttpStatus.SC_OK).getHeader(DOWNSTREAM_CALLS_HEADER);
+
+      assertThat(downstreamCalls, not(containsString("/locations")));
+      assertThat(downstreamCalls, not(containsString("/circulation/rules")));
+    } finally {
+      DownstreamCallTracking.setDefaultHeaderEnabled();
+    }
+  }
+
   @Test
   void shouldReturnAllowedServicePointsForAllEnabledRequestTypes() {
     var requesterId = usersFixture.steve().getId().toString();
@@ -1,6 +1,8 @@
 package api.requests;
 
 import static api.support.JsonCollectionAssistant.getRecordById;
+import static api.support.http.Limit.limit;
+import static api.support.http.Offset.offset;
 import static api.support.matchers.ItemMatchers.isInTransit;
 import static api.support.matchers.TextDateTimeMatcher.isEquivalentTo;
 import static java.time.ZoneOffset.UTC;
@@ -29,6 +31,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import api.support.APITests;
+import api.support.MultipleJsonRecords;
 import api.support.builders.CheckInByBarcodeRequestBuilder;
 import api.support.builders.ItemBuilder;
 import api.support.builders.RequestBuilder;
@@ -472,6 +475,31 @@ class ItemsInTransitReportTests extends APITests {
     assertThat(itemsInTransitReport.size(), is(200));
   }
 
+  @Test
+  void reportCanBeFetchedAPageAtATime() {
+    final UUID firstServicePointId = servicePointsFixture.cd1().getId();
+    final UUID forthServicePointLocationId = locationsFixture.fourthServicePoint().getId();
+
+    for (int i = 0; i < 5; i++) {
+      ItemResource item = createSmallAngryPlanetCopy(forthServicePointLocationId,
+        Integer.toString(i));
+
+      checkOutFixture.checkOutByBarcode(item);
+      checkInFixture.checkInByBarcode(new CheckInByBarcodeRequestBuilder()
+        .forItem(item)
+        .at(firstServicePointId));
+    }
+
+    final ResourceClient reportClient = ResourceClient.forItemsInTransitReport();
+    final List<JsonObject> wholeReport = reportClient.getAll();
+
+    final MultipleJsonRecords page = reportClient.getMany(limit(2), offset(3));
+
+    assertThat(page.totalRecords(), is(5));
+    assertThat(page.stream().map(item -> item.getString("id")).toList(),
+      is(wholeReport.subList(3, 5).stream().map(item -> item.getString("id")).toList()));
+  }
+
   @Test
   void reportShouldNotFailWithoutLastCheckInServicePointId() {
     ItemResource item = checkOutAndCheckInItem(servicePointsFixture.cd1().getId());
@@ -1,8 +1,16 @@
 package api.requests;
 
 import static api.support.JsonCollectionAssistant.getRecordById;
+import static api.support.MultipleJsonRecords.multipleRecordsFrom;
+import static api.support.http.CqlQuery.exactMatch;
+import static api.support.http.Limit.limit;
+import static api.support.http.api.support.NamedQueryStringParameter.namedParameter;
 import static api.support.matchers.UUIDMatcher.is;
+import static api.support.matchers.ValidationErrorMatchers.hasErrorWith;
+import static api.support.matchers.ValidationErrorMatchers.hasMessageContaining;
+import static api.support.matchers.ValidationErrorMatchers.hasParameter;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.core.Is.is;
 
 import java.util.List;
@@ -12,6 +20,7 @@ import org.folio.circulation.support.http.client.Response;
 import org.junit.jupiter.api.Test;
 
 import api.support.APITests;
+import api.support.MultipleJsonRecords;
 import api.support.builders.RequestBuilder;
 import api.support.http.IndividualResource;
 import api.support.http.ItemResource;
@@ -140,4 +149,93 @@ class RequestsAPIRelatedRecordsTests extends APITests {
       fetchedRequestsResponse.get(1).getString("instanceId"),
       is(instanceId));
   }
+
+  @Test
+  void onlyIncludedRelatedRecordsAreFetchedForRequests() {
+    final IndividualResource charlotte = usersFixture.charlotte();
+
+    requestFor(itemsFixture.basedUponSmallAngryPlanet(), charlotte);
+    requestFor(itemsFixture.basedUponTemeraire(), charlotte);
+
+    final MultipleJsonRecords requests = multipleRecordsFrom(
+      requestsFixture.attemptToGetRequests(namedParameter("include", "items,users")),
+      "requests");
+
+    assertThat(requests.size(), is(2));
+
+    requests.forEach(request -> {
+      assertThat("Item has status",
+        request.getJsonObject("item").containsKey("status"), is(true));
+
+      assertThat("Requester has patron group ID",
+        request.getJsonObject("requester").containsKey("patronGroupId"), is(true));
+
+      assertThat("Requester has patron group",
+        request.getJsonObject("requester").containsKey("patronGroup"), is(false));
+
+      assertThat("Request has loan", request.containsKey("loan"), is(false));
+
+      assertThat("Request has pickup service point",
+        request.containsKey("pickupServicePoint"), is(false));
+    });
+  }
+
+  @Test
+  void unknownKindOfRelatedRecordsIsRejectedForRequests() {
+    final Response response = requestsFixture.attemptToGetRequests(
+      namedParameter("include", "items,unknown"));
+
+    assertThat(response.getStatusCode(), is(422));
+
+    assertThat(response.getJson(), hasErrorWith(allOf(
+      hasMessageContaining("unknown is not one of"),
+      hasParameter("include", "items,unknown"))));
+  }
+
+  @Test
+  void includedRelatedRecordsCanBeCombinedWithQueryAndLimitForRequests() {
+    final IndividualResource charlotte = usersFixture.charlotte();
+
+    requestFor(itemsFixture.basedUponSmallAngryPlanet(), charlotte);
+    requestFor(itemsFixture.basedUponNod(), charlotte);
+    requestFor(itemsFixture.basedUponTemeraire(), usersFixture.james());
+
+    // request storage rejects unexpected parameters, so include must not be passed on
+    final Response response = requestsFixture.attemptToGetRequests(
+      exactMatch("requesterId", charlotte.getId().toString()), limit(1),
+      namedParameter("include", "users"));
+
+    assertThat(response.getStatusCode(), is(200));
+
+    final MultipleJsonRecords requests = multipleRecordsFrom(response, "requests");
+
+    assertThat(requests.size(), is(1));
+    assertThat(requests.totalRecords(), is(2));
+    assertThat(requests.getFirst().getString("requesterId"), is(charlotte.getId()));
+
+    assertThat("Requester has patron group ID", requests.getFirst()
+      .getJsonObject("requester").containsKey("patronGroupId"), is(true));
+  }
+
+  @Test
+  void includingPatronGroupsAlsoIncludesUsersForRequests() {
+    requestFor(itemsFixture.basedUponSmallAngryPlanet(), usersFixture.charlotte());
+
+    final JsonObject requester = multipleRecordsFrom(
+      requestsFixture.attemptToGetRequests(namedParameter("include", "patronGroups")),
+      "requests").getFirst().getJsonObject("requester");
+
+    assertThat("Requester has patron group ID", requester.containsKey("patronGroupId"), is(true));
+    assertThat("Requester has patron group", requester.containsKey("patronGroup"), is(true));
+  }
+
+  private void requestFor(ItemResource item, IndividualResource requester) {
+    checkOutFixture.checkOutByBarcode(item);
+
+    requestsClient.create(new RequestBuilder()
+      .forItem(item)
+      .withPickupServicePointId(servicePointsFixture.cd1().getId())
+      .withInstanceId(item.getInstanceId())
+      .by(requester));
+  }
 }
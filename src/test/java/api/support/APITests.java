@@ -70,6 +70,11 @@ import api.support.fixtures.TemplateFixture;
 import api.support.fixtures.TenantActivationFixture;
 import api.support.fixtures.UserManualBlocksFixture;
 import api.support.fixtures.UsersFixture;
+import org.folio.circulation.infrastructure.storage.cache.ItemsInTransitReportCache;
+import org.folio.circulation.infrastructure.storage.cache.OpeningHoursCache;
+import org.folio.circulation.infrastructure.storage.cache.PolicyCache;
+import org.folio.circulation.infrastructure.storage.cache.ReferenceDataCache;
+import org.folio.circulation.infrastructure.storage.cache.TenantSettingsCache;
 import org.junit.Assert;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -78,6 +83,7 @@ import org.testcontainers.containers.KafkaContainer;
 import org.testcontainers.utility.DockerImageName;
 
 import api.support.fakes.FakeModNotify;
+import api.support.fakes.FakeOkapi;
 import api.support.fakes.FakePubSub;
 import api.support.fakes.FakeStorageModule;
 import api.support.fixtures.policies.PoliciesActivationFixture;
@@ -337,6 +343,13 @@ public abstract class APITests {
       useDefaultRollingPolicyCirculationRules();
     }
 
+    // fake storage modules do not publish change events, so cached records could be stale
+    ReferenceDataCache.getInstance().dropCache();
+    PolicyCache.getInstance().dropCache();
+    ItemsInTransitReportCache.getInstance().dropCache();
+    TenantSettingsCache.getInstance().dropCache();
+    OpeningHoursCache.getInstance().dropCache();
+
     usersFixture.defaultAdmin();
     noteTypeFixture.generalNoteType();
 
@@ -346,6 +359,7 @@ public abstract class APITests {
     FakeModNotify.clearSentPatronNotices();
     FakeModNotify.setFailPatronNoticesWithBadRequest(false);
     FakeStorageModule.cleanUpRequestMappings();
+    FakeOkapi.clearRequestsReceived();
   }
 
   @AfterEach
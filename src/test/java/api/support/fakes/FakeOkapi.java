@@ -12,6 +12,7 @@ import static api.support.fakes.StorageSchema.validatorForStorageItemSchema;
 import static api.support.fakes.StorageSchema.validatorForStorageLoanSchema;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static org.folio.circulation.support.http.OkapiHeader.REQUEST_ID;
 import static org.folio.circulation.support.http.server.ForwardResponse.forward;
 import static org.folio.circulation.support.http.server.NoContentResponse.noContent;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
@@ -20,7 +21,10 @@ import static org.folio.rest.tools.utils.NetworkUtils.nextFreePort;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.folio.circulation.support.ValidationErrorFailure;
@@ -44,6 +48,8 @@ public class FakeOkapi extends AbstractVerticle {
   private static final String address =
     String.format("http://localhost:%s", PORT_TO_USE);
 
+  private static final Map<String, AtomicInteger> requestsReceived = new ConcurrentHashMap<>();
+
   private HttpServer server;
   private String circulationRules = "{ \"rulesAsText\": \"\" }";
 
@@ -51,6 +57,24 @@ public class FakeOkapi extends AbstractVerticle {
     return address;
   }
 
+  /**
+   * The number of requests received (and then forgotten) with the request ID,
+   * which is passed on by the circulation module for all requests made whilst
+   * processing an incoming request
+   */
+  public static int takeRequestsReceived(String requestId) {
+    final AtomicInteger count = requestsReceived.remove(requestId);
+
+    return count == null ? 0 : count.get();
+  }
+
+  /**
+   * Forgets the requests received for all request IDs, including those never taken
+   */
+  public static void clearRequestsReceived() {
+    requestsReceived.clear();
+  }
+
   @Override
   public void start(Promise<Void> startFuture) throws IOException {
     log.debug("Starting fake loan storage module");
@@ -59,6 +83,8 @@ public class FakeOkapi extends AbstractVerticle {
 
     this.server = vertx.createHttpServer();
 
+    router.route().handler(FakeOkapi::countRequest);
+
     forwardRequestsToApplyCirculationRulesBackToCirculationModule(router);
 
     new FakeStorageModuleBuilder()
@@ -128,6 +154,7 @@ public class FakeOkapi extends AbstractVerticle {
       .withRecordName("fixed due date schedules")
       .withRootPath("/fixed-due-date-schedule-storage/fixed-due-date-schedules")
       .withCollectionPropertyName("fixedDueDateSchedules")
+      .withChangeMetadata()
       .withUniqueProperties("name")
       .create().register(router);
 
@@ -135,6 +162,7 @@ public class FakeOkapi extends AbstractVerticle {
       .withRecordName("loan policy")
       .withRootPath("/loan-policy-storage/loan-policies")
       .withCollectionPropertyName("loanPolicies")
+      .withChangeMetadata()
       .withRequiredProperties("name", "loanable", "renewable")
       .create().register(router);
 
@@ -155,6 +183,7 @@ public class FakeOkapi extends AbstractVerticle {
       .withRecordName("request policy")
       .withRootPath("/request-policy-storage/request-policies")
       .withCollectionPropertyName("requestPolicies")
+      .withChangeMetadata()
       .withRequiredProperties("name")
       .create().register(router);
 
@@ -162,6 +191,7 @@ public class FakeOkapi extends AbstractVerticle {
       .withRecordName("notice policy")
       .withRootPath("/patron-notice-policy-storage/patron-notice-policies")
       .withCollectionPropertyName("patronNoticePolicies")
+      .withChangeMetadata()
       .withRequiredProperties("name", "active")
       .create().register(router);
 
@@ -169,6 +199,7 @@ public class FakeOkapi extends AbstractVerticle {
       .withRecordName("overdue fine policy")
       .withRootPath("/overdue-fines-policies")
       .withCollectionPropertyName("overdueFinePolicies")
+      .withChangeMetadata()
       .withRequiredProperties("name")
       .create().register(router);
 
@@ -176,6 +207,7 @@ public class FakeOkapi extends AbstractVerticle {
       .withRecordName("lost item fee policy")
       .withRootPath("/lost-item-fees-policies")
       .withCollectionPropertyName("lostItemFeePolicies")
+      .withChangeMetadata()
       .withRequiredProperties("name")
       .create().register(router);
 
@@ -428,6 +460,16 @@ public class FakeOkapi extends AbstractVerticle {
       });
   }
 
+  private static void countRequest(RoutingContext context) {
+    final String requestId = context.request().getHeader(REQUEST_ID);
+
+    if (requestId != null) {
+      requestsReceived.computeIfAbsent(requestId, id -> new AtomicInteger()).incrementAndGet();
+    }
+
+    context.next();
+  }
+
   private Result<Object> userHasAlreadyAcquiredLock(Collection<JsonObject> existingRequests, JsonObject currentRequest) {
     return existingRequests.stream()
       .filter(req -> Objects.equals(req.getString("userId"),
@@ -80,6 +80,17 @@ public class FakeStorageModule extends AbstractVerticle {
     return queries.stream();
   }
 
+  /**
+   * Adds records directly to storage, without any of the checks or processing applied
+   * to records created via the API (e.g. when seeding large volumes of records)
+   */
+  public static void addRecords(String rootPath, String tenantId, Stream<JsonObject> records) {
+    final Map<String, JsonObject> resources = Storage.getStorage()
+      .getTenantResources(rootPath, tenantId);
+
+    records.forEach(record -> resources.put(record.getString("id"), record));
+  }
+
   FakeStorageModule(
     String rootPath,
     String collectionPropertyName,
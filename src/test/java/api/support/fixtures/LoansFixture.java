@@ -12,6 +12,7 @@ import static api.support.http.Limit.maximumLimit;
 import static api.support.http.Limit.noLimit;
 import static api.support.http.Offset.noOffset;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.Arrays.asList;
 
 import java.net.URL;
 import java.time.ZonedDateTime;
@@ -32,6 +33,7 @@ import api.support.http.IndividualResource;
 import api.support.http.Limit;
 import api.support.http.Offset;
 import api.support.http.OkapiHeaders;
+import api.support.http.QueryStringParameter;
 import io.vertx.core.json.JsonObject;
 
 public class LoansFixture {
@@ -261,6 +263,10 @@ public class LoansFixture {
     return getLoans(noQuery(), maximumLimit(), noOffset());
   }
 
+  public Response attemptToGetLoans(QueryStringParameter... parameters) {
+    return restAssuredClient.get(loansUrl(), asList(parameters), "get-loans");
+  }
+
   public void deleteLoan(UUID loanId) {
     restAssuredClient.delete(urlForLoan(loanId), 204, "delete-loan");
   }
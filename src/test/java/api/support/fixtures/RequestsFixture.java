@@ -9,6 +9,7 @@ import static api.support.http.Limit.noLimit;
 import static api.support.http.Offset.noOffset;
 import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.Arrays.asList;
 import static java.util.function.Function.identity;
 
 import java.net.URL;
@@ -29,6 +30,7 @@ import api.support.http.IndividualResource;
 import api.support.http.ItemResource;
 import api.support.http.Limit;
 import api.support.http.Offset;
+import api.support.http.QueryStringParameter;
 import api.support.http.ResourceClient;
 import io.vertx.core.json.JsonObject;
 
@@ -353,6 +355,10 @@ public class RequestsFixture {
       limit, offset, HTTP_OK, "get-requests"), REQUESTS_COLLECTION_PROPERTY_NAME);
   }
 
+  public Response attemptToGetRequests(QueryStringParameter... parameters) {
+    return restAssuredClient.get(requestsUrl(), asList(parameters), "get-requests");
+  }
+
   //TODO: Replace return type with MultipleJsonRecords
   public MultipleRecords<JsonObject> getQueueFor(IndividualResource item) {
     return MultipleRecords.from(restAssuredClient.get(
@@ -10,6 +10,8 @@ import java.time.Clock;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
+import org.folio.circulation.support.http.client.Response;
+
 import api.support.http.TimedTaskClient;
 
 public class ScheduledNoticeProcessingClient {
@@ -23,11 +25,11 @@ public class ScheduledNoticeProcessingClient {
     runWithFrozenClock(this::runLoanNoticesProcessing, mockSystemTime);
   }
 
-  public void runLoanNoticesProcessing() {
+  public Response runLoanNoticesProcessing() {
     URL url = circulationModuleUrl(
       "/circulation/loan-scheduled-notices-processing");
 
-    timedTaskClient.start(url, 204,
+    return timedTaskClient.start(url, 204,
       "loan-scheduled-notices-processing-request");
   }
 
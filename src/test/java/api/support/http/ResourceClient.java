@@ -13,6 +13,8 @@ import java.net.URL;
 import java.util.List;
 import java.util.UUID;
 
+import org.folio.circulation.infrastructure.storage.cache.PolicyCache;
+import org.folio.circulation.infrastructure.storage.cache.TenantSettingsCache;
 import org.folio.circulation.support.http.client.Response;
 
 import api.support.MultipleJsonRecords;
@@ -24,6 +26,7 @@ public class ResourceClient {
   private final RestAssuredClient restAssuredClient;
   private final UrlMaker urlMaker;
   private final String collectionArrayPropertyName;
+  private final Runnable afterWrite;
 
   public static ResourceClient forItems() {
     return new ResourceClient(InterfaceUrls::itemsStorageUrl, "items");
@@ -95,32 +98,32 @@ public class ResourceClient {
 
   public static ResourceClient forLoanPolicies() {
     return new ResourceClient(InterfaceUrls::loanPoliciesStorageUrl,
-      "loanPolicies");
+      "loanPolicies", ResourceClient::dropPolicyCache);
   }
 
   public static ResourceClient forRequestPolicies() {
     return new ResourceClient(InterfaceUrls::requestPoliciesStorageUrl,
-      "requestPolicies");
+      "requestPolicies", ResourceClient::dropPolicyCache);
   }
 
   public static ResourceClient forNoticePolicies() {
     return new ResourceClient(InterfaceUrls::noticePoliciesStorageUrl,
-      "patronNoticePolicies");
+      "patronNoticePolicies", ResourceClient::dropPolicyCache);
   }
 
   public static ResourceClient forOverdueFinePolicies() {
     return new ResourceClient(InterfaceUrls::overdueFinesPoliciesStorageUrl,
-      "overdueFinePolicies");
+      "overdueFinePolicies", ResourceClient::dropPolicyCache);
   }
 
   public static ResourceClient forLostItemFeePolicies() {
     return new ResourceClient(InterfaceUrls::lostItemFeesPoliciesStorageUrl,
-      "lostItemFeePolicies");
+      "lostItemFeePolicies", ResourceClient::dropPolicyCache);
   }
 
   public static ResourceClient forFixedDueDateSchedules() {
     return new ResourceClient(InterfaceUrls::fixedDueDateSchedulesStorageUrl,
-      "fixedDueDateSchedules");
+      "fixedDueDateSchedules", ResourceClient::dropPolicyCache);
   }
 
   public static ResourceClient forUsers() {
@@ -155,7 +158,7 @@ public class ResourceClient {
 
   public static ResourceClient forSettingsStorage() {
     return new ResourceClient(subPath ->
-      InterfaceUrls.settingsStorageUrl(), "items");
+      InterfaceUrls.settingsStorageUrl(), "items", ResourceClient::dropSettingsCache);
   }
 
   public static ResourceClient forLoansStorage() {
@@ -247,7 +250,8 @@ public class ResourceClient {
   }
 
   public static ResourceClient forConfiguration() {
-    return new ResourceClient(InterfaceUrls::configurationUrl, "configs");
+    return new ResourceClient(InterfaceUrls::configurationUrl, "configs",
+      ResourceClient::dropSettingsCache);
   }
 
   public static ResourceClient forTemplates() {
@@ -273,11 +277,28 @@ public class ResourceClient {
   }
 
   private ResourceClient(UrlMaker urlMaker, String collectionArrayPropertyName) {
+    this(urlMaker, collectionArrayPropertyName, () -> {});
+  }
+
+  private ResourceClient(UrlMaker urlMaker, String collectionArrayPropertyName,
+    Runnable afterWrite) {
+
     this.urlMaker = urlMaker;
     this.collectionArrayPropertyName = collectionArrayPropertyName;
+    this.afterWrite = afterWrite;
     restAssuredClient = new RestAssuredClient(getOkapiHeadersFromContext());
   }
 
+  // fake storage modules do not publish change events, so cached settings could be stale
+  private static void dropSettingsCache() {
+    TenantSettingsCache.getInstance().dropCache();
+  }
+
+  // policy storage does not publish change events, so cached policies could be stale
+  private static void dropPolicyCache() {
+    PolicyCache.getInstance().dropCache();
+  }
+
   public Response attemptCreate(Builder builder) {
     return attemptCreate(builder.create());
   }
@@ -288,12 +309,12 @@ public class ResourceClient {
 
   public Response attemptCreate(JsonObject representation) {
 
-    return restAssuredClient.post(representation, rootUrl(),
-        "attempt-create-record");
+    return written(restAssuredClient.post(representation, rootUrl(),
+        "attempt-create-record"));
   }
 
   public Response attemptCreate(JsonObject representation, OkapiHeaders okapiHeaders) {
-    return restAssuredClient.post(representation, rootUrl(), okapiHeaders);
+    return written(restAssuredClient.post(representation, rootUrl(), okapiHeaders));
   }
 
   public IndividualResource create(Builder builder) {
@@ -302,8 +323,8 @@ public class ResourceClient {
 
   public IndividualResource create(JsonObject representation) {
 
-    return  new IndividualResource(restAssuredClient.post(representation,
-      rootUrl(), 201, "create-record"));
+    return  new IndividualResource(written(restAssuredClient.post(representation,
+      rootUrl(), 201, "create-record")));
   }
 
   public Response attemptCreateAtSpecificLocation(Builder builder) {
@@ -311,8 +332,8 @@ public class ResourceClient {
     final JsonObject representation = builder.create();
     final URL location = recordUrl(representation.getString("id"));
 
-    return restAssuredClient.put(representation, location,
-      "attempt-create-record-at-specific-location");
+    return written(restAssuredClient.put(representation, location,
+      "attempt-create-record-at-specific-location"));
   }
 
   public IndividualResource createAtSpecificLocation(Builder builder) {
@@ -320,8 +341,8 @@ public class ResourceClient {
     final JsonObject representation = builder.create();
     final URL location = recordUrl(representation.getString("id"));
 
-    restAssuredClient.put(representation, location, HTTP_NO_CONTENT,
-      "create-record-at-specific-location");
+    written(restAssuredClient.put(representation, location, HTTP_NO_CONTENT,
+      "create-record-at-specific-location"));
 
     return get(location);
   }
@@ -333,8 +354,8 @@ public class ResourceClient {
 
   public Response attemptReplace(UUID id, JsonObject representation) {
 
-    return restAssuredClient.put(representation, recordUrl(id),
-      "attempt-replace-record");
+    return written(restAssuredClient.put(representation, recordUrl(id),
+      "attempt-replace-record"));
   }
 
   public void replace(UUID id, Builder builder) {
@@ -343,8 +364,8 @@ public class ResourceClient {
 
   public void replace(UUID id, JsonObject representation) {
 
-    restAssuredClient.put(representation, recordUrl(id), HTTP_NO_CONTENT,
-      "create-record-at-specific-location");
+    written(restAssuredClient.put(representation, recordUrl(id), HTTP_NO_CONTENT,
+      "create-record-at-specific-location"));
   }
 
   public Response getById(UUID id) {
@@ -364,6 +385,13 @@ public class ResourceClient {
     return new IndividualResource(restAssuredClient.get(url, 200, "get-record"));
   }
 
+  public MultipleJsonRecords getMany(Limit limit, Offset offset) {
+    Response response = restAssuredClient.get(urlMaker.combine(""), noQuery(),
+      limit, offset, 200, "get-many");
+
+    return MultipleJsonRecords.multipleRecordsFrom(response, collectionArrayPropertyName);
+  }
+
   public MultipleJsonRecords getMany(CqlQuery query) {
     Response response = restAssuredClient.get(urlMaker.combine(""), query,
       noLimit(), noOffset(), 200, "get-many");
@@ -377,7 +405,7 @@ public class ResourceClient {
   }
 
   public void delete(UUID id) {
-    restAssuredClient.delete(recordUrl(id), HTTP_NO_CONTENT, "delete-record");
+    written(restAssuredClient.delete(recordUrl(id), HTTP_NO_CONTENT, "delete-record"));
   }
 
   public void delete(IndividualResource resource) {
@@ -385,7 +413,7 @@ public class ResourceClient {
   }
 
   public void deleteAll() {
-    restAssuredClient.delete(rootUrl(), HTTP_NO_CONTENT, "delete-all-records");
+    written(restAssuredClient.delete(rootUrl(), HTTP_NO_CONTENT, "delete-all-records"));
   }
 
   public void deleteAllIndividually() {
@@ -401,6 +429,12 @@ public class ResourceClient {
       .getJson(), collectionArrayPropertyName));
   }
 
+  private Response written(Response response) {
+    afterWrite.run();
+
+    return response;
+  }
+
   private URL recordUrl(Object id) {
     return urlMaker.combine(String.format("/%s", id));
   }
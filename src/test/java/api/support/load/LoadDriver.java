@@ -0,0 +1,281 @@
+package api.support.load;
+
+import static api.support.APITestContext.circulationModuleUrl;
+import static api.support.APITestContext.getOkapiHeadersFromContext;
+import static org.folio.circulation.support.http.OkapiHeader.OKAPI_URL;
+import static org.folio.circulation.support.http.OkapiHeader.REQUEST_ID;
+import static org.folio.circulation.support.http.OkapiHeader.TENANT;
+import static org.folio.circulation.support.http.OkapiHeader.TOKEN;
+import static org.folio.circulation.support.http.OkapiHeader.USER_ID;
+import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
+import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
+
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import api.support.builders.RequestBuilder;
+import api.support.fakes.FakeOkapi;
+import api.support.http.OkapiHeaders;
+import api.support.load.LoadTestData.CheckedOutItem;
+import api.support.load.LoadTestData.SeededItem;
+import api.support.load.LoadTestData.SeededUser;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.SneakyThrows;
+
+/**
+ * Drives a mix of circulation operations against the circulation module at a target rate
+ * (an open workload, operations are started regardless of how many are outstanding,
+ * up to a limit), moving items between the available and checked out pools as it goes.
+ * <p>
+ * Every operation has its own request ID, which the circulation module passes on to the
+ * fake storage modules, so the number of downstream requests for each can be counted.
+ */
+public class LoadDriver {
+  private static final Logger log = LogManager.getLogger(LoadDriver.class);
+
+  private final LoadTestSettings settings;
+  private final UUID servicePointId;
+  private final List<SeededUser> users;
+  private final Queue<SeededItem> availableItems;
+  private final Queue<CheckedOutItem> checkedOutItems;
+  private final Map<Operation, OperationStatistics> statistics = new EnumMap<>(Operation.class);
+  private final Semaphore outstanding;
+  private final OkapiHeaders okapiHeaders = getOkapiHeadersFromContext();
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  public LoadDriver(LoadTestSettings settings, LoadTestData data, UUID servicePointId) {
+    this.settings = settings;
+    this.servicePointId = servicePointId;
+    this.users = data.getUsers();
+    this.availableItems = new ConcurrentLinkedQueue<>(data.getAvailableItems());
+    this.checkedOutItems = new ConcurrentLinkedQueue<>(data.getCheckedOutItems());
+    this.outstanding = new Semaphore(settings.getMaximumOutstandingOperations());
+
+    for (Operation operation : Operation.values()) {
+      statistics.put(operation, new OperationStatistics(operation));
+    }
+  }
+
+  /**
+   * Drives the workload for the configured duration, then waits for outstanding
+   * operations to finish
+   *
+   * @return a summary of each operation
+   */
+  @SneakyThrows
+  public JsonObject run() {
+    log.info("run:: driving {} operations per second for {} seconds",
+      settings.getOperationsPerSecond(), settings.getDurationSeconds());
+
+    final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    scheduler.scheduleAtFixedRate(this::startOperation, 0,
+      TimeUnit.SECONDS.toNanos(1) / settings.getOperationsPerSecond(), TimeUnit.NANOSECONDS);
+
+    TimeUnit.SECONDS.sleep(settings.getDurationSeconds());
+
+    scheduler.shutdownNow();
+    outstanding.tryAcquire(settings.getMaximumOutstandingOperations(), 60, TimeUnit.SECONDS);
+
+    // requests made in the background (e.g. publishing events) may still be arriving
+    TimeUnit.SECONDS.sleep(1);
+
+    final JsonArray operations = new JsonArray();
+
+    statistics.values().forEach(operationStatistics -> operations.add(operationStatistics
+      .summarise(settings.getDurationSeconds(), FakeOkapi::takeRequestsReceived)));
+
+    return new JsonObject()
+      .put("items", settings.getItems())
+      .put("users", settings.getUsers())
+      .put("loans", settings.getLoans())
+      .put("targetOperationsPerSecond", settings.getOperationsPerSecond())
+      .put("durationSeconds", settings.getDurationSeconds())
+      .put("operations", operations);
+  }
+
+  private void startOperation() {
+    final Operation operation = chooseOperation();
+
+    if (!outstanding.tryAcquire()) {
+      statistics.get(operation).skipped();
+      return;
+    }
+
+    final boolean started;
+
+    switch (operation) {
+      case CHECK_OUT -> started = checkOut();
+      case CHECK_IN -> started = checkIn();
+      case RENEW -> started = renew();
+      default -> started = placeHold();
+    }
+
+    if (!started) {
+      statistics.get(operation).skipped();
+      outstanding.release();
+    }
+  }
+
+  private boolean checkOut() {
+    final SeededItem item = availableItems.poll();
+
+    if (item == null) {
+      return false;
+    }
+
+    final SeededUser user = randomUser();
+
+    send(Operation.CHECK_OUT, new JsonObject()
+        .put("itemBarcode", item.getBarcode())
+        .put("userBarcode", user.getBarcode())
+        .put("servicePointId", servicePointId.toString()),
+      succeeded -> {
+        if (succeeded) {
+          checkedOutItems.add(new CheckedOutItem(item, user));
+        } else {
+          availableItems.add(item);
+        }
+      });
+
+    return true;
+  }
+
+  private boolean checkIn() {
+    final CheckedOutItem checkedOut = checkedOutItems.poll();
+
+    if (checkedOut == null) {
+      return false;
+    }
+
+    send(Operation.CHECK_IN, new JsonObject()
+        .put("itemBarcode", checkedOut.getItem().getBarcode())
+        .put("servicePointId", servicePointId.toString())
+        .put("checkInDate", formatDateTime(getZonedDateTime())),
+      succeeded -> {
+        if (succeeded) {
+          availableItems.add(checkedOut.getItem());
+        } else {
+          checkedOutItems.add(checkedOut);
+        }
+      });
+
+    return true;
+  }
+
+  private boolean renew() {
+    final CheckedOutItem checkedOut = checkedOutItems.poll();
+
+    if (checkedOut == null) {
+      return false;
+    }
+
+    send(Operation.RENEW, new JsonObject()
+        .put("itemBarcode", checkedOut.getItem().getBarcode())
+        .put("userBarcode", checkedOut.getUser().getBarcode())
+        .put("servicePointId", servicePointId.toString()),
+      succeeded -> checkedOutItems.add(checkedOut));
+
+    return true;
+  }
+
+  /**
+   * Places a hold on a checked out item, which is then no longer used, as checking it in
+   * would make it awaiting pickup for the requester
+   */
+  private boolean placeHold() {
+    final CheckedOutItem checkedOut = checkedOutItems.poll();
+
+    if (checkedOut == null) {
+      return false;
+    }
+
+    final SeededItem item = checkedOut.getItem();
+
+    send(Operation.REQUEST, new RequestBuilder()
+        .hold()
+        .withItemId(UUID.fromString(item.getId()))
+        .withHoldingsRecordId(UUID.fromString(item.getHoldingsRecordId()))
+        .withInstanceId(UUID.fromString(item.getInstanceId()))
+        .withRequesterId(UUID.fromString(randomUser().getId()))
+        .withRequestDate(getZonedDateTime())
+        .fulfillToHoldShelf(servicePointId)
+        .create(),
+      succeeded -> {
+        if (!succeeded) {
+          checkedOutItems.add(checkedOut);
+        }
+      });
+
+    return true;
+  }
+
+  private void send(Operation operation, JsonObject body, Consumer<Boolean> onCompletion) {
+    final String requestId = UUID.randomUUID().toString();
+    final long start = System.nanoTime();
+
+    client.sendAsync(buildRequest(operation, body, requestId),
+        HttpResponse.BodyHandlers.discarding())
+      .whenComplete((response, error) -> {
+        final boolean succeeded = error == null && response.statusCode() / 100 == 2;
+
+        statistics.get(operation).completed(requestId, System.nanoTime() - start, succeeded);
+
+        try {
+          onCompletion.accept(succeeded);
+        } finally {
+          outstanding.release();
+        }
+      });
+  }
+
+  @SneakyThrows(URISyntaxException.class)
+  private HttpRequest buildRequest(Operation operation, JsonObject body, String requestId) {
+    return HttpRequest.newBuilder(circulationModuleUrl(operation.getPath()).toURI())
+      .header("Content-Type", "application/json")
+      .header(OKAPI_URL, okapiHeaders.getUrl().toString())
+      .header(TENANT, okapiHeaders.getTenantId())
+      .header(TOKEN, okapiHeaders.getToken())
+      .header(USER_ID, okapiHeaders.getUserId())
+      .header(REQUEST_ID, requestId)
+      .POST(HttpRequest.BodyPublishers.ofString(body.encode()))
+      .build();
+  }
+
+  private Operation chooseOperation() {
+    final int total = settings.getMix().values().stream().mapToInt(Integer::intValue).sum();
+    int choice = ThreadLocalRandom.current().nextInt(total);
+
+    for (Map.Entry<Operation, Integer> weight : settings.getMix().entrySet()) {
+      choice -= weight.getValue();
+
+      if (choice < 0) {
+        return weight.getKey();
+      }
+    }
+
+    return Operation.CHECK_OUT;
+  }
+
+  private SeededUser randomUser() {
+    return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+  }
+}
@@ -0,0 +1,217 @@
+package api.support.load;
+
+import static api.support.APITestContext.getTenantId;
+import static java.time.ZoneOffset.UTC;
+import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import api.support.builders.LoanBuilder;
+import api.support.fakes.FakeStorageModule;
+import api.support.http.ItemResource;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Seeds the fake storage modules directly with large volumes of records, copied from
+ * records created via the API (so they are valid), rather than creating each via the API.
+ * <p>
+ * Every item has its own instance and holdings. A third of the items (at most) are
+ * checked out, the remaining loans are closed loans for random items and users.
+ */
+public class LoadTestData {
+  private static final Logger log = LogManager.getLogger(LoadTestData.class);
+
+  private static final ZonedDateTime EARLIEST_LOAN_DATE = ZonedDateTime.of(2020, 1, 1, 9, 0, 0, 0,
+    UTC);
+
+  @Getter
+  private final List<SeededUser> users = new ArrayList<>();
+  @Getter
+  private final List<SeededItem> availableItems = new ArrayList<>();
+  @Getter
+  private final List<CheckedOutItem> checkedOutItems = new ArrayList<>();
+
+  private final Random random = new Random(42);
+
+  /**
+   * @param templateItem an item created via the API, with its holdings and instance
+   * @param templateUser a user created via the API
+   * @param policies the ids of the loan, overdue fine and lost item policies for loans
+   */
+  public static LoadTestData seed(LoadTestSettings settings, ItemResource templateItem,
+    JsonObject templateUser, LoanPolicies policies, UUID servicePointId) {
+
+    final LoadTestData data = new LoadTestData();
+
+    data.seedUsers(settings.getUsers(), templateUser);
+    data.seedItems(settings.getItems(), Math.min(settings.getItems() / 3, settings.getLoans()),
+      templateItem);
+    data.seedLoans(settings.getLoans(), policies, servicePointId);
+
+    return data;
+  }
+
+  private void seedUsers(int count, JsonObject templateUser) {
+    log.info("seedUsers:: seeding {} users", count);
+
+    IntStream.range(0, count)
+      .mapToObj(index -> new SeededUser(UUID.randomUUID().toString(),
+        String.format("load-user-%08d", index)))
+      .forEach(users::add);
+
+    FakeStorageModule.addRecords("/users", getTenantId(), users.stream()
+      .map(user -> templateUser.copy()
+        .put("id", user.getId())
+        .put("barcode", user.getBarcode())
+        .put("username", user.getBarcode())));
+  }
+
+  private void seedItems(int count, int checkedOut, ItemResource templateItem) {
+    log.info("seedItems:: seeding {} items, {} of them checked out", count, checkedOut);
+
+    final List<JsonObject> instances = new ArrayList<>(count);
+    final List<JsonObject> holdings = new ArrayList<>(count);
+    final List<JsonObject> items = new ArrayList<>(count);
+
+    for (int index = 0; index < count; index++) {
+      final SeededItem item = new SeededItem(UUID.randomUUID().toString(),
+        String.format("load-item-%08d", index), UUID.randomUUID().toString(),
+        UUID.randomUUID().toString());
+
+      final boolean isCheckedOut = index < checkedOut;
+
+      instances.add(templateItem.getInstance().copyJson()
+        .put("id", item.getInstanceId())
+        .put("title", "Load test title " + index));
+
+      holdings.add(templateItem.getHoldingsRecord().copyJson()
+        .put("id", item.getHoldingsRecordId())
+        .put("instanceId", item.getInstanceId()));
+
+      items.add(templateItem.copyJson()
+        .put("id", item.getId())
+        .put("barcode", item.getBarcode())
+        .put("holdingsRecordId", item.getHoldingsRecordId())
+        .put("status", new JsonObject().put("name", isCheckedOut ? "Checked out" : "Available")));
+
+      if (isCheckedOut) {
+        checkedOutItems.add(new CheckedOutItem(item, randomUser()));
+      } else {
+        availableItems.add(item);
+      }
+    }
+
+    FakeStorageModule.addRecords("/instance-storage/instances", getTenantId(),
+      instances.stream());
+    FakeStorageModule.addRecords("/holdings-storage/holdings", getTenantId(),
+      holdings.stream());
+    FakeStorageModule.addRecords("/item-storage/items", getTenantId(), items.stream());
+  }
+
+  private void seedLoans(int count, LoanPolicies policies, UUID servicePointId) {
+    log.info("seedLoans:: seeding {} loans, {} of them open", count, checkedOutItems.size());
+
+    final Stream<JsonObject> openLoans = checkedOutItems.stream()
+      .map(checkedOut -> openLoan(checkedOut, servicePointId));
+
+    final Stream<JsonObject> closedLoans = IntStream
+      .range(0, count - checkedOutItems.size())
+      .mapToObj(index -> closedLoan(servicePointId));
+
+    FakeStorageModule.addRecords("/loan-storage/loans", getTenantId(),
+      Stream.concat(openLoans, closedLoans).map(policies::applyTo));
+  }
+
+  private JsonObject openLoan(CheckedOutItem checkedOut, UUID servicePointId) {
+    final ZonedDateTime loanDate = randomLoanDate();
+
+    return new LoanBuilder()
+      .open()
+      .withItemId(UUID.fromString(checkedOut.getItem().getId()))
+      .withUserId(UUID.fromString(checkedOut.getUser().getId()))
+      .withLoanDate(loanDate)
+      .withDueDate(getZonedDateTime().plusWeeks(3))
+      .withCheckoutServicePointId(servicePointId)
+      .create()
+      .put("itemStatus", "Checked out");
+  }
+
+  private JsonObject closedLoan(UUID servicePointId) {
+    final SeededItem item = randomItem();
+    final ZonedDateTime loanDate = randomLoanDate();
+
+    return new LoanBuilder()
+      .closed()
+      .withItemId(UUID.fromString(item.getId()))
+      .withUserId(UUID.fromString(randomUser().getId()))
+      .withLoanDate(loanDate)
+      .withDueDate(loanDate.plusWeeks(3))
+      .withReturnDate(loanDate.plusWeeks(2))
+      .withCheckoutServicePointId(servicePointId)
+      .withCheckinServicePointId(servicePointId)
+      .create()
+      .put("action", "checkedin")
+      .put("itemStatus", "Available");
+  }
+
+  private SeededUser randomUser() {
+    return users.get(random.nextInt(users.size()));
+  }
+
+  private SeededItem randomItem() {
+    final int index = random.nextInt(availableItems.size() + checkedOutItems.size());
+
+    return index < availableItems.size()
+      ? availableItems.get(index)
+      : checkedOutItems.get(index - availableItems.size()).getItem();
+  }
+
+  private ZonedDateTime randomLoanDate() {
+    return EARLIEST_LOAN_DATE.plusMinutes(random.nextInt(60 * 24 * 365 * 3));
+  }
+
+  @Value
+  public static class SeededUser {
+    String id;
+    String barcode;
+  }
+
+  @Value
+  public static class SeededItem {
+    String id;
+    String barcode;
+    String holdingsRecordId;
+    String instanceId;
+  }
+
+  @Value
+  public static class CheckedOutItem {
+    SeededItem item;
+    SeededUser user;
+  }
+
+  @Value
+  public static class LoanPolicies {
+    UUID loanPolicyId;
+    UUID overdueFinePolicyId;
+    UUID lostItemPolicyId;
+
+    JsonObject applyTo(JsonObject loan) {
+      return loan
+        .put("loanPolicyId", loanPolicyId.toString())
+        .put("overdueFinePolicyId", overdueFinePolicyId.toString())
+        .put("lostItemPolicyId", lostItemPolicyId.toString());
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package api.support.load;
+
+import static java.lang.Integer.getInteger;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import lombok.Value;
+
+/**
+ * The volumes of records to seed and the workload to drive, taken from system properties
+ * (e.g. -Dload.test.items=10000) so that a run can be scaled without changing code
+ */
+@Value
+public class LoadTestSettings {
+  int items;
+  int users;
+  int loans;
+  int operationsPerSecond;
+  int durationSeconds;
+  int maximumOutstandingOperations;
+  Map<Operation, Integer> mix;
+
+  public static LoadTestSettings fromSystemProperties() {
+    final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    mix.put(Operation.CHECK_OUT, getInteger("load.test.mix.check-out", 40));
+    mix.put(Operation.CHECK_IN, getInteger("load.test.mix.check-in", 35));
+    mix.put(Operation.RENEW, getInteger("load.test.mix.renew", 20));
+    mix.put(Operation.REQUEST, getInteger("load.test.mix.request", 5));
+
+    return new LoadTestSettings(
+      getInteger("load.test.items", 100_000),
+      getInteger("load.test.users", 50_000),
+      getInteger("load.test.loans", 1_000_000),
+      getInteger("load.test.rate", 50),
+      getInteger("load.test.duration", 60),
+      getInteger("load.test.outstanding", 200),
+      mix);
+  }
+}
@@ -0,0 +1,15 @@
+package api.support.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum Operation {
+  CHECK_OUT("/circulation/check-out-by-barcode"),
+  CHECK_IN("/circulation/check-in-by-barcode"),
+  RENEW("/circulation/renew-by-barcode"),
+  REQUEST("/circulation/requests");
+
+  private final String path;
+}
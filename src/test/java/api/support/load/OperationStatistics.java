@@ -0,0 +1,79 @@
+package api.support.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The outcome of every attempt at an operation during a load test run
+ */
+class OperationStatistics {
+  private final Operation operation;
+  private final List<Long> latencies = new ArrayList<>();
+  private final List<String> requestIds = new ArrayList<>();
+  private int failed;
+  private int skipped;
+
+  OperationStatistics(Operation operation) {
+    this.operation = operation;
+  }
+
+  synchronized void completed(String requestId, long latencyNanos, boolean succeeded) {
+    latencies.add(latencyNanos);
+    requestIds.add(requestId);
+
+    if (!succeeded) {
+      failed++;
+    }
+  }
+
+  /**
+   * When there was no record to perform the operation with, or too many
+   * operations were still outstanding
+   */
+  synchronized void skipped() {
+    skipped++;
+  }
+
+  /**
+   * @param downstreamCalls the number of requests made to other modules for a request ID
+   */
+  synchronized JsonObject summarise(int durationSeconds,
+    ToIntFunction<String> downstreamCalls) {
+
+    final List<Long> sorted = new ArrayList<>(latencies);
+    sorted.sort(Long::compare);
+
+    final long totalDownstreamCalls = requestIds.stream()
+      .mapToLong(downstreamCalls::applyAsInt)
+      .sum();
+
+    return new JsonObject()
+      .put("operation", operation.name())
+      .put("completed", sorted.size())
+      .put("failed", failed)
+      .put("skipped", skipped)
+      .put("throughputPerSecond", (double) sorted.size() / durationSeconds)
+      .put("latencyMillis", new JsonObject()
+        .put("p50", percentile(sorted, 50))
+        .put("p90", percentile(sorted, 90))
+        .put("p99", percentile(sorted, 99))
+        .put("max", percentile(sorted, 100)))
+      .put("downstreamCallsPerOperation", sorted.isEmpty()
+        ? 0.0
+        : (double) totalDownstreamCalls / sorted.size());
+  }
+
+  private static double percentile(List<Long> sorted, int percentile) {
+    if (sorted.isEmpty()) {
+      return 0.0;
+    }
+
+    final int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+
+    return sorted.get(Math.max(rank, 1) - 1) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
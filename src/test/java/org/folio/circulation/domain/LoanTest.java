@@ -2,8 +2,10 @@ package org.folio.circulation.domain;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -27,4 +29,31 @@ class LoanTest {
 
     assertEquals("2020-01-13T12:34:56Z", formattedLoanDate);
   }
-}
\ No newline at end of file
+
+  @Test
+  void dueDateIsParsedAgainOnceChanged() {
+    final Loan loan = Loan.from(new JsonObject().put("dueDate", "2020-01-13T12:34:56.000Z"));
+
+    assertEquals(ZonedDateTime.parse("2020-01-13T12:34:56.000Z"), loan.getDueDate());
+
+    loan.changeDueDate(ZonedDateTime.parse("2020-02-13T12:34:56.000Z"));
+
+    assertEquals(ZonedDateTime.parse("2020-02-13T12:34:56.000Z"), loan.getDueDate());
+  }
+
+  @Test
+  void changesToLoanWithDifferentUserDoNotChangeOriginalLoan() {
+    final Loan loan = Loan.from(new JsonObject()
+      .put("userId", "original-user")
+      .put("dueDate", "2020-01-13T12:34:56.000Z"))
+      .withRemindersLastFeeBilled(1, ZonedDateTime.parse("2020-01-14T12:34:56.000Z"));
+
+    final Loan changedLoan = loan.withUser(null)
+      .withRemindersLastFeeBilled(2, ZonedDateTime.parse("2020-01-15T12:34:56.000Z"))
+      .changeDueDate(ZonedDateTime.parse("2020-02-13T12:34:56.000Z"));
+
+    assertEquals(ZonedDateTime.parse("2020-01-13T12:34:56.000Z"), loan.getDueDate());
+    assertEquals(1, loan.getLastReminderFeeBilledNumber());
+    assertEquals(2, changedLoan.getLastReminderFeeBilledNumber());
+  }
+}
@@ -0,0 +1,93 @@
+package org.folio.circulation.domain;
+
+import static java.time.ZoneOffset.UTC;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.folio.circulation.AdjacentOpeningDays;
+import org.junit.jupiter.api.Test;
+
+class OpeningHoursIndexTests {
+  private static final LocalDate MONDAY = LocalDate.of(2023, 3, 6);
+
+  // open on Monday, Wednesday and Friday
+  private final OpeningHoursIndex index = OpeningHoursIndex.of(List.of(
+      openOn(MONDAY.plusDays(4)), openOn(MONDAY), openOn(MONDAY.plusDays(2))),
+    MONDAY.minusDays(1), MONDAY.plusDays(6), UTC);
+
+  @Test
+  void openDaysBetweenDatesAreInDateOrder() {
+    assertThat(datesOf(index.getOpenDaysBetween(MONDAY, MONDAY.plusDays(4))),
+      contains(MONDAY, MONDAY.plusDays(2), MONDAY.plusDays(4)));
+  }
+
+  @Test
+  void openDaysBetweenDatesOnlyIncludesThoseDates() {
+    assertThat(datesOf(index.getOpenDaysBetween(MONDAY.plusDays(1), MONDAY.plusDays(3))),
+      contains(MONDAY.plusDays(2)));
+  }
+
+  @Test
+  void noOpenDaysWhenClosedBetweenDates() {
+    assertThat(index.getOpenDaysBetween(MONDAY.plusDays(5), MONDAY.plusDays(6)), is(empty()));
+  }
+
+  @Test
+  void adjacentOpeningDaysAroundOpenDay() {
+    final AdjacentOpeningDays days = index.getAdjacentOpeningDays(MONDAY.plusDays(2))
+      .orElseThrow();
+
+    assertThat(days.getPreviousDay().getDate(), is(MONDAY));
+    assertThat(days.getRequestedDay().getDate(), is(MONDAY.plusDays(2)));
+    assertThat(days.getRequestedDay().isOpen(), is(true));
+    assertThat(days.getNextDay().getDate(), is(MONDAY.plusDays(4)));
+  }
+
+  @Test
+  void adjacentOpeningDaysAroundClosedDay() {
+    final AdjacentOpeningDays days = index.getAdjacentOpeningDays(MONDAY.plusDays(3))
+      .orElseThrow();
+
+    assertThat(days.getPreviousDay().getDate(), is(MONDAY.plusDays(2)));
+    assertThat(days.getRequestedDay().getDate(), is(MONDAY.plusDays(3)));
+    assertThat(days.getRequestedDay().isOpen(), is(false));
+    assertThat(days.getNextDay().getDate(), is(MONDAY.plusDays(4)));
+  }
+
+  @Test
+  void noAdjacentOpeningDaysWhenPreviousOpenDayIsNotIndexed() {
+    assertThat(index.getAdjacentOpeningDays(MONDAY).isPresent(), is(false));
+  }
+
+  @Test
+  void noAdjacentOpeningDaysWhenNextOpenDayIsNotIndexed() {
+    assertThat(index.getAdjacentOpeningDays(MONDAY.plusDays(5)).isPresent(), is(false));
+  }
+
+  @Test
+  void noAdjacentOpeningDaysOutsideOfIndexedDates() {
+    assertThat(index.getAdjacentOpeningDays(MONDAY.plusDays(10)).isPresent(), is(false));
+  }
+
+  @Test
+  void onlyCoversIndexedDates() {
+    assertThat(index.covers(MONDAY.minusDays(1), MONDAY.plusDays(6)), is(true));
+    assertThat(index.covers(MONDAY.minusDays(2), MONDAY), is(false));
+    assertThat(index.covers(MONDAY, MONDAY.plusDays(7)), is(false));
+  }
+
+  private static OpeningDay openOn(LocalDate date) {
+    return new OpeningDay(List.of(new OpeningHour(LocalTime.of(9, 0), LocalTime.of(17, 0))),
+      date, false, true, UTC);
+  }
+
+  private static List<LocalDate> datesOf(List<OpeningDay> openingDays) {
+    return openingDays.stream().map(OpeningDay::getDate).toList();
+  }
+}
@@ -0,0 +1,67 @@
+package org.folio.circulation.domain.notice.schedule;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class PrefetchedRecordsTest {
+
+  @Test
+  void recordsThatWereFoundCanBeFound() {
+    final String id = UUID.randomUUID().toString();
+    final JsonObject template = new JsonObject().put("id", id);
+
+    final PrefetchedRecords records = new PrefetchedRecords();
+
+    records.addAll(JsonObject.class, List.of(id), List.of(template),
+      record -> record.getString("id"));
+
+    assertThat(records.find(JsonObject.class, id), is(Optional.of(template)));
+    assertThat(records.isMissing(JsonObject.class, id), is(false));
+  }
+
+  @Test
+  void recordsThatWereNotFoundAreMissing() {
+    final String id = UUID.randomUUID().toString();
+
+    final PrefetchedRecords records = new PrefetchedRecords();
+
+    records.addAll(JsonObject.class, List.of(id), List.of(),
+      record -> record.getString("id"));
+
+    assertThat(records.find(JsonObject.class, id), is(Optional.empty()));
+    assertThat(records.isMissing(JsonObject.class, id), is(true));
+  }
+
+  @Test
+  void recordsThatWereNotRequestedAreUnknown() {
+    final String id = UUID.randomUUID().toString();
+
+    final PrefetchedRecords records = new PrefetchedRecords();
+
+    assertThat(records.find(JsonObject.class, id), is(Optional.empty()));
+    assertThat(records.isMissing(JsonObject.class, id), is(false));
+    assertThat(records.find(JsonObject.class, null), is(Optional.empty()));
+    assertThat(records.isMissing(JsonObject.class, null), is(false));
+  }
+
+  @Test
+  void recordsOfDifferentTypesAreKeptApart() {
+    final String id = UUID.randomUUID().toString();
+
+    final PrefetchedRecords records = new PrefetchedRecords();
+
+    records.addAll(JsonObject.class, List.of(id), List.of(new JsonObject().put("id", id)),
+      record -> record.getString("id"));
+
+    assertThat(records.find(String.class, id), is(Optional.empty()));
+    assertThat(records.isMissing(String.class, id), is(false));
+  }
+}
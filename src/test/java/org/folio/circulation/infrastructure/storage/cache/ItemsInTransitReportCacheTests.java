@@ -0,0 +1,100 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.circulation.domain.representations.ItemsInTransitReportEntry;
+import org.folio.circulation.infrastructure.storage.cache.ItemsInTransitReportCache.ReportSnapshot;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class ItemsInTransitReportCacheTests {
+  private static final String TENANT_ID = "test_tenant";
+
+  private final AtomicLong now = new AtomicLong();
+  private final ItemsInTransitReportCache reportCache = new ItemsInTransitReportCache(
+    () -> Duration.ofSeconds(60), now::get);
+
+  @Test
+  void thereIsNoReportUntilOneIsStored() {
+    assertThat(reportCache.get(TENANT_ID).isPresent(), is(false));
+
+    reportCache.store(TENANT_ID, reportCache.beginBuild(TENANT_ID),
+      List.of(entry("b", "Circ Desk 2"), entry("a", "Circ Desk 1")));
+
+    assertThat(itemIds(reportCache.get(TENANT_ID).orElseThrow()), contains("a", "b"));
+  }
+
+  @Test
+  void reportExpiresAfterTimeToLive() {
+    reportCache.store(TENANT_ID, reportCache.beginBuild(TENANT_ID), List.of(entry("a", null)));
+
+    now.addAndGet(Duration.ofSeconds(61).toNanos());
+
+    assertThat(reportCache.get(TENANT_ID).isPresent(), is(false));
+  }
+
+  @Test
+  void changedItemsAreReplacedWhenRefreshed() {
+    reportCache.store(TENANT_ID, reportCache.beginBuild(TENANT_ID),
+      List.of(entry("a", "Circ Desk 1"), entry("b", "Circ Desk 2")));
+
+    reportCache.itemChanged(TENANT_ID, "a");
+    reportCache.itemChanged(TENANT_ID, "c");
+
+    final ReportSnapshot snapshot = reportCache.get(TENANT_ID).orElseThrow();
+
+    assertThat(snapshot.changedItemIds(), containsInAnyOrder("a", "c"));
+
+    // item a is no longer in transit, item c now is
+    reportCache.refresh(TENANT_ID, snapshot, List.of(entry("c", "Circ Desk 1")));
+
+    final ReportSnapshot refreshed = reportCache.get(TENANT_ID).orElseThrow();
+
+    assertThat(itemIds(refreshed), contains("c", "b"));
+    assertThat(refreshed.hasChanges(), is(false));
+  }
+
+  @Test
+  void changesMadeDuringRefreshAreKept() {
+    reportCache.store(TENANT_ID, reportCache.beginBuild(TENANT_ID), List.of(entry("a", null)));
+    reportCache.itemChanged(TENANT_ID, "a");
+
+    final ReportSnapshot snapshot = reportCache.get(TENANT_ID).orElseThrow();
+
+    reportCache.itemChanged(TENANT_ID, "a");
+    reportCache.refresh(TENANT_ID, snapshot, List.of(entry("a", null)));
+
+    assertThat(reportCache.get(TENANT_ID).orElseThrow().changedItemIds(), contains("a"));
+  }
+
+  @Test
+  void reportInvalidatedWhilstBeingBuiltIsNotStored() {
+    reportCache.store(TENANT_ID, reportCache.beginBuild(TENANT_ID), List.of(entry("a", null)));
+
+    final long sequence = reportCache.beginBuild(TENANT_ID);
+
+    reportCache.invalidate(TENANT_ID);
+    reportCache.store(TENANT_ID, sequence, List.of(entry("b", null)));
+
+    assertThat(reportCache.get(TENANT_ID).isPresent(), is(false));
+  }
+
+  private static ItemsInTransitReportEntry entry(String itemId, String servicePointName) {
+    return new ItemsInTransitReportEntry(itemId, servicePointName,
+      new JsonObject().put("id", itemId));
+  }
+
+  private static List<String> itemIds(ReportSnapshot snapshot) {
+    return snapshot.entries().stream()
+      .map(ItemsInTransitReportEntry::getItemId)
+      .toList();
+  }
+}
@@ -0,0 +1,136 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.circulation.domain.OpeningDay;
+import org.folio.circulation.domain.OpeningHoursIndex;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+class OpeningHoursCacheTests {
+  private static final String TENANT_ID = "test_tenant";
+  private static final String SERVICE_POINT_ID = "service-point";
+  private static final LocalDate TODAY = LocalDate.of(2023, 3, 6);
+
+  private final AtomicLong now = new AtomicLong();
+  private final AtomicInteger fetches = new AtomicInteger();
+  private final OpeningHoursCache openingHoursCache = new OpeningHoursCache(
+    () -> Duration.ofSeconds(60), () -> 14, now::get);
+
+  @Test
+  void indexCoversDaysEitherSideOfToday() {
+    final OpeningHoursIndex index = getIndex(TODAY);
+
+    assertThat(index.getFirstDate(), is(TODAY.minusDays(14)));
+    assertThat(index.getLastDate(), is(TODAY.plusDays(14)));
+  }
+
+  @Test
+  void indexIsOnlyFetchedOnce() {
+    getIndex(TODAY);
+    getIndex(TODAY.plusDays(1));
+
+    assertThat(fetches.get(), is(1));
+  }
+
+  @Test
+  void concurrentRequestsWaitForTheSameFetch() {
+    final CompletableFuture<Result<Collection<OpeningDay>>> inFlight = new CompletableFuture<>();
+
+    final var first = openingHoursCache.getOrFetch(TENANT_ID, SERVICE_POINT_ID, UTC, TODAY,
+      (firstDate, lastDate) -> {
+        fetches.incrementAndGet();
+        return inFlight;
+      });
+
+    final var second = openingHoursCache.getOrFetch(TENANT_ID, SERVICE_POINT_ID, UTC, TODAY,
+      this::fetchOpenDays);
+
+    inFlight.complete(succeeded(List.of()));
+
+    assertThat(first.join().succeeded(), is(true));
+    assertThat(second.join().succeeded(), is(true));
+    assertThat(fetches.get(), is(1));
+  }
+
+  @Test
+  void expiredIndexIsUsedWhilstBeingFetchedAgain() {
+    getIndex(TODAY);
+
+    now.addAndGet(Duration.ofSeconds(61).toNanos());
+
+    assertThat(getIndex(TODAY.plusDays(1)).getFirstDate(), is(TODAY.minusDays(14)));
+    assertThat(getIndex(TODAY.plusDays(1)).getFirstDate(), is(TODAY.minusDays(13)));
+    assertThat(fetches.get(), is(2));
+  }
+
+  @Test
+  void indexIsFetchedAgainOnceTodayIsNotCovered() {
+    getIndex(TODAY);
+
+    assertThat(getIndex(TODAY.plusDays(15)).getFirstDate(), is(TODAY.plusDays(1)));
+  }
+
+  @Test
+  void indexIsFetchedAgainForDifferentTimeZone() {
+    getIndex(TODAY);
+
+    openingHoursCache.getOrFetch(TENANT_ID, SERVICE_POINT_ID,
+      ZoneId.of("America/New_York"), TODAY, this::fetchOpenDays).join();
+
+    assertThat(fetches.get(), is(2));
+  }
+
+  @Test
+  void failuresAreNotCached() {
+    final Result<OpeningHoursIndex> failure = openingHoursCache.getOrFetch(TENANT_ID,
+      SERVICE_POINT_ID, UTC, TODAY,
+      (firstDate, lastDate) -> completedFuture(failed(new ServerErrorFailure("Calendar failed"))))
+      .join();
+
+    assertThat(failure.failed(), is(true));
+
+    getIndex(TODAY);
+
+    assertThat(fetches.get(), is(1));
+  }
+
+  @Test
+  void disabledWithoutDays() {
+    final OpeningHoursCache disabledCache = new OpeningHoursCache(
+      () -> Duration.ofSeconds(60), () -> 0, now::get);
+
+    assertThat(disabledCache.isEnabled(), is(false));
+    assertThat(openingHoursCache.isEnabled(), is(true));
+  }
+
+  private OpeningHoursIndex getIndex(LocalDate today) {
+    return openingHoursCache.getOrFetch(TENANT_ID, SERVICE_POINT_ID, UTC, today,
+        this::fetchOpenDays)
+      .join()
+      .value();
+  }
+
+  private CompletableFuture<Result<Collection<OpeningDay>>> fetchOpenDays(
+    LocalDate firstDate, LocalDate lastDate) {
+
+    fetches.incrementAndGet();
+
+    return completedFuture(succeeded(List.of()));
+  }
+}
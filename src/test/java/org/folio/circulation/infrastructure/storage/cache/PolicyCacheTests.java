@@ -0,0 +1,157 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+import static org.folio.circulation.infrastructure.storage.cache.PolicyType.LOAN;
+import static org.folio.circulation.infrastructure.storage.cache.PolicyType.REQUEST;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+import lombok.SneakyThrows;
+
+class PolicyCacheTests {
+  private static final String TENANT_ID = "test_tenant";
+
+  private final PolicyCache policyCache = PolicyCache.getInstance();
+  private final AtomicInteger fetches = new AtomicInteger();
+
+  @AfterEach
+  void afterEach() {
+    policyCache.dropCache();
+  }
+
+  @Test
+  @SneakyThrows
+  void policyIsOnlyFetchedOnce() {
+    final String id = randomId();
+
+    for (int i = 0; i < 3; i++) {
+      final JsonObject policy = policyCache.getOrFetch(TENANT_ID, LOAN, id, this::fetchPolicy)
+        .get().value();
+
+      assertThat(policy.getString("id"), is(id));
+    }
+
+    assertThat(fetches.get(), is(1));
+    assertThat(policyCache.getStatistics(TENANT_ID).get(LOAN).hits(), is(2L));
+  }
+
+  @Test
+  @SneakyThrows
+  void policyIsFetchedAgainAfterInvalidation() {
+    final String id = randomId();
+
+    policyCache.getOrFetch(TENANT_ID, LOAN, id, this::fetchPolicy).get();
+    policyCache.invalidate(TENANT_ID);
+    policyCache.getOrFetch(TENANT_ID, LOAN, id, this::fetchPolicy).get();
+
+    assertThat(fetches.get(), is(2));
+  }
+
+  @Test
+  @SneakyThrows
+  void policyFetchedBeforeInvalidationIsNotCached() {
+    final String id = randomId();
+    final CompletableFuture<Result<JsonObject>> inFlightFetch = new CompletableFuture<>();
+
+    final CompletableFuture<Result<JsonObject>> lookup = policyCache.getOrFetch(
+      TENANT_ID, LOAN, id, policyId -> inFlightFetch);
+
+    policyCache.invalidate(TENANT_ID);
+    inFlightFetch.complete(Result.succeeded(policy(id)));
+
+    assertThat(lookup.get().value().getString("id"), is(id));
+
+    policyCache.getOrFetch(TENANT_ID, LOAN, id, this::fetchPolicy).get();
+
+    assertThat(fetches.get(), is(1));
+  }
+
+  @Test
+  @SneakyThrows
+  void changesToReturnedPolicyDoNotAffectCachedPolicy() {
+    final String id = randomId();
+
+    policyCache.getOrFetch(TENANT_ID, LOAN, id, this::fetchPolicy).get().value()
+      .put("name", "changed");
+
+    final JsonObject cached = policyCache.getOrFetch(TENANT_ID, LOAN, id, this::fetchPolicy)
+      .get().value();
+
+    assertThat(cached.getString("name"), is("Example policy"));
+  }
+
+  @Test
+  @SneakyThrows
+  void policiesThatDoNotExistAreNotCached() {
+    final String id = randomId();
+
+    policyCache.getOrFetch(TENANT_ID, LOAN, id, policyId -> {
+      fetches.incrementAndGet();
+      return ofAsync(() -> null);
+    }).get();
+
+    policyCache.getOrFetch(TENANT_ID, LOAN, id, this::fetchPolicy).get();
+
+    assertThat(fetches.get(), is(2));
+  }
+
+  @Test
+  @SneakyThrows
+  void onlyMissingPoliciesAreFetched() {
+    final String cachedId = randomId();
+    final String missingId = randomId();
+    final AtomicReference<Collection<String>> fetchedIds = new AtomicReference<>();
+
+    policyCache.getOrFetch(TENANT_ID, REQUEST, cachedId, this::fetchPolicy).get();
+
+    final Collection<JsonObject> policies = policyCache.getAllOrFetch(TENANT_ID, REQUEST,
+      List.of(cachedId, missingId), ids -> {
+        fetchedIds.set(ids);
+        return ofAsync(() -> ids.stream().map(PolicyCacheTests::policy).toList());
+      }).get().value();
+
+    assertThat(fetchedIds.get(), containsInAnyOrder(missingId));
+    assertThat(policies.stream().map(policy -> policy.getString("id")).toList(),
+      containsInAnyOrder(cachedId, missingId));
+  }
+
+  @Test
+  @SneakyThrows
+  void policiesAreNotCachedWithoutTenant() {
+    final String id = randomId();
+
+    policyCache.getOrFetch(null, LOAN, id, this::fetchPolicy).get();
+    policyCache.getOrFetch(null, LOAN, id, this::fetchPolicy).get();
+
+    assertThat(fetches.get(), is(2));
+  }
+
+  private CompletableFuture<Result<JsonObject>> fetchPolicy(String id) {
+    fetches.incrementAndGet();
+
+    return ofAsync(() -> policy(id));
+  }
+
+  private static JsonObject policy(String id) {
+    return new JsonObject()
+      .put("id", id)
+      .put("name", "Example policy");
+  }
+
+  private static String randomId() {
+    return UUID.randomUUID().toString();
+  }
+}
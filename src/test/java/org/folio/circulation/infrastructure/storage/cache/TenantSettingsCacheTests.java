@@ -0,0 +1,119 @@
+package org.folio.circulation.infrastructure.storage.cache;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.infrastructure.storage.cache.TenantSettingType.TIME_ZONE;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+class TenantSettingsCacheTests {
+  private static final String TENANT_ID = "test_tenant";
+  private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+  private final AtomicLong now = new AtomicLong();
+  private final AtomicInteger fetches = new AtomicInteger();
+  private final TenantSettingsCache settingsCache = new TenantSettingsCache(
+    () -> Duration.ofSeconds(60), now::get);
+
+  @Test
+  void settingIsOnlyFetchedOnce() {
+    assertThat(getTimeZone(TENANT_ID, NEW_YORK), is(NEW_YORK));
+    assertThat(getTimeZone(TENANT_ID, ZoneOffset.UTC), is(NEW_YORK));
+    assertThat(fetches.get(), is(1));
+  }
+
+  @Test
+  void settingsAreCachedForEachTenant() {
+    assertThat(getTimeZone(TENANT_ID, NEW_YORK), is(NEW_YORK));
+    assertThat(getTimeZone("other_tenant", ZoneOffset.UTC), is(ZoneOffset.UTC));
+  }
+
+  @Test
+  void expiredSettingIsUsedWhilstBeingFetchedAgain() {
+    getTimeZone(TENANT_ID, NEW_YORK);
+
+    now.addAndGet(Duration.ofSeconds(61).toNanos());
+
+    assertThat(getTimeZone(TENANT_ID, ZoneOffset.UTC), is(NEW_YORK));
+    assertThat(getTimeZone(TENANT_ID, ZoneOffset.UTC), is(ZoneOffset.UTC));
+    assertThat(fetches.get(), is(2));
+  }
+
+  @Test
+  void settingIsFetchedBeforeBeingUsedOnceTooOld() {
+    getTimeZone(TENANT_ID, NEW_YORK);
+
+    now.addAndGet(Duration.ofSeconds(121).toNanos());
+
+    assertThat(getTimeZone(TENANT_ID, ZoneOffset.UTC), is(ZoneOffset.UTC));
+  }
+
+  @Test
+  void failuresAreNotCached() {
+    final Result<ZoneId> failure = settingsCache.<ZoneId>getOrFetch(TENANT_ID, TIME_ZONE,
+      () -> completedFuture(failed(new ServerErrorFailure("Configuration failed"))))
+      .join();
+
+    assertThat(failure.failed(), is(true));
+    assertThat(getTimeZone(TENANT_ID, NEW_YORK), is(NEW_YORK));
+  }
+
+  @Test
+  void settingIsFetchedAgainAfterBeingDropped() {
+    getTimeZone(TENANT_ID, NEW_YORK);
+
+    settingsCache.dropCache(TENANT_ID);
+
+    assertThat(getTimeZone(TENANT_ID, ZoneOffset.UTC), is(ZoneOffset.UTC));
+  }
+
+  @Test
+  void settingFetchedBeforeBeingDroppedIsNotStored() {
+    final CompletableFuture<Result<ZoneId>> inFlight = new CompletableFuture<>();
+
+    final CompletableFuture<Result<ZoneId>> fetched = settingsCache.getOrFetch(TENANT_ID,
+      TIME_ZONE, () -> inFlight);
+
+    getTimeZone(TENANT_ID, ZoneOffset.UTC);
+    settingsCache.dropCache(TENANT_ID);
+    inFlight.complete(succeeded(NEW_YORK));
+
+    assertThat(fetched.join().value(), is(NEW_YORK));
+    assertThat(getTimeZone(TENANT_ID, ZoneOffset.UTC), is(ZoneOffset.UTC));
+  }
+
+  @Test
+  void settingsAreNotCachedWithoutTimeToLive() {
+    final TenantSettingsCache disabledCache = new TenantSettingsCache(
+      () -> Duration.ZERO, now::get);
+
+    disabledCache.<ZoneId>getOrFetch(TENANT_ID, TIME_ZONE, () -> completedFuture(succeeded(NEW_YORK)))
+      .join();
+
+    final Result<ZoneId> timeZone = disabledCache.<ZoneId>getOrFetch(TENANT_ID, TIME_ZONE,
+      () -> completedFuture(succeeded(ZoneOffset.UTC))).join();
+
+    assertThat(timeZone.value(), is(ZoneOffset.UTC));
+  }
+
+  private ZoneId getTimeZone(String tenantId, ZoneId fetchedTimeZone) {
+    return settingsCache.getOrFetch(tenantId, TIME_ZONE, () -> {
+        fetches.incrementAndGet();
+        return completedFuture(succeeded(fetchedTimeZone));
+      })
+      .join()
+      .value();
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.circulation.infrastructure.storage.inventory;
 
 import static api.support.matchers.FailureMatcher.isErrorFailureContaining;
 import static api.support.matchers.ResultMatchers.succeeded;
+import static java.util.Collections.emptyList;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -136,6 +137,59 @@ class ItemRepositoryTests {
     assertThat(updateResult, succeeded());
   }
 
+  @Test
+  void fetchedItemIncludesRelatedRecords() {
+    final var itemsClient = mock(CollectionResourceClient.class);
+    final var locationRepository = mock(LocationRepository.class);
+    final var materialTypeRepository = mock(MaterialTypeRepository.class);
+    final var instanceRepository = mock(InstanceRepository.class);
+    final var holdingsRepository = mock(HoldingsRepository.class);
+    final var loanTypeRepository = mock(LoanTypeRepository.class);
+
+    final var itemId = UUID.randomUUID().toString();
+    final var holdingsId = UUID.randomUUID().toString();
+    final var instanceId = UUID.randomUUID().toString();
+    final var locationId = UUID.randomUUID().toString();
+    final var materialTypeId = UUID.randomUUID().toString();
+    final var loanTypeId = UUID.randomUUID().toString();
+
+    final var itemJson = new JsonObject()
+      .put("id", itemId)
+      .put("holdingsRecordId", holdingsId)
+      .put("effectiveLocationId", locationId)
+      .put("materialTypeId", materialTypeId)
+      .put("permanentLoanTypeId", loanTypeId);
+
+    mockedClientGet(itemsClient, itemJson.encodePrettily());
+
+    when(holdingsRepository.fetchById(holdingsId))
+      .thenReturn(ofAsync(() -> new Holdings(holdingsId, instanceId, null, null)));
+
+    when(instanceRepository.fetchById(instanceId))
+      .thenReturn(ofAsync(() -> new Instance(instanceId, "Nod", emptyList(), emptyList(),
+        emptyList(), emptyList())));
+
+    when(locationRepository.getEffectiveLocation(any()))
+      .thenReturn(ofAsync(() -> Location.unknown(locationId)));
+
+    when(materialTypeRepository.getFor(any()))
+      .thenReturn(ofAsync(() -> new MaterialType(materialTypeId, "book", null)));
+
+    when(loanTypeRepository.fetchById(loanTypeId))
+      .thenReturn(ofAsync(() -> new LoanType(loanTypeId, "Can circulate")));
+
+    final var repository = new ItemRepository(itemsClient, locationRepository,
+      materialTypeRepository, instanceRepository, holdingsRepository, loanTypeRepository, null);
+
+    final var item = get(repository.fetchById(itemId)).value();
+
+    assertThat(item.getHoldingsRecordId(), is(holdingsId));
+    assertThat(item.getTitle(), is("Nod"));
+    assertThat(item.getEffectiveLocationId(), is(locationId));
+    assertThat(item.getMaterialTypeName(), is("book"));
+    assertThat(item.getLoanTypeName(), is("Can circulate"));
+  }
+
   private void mockedClientGet(CollectionResourceClient client, String body) {
     when(client.get(anyString())).thenReturn(ofAsync(
       () -> new Response(200, body, "application/json")));
@@ -0,0 +1,86 @@
+package org.folio.circulation.infrastructure.storage.requests;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.User;
+import org.folio.circulation.rules.CirculationRulesProcessor;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestPolicyRepositoryTest {
+  private final Clients clients = mock(Clients.class);
+  private final CirculationRulesProcessor rulesProcessor = mock(CirculationRulesProcessor.class);
+  private final CollectionResourceClient requestPoliciesStorage =
+    mock(CollectionResourceClient.class);
+  private final Item item = mock(Item.class);
+  private final User user = mock(User.class);
+
+  private RequestPolicyRepository repository;
+
+  @BeforeEach
+  void beforeEach() {
+    when(clients.circulationRulesProcessor()).thenReturn(rulesProcessor);
+    when(clients.requestPoliciesStorage()).thenReturn(requestPoliciesStorage);
+    when(clients.getTenantId()).thenReturn("request_policy_tenant");
+
+    repository = new RequestPolicyRepository(clients);
+
+    when(item.isNotFound()).thenReturn(false);
+    when(item.getMaterialTypeId()).thenReturn("1111");
+    when(item.getLoanTypeId()).thenReturn("2222");
+    when(item.getEffectiveLocationId()).thenReturn("3333");
+    when(user.getPatronGroupId()).thenReturn("4444");
+  }
+
+  @Test
+  void lookupRequestPolicyShouldFailWhenMaterialTypeIdIsNullForTheItem() throws Exception {
+    when(item.getMaterialTypeId()).thenReturn(null);
+
+    assertThat(failureFor(item, user), is("Server error failure, reason: " +
+      "Failed to apply rules for materialTypeId: null, loanTypeId: 2222, " +
+      "patronGroupId: 4444, locationId: 3333"));
+  }
+
+  @Test
+  void lookupRequestPolicyShouldFailWhenLocationIdIsNullForTheItem() throws Exception {
+    when(item.getEffectiveLocationId()).thenReturn(null);
+
+    assertThat(failureFor(item, user), is("Server error failure, reason: " +
+      "Failed to apply rules for materialTypeId: 1111, loanTypeId: 2222, " +
+      "patronGroupId: 4444, locationId: null"));
+  }
+
+  @Test
+  void lookupRequestPolicyShouldFailWhenPatronGroupIdIsNullForTheUser() throws Exception {
+    when(user.getPatronGroupId()).thenReturn(null);
+
+    assertThat(failureFor(item, user), is("Server error failure, reason: " +
+      "Failed to apply rules for materialTypeId: 1111, loanTypeId: 2222, " +
+      "patronGroupId: null, locationId: 3333"));
+  }
+
+  @Test
+  void lookupRequestPolicyShouldFailForUnknownItem() throws Exception {
+    when(item.isNotFound()).thenReturn(true);
+
+    assertThat(failureFor(item, user), is("Server error failure, reason: " +
+      "Unable to find matching request rules for unknown item"));
+  }
+
+  private String failureFor(Item item, User user) throws Exception {
+    final var result = repository.lookupRequestPolicy(item, user).get(5, TimeUnit.SECONDS);
+
+    verifyNoInteractions(rulesProcessor, requestPoliciesStorage);
+
+    return result.cause().toString();
+  }
+}
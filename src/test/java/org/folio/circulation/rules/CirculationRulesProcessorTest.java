@@ -0,0 +1,89 @@
+package org.folio.circulation.rules;
+
+import static java.lang.String.format;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.infrastructure.storage.cache.ReferenceDataCache;
+import org.folio.circulation.rules.cache.CirculationRulesCache;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class CirculationRulesProcessorTest {
+  private static final String TENANT_ID = "rules_processor_tenant";
+  private static final String LOCATION_ID = "11111111-1111-1111-1111-111111111111";
+  private static final String INSTITUTION_ID = "22222222-2222-2222-2222-222222222222";
+  private static final String FALLBACK_POLICY_ID = "33333333-3333-3333-3333-333333333333";
+  private static final String INSTITUTION_POLICY_ID = "44444444-4444-4444-4444-444444444444";
+
+  private final CollectionResourceClient locationStorageClient =
+    mock(CollectionResourceClient.class);
+
+  private final CirculationRulesProcessor processor = new CirculationRulesProcessor(
+    TENANT_ID, null, locationStorageClient);
+
+  @BeforeEach
+  void beforeEach() {
+    CirculationRulesCache.getInstance().buildRules(TENANT_ID, format(
+      "priority: t, s, c, b, a, m, g\n" +
+      "fallback-policy: l %1$s r %1$s n %1$s o %1$s i %1$s\n" +
+      "a %2$s: l %3$s r %3$s n %3$s o %3$s i %3$s",
+      FALLBACK_POLICY_ID, INSTITUTION_ID, INSTITUTION_POLICY_ID));
+  }
+
+  @AfterEach
+  void afterEach() {
+    ReferenceDataCache.getInstance().dropCache(TENANT_ID);
+    CirculationRulesCache.getInstance().dropCache();
+  }
+
+  @Test
+  void cachedLocationIsUsedWithoutFetchingIt() throws Exception {
+    ReferenceDataCache.getInstance().locations(TENANT_ID).put(LOCATION_ID,
+      Location.unknown(LOCATION_ID).withInstitution(Institution.unknown(INSTITUTION_ID)));
+
+    assertThat(requestPolicyId(), is(INSTITUTION_POLICY_ID));
+
+    verifyNoInteractions(locationStorageClient);
+  }
+
+  @Test
+  void locationIsOnlyFetchedWhenNotCached() throws Exception {
+    when(locationStorageClient.get(LOCATION_ID)).thenReturn(ofAsync(new Response(HTTP_OK,
+      new JsonObject()
+        .put("id", LOCATION_ID)
+        .put("institutionId", INSTITUTION_ID)
+        .encodePrettily(), APPLICATION_JSON)));
+
+    assertThat(requestPolicyId(), is(INSTITUTION_POLICY_ID));
+    assertThat(requestPolicyId(), is(INSTITUTION_POLICY_ID));
+
+    verify(locationStorageClient, times(1)).get(LOCATION_ID);
+  }
+
+  private String requestPolicyId() throws Exception {
+    final RulesExecutionParameters parameters = new RulesExecutionParameters(
+      "55555555-5555-5555-5555-555555555555", LOCATION_ID,
+      "66666666-6666-6666-6666-666666666666", "77777777-7777-7777-7777-777777777777", null);
+
+    return processor.getRequestPolicyAndMatch(parameters)
+      .get(5, TimeUnit.SECONDS).value().getPolicyId();
+  }
+}
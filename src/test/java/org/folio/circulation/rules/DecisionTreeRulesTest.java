@@ -0,0 +1,234 @@
+package org.folio.circulation.rules;
+
+import static java.util.Collections.emptyList;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.ServicePoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Checks that the decision tree compiled from circulation rules
+ * matches the same policies as Drools for many combinations of facts
+ */
+class DecisionTreeRulesTest {
+  private static final String POLICIES =
+    ": l policy-%1$s r request-%1$s n notice-%1$s o overdue-%1$s i lost-item-%1$s";
+  private static final String FALLBACK = "fallback-policy" + POLICIES.formatted("fallback");
+  private static final String FIRST_INSTITUTION_ID = "3d22d91c-cf1d-11e9-bb65-2a2ae2dbcce4";
+  private static final String SECOND_INSTITUTION_ID = "3d22d91c-cf1d-11e9-bb65-2a2ae2dbcce5";
+  private static final String FIRST_LIBRARY_ID = "aa59f830-cfea-11e9-bb65-2a2ae2dbcce4";
+  private static final String SECOND_LIBRARY_ID = "2125c4ea-9c9a-462e-84d2-90e3fcdbf1eb";
+  private static final String FIRST_CAMPUS_ID = "692dbd8c-9804-4281-9fd1-8ce601d7c6a3";
+  private static final String SECOND_CAMPUS_ID = "04163907-8f63-41f3-888d-f2d2888a4dd0";
+
+  private static final List<String> ITEM_TYPES = List.of("book", "cd", "dvd", "music",
+    "newspaper", "map", "foo");
+  private static final List<String> LOAN_TYPES = List.of("regular", "special-items", "foo");
+  private static final List<String> PATRON_GROUPS = List.of("undergrad", "visitor", "alumni",
+    "student", "staff", "foo");
+  private static final List<String> LOCATIONS = List.of("new", "stacks", "open-stacks", "shelf");
+  private static final List<String> INSTITUTIONS = List.of(FIRST_INSTITUTION_ID,
+    SECOND_INSTITUTION_ID);
+  private static final List<String> LIBRARIES = List.of(FIRST_LIBRARY_ID, SECOND_LIBRARY_ID);
+  private static final List<String> CAMPUSES = List.of(FIRST_CAMPUS_ID, SECOND_CAMPUS_ID);
+
+  private static final int COMBINATIONS_PER_RULES = 300;
+
+  private static final List<RulesMethod<CirculationRuleMatch>> POLICY_METHODS = List.of(
+    RulesEngine::loanPolicy, RulesEngine::requestPolicy, RulesEngine::noticePolicy,
+    RulesEngine::overduePolicy, RulesEngine::lostItemPolicy);
+  private static final List<RulesMethod<JsonArray>> ALL_MATCHES_METHODS = List.of(
+    RulesEngine::loanPolicies, RulesEngine::requestPolicies, RulesEngine::noticePolicies,
+    RulesEngine::overduePolicies, RulesEngine::lostItemPolicies);
+
+  static Stream<String> circulationRules() {
+    return Stream.of(
+      rules("priority: t, s, c, b, a, m, g",
+        FALLBACK,
+        "m book cd dvd" + POLICIES.formatted("1"),
+        "m newspaper + g all" + POLICIES.formatted("2"),
+        "m map" + POLICIES.formatted("3"),
+        "    g visitor" + POLICIES.formatted("4"),
+        "    g undergrad" + POLICIES.formatted("5"),
+        "m book cd dvd + t special-items" + POLICIES.formatted("6"),
+        "t special-items" + POLICIES.formatted("7"),
+        "    g visitor alumni" + POLICIES.formatted("8"),
+        "a " + FIRST_INSTITUTION_ID + POLICIES.formatted("9")),
+      rules("priority: last-line",
+        FALLBACK,
+        "s new" + POLICIES.formatted("1"),
+        "m book" + POLICIES.formatted("2"),
+        "a " + FIRST_INSTITUTION_ID + POLICIES.formatted("3"),
+        "b new" + POLICIES.formatted("4"),
+        "c " + FIRST_LIBRARY_ID + POLICIES.formatted("5"),
+        "b " + FIRST_CAMPUS_ID + POLICIES.formatted("6")),
+      rules("priority: number-of-criteria, first-line",
+        FALLBACK,
+        "m book" + POLICIES.formatted("1"),
+        "g student" + POLICIES.formatted("2"),
+        "m dvd" + POLICIES.formatted("3"),
+        "     g visitor" + POLICIES.formatted("4")),
+      rules("priority: criterium(t, s, c, b, a, m, g), number-of-criteria, first-line",
+        FALLBACK,
+        "m book" + POLICIES.formatted("1"),
+        "g student" + POLICIES.formatted("2"),
+        "m dvd" + POLICIES.formatted("3"),
+        "     g visitor" + POLICIES.formatted("4")),
+      rules("priority: criterium(g, m, t, s, b, c, a), last-line",
+        FALLBACK,
+        "m !dvd !music" + POLICIES.formatted("1"),
+        "g !staff" + POLICIES.formatted("2"),
+        "    t !regular + s all" + POLICIES.formatted("3"),
+        "    m book",
+        "        s stacks open-stacks" + POLICIES.formatted("4"),
+        "        m dvd" + POLICIES.formatted("5"),
+        "a all + c " + SECOND_LIBRARY_ID + POLICIES.formatted("6"),
+        "b !" + FIRST_CAMPUS_ID + " + m all" + POLICIES.formatted("7")),
+      rules("priority: first-line",
+        "g undergrad + t special-items" + POLICIES.formatted("1"),
+        "a all" + POLICIES.formatted("2"),
+        "m book dvd" + POLICIES.formatted("3"),
+        FALLBACK));
+  }
+
+  @ParameterizedTest
+  @MethodSource("circulationRules")
+  void decisionTreeMatchesTheSamePoliciesAsDrools(String rulesAsText) {
+    final Drools drools = new Drools("test-tenant-id", Text2Drools.convert(rulesAsText));
+    final DecisionTreeRules decisionTree = Text2DecisionTree.convert(rulesAsText);
+    final Random random = new Random(rulesAsText.hashCode());
+
+    for (int i = 0; i < COMBINATIONS_PER_RULES; i++) {
+      final MultiMap params = randomParams(random);
+      final Location location = random.nextInt(5) == 0 ? null : randomLocation(random);
+      final String description = params.entries() + " " + describe(location);
+
+      for (RulesMethod<CirculationRuleMatch> policy : POLICY_METHODS) {
+        assertSameMatch(description, drools, decisionTree, params, location, policy);
+      }
+
+      for (RulesMethod<JsonArray> policies : ALL_MATCHES_METHODS) {
+        assertSameMatches(description, drools, decisionTree, params, location, policies);
+      }
+    }
+  }
+
+  @Test
+  void loanPolicyMatchReportsAppliedConditions() {
+    final DecisionTreeRules decisionTree = Text2DecisionTree.convert(rules(
+      "priority: last-line",
+      FALLBACK,
+      "m book",
+      "    g undergrad" + POLICIES.formatted("1")));
+
+    final CirculationRuleMatch match = decisionTree.loanPolicy(
+      params("book", "regular", "undergrad", "new"), null);
+
+    assertThat(match.getPolicyId(), is("policy-1"));
+    assertThat(match.getAppliedRuleConditions().isItemTypePresent(), is(true));
+    assertThat(match.getAppliedRuleConditions().isLoanTypePresent(), is(false));
+    assertThat(match.getAppliedRuleConditions().isPatronGroupPresent(), is(true));
+  }
+
+  private static void assertSameMatch(String description, Drools drools,
+    DecisionTreeRules decisionTree, MultiMap params, Location location,
+    RulesMethod<CirculationRuleMatch> policy) {
+
+    final CirculationRuleMatch expected = policy.apply(drools, params, location);
+    final CirculationRuleMatch actual = policy.apply(decisionTree, params, location);
+
+    assertThat(description, actual.getPolicyId(), is(expected.getPolicyId()));
+    assertThat(description, actual.getAppliedRuleConditions().isItemTypePresent(),
+      is(expected.getAppliedRuleConditions().isItemTypePresent()));
+    assertThat(description, actual.getAppliedRuleConditions().isLoanTypePresent(),
+      is(expected.getAppliedRuleConditions().isLoanTypePresent()));
+    assertThat(description, actual.getAppliedRuleConditions().isPatronGroupPresent(),
+      is(expected.getAppliedRuleConditions().isPatronGroupPresent()));
+  }
+
+  private static void assertSameMatches(String description, Drools drools,
+    DecisionTreeRules decisionTree, MultiMap params, Location location,
+    RulesMethod<JsonArray> policies) {
+
+    assertThat(description, policies.apply(decisionTree, params, location),
+      is(policies.apply(drools, params, location)));
+  }
+
+  private static MultiMap randomParams(Random random) {
+    return params(randomValue(random, ITEM_TYPES), randomValue(random, LOAN_TYPES),
+      randomValue(random, PATRON_GROUPS), randomValue(random, LOCATIONS));
+  }
+
+  private static Location randomLocation(Random random) {
+    return createLocation(randomValue(random, INSTITUTIONS), randomValue(random, LIBRARIES),
+      randomValue(random, CAMPUSES));
+  }
+
+  /**
+   * A random value from the list, or occasionally null for a missing fact
+   */
+  private static String randomValue(Random random, List<String> values) {
+    final int index = random.nextInt(values.size() + 1);
+
+    return index == values.size() ? null : values.get(index);
+  }
+
+  private static MultiMap params(String itId, String ltId, String ptId, String lId) {
+    MultiMap params = MultiMap.caseInsensitiveMultiMap();
+
+    addIfPresent(params, ITEM_TYPE_ID_NAME, itId);
+    addIfPresent(params, LOAN_TYPE_ID_NAME, ltId);
+    addIfPresent(params, PATRON_TYPE_ID_NAME, ptId);
+    addIfPresent(params, LOCATION_ID_NAME, lId);
+
+    return params;
+  }
+
+  private static void addIfPresent(MultiMap params, String name, String value) {
+    if (value != null) {
+      params.add(name, value);
+    }
+  }
+
+  private static Location createLocation(String institutionId, String libraryId,
+    String campusId) {
+
+    return new Location(null, null, null, null, emptyList(), null,
+      Institution.unknown(institutionId), Campus.unknown(campusId), Library.unknown(libraryId),
+      ServicePoint.unknown());
+  }
+
+  private static String describe(Location location) {
+    return location == null
+      ? "without location"
+      : String.join(" ", location.getInstitutionId(), location.getCampusId(),
+        location.getLibraryId());
+  }
+
+  private static String rules(String... lines) {
+    return String.join("\n", lines);
+  }
+
+  @FunctionalInterface
+  private interface RulesMethod<T> {
+    T apply(RulesEngine rulesEngine, MultiMap params, Location location);
+  }
+}
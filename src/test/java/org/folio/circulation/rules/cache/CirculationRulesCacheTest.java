@@ -3,6 +3,8 @@ package org.folio.circulation.rules.cache;
 import static java.lang.String.format;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -13,6 +15,7 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.http.client.Response;
 import org.junit.jupiter.api.Test;
@@ -35,12 +38,12 @@ class CirculationRulesCacheTest {
       "22222222-2222-2222-2222-222222222222");
 
     Thread thread1 = new Thread(() -> {
-      CirculationRulesCache.getInstance().getDrools("tenant1", circulationRulesClient1);
+      CirculationRulesCache.getInstance().getRulesEngine("tenant1", circulationRulesClient1);
       thread1Finished = true;
     });
 
     Thread thread2 = new Thread(() -> {
-      CirculationRulesCache.getInstance().getDrools("tenant2", circulationRulesClient2);
+      CirculationRulesCache.getInstance().getRulesEngine("tenant2", circulationRulesClient2);
       thread2Finished = true;
     });
 
@@ -56,16 +59,44 @@ class CirculationRulesCacheTest {
     assertNotEquals(loanPolicyId1, loanPolicyId2);
   }
 
+  @Test
+  void ruleMatchesAreRememberedUntilRulesAreReplaced() throws Exception {
+    final String tenantId = "tenant3";
+    final String firstPolicyId = "33333333-3333-3333-3333-333333333333";
+    final String secondPolicyId = "44444444-4444-4444-4444-444444444444";
+    final CirculationRulesCache cache = CirculationRulesCache.getInstance();
+
+    cache.buildRules(tenantId, rulesAsText(firstPolicyId));
+
+    assertThat(determineLoanPolicyId(tenantId), is(firstPolicyId));
+    assertThat(determineLoanPolicyId(tenantId), is(firstPolicyId));
+    assertThat(cache.getMatchStatistics(tenantId).hits(), is(1L));
+    assertThat(cache.getMatchStatistics(tenantId).misses(), is(1L));
+
+    cache.buildRules(tenantId, rulesAsText(secondPolicyId));
+
+    assertThat(cache.getMatchStatistics(tenantId).requests(), is(0L));
+    assertThat(determineLoanPolicyId(tenantId), is(secondPolicyId));
+  }
+
+  private String determineLoanPolicyId(String tenantId) throws Exception {
+    final RulesExecutionParameters parameters = new RulesExecutionParameters(
+      "55555555-5555-5555-5555-555555555555", "66666666-6666-6666-6666-666666666666",
+      "77777777-7777-7777-7777-777777777777", "88888888-8888-8888-8888-888888888888", null);
+
+    return CirculationRulesCache.getInstance().getExecutableRules(tenantId, null)
+      .get().value().determineLoanPolicy(parameters).value().getPolicyId();
+  }
+
   private String getLoanPolicyId(String tenantId, CollectionResourceClient client) throws Exception {
-    return CirculationRulesCache.getInstance().getDrools(tenantId, client)
+    return CirculationRulesCache.getInstance().getRulesEngine(tenantId, client)
       .get().value().loanPolicy(MultiMap.caseInsensitiveMultiMap(), Location.unknown()).getPolicyId();
   }
 
   private CollectionResourceClient createCirculationRulesClientMock(String policyId) {
     String rulesResponse = new JsonObject()
       .put("id", UUID.randomUUID().toString())
-      .put("rulesAsText", format("priority: g, m, t , s, b, c, a\nfallback-policy: " +
-        "l %s r %s n %s o %s i %s", policyId, policyId, policyId, policyId, policyId))
+      .put("rulesAsText", rulesAsText(policyId))
       .encodePrettily();
 
     CollectionResourceClient circulationRulesClient = mock(CollectionResourceClient.class);
@@ -74,4 +105,9 @@ class CirculationRulesCacheTest {
 
     return circulationRulesClient;
   }
+
+  private static String rulesAsText(String policyId) {
+    return format("priority: g, m, t , s, b, c, a\nfallback-policy: " +
+      "l %s r %s n %s o %s i %s", policyId, policyId, policyId, policyId, policyId);
+  }
 }
@@ -1,18 +1,25 @@
 package org.folio.circulation.support;
 
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
 import static org.folio.circulation.support.AsyncCoordinationUtil.mapSequentially;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.folio.circulation.support.async.Throttle;
 import org.folio.circulation.support.results.Result;
 import org.junit.jupiter.api.Test;
 
@@ -41,4 +48,77 @@ class AsyncCoordinationUtilTest {
     assertEquals(numbers, invocationResults);
   }
 
-}
\ No newline at end of file
+  @Test
+  @SneakyThrows
+  void throttledAllOfLimitsActionsInProgress() {
+    List<Integer> numbers = IntStream.range(0, 200)
+      .boxed()
+      .collect(Collectors.toList());
+
+    AtomicInteger inProgress = new AtomicInteger();
+    AtomicInteger mostInProgress = new AtomicInteger();
+
+    Function<Integer, CompletableFuture<Result<Integer>>> action = number -> {
+      mostInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+
+      return CompletableFuture.supplyAsync(() -> number,
+          CompletableFuture.delayedExecutor(1, TimeUnit.MILLISECONDS))
+        .thenApply(n -> {
+          inProgress.decrementAndGet();
+          return succeeded(n);
+        });
+    };
+
+    List<Integer> results = allOf(numbers, Throttle.of(5, 0), action)
+      .get(10, TimeUnit.SECONDS)
+      .value();
+
+    assertEquals(numbers, results);
+    assertTrue(mostInProgress.get() <= 5);
+  }
+
+  @Test
+  @SneakyThrows
+  void throttledAllOfCanApplyActionsThatCompleteImmediately() {
+    List<Integer> numbers = IntStream.range(0, 100_000)
+      .boxed()
+      .collect(Collectors.toList());
+
+    List<Result<Integer>> results = allResultsOf(numbers, Throttle.of(1, 0),
+      number -> CompletableFuture.completedFuture(succeeded(number)))
+      .get(10, TimeUnit.SECONDS);
+
+    assertEquals(numbers, results.stream().map(Result::value).collect(Collectors.toList()));
+  }
+
+  @Test
+  @SneakyThrows
+  void throttledAllOfLimitsActionsStartedEachSecond() {
+    List<Integer> numbers = IntStream.range(0, 21)
+      .boxed()
+      .collect(Collectors.toList());
+
+    long start = System.nanoTime();
+
+    allOf(numbers, Throttle.of(0, 100),
+      number -> CompletableFuture.completedFuture(succeeded(number)))
+      .get(10, TimeUnit.SECONDS);
+
+    // the first action starts immediately, each following one 10 milliseconds later
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  void throttledAllOfFailsWhenAnActionFailsExceptionally() {
+    List<Integer> numbers = IntStream.range(0, 10)
+      .boxed()
+      .collect(Collectors.toList());
+
+    CompletableFuture<Result<List<Integer>>> future = allOf(numbers, Throttle.of(2, 0),
+      number -> number == 3
+        ? CompletableFuture.failedFuture(new IllegalStateException("failed"))
+        : CompletableFuture.completedFuture(succeeded(number)));
+
+    assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+  }
+}
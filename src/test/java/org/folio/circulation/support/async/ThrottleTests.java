@@ -0,0 +1,35 @@
+package org.folio.circulation.support.async;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ThrottleTests {
+  @ParameterizedTest
+  @CsvSource(value = {
+    "'', 10",
+    "5, 5",
+    "'*=5', 5",
+    "'*=5,age-to-lost=3', 3",
+    "'*=5,age-to-lost=3,diku/*=7', 7",
+    "'*=5,age-to-lost=3,diku/*=7,diku/age-to-lost=2', 2",
+    "'other/age-to-lost=2,scheduled-notices=4', 10",
+    "'*=invalid', 10",
+  })
+  void mostSpecificLimitIsUsed(String limits, int expectedLimit) {
+    assertThat(Throttle.limitFor(limits, "diku", "age-to-lost", 10), is(expectedLimit));
+  }
+
+  @ParameterizedTest
+  @CsvSource(value = {
+    "0, 0, true",
+    "5, 0, false",
+    "0, 5, false",
+    "-1, -1, true",
+  })
+  void throttleWithoutLimitsIsUnlimited(int concurrency, int perSecond, boolean unlimited) {
+    assertThat(Throttle.of(concurrency, perSecond).isUnlimited(), is(unlimited));
+  }
+}
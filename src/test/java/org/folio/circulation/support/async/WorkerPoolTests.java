@@ -0,0 +1,77 @@
+package org.folio.circulation.support.async;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+class WorkerPoolTests {
+  @Test
+  void runsTasksOnWorkerThreads() throws Exception {
+    final WorkerPool pool = new WorkerPool(1, 1);
+
+    final String threadName = CompletableFuture
+      .supplyAsync(() -> Thread.currentThread().getName(), pool)
+      .get(5, TimeUnit.SECONDS);
+
+    assertThat(threadName, startsWith("circulation-worker-"));
+  }
+
+  @Test
+  void failsTasksWhenFull() throws Exception {
+    final WorkerPool pool = new WorkerPool(1, 1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    // occupy the only thread and the only place in the queue
+    pool.execute(() -> awaitQuietly(release));
+    pool.execute(() -> awaitQuietly(release));
+
+    // supplyAsync throws a rejection directly, rather than failing the future
+    final Result<String> result = CompletableFuture.completedFuture("task")
+      .thenApplyAsync(Result::succeeded, pool)
+      .exceptionally(WorkerPool::failWhenRejected)
+      .get(5, TimeUnit.SECONDS);
+
+    release.countDown();
+
+    assertThat(result.failed(), is(true));
+    assertThat(result.cause(), instanceOf(ServerErrorFailure.class));
+  }
+
+  @Test
+  void otherExceptionsArePassedOn() {
+    final CompletableFuture<Result<String>> future = CompletableFuture
+      .<Result<String>>supplyAsync(() -> {
+        throw new IllegalStateException("failed");
+      }, new WorkerPool(1, 1))
+      .exceptionally(WorkerPool::failWhenRejected);
+
+    final ExecutionException exception = assertThrows(ExecutionException.class,
+      () -> future.get(5, TimeUnit.SECONDS));
+
+    assertThat(exception.getCause() instanceof IllegalStateException, is(true));
+  }
+
+  @Test
+  void fallsBackToCommonPoolOutsideOfVertx() {
+    assertThat(ContextExecutor.forCurrentContext() instanceof ContextExecutor, is(false));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package org.folio.circulation.support.async;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class WriteCoalescerTests {
+  private final List<List<String>> batchesWritten = new CopyOnWriteArrayList<>();
+
+  @Test
+  @SneakyThrows
+  void writesAreCoalescedWhenBatchIsFull() {
+    final var coalescer = new WriteCoalescer<String, Void>(3, Duration.ofHours(1),
+      this::recordBatch);
+
+    final var first = coalescer.write("a");
+    final var second = coalescer.write("b");
+
+    assertThat(first.isDone(), is(false));
+
+    final var third = coalescer.write("c");
+
+    assertThat(batchesWritten, contains(List.of("a", "b", "c")));
+    assertThat(get(first).succeeded(), is(true));
+    assertThat(get(second).succeeded(), is(true));
+    assertThat(get(third).succeeded(), is(true));
+  }
+
+  @Test
+  @SneakyThrows
+  void partialBatchIsWrittenOnceWindowHasPassed() {
+    final var coalescer = new WriteCoalescer<String, Void>(10, Duration.ofMillis(20),
+      this::recordBatch);
+
+    final var first = coalescer.write("a");
+    final var second = coalescer.write("b");
+
+    assertThat(get(first).succeeded(), is(true));
+    assertThat(get(second).succeeded(), is(true));
+    assertThat(batchesWritten, contains(List.of("a", "b")));
+  }
+
+  @Test
+  @SneakyThrows
+  void recordsAreWrittenIndividuallyWithoutWindow() {
+    final var coalescer = new WriteCoalescer<String, Void>(10, Duration.ZERO,
+      this::recordBatch);
+
+    get(coalescer.write("a"));
+    get(coalescer.write("b"));
+
+    assertThat(batchesWritten, contains(List.of("a"), List.of("b")));
+  }
+
+  @Test
+  @SneakyThrows
+  void everyWriteInBatchFailsWhenBatchFails() {
+    final var coalescer = new WriteCoalescer<String, Void>(2, Duration.ofHours(1),
+      records -> completedFuture(failed(new ServerErrorFailure("Storage failed"))));
+
+    final var first = coalescer.write("a");
+    final var second = coalescer.write("b");
+
+    assertThat(get(first).failed(), is(true));
+    assertThat(get(second).failed(), is(true));
+  }
+
+  @Test
+  @SneakyThrows
+  void laterWritesStartNewBatch() {
+    final var coalescer = new WriteCoalescer<String, Void>(2, Duration.ofMillis(20),
+      this::recordBatch);
+
+    coalescer.write("a");
+    coalescer.write("b");
+    get(coalescer.write("c"));
+
+    assertThat(batchesWritten, hasSize(2));
+    assertThat(batchesWritten.get(1), contains("c"));
+  }
+
+  private CompletableFuture<Result<Void>> recordBatch(List<String> records) {
+    batchesWritten.add(records);
+
+    return completedFuture(succeeded(null));
+  }
+
+  private static Result<Void> get(CompletableFuture<Result<Void>> future)
+    throws Exception {
+
+    return future.get(5, TimeUnit.SECONDS);
+  }
+}
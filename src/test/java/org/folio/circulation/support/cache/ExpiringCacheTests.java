@@ -0,0 +1,154 @@
+package org.folio.circulation.support.cache;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.hasEntry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class ExpiringCacheTests {
+  private final AtomicLong ticker = new AtomicLong();
+  private final ExpiringCache<String, String> cache = new ExpiringCache<>(
+    Duration.ofSeconds(10), 3, ticker::get);
+
+  @Test
+  void valueIsReturnedBeforeExpiry() {
+    cache.put("a", "A");
+    ticker.addAndGet(Duration.ofSeconds(9).toNanos());
+
+    assertThat(cache.get("a"), is(Optional.of("A")));
+  }
+
+  @Test
+  void valueIsNotReturnedAfterExpiry() {
+    cache.put("a", "A");
+    ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+
+    assertThat(cache.get("a"), is(Optional.empty()));
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  void valueWithoutExpiryIsReturnedUntilEvicted() {
+    final ExpiringCache<String, String> withoutExpiry = new ExpiringCache<>(null, 1, ticker::get);
+
+    withoutExpiry.put("a", "A");
+    ticker.addAndGet(Duration.ofDays(1000).toNanos());
+
+    assertThat(withoutExpiry.get("a"), is(Optional.of("A")));
+
+    withoutExpiry.put("b", "B");
+
+    assertThat(withoutExpiry.get("a"), is(Optional.empty()));
+  }
+
+  @Test
+  void leastRecentlyUsedEntryIsEvictedWhenFull() {
+    cache.put("a", "A");
+    cache.put("b", "B");
+    cache.put("c", "C");
+    cache.get("a");
+    cache.put("d", "D");
+
+    assertThat(cache.size(), is(3));
+    assertThat(cache.get("b"), is(Optional.empty()));
+    assertThat(cache.get("a"), is(Optional.of("A")));
+    assertThat(cache.getStatistics().evictions(), is(1L));
+  }
+
+  @Test
+  void invalidatedValueIsNotReturned() {
+    cache.put("a", "A");
+    cache.put("b", "B");
+    cache.invalidate("a");
+
+    assertThat(cache.get("a"), is(Optional.empty()));
+    assertThat(cache.get("b"), is(Optional.of("B")));
+  }
+
+  @Test
+  void hitsAndMissesAreCounted() {
+    cache.put("a", "A");
+    cache.get("a");
+    cache.get("a");
+    cache.get("b");
+
+    final CacheStatistics statistics = cache.getStatistics();
+
+    assertThat(statistics.hits(), is(2L));
+    assertThat(statistics.misses(), is(1L));
+    assertThat(statistics.size(), is(1));
+  }
+
+  @Test
+  @SneakyThrows
+  void fetchedValueIsOnlyFetchedOnce() {
+    final AtomicInteger fetches = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      final Result<String> result = cache.getOrFetch("a", key -> {
+        fetches.incrementAndGet();
+        return ofAsync(() -> "A");
+      }).get();
+
+      assertThat(result.value(), is("A"));
+    }
+
+    assertThat(fetches.get(), is(1));
+  }
+
+  @Test
+  @SneakyThrows
+  void failedFetchIsNotCached() {
+    cache.getOrFetch("a", key -> completedFuture(failed(new ServerErrorFailure("failed"))))
+      .get();
+
+    assertThat(cache.get("a"), is(Optional.empty()));
+  }
+
+  @Test
+  @SneakyThrows
+  void onlyMissingValuesAreFetched() {
+    cache.put("a", "A");
+
+    final AtomicReference<Collection<String>> fetched = new AtomicReference<>();
+
+    final Map<String, String> values = cache.getAllOrFetch(List.of("a", "b"), keys -> {
+      fetched.set(keys);
+      return ofAsync(() -> List.of("B"));
+    }, String::toLowerCase).get().value();
+
+    assertThat(fetched.get(), is(List.of("b")));
+    assertThat(values, aMapWithSize(2));
+    assertThat(values, hasEntry("a", "A"));
+    assertThat(values, hasEntry("b", "B"));
+    assertThat(cache.get("b"), is(Optional.of("B")));
+  }
+
+  @Test
+  void disabledCacheNeverStoresValues() {
+    final ExpiringCache<String, String> disabled = ExpiringCache.disabled();
+
+    disabled.put("a", "A");
+
+    assertThat(disabled.get("a"), is(Optional.empty()));
+    assertThat(disabled.size(), is(0));
+  }
+}
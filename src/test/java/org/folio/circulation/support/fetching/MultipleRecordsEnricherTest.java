@@ -0,0 +1,157 @@
+package org.folio.circulation.support.fetching;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class MultipleRecordsEnricherTest {
+  private final List<String> stagesStarted = new ArrayList<>();
+
+  @Test
+  void mergesWhatEveryStageAdded() {
+    final var enricher = new MultipleRecordsEnricher<JsonObject>(record -> record.getString("id"))
+      .stage("users", addProperty("users", "user"), mergeProperty("user"))
+      .stage("items", addProperty("items", "item"), mergeProperty("item"));
+
+    final var result = enricher.enrich(records("1", "2")).getNow(null);
+
+    assertThat(result.succeeded(), is(true));
+
+    result.value().getRecords().forEach(record -> {
+      assertThat(record.getString("user"), is("user-" + record.getString("id")));
+      assertThat(record.getString("item"), is("item-" + record.getString("id")));
+    });
+  }
+
+  @Test
+  void independentStagesAreStartedBeforeAnyHaveCompleted() {
+    final var usersFetched = new CompletableFuture<Result<MultipleRecords<JsonObject>>>();
+    final var itemsFetched = new CompletableFuture<Result<MultipleRecords<JsonObject>>>();
+
+    final var enricher = new MultipleRecordsEnricher<JsonObject>(record -> record.getString("id"))
+      .stage("users", records -> started("users", usersFetched), mergeProperty("user"))
+      .stage("items", records -> started("items", itemsFetched), mergeProperty("item"));
+
+    final var enriched = enricher.enrich(records("1"));
+
+    assertThat(stagesStarted, contains("users", "items"));
+    assertThat(enriched.isDone(), is(false));
+
+    usersFetched.complete(succeeded(records("1")));
+    itemsFetched.complete(succeeded(records("1")));
+
+    assertThat(enriched.getNow(null).succeeded(), is(true));
+  }
+
+  @Test
+  void dependentStageIsGivenRecordsEnrichedByStageItDependsUpon() {
+    final var enricher = new MultipleRecordsEnricher<JsonObject>(record -> record.getString("id"))
+      .stage("users", addProperty("users", "user"), mergeProperty("user"))
+      .stage("groups", "users", records -> completedFuture(succeeded(records.mapRecords(
+          record -> record.copy().put("group", "group-of-" + record.getString("user"))))),
+        mergeProperty("group"));
+
+    final var result = enricher.enrich(records("1")).getNow(null);
+
+    assertThat(result.value().getRecords().iterator().next().getString("group"),
+      is("group-of-user-1"));
+  }
+
+  @Test
+  void onlySelectedStagesAndTheirDependenciesAreRun() {
+    final var enricher = new MultipleRecordsEnricher<JsonObject>(record -> record.getString("id"))
+      .stage("users", addProperty("users", "user"), mergeProperty("user"))
+      .stage("items", addProperty("items", "item"), mergeProperty("item"))
+      .stage("groups", "users", addProperty("groups", "group"), mergeProperty("group"));
+
+    final Set<String> selected = enricher.select("groups", "include").value();
+
+    final var result = enricher.enrich(records("1"), selected).getNow(null);
+
+    assertThat(stagesStarted, contains("users", "groups"));
+
+    final JsonObject record = result.value().getRecords().iterator().next();
+
+    assertThat(record.getString("item"), is(nullValue()));
+    assertThat(record.getString("group"), is("group-1"));
+  }
+
+  @Test
+  void everyStageIsSelectedWhenNoneAreNamed() {
+    final var enricher = new MultipleRecordsEnricher<JsonObject>(record -> record.getString("id"))
+      .stage("users", addProperty("users", "user"), mergeProperty("user"))
+      .stage("items", addProperty("items", "item"), mergeProperty("item"));
+
+    assertThat(enricher.select(null, "include").value(), contains("users", "items"));
+    assertThat(enricher.select(" items , users", "include").value(), contains("items", "users"));
+  }
+
+  @Test
+  void unknownStageCannotBeSelected() {
+    final var enricher = new MultipleRecordsEnricher<JsonObject>(record -> record.getString("id"))
+      .stage("users", addProperty("users", "user"), mergeProperty("user"));
+
+    final var result = enricher.select("users,holdings", "include");
+
+    assertThat(result.failed(), is(true));
+  }
+
+  @Test
+  void failsWhenAnyStageFails() {
+    final var enricher = new MultipleRecordsEnricher<JsonObject>(record -> record.getString("id"))
+      .stage("users", addProperty("users", "user"), mergeProperty("user"))
+      .stage("items", records -> completedFuture(failed(new ServerErrorFailure("Failed"))),
+        mergeProperty("item"));
+
+    final var result = enricher.enrich(records("1")).getNow(null);
+
+    assertThat(result.failed(), is(true));
+  }
+
+  private Function<MultipleRecords<JsonObject>,
+    CompletableFuture<Result<MultipleRecords<JsonObject>>>> addProperty(String stage,
+    String propertyName) {
+
+    return records -> started(stage, completedFuture(succeeded(records.mapRecords(
+      record -> record.copy().put(propertyName, propertyName + "-" + record.getString("id"))))));
+  }
+
+  private static BinaryOperator<JsonObject> mergeProperty(String propertyName) {
+    return (record, enriched) -> record.copy()
+      .put(propertyName, enriched.getString(propertyName));
+  }
+
+  private <T> T started(String stage, T fetched) {
+    stagesStarted.add(stage);
+
+    return fetched;
+  }
+
+  private static MultipleRecords<JsonObject> records(String... ids) {
+    final List<JsonObject> records = new ArrayList<>();
+
+    for (String id : ids) {
+      records.add(new JsonObject().put("id", id));
+    }
+
+    return new MultipleRecords<>(records, records.size());
+  }
+}
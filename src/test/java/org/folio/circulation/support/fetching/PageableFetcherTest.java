@@ -2,6 +2,7 @@ package org.folio.circulation.support.fetching;
 
 import static java.lang.Math.min;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
 import static org.folio.circulation.support.http.client.CqlQuery.noQuery;
@@ -19,7 +20,13 @@ import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.noInteractions;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
+import java.util.ArrayList;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.ServerErrorFailure;
@@ -111,6 +118,120 @@ class PageableFetcherTest {
     verify(pageProcessor, times(10)).processPage(any());
   }
 
+  @Test
+  void shouldProcessManyPagesWithoutRecursion() {
+    final var pageSize = limit(1);
+    final var repository = repository(100_000);
+    final var pagesProcessed = new AtomicInteger();
+
+    final var voidResult = new PageableFetcher<>(repository, pageSize, 1_000_000)
+      .processPages(noQuery().value(), records -> {
+        pagesProcessed.incrementAndGet();
+        return ofAsync(() -> null);
+      })
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(pagesProcessed.get(), is(100_001));
+  }
+
+  @Test
+  void shouldProcessEveryRecordOnceInIdOrderWhenProcessedRecordsNoLongerMatch() {
+    final var records = new TreeSet<String>();
+
+    range(0, 95).forEach(index -> records.add(String.format("%04d", index)));
+
+    final var processed = new ArrayList<String>();
+
+    final var voidResult = PageableFetcher.inIdOrder(repositoryInIdOrder(records),
+        identity(), limit(10), 0, 1000)
+      .processPages(noQuery().value(), page -> {
+        processed.addAll(page.getRecords());
+        // processing a record means it no longer matches the query
+        records.removeAll(page.getRecords());
+        return ofAsync(() -> null);
+      })
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(processed.size(), is(95));
+    assertThat(processed.get(94), is("0094"));
+    assertThat(records.isEmpty(), is(true));
+  }
+
+  @Test
+  void shouldFetchNextPageInIdOrderWhilstProcessingCurrentPage() {
+    final var records = new TreeSet<String>();
+
+    range(0, 25).forEach(index -> records.add(String.format("%04d", index)));
+
+    final var repository = spy(repositoryInIdOrder(records));
+    final var firstPageProcessed = new CompletableFuture<Result<Void>>();
+    final var pagesProcessed = new AtomicInteger();
+
+    final var processing = PageableFetcher.inIdOrder(repository, identity(), limit(10), 1, 1000)
+      .processPages(noQuery().value(), page -> pagesProcessed.incrementAndGet() == 1
+        ? firstPageProcessed
+        : ofAsync(() -> null));
+
+    verify(repository, times(2)).getMany(any(), any(), any());
+    assertThat(processing.isDone(), is(false));
+
+    firstPageProcessed.complete(Result.succeeded(null));
+
+    assertThat(processing.getNow(null).succeeded(), is(true));
+    assertThat(pagesProcessed.get(), is(3));
+  }
+
+  @Test
+  void shouldFetchPagesAheadUpToPipelineDepth() {
+    assertThat(pagesFetchedWhilstProcessingFirstPage(2, 1000), is(3));
+  }
+
+  @Test
+  void shouldLimitPagesFetchedAheadByRecordsWaitingToBeProcessed() {
+    assertThat(pagesFetchedWhilstProcessingFirstPage(5, 25), is(3));
+  }
+
+  private int pagesFetchedWhilstProcessingFirstPage(int pipelineDepth,
+    int maximumRecordsWaiting) {
+
+    final var records = new TreeSet<String>();
+
+    range(0, 95).forEach(index -> records.add(String.format("%04d", index)));
+
+    final var pagesFetched = new AtomicInteger();
+    final var repository = repositoryInIdOrder(records);
+    final var firstPageProcessed = new CompletableFuture<Result<Void>>();
+    final var processed = new ArrayList<String>();
+
+    final var processing = PageableFetcher.<String>inIdOrder(
+        (query, limit, offset) -> {
+          pagesFetched.incrementAndGet();
+          return repository.getMany(query, limit, offset);
+        },
+        identity(), limit(10), pipelineDepth, maximumRecordsWaiting)
+      .processPages(noQuery().value(), page -> {
+        final var pageProcessed = processed.isEmpty()
+          ? firstPageProcessed
+          : CompletableFuture.completedFuture(Result.<Void>succeeded(null));
+
+        processed.addAll(page.getRecords());
+
+        return pageProcessed;
+      });
+
+    final int fetchedWhilstProcessing = pagesFetched.get();
+
+    firstPageProcessed.complete(Result.succeeded(null));
+
+    assertThat(processing.getNow(null).succeeded(), is(true));
+    assertThat(processed, is(new ArrayList<>(records)));
+    assertThat(pagesFetched.get(), is(10));
+
+    return fetchedWhilstProcessing;
+  }
+
   private <T> Result<Void> processPages(GetManyRecordsRepository<T> repository,
     PageLimit pageLimit, PageProcessor<T> processor) {
 
@@ -136,6 +257,29 @@ class PageableFetcherTest {
     };
   }
 
+  // Mockito can not spy a lambda
+  @SuppressWarnings("all")
+  private GetManyRecordsRepository<String> repositoryInIdOrder(SortedSet<String> records) {
+    return new GetManyRecordsRepository<String>() {
+      @Override
+      public CompletableFuture<Result<MultipleRecords<String>>> getMany(
+        CqlQuery cqlQuery, PageLimit pageLimit, Offset offset) {
+
+        final Matcher lastId = Pattern.compile("id>\"(\\d+)\"").matcher(cqlQuery.toString());
+
+        final var matching = lastId.find()
+          ? records.tailSet(lastId.group(1) + "\0")
+          : records;
+
+        final var response = matching.stream()
+          .limit(pageLimit.getLimit())
+          .collect(toList());
+
+        return ofAsync(() -> new MultipleRecords<>(response, matching.size()));
+      }
+    };
+  }
+
   // Mockito can not spy a lambda
   @SuppressWarnings("all")
   private PageProcessor<Integer> dummyProcessor() {
@@ -0,0 +1,46 @@
+package org.folio.circulation.support.http.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.http.HttpMethod;
+
+class DownstreamCallsTests {
+  @Test
+  void requestsForDifferentRecordsOfTheSameTypeAreGroupedTogether() {
+    final DownstreamCalls downstreamCalls = new DownstreamCalls();
+
+    downstreamCalls.record(HttpMethod.GET,
+      "http://okapi:9130/item-storage/items/a3c2a6f2-8d3d-4e0e-9f5a-0b0e1f0c6d11", 100, 0);
+    downstreamCalls.record(HttpMethod.GET,
+      "http://okapi:9130/item-storage/items/6b2f1e4a-7c4d-4f3b-8a1e-2d3c4b5a6f70", 200, 0);
+    downstreamCalls.record(HttpMethod.GET,
+      "http://okapi:9130/users?query=barcode%3D%3D%22123%22", 50, 0);
+
+    assertThat(downstreamCalls.getTotalCalls(), is(3L));
+    assertThat(downstreamCalls.getTotalBytes(), is(350L));
+    assertThat(downstreamCalls.describe(),
+      is("GET /item-storage/items/:id calls=2 bytes=300 millis=0, " +
+        "GET /users calls=1 bytes=50 millis=0"));
+  }
+
+  @Test
+  void requestsWithDifferentMethodsAreGroupedSeparately() {
+    final DownstreamCalls downstreamCalls = new DownstreamCalls();
+
+    downstreamCalls.record(HttpMethod.GET, "http://okapi:9130/loan-storage/loans", 0, 0);
+    downstreamCalls.record(HttpMethod.POST, "http://okapi:9130/loan-storage/loans", 0, 0);
+
+    assertThat(downstreamCalls.describe(),
+      is("GET /loan-storage/loans calls=1 bytes=0 millis=0, " +
+        "POST /loan-storage/loans calls=1 bytes=0 millis=0"));
+  }
+
+  @Test
+  void pathIsTakenFromRelativeUrls() {
+    assertThat(DownstreamCalls.normalisePath("/circulation/loans?limit=10"),
+      is("/circulation/loans"));
+  }
+}
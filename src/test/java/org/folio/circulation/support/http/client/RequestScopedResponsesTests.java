@@ -0,0 +1,124 @@
+package org.folio.circulation.support.http.client;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class RequestScopedResponsesTests {
+  private static final String ITEM_URL
+    = "http://okapi:9130/item-storage/items/a3c2a6f2-8d3d-4e0e-9f5a-0b0e1f0c6d11";
+  private static final String USER_URL
+    = "http://okapi:9130/users/6b2f1e4a-7c4d-4f3b-8a1e-2d3c4b5a6f70";
+
+  private final AtomicInteger requestsMade = new AtomicInteger();
+
+  @Test
+  void requestMadeWhilstTheSameRequestIsInProgressIsOnlyMadeOnce() {
+    final RequestScopedResponses responses = new RequestScopedResponses(100);
+    final CompletableFuture<Result<Response>> inProgress = new CompletableFuture<>();
+
+    final var first = responses.get(ITEM_URL, request(() -> inProgress));
+    final var second = responses.get(ITEM_URL, request(() -> inProgress));
+
+    inProgress.complete(succeeded(response(200)));
+
+    assertThat(requestsMade.get(), is(1));
+    assertThat(first.getNow(null).value().getJson().getString("id"), is("1"));
+    assertThat(second.getNow(null).value().getJson().getString("id"), is("1"));
+  }
+
+  @Test
+  void eachRequestGetsItsOwnCopyOfTheResponse() {
+    final RequestScopedResponses responses = new RequestScopedResponses(100);
+
+    final Response first = responses.get(ITEM_URL, succeeds(200)).getNow(null).value();
+    final Response second = responses.get(ITEM_URL, succeeds(200)).getNow(null).value();
+
+    first.getJson().put("id", "changed");
+
+    assertThat(second.getJson(), not(sameInstance(first.getJson())));
+    assertThat(second.getJson().getString("id"), is("1"));
+  }
+
+  @Test
+  void responsesAreForgottenWhenAnythingIsWritten() {
+    final RequestScopedResponses responses = new RequestScopedResponses(100);
+
+    responses.get(ITEM_URL, succeeds(200));
+    responses.written("http://okapi:9130/loan-storage/loans");
+    responses.get(ITEM_URL, succeeds(200));
+
+    assertThat(requestsMade.get(), is(2));
+  }
+
+  @Test
+  void referenceDataIsOnlyForgottenWhenWrittenToTheSameModule() {
+    final RequestScopedResponses responses = new RequestScopedResponses(100);
+
+    responses.get(USER_URL, succeeds(200));
+    responses.written("http://okapi:9130/loan-storage/loans");
+    responses.get(USER_URL, succeeds(200));
+
+    assertThat(requestsMade.get(), is(1));
+
+    responses.written("http://okapi:9130/users");
+    responses.get(USER_URL, succeeds(200));
+
+    assertThat(requestsMade.get(), is(2));
+  }
+
+  @Test
+  void failedRequestsAreNotRemembered() {
+    final RequestScopedResponses responses = new RequestScopedResponses(100);
+
+    responses.get(ITEM_URL, succeeds(500));
+    responses.get(ITEM_URL, succeeds(200));
+    responses.get(ITEM_URL, request(() -> {
+      throw new IllegalStateException("Not expected to be called");
+    }));
+
+    assertThat(requestsMade.get(), is(2));
+  }
+
+  @Test
+  void receivedResponsesAreForgottenWhenThereAreTooMany() {
+    final RequestScopedResponses responses = new RequestScopedResponses(2);
+
+    responses.get(ITEM_URL, succeeds(200));
+    responses.get(USER_URL, succeeds(200));
+    responses.get(ITEM_URL + "?query=id", succeeds(200));
+
+    assertThat(responses.size(), is(1));
+  }
+
+  private Supplier<CompletableFuture<Result<Response>>> succeeds(int statusCode) {
+    return request(() -> completedFuture(succeeded(response(statusCode))));
+  }
+
+  private Supplier<CompletableFuture<Result<Response>>> request(
+    Supplier<CompletableFuture<Result<Response>>> request) {
+
+    return () -> {
+      requestsMade.incrementAndGet();
+
+      return request.get();
+    };
+  }
+
+  private static Response response(int statusCode) {
+    return new Response(statusCode, new JsonObject().put("id", "1").encode(),
+      "application/json");
+  }
+}
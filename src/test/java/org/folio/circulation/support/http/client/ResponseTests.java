@@ -0,0 +1,88 @@
+package org.folio.circulation.support.http.client;
+
+import static org.folio.circulation.support.http.client.Response.STREAMED_BODY_THRESHOLD_BYTES;
+import static org.folio.circulation.support.http.client.Response.responseFrom;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpResponse;
+
+class ResponseTests {
+  @Test
+  void bodyReceivedAsBufferIsTheSameAsWhenReceivedAsString() {
+    final JsonObject json = new JsonObject().put("id", "1").put("title", "Nód");
+
+    final Response response = receivedResponse(json.toBuffer());
+
+    assertThat(response.hasBody(), is(true));
+    assertThat(response.getBody(), is(json.encode()));
+    assertThat(response.getJson(), is(json));
+  }
+
+  @Test
+  void bodyIsOnlyParsedOnce() {
+    final Response response = receivedResponse(new JsonObject().put("id", "1").toBuffer());
+
+    assertThat(response.getJson(), sameInstance(response.getJson()));
+  }
+
+  @Test
+  void blankBodyIsParsedAsEmptyObject() {
+    final Response response = receivedResponse(Buffer.buffer(" \n "));
+
+    assertThat(response.hasBody(), is(false));
+    assertThat(response.getJson(), is(new JsonObject()));
+  }
+
+  @Test
+  void largeBodyIsStreamedIntoTheSameRecordsAsWhenParsed() {
+    final JsonArray items = new JsonArray();
+
+    while (items.toBuffer().length() < STREAMED_BODY_THRESHOLD_BYTES) {
+      items.add(new JsonObject()
+        .put("id", String.valueOf(items.size()))
+        .put("status", new JsonObject().put("name", "Available")));
+    }
+
+    final JsonObject body = new JsonObject()
+      .put("items", items)
+      .put("totalRecords", items.size());
+
+    final Response streamed = receivedResponse(body.toBuffer());
+    final Response parsed = new Response(200, body.encode(), "application/json");
+
+    assertThat(streamed.hasLargeUnparsedBody(), is(true));
+    assertThat(parsed.hasLargeUnparsedBody(), is(false));
+
+    final MultipleRecords<JsonObject> streamedRecords = MultipleRecords.from(streamed,
+      JsonObject::copy, "items").value();
+
+    final MultipleRecords<JsonObject> parsedRecords = MultipleRecords.from(parsed,
+      JsonObject::copy, "items").value();
+
+    assertThat(streamedRecords.getTotalRecords(), is(parsedRecords.getTotalRecords()));
+    assertThat(streamedRecords.getRecords(), is(parsedRecords.getRecords()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Response receivedResponse(Buffer body) {
+    final HttpResponse<Buffer> response = mock(HttpResponse.class);
+
+    when(response.statusCode()).thenReturn(200);
+    when(response.body()).thenReturn(body);
+    when(response.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap()
+      .add("Content-Type", "application/json"));
+
+    return responseFrom("http://localhost/items", response);
+  }
+}
@@ -124,6 +124,28 @@ public class VertxWebClientOkapiHttpClientTests {
     assertThat(response.getHeader("location"), is(locationResponseHeader));
   }
 
+  @Test
+  public void recordsRequestsMadeForDownstreamCalls()
+    throws InterruptedException, ExecutionException, TimeoutException {
+
+    fakeWebServer.stubFor(matchingFolioHeaders(get(urlPathEqualTo("/record")))
+      .willReturn(okJson(dummyJsonResponseBody())));
+
+    final DownstreamCalls downstreamCalls = new DownstreamCalls();
+
+    OkapiHttpClient client = createClientUsing(
+      vertxAssistant.createUsingVertx(Vertx::createHttpClient), okapiUrl,
+      tenantId, token, userId, requestId, downstreamCalls);
+
+    client.get(fakeWebServer.url("/record")).get(2, SECONDS);
+    client.get(fakeWebServer.url("/record")).get(2, SECONDS);
+
+    assertThat(downstreamCalls.getTotalCalls(), is(2L));
+    assertThat(downstreamCalls.getTotalBytes(),
+      is(2L * dummyJsonResponseBody().length()));
+    assertThat(downstreamCalls.describe(), containsString("GET /record calls=2"));
+  }
+
   @Test
   public void canGetJsonUsingQueryParameters()
     throws InterruptedException, ExecutionException, TimeoutException {
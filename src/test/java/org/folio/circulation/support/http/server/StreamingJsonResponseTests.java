@@ -0,0 +1,104 @@
+package org.folio.circulation.support.http.server;
+
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import lombok.SneakyThrows;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingJsonResponseTests {
+  @Mock
+  private HttpServerResponse response;
+
+  @Test
+  @SneakyThrows
+  void recordsAreWrittenABatchAtATime() {
+    final var streamingResponse = new StreamingJsonResponse(response, "records");
+
+    final List<Integer> numbers = IntStream.range(0, 5).boxed().toList();
+
+    final Result<Integer> written = streamingResponse.writeInBatches(numbers, 2,
+      batch -> ofAsync(() -> batch.stream()
+        .map(number -> new JsonObject().put("number", number))
+        .toList()))
+      .get();
+
+    streamingResponse.end(written);
+
+    final ArgumentCaptor<Buffer> batches = ArgumentCaptor.forClass(Buffer.class);
+    final ArgumentCaptor<Buffer> ending = ArgumentCaptor.forClass(Buffer.class);
+
+    verify(response, times(3)).write(batches.capture());
+    verify(response).end(ending.capture());
+    verify(response).setChunked(true);
+
+    final Buffer body = Buffer.buffer();
+    batches.getAllValues().forEach(body::appendBuffer);
+    body.appendBuffer(ending.getValue());
+
+    final JsonObject json = new JsonObject(body);
+
+    assertThat(json.getInteger("totalRecords"), is(5));
+    assertThat(json.getJsonArray("records").size(), is(5));
+    assertThat(json.getJsonArray("records").getJsonObject(4).getInteger("number"), is(4));
+  }
+
+  @Test
+  void emptyResponseIsAValidCollection() {
+    final var streamingResponse = new StreamingJsonResponse(response, "records");
+
+    streamingResponse.end(succeeded(0));
+
+    final ArgumentCaptor<Buffer> ending = ArgumentCaptor.forClass(Buffer.class);
+
+    verify(response).end(ending.capture());
+
+    final JsonObject json = new JsonObject(ending.getValue());
+
+    assertThat(json.getInteger("totalRecords"), is(0));
+    assertThat(json.getJsonArray("records").isEmpty(), is(true));
+  }
+
+  @Test
+  @SneakyThrows
+  void connectionIsResetWhenFailingAfterRecordsWereWritten() {
+    final var streamingResponse = new StreamingJsonResponse(response, "records");
+
+    streamingResponse.write(List.of(new JsonObject().put("number", 1))).get();
+    streamingResponse.end(Result.failed(new ServerErrorFailure("Failed")));
+
+    verify(response).reset();
+    verify(response, never()).end(any(Buffer.class));
+  }
+
+  @Test
+  void failureIsRespondedToWhenNothingWasWritten() {
+    final var streamingResponse = new StreamingJsonResponse(response, "records");
+
+    streamingResponse.end(Result.failed(new ServerErrorFailure("Failed")));
+
+    verify(response).setStatusCode(500);
+    verify(response, never()).reset();
+    verify(response, never()).setChunked(true);
+  }
+}
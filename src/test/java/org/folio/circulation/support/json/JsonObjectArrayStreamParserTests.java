@@ -0,0 +1,88 @@
+package org.folio.circulation.support.json;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class JsonObjectArrayStreamParserTests {
+  private final List<JsonObject> parsed = new ArrayList<>();
+
+  @Test
+  void objectsInTheArrayAreParsedInOrder() {
+    final JsonObject body = new JsonObject()
+      .put("items", new JsonArray()
+        .add(new JsonObject().put("id", "1").put("tags", new JsonArray().add("a")))
+        .add(new JsonObject().put("id", "2").put("status", new JsonObject()
+          .put("name", "Available"))))
+      .put("totalRecords", 2);
+
+    final Integer total = parse(body);
+
+    assertThat(total, is(2));
+    assertThat(parsed, contains(
+      new JsonObject().put("id", "1").put("tags", new JsonArray().add("a")),
+      new JsonObject().put("id", "2").put("status", new JsonObject()
+        .put("name", "Available"))));
+  }
+
+  @Test
+  void nestedPropertiesWithTheSameNamesAreIgnored() {
+    final JsonObject body = new JsonObject()
+      .put("resultInfo", new JsonObject()
+        .put("totalRecords", 5)
+        .put("items", new JsonArray().add(new JsonObject().put("id", "nested"))))
+      .put("items", new JsonArray().add(new JsonObject().put("id", "1")))
+      .put("totalRecords", 1);
+
+    assertThat(parse(body), is(1));
+    assertThat(parsed, contains(new JsonObject().put("id", "1")));
+  }
+
+  @Test
+  void entriesThatAreNotObjectsAreSkipped() {
+    final JsonObject body = new JsonObject()
+      .put("items", new JsonArray()
+        .add("not an object")
+        .addNull()
+        .add(new JsonArray().add(new JsonObject().put("id", "nested")))
+        .add(new JsonObject().put("id", "1")));
+
+    assertThat(parse(body), is(nullValue()));
+    assertThat(parsed, contains(new JsonObject().put("id", "1")));
+  }
+
+  @Test
+  void missingArrayIsTreatedAsEmpty() {
+    assertThat(parse(new JsonObject().put("totalRecords", 0)), is(0));
+    assertThat(parsed, is(empty()));
+  }
+
+  @Test
+  void bodyThatIsNotAnObjectCannotBeParsed() {
+    final Buffer array = Buffer.buffer(new JsonArray().add(new JsonObject()).encode());
+    final Buffer malformed = Buffer.buffer("{\"items\": [{\"id\": ");
+
+    assertThrows(DecodeException.class, () -> JsonObjectArrayStreamParser.parse(array,
+      "items", "totalRecords", parsed::add));
+    assertThrows(DecodeException.class, () -> JsonObjectArrayStreamParser.parse(malformed,
+      "items", "totalRecords", parsed::add));
+  }
+
+  private Integer parse(JsonObject body) {
+    return JsonObjectArrayStreamParser.parse(body.toBuffer(), "items", "totalRecords",
+      parsed::add);
+  }
+}
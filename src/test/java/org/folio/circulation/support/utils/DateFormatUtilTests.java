@@ -3,6 +3,7 @@ package org.folio.circulation.support.utils;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDate;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTimeOptional;
+import static org.folio.circulation.support.utils.DateFormatUtil.getDateTimeFormatters;
 import static org.folio.circulation.support.utils.DateFormatUtil.parseDate;
 import static org.folio.circulation.support.utils.DateFormatUtil.parseDateTime;
 import static org.folio.circulation.support.utils.DateFormatUtil.parseDateTimeOptional;
@@ -13,13 +14,19 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Clock;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -242,4 +249,103 @@ class DateFormatUtilTests {
     assertEquals(LocalTime.parse(match), parseTime(value, zone), "For test " + id);
   }
 
+  @ParameterizedTest
+  @CsvSource(value = {
+    "0, null, 2010-10-10T10:10:10.000+00:00, 2010-10-10T10:10:10.000Z",
+    "1, null, 2010-10-10T10:10:10.123-05:00, 2010-10-10T10:10:10.123-05:00",
+    "2, null, 2010-10-10T10:10:10+0530, 2010-10-10T10:10:10.000+05:30",
+    "3, null, 2010-10-10T10:10:10.123456789Z, 2010-10-10T10:10:10.123Z",
+    "4, null, 2010-10-10T10:10:10.1Z, 2010-10-10T10:10:10.100Z",
+    "5, America/New_York, 2010-10-10T10:10:10.000Z, 2010-10-10T06:10:10.000-04:00[America/New_York]",
+    "6, null, 2012-02-29T23:59:59.999Z, 2012-02-29T23:59:59.999Z"
+  }, nullValues = {"null"})
+  void shouldParseStorageFormatDateTime(int id, ZoneId zone, String value, String match) {
+    assertEquals(ZonedDateTime.parse(match), parseDateTime(value, zone), "For test " + id);
+  }
+
+  @Test
+  void shouldParseDateTimeTheSameAsStandardFormatters() {
+    final Random random = new Random(6381);
+    final List<ZoneId> zones = Arrays.asList(null, ZoneOffset.UTC,
+      ZoneId.of("America/New_York"), ZoneId.of("Asia/Kolkata"));
+
+    for (int i = 0; i < 20_000; i++) {
+      final String value = randomDateTime(random);
+      final ZoneId zone = zones.get(random.nextInt(zones.size()));
+
+      assertEquals(parseWithStandardFormatters(value, zone), parseOrFailure(value, zone),
+        "For value " + value + " in zone " + zone);
+    }
+  }
+
+  /**
+   * Generates values close to the format used by storage, some of which are
+   * in other formats or are not valid date times
+   */
+  private static String randomDateTime(Random random) {
+    final String fraction = random.nextInt(4) == 0 ? ""
+      : "." + randomDigits(random, 1 + random.nextInt(10));
+
+    final String[] offsets = { "Z", "z", "+00:00", "-00:00", "+05:30", "-04:00", "+0100",
+      "+18:00", "+19:00", "-03:75", "+01", "+01:00:30", "", "[UTC]", "+00:00[Europe/London]" };
+
+    final StringBuilder value = new StringBuilder()
+      .append(randomDigits(random, 4)).append('-')
+      .append(randomNumber(random, 14)).append('-')
+      .append(randomNumber(random, 32)).append(random.nextInt(20) == 0 ? 't' : 'T')
+      .append(randomNumber(random, 25)).append(':')
+      .append(randomNumber(random, 61)).append(':')
+      .append(randomNumber(random, 61))
+      .append(fraction)
+      .append(offsets[random.nextInt(offsets.length)]);
+
+    if (random.nextInt(10) == 0) {
+      final int position = random.nextInt(value.length());
+
+      value.setCharAt(position, "0123456789-:.TZ+ ".charAt(random.nextInt(17)));
+    }
+
+    return value.toString();
+  }
+
+  private static String randomNumber(Random random, int bound) {
+    return String.format("%02d", random.nextInt(bound));
+  }
+
+  private static String randomDigits(Random random, int count) {
+    final StringBuilder digits = new StringBuilder();
+
+    for (int i = 0; i < count; i++) {
+      digits.append(random.nextInt(10));
+    }
+
+    return digits.toString();
+  }
+
+  private static Object parseOrFailure(String value, ZoneId zone) {
+    try {
+      return parseDateTime(value, zone);
+    } catch (DateTimeException e) {
+      return e.getClass();
+    }
+  }
+
+  /**
+   * Parses the value by trying each of the standard formatters in turn
+   */
+  private static Object parseWithStandardFormatters(String value, ZoneId zone) {
+    DateTimeException failure = null;
+
+    for (DateTimeFormatter formatter : getDateTimeFormatters()) {
+      try {
+        return ZonedDateTime.parse(value, zone == null ? formatter : formatter.withZone(zone))
+          .truncatedTo(ChronoUnit.MILLIS);
+      } catch (DateTimeException e) {
+        failure = e;
+      }
+    }
+
+    return failure.getClass();
+  }
+
 }